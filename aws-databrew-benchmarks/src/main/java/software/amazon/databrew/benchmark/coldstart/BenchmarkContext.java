@@ -0,0 +1,91 @@
+package software.amazon.databrew.benchmark.coldstart;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Minimal Lambda context for invoking a HandlerWrapper outside of Lambda. Handler logs go to stderr so
+ * that stdout only carries the probe result.
+ */
+final class BenchmarkContext implements Context {
+
+    private static final long TIMEOUT_MILLIS = 60_000L;
+
+    private final String requestId = UUID.randomUUID().toString();
+    private final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    private final int memoryLimitInMB;
+
+    BenchmarkContext(final int memoryLimitInMB) {
+        this.memoryLimitInMB = memoryLimitInMB;
+    }
+
+    @Override
+    public String getAwsRequestId() {
+        return requestId;
+    }
+
+    @Override
+    public String getLogGroupName() {
+        return "/aws/lambda/databrew-cold-start-benchmark";
+    }
+
+    @Override
+    public String getLogStreamName() {
+        return requestId;
+    }
+
+    @Override
+    public String getFunctionName() {
+        return "databrew-cold-start-benchmark";
+    }
+
+    @Override
+    public String getFunctionVersion() {
+        return "$LATEST";
+    }
+
+    @Override
+    public String getInvokedFunctionArn() {
+        return "arn:aws:lambda:us-east-1:123456789012:function:databrew-cold-start-benchmark";
+    }
+
+    @Override
+    public CognitoIdentity getIdentity() {
+        return null;
+    }
+
+    @Override
+    public ClientContext getClientContext() {
+        return null;
+    }
+
+    @Override
+    public int getRemainingTimeInMillis() {
+        return (int) Math.max(0L, deadline - System.currentTimeMillis());
+    }
+
+    @Override
+    public int getMemoryLimitInMB() {
+        return memoryLimitInMB;
+    }
+
+    @Override
+    public LambdaLogger getLogger() {
+        return new LambdaLogger() {
+            @Override
+            public void log(final String message) {
+                System.err.println(message);
+            }
+
+            @Override
+            public void log(final byte[] message) {
+                log(new String(message, StandardCharsets.UTF_8));
+            }
+        };
+    }
+}
@@ -0,0 +1,256 @@
+package software.amazon.databrew.benchmark.coldstart;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Measures cold starts of every resource type's HandlerWrapper. Each iteration starts a new JVM with the
+ * shaded handler jar, the same way a new Lambda container does, and sends one recorded CREATE, READ or
+ * LIST request against a local stub DataBrew endpoint.
+ *
+ * Usage: java -jar aws-databrew-benchmarks-1.0-SNAPSHOT.jar [--root ..] [--resources dataset,job]
+ * [--actions create,read,list] [--iterations 10] [--memory 256] [--warm-up true] [--output results.jsonl]
+ * [--jvm-arg -XX:TieredStopAtLevel=1]
+ */
+public final class ColdStartBenchmark {
+
+    static final List<String> RESOURCES = Arrays.asList("dataset", "job", "project", "recipe", "ruleset", "schedule");
+    static final List<String> ACTIONS = Arrays.asList("create", "read", "list");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final long PROBE_TIMEOUT_SECONDS = 120L;
+
+    private final Options options;
+    private final Path workDirectory;
+
+    private ColdStartBenchmark(final Options options) throws IOException {
+        this.options = options;
+        this.workDirectory = Files.createTempDirectory("databrew-cold-start");
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options options = Options.parse(args);
+        final List<ProbeResult> results = new ColdStartBenchmark(options).run();
+        report(results, System.out);
+        if (results.stream().anyMatch(result -> !result.isSuccess())) {
+            System.exit(1);
+        }
+    }
+
+    private List<ProbeResult> run() throws Exception {
+        final List<ProbeResult> results = new ArrayList<>();
+        try (StubDataBrewServer stub = new StubDataBrewServer(
+                StubDataBrewServer.loadRoutes(resource("coldstart/stub-routes.json")));
+             Writer output = options.output == null ? null : Files.newBufferedWriter(options.output, StandardCharsets.UTF_8)) {
+            stub.start();
+            for (final String resource : options.resources) {
+                final Path handlerJar = handlerJar(resource);
+                for (final String action : options.actions) {
+                    final Path payload = extract(String.format("coldstart/%s/%s.json", resource, action));
+                    for (int iteration = 1; iteration <= options.iterations; iteration++) {
+                        final ProbeResult result = probe(stub, resource, handlerJar, payload);
+                        result.resource = resource;
+                        result.action = action;
+                        result.iteration = iteration;
+                        results.add(result);
+                        if (output != null) {
+                            output.write(MAPPER.writeValueAsString(result));
+                            output.write(System.lineSeparator());
+                            output.flush();
+                        }
+                    }
+                }
+            }
+            for (final String request : stub.unmatchedRequests()) {
+                System.err.println("No recorded response for " + request);
+            }
+        }
+        return results;
+    }
+
+    private ProbeResult probe(final StubDataBrewServer stub, final String resource, final Path handlerJar,
+                              final Path payload) throws Exception {
+        final List<String> command = new ArrayList<>();
+        command.add(options.java);
+        command.add(String.format("-Xmx%dm", options.memoryMb * 85 / 100));
+        command.add("-XX:+UseSerialGC");
+        command.add("-D" + ColdStartProbe.MEMORY_PROPERTY + "=" + options.memoryMb);
+        command.addAll(options.jvmArgs);
+        command.add("-cp");
+        // the handler jar goes first so its classes win over anything bundled with the benchmarks
+        command.add(handlerJar + File.pathSeparator + probeLocation());
+        command.add(ColdStartProbe.class.getName());
+        command.add(String.format("software.amazon.databrew.%s.HandlerWrapper", resource));
+        command.add(payload.toString());
+
+        final ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectError(workDirectory.resolve(resource + "-handler.log").toFile());
+        builder.environment().put("AWS_REGION", "us-east-1");
+        builder.environment().put("DATABREW_ENDPOINT", stub.endpoint());
+        builder.environment().put("DATABREW_CLIENT_WARM_UP", Boolean.toString(options.warmUp));
+
+        final Process process = builder.start();
+        ProbeResult result = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(ColdStartProbe.RESULT_PREFIX)) {
+                    result = MAPPER.readValue(line.substring(ColdStartProbe.RESULT_PREFIX.length()), ProbeResult.class);
+                }
+            }
+        }
+        if (!process.waitFor(PROBE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+        if (result == null) {
+            result = new ProbeResult();
+            result.status = "PROBE_FAILED";
+        }
+        return result;
+    }
+
+    private Path handlerJar(final String resource) {
+        final Path jar = options.root.resolve(String.format("aws-databrew-%1$s/target/aws-databrew-%1$s-handler-1.0-SNAPSHOT.jar", resource));
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(String.format("%s not found, run mvn package in aws-databrew-%s first", jar, resource));
+        }
+        return jar;
+    }
+
+    private Path extract(final String name) throws IOException {
+        final Path target = workDirectory.resolve(name.replace('/', '-'));
+        try (InputStream input = resource(name)) {
+            Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return target;
+    }
+
+    private static InputStream resource(final String name) {
+        final InputStream input = ColdStartBenchmark.class.getClassLoader().getResourceAsStream(name);
+        if (input == null) {
+            throw new IllegalStateException("Missing recording " + name);
+        }
+        return input;
+    }
+
+    private static String probeLocation() throws Exception {
+        return Paths.get(ColdStartProbe.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+
+    static void report(final List<ProbeResult> results, final PrintStream out) {
+        final Map<String, List<ProbeResult>> groups = results.stream().collect(Collectors.groupingBy(
+                result -> result.resource + " " + result.action, LinkedHashMap::new, Collectors.toList()));
+
+        out.println(String.format(Locale.ROOT, "%-16s %5s %5s %18s %18s %14s %14s %16s",
+                "resource action", "runs", "fail", "ttfr ms p50/p90", "invoke ms p50/p90",
+                "classes p50", "classes p90", "heap init MB p50"));
+        for (final Map.Entry<String, List<ProbeResult>> group : groups.entrySet()) {
+            final List<ProbeResult> succeeded = group.getValue().stream()
+                    .filter(ProbeResult::isSuccess)
+                    .collect(Collectors.toList());
+            final Statistics ttfr = statistics(succeeded, result -> result.timeToFirstResponseMillis);
+            final Statistics invoke = statistics(succeeded, result -> result.invokeMillis);
+            final Statistics classes = statistics(succeeded, result -> result.classesAfterInvoke);
+            final Statistics heap = statistics(succeeded, result -> result.heapAfterInitBytes / (1024.0 * 1024.0));
+            out.println(String.format(Locale.ROOT, "%-16s %5d %5d %8.0f/%-9.0f %8.1f/%-9.1f %14.0f %14.0f %16.1f",
+                    group.getKey(), group.getValue().size(), group.getValue().size() - succeeded.size(),
+                    ttfr.median(), ttfr.p90(), invoke.median(), invoke.p90(),
+                    classes.median(), classes.p90(), heap.median()));
+        }
+    }
+
+    private static Statistics statistics(final List<ProbeResult> results, final ToDoubleFunction<ProbeResult> metric) {
+        return new Statistics(results.stream().map(metric::applyAsDouble).collect(Collectors.toList()));
+    }
+
+    static final class Options {
+        Path root = Paths.get("..");
+        List<String> resources = RESOURCES;
+        List<String> actions = ACTIONS;
+        int iterations = 10;
+        int memoryMb = 256;
+        boolean warmUp = true;
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> jvmArgs = new ArrayList<>();
+        Path output;
+
+        static Options parse(final String[] args) {
+            final Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                final String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                final String value = args[++i];
+                switch (option) {
+                    case "--root":
+                        options.root = Paths.get(value);
+                        break;
+                    case "--resources":
+                        options.resources = list(value, RESOURCES);
+                        break;
+                    case "--actions":
+                        options.actions = list(value, ACTIONS);
+                        break;
+                    case "--iterations":
+                        options.iterations = Integer.parseInt(value);
+                        break;
+                    case "--memory":
+                        options.memoryMb = Integer.parseInt(value);
+                        break;
+                    case "--warm-up":
+                        options.warmUp = Boolean.parseBoolean(value);
+                        break;
+                    case "--java":
+                        options.java = value;
+                        break;
+                    case "--jvm-arg":
+                        options.jvmArgs.add(value);
+                        break;
+                    case "--output":
+                        options.output = Paths.get(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            return options;
+        }
+
+        private static List<String> list(final String value, final List<String> allowed) {
+            final List<String> values = Arrays.stream(value.split(","))
+                    .map(String::trim)
+                    .map(item -> item.toLowerCase(Locale.ROOT))
+                    .filter(item -> !item.isEmpty())
+                    .collect(Collectors.toList());
+            for (final String item : values) {
+                if (!allowed.contains(item)) {
+                    throw new IllegalArgumentException(String.format("Unknown value %s, expected one of %s", item, allowed));
+                }
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package software.amazon.databrew.benchmark.coldstart;
+
+import com.amazonaws.services.lambda.runtime.Context;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs inside the freshly started JVM. Creates the HandlerWrapper the way the Lambda runtime does,
+ * sends it one recorded request and prints a single result line on stdout.
+ *
+ * Only depends on the JDK and the Lambda Context interface, which the shaded handler jar provides.
+ */
+public final class ColdStartProbe {
+
+    static final String RESULT_PREFIX = "COLD_START_RESULT ";
+    static final String MEMORY_PROPERTY = "benchmark.memoryMb";
+
+    private static final Pattern STATUS = Pattern.compile("\"status\"\\s*:\\s*\"(\\w+)\"");
+
+    private ColdStartProbe() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("usage: ColdStartProbe <handler wrapper class> <payload file>");
+            System.exit(2);
+        }
+        final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+        final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        final byte[] payload = Files.readAllBytes(Paths.get(args[1]));
+        final int memoryMb = Integer.getInteger(MEMORY_PROPERTY, 256);
+
+        final long classesBeforeInit = classLoading.getTotalLoadedClassCount();
+        final long initStart = System.nanoTime();
+        final Object wrapper = Class.forName(args[0]).getConstructor().newInstance();
+        final Method handleRequest = wrapper.getClass()
+                .getMethod("handleRequest", InputStream.class, OutputStream.class, Context.class);
+        final long initNanos = System.nanoTime() - initStart;
+        final long classesAfterInit = classLoading.getTotalLoadedClassCount();
+        final long heapAfterInit = memory.getHeapMemoryUsage().getUsed();
+
+        final ByteArrayOutputStream response = new ByteArrayOutputStream();
+        final long invokeStart = System.nanoTime();
+        handleRequest.invoke(wrapper, new ByteArrayInputStream(payload), response, new BenchmarkContext(memoryMb));
+        final long invokeNanos = System.nanoTime() - invokeStart;
+        final long timeToFirstResponse = System.currentTimeMillis() - jvmStartMillis;
+        final long classesAfterInvoke = classLoading.getTotalLoadedClassCount();
+        final long heapAfterInvoke = memory.getHeapMemoryUsage().getUsed();
+
+        System.out.println(RESULT_PREFIX + String.format(Locale.ROOT,
+                "{\"status\":\"%s\",\"timeToFirstResponseMillis\":%d,\"initMillis\":%.3f,\"invokeMillis\":%.3f,"
+                        + "\"classesBeforeInit\":%d,\"classesAfterInit\":%d,\"classesAfterInvoke\":%d,"
+                        + "\"heapAfterInitBytes\":%d,\"heapAfterInvokeBytes\":%d}",
+                status(new String(response.toByteArray(), StandardCharsets.UTF_8)),
+                timeToFirstResponse,
+                initNanos / 1_000_000.0,
+                invokeNanos / 1_000_000.0,
+                classesBeforeInit,
+                classesAfterInit,
+                classesAfterInvoke,
+                heapAfterInit,
+                heapAfterInvoke));
+        System.out.flush();
+        // the SDK keeps connection pools and reapers alive, the measurement is done
+        System.exit(0);
+    }
+
+    static String status(final String response) {
+        final Matcher matcher = STATUS.matcher(response);
+        return matcher.find() ? matcher.group(1) : "UNKNOWN";
+    }
+}
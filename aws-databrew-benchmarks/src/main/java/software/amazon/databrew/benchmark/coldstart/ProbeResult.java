@@ -0,0 +1,26 @@
+package software.amazon.databrew.benchmark.coldstart;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Measurements reported by one {@link ColdStartProbe} run.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProbeResult {
+    public String resource;
+    public String action;
+    public int iteration;
+    public String status;
+    public long timeToFirstResponseMillis;
+    public double initMillis;
+    public double invokeMillis;
+    public long classesBeforeInit;
+    public long classesAfterInit;
+    public long classesAfterInvoke;
+    public long heapAfterInitBytes;
+    public long heapAfterInvokeBytes;
+
+    boolean isSuccess() {
+        return "SUCCESS".equals(status);
+    }
+}
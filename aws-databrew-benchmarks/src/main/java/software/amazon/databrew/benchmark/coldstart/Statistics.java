@@ -0,0 +1,43 @@
+package software.amazon.databrew.benchmark.coldstart;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Nearest-rank percentiles over a set of samples.
+ */
+public final class Statistics {
+
+    private final List<Double> sorted;
+
+    public Statistics(final Collection<? extends Number> samples) {
+        final List<Double> values = new ArrayList<>(samples.size());
+        for (final Number sample : samples) {
+            values.add(sample.doubleValue());
+        }
+        Collections.sort(values);
+        this.sorted = values;
+    }
+
+    public int count() {
+        return sorted.size();
+    }
+
+    public double median() {
+        return percentile(50);
+    }
+
+    public double p90() {
+        return percentile(90);
+    }
+
+    public double percentile(final double percentile) {
+        if (sorted.isEmpty()) {
+            return Double.NaN;
+        }
+        final int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, Math.min(sorted.size(), rank) - 1));
+    }
+}
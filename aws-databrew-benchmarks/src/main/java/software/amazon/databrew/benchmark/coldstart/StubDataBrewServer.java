@@ -0,0 +1,135 @@
+package software.amazon.databrew.benchmark.coldstart;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local HTTP server answering DataBrew REST calls with recorded responses, so cold starts are measured
+ * without network latency or service-side variance. Routes are matched on method and path, where "*"
+ * matches a single path segment.
+ */
+final class StubDataBrewServer implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<Route> routes;
+    private final Set<String> unmatched = ConcurrentHashMap.newKeySet();
+    private final HttpServer server;
+
+    StubDataBrewServer(final List<Route> routes) throws IOException {
+        this.routes = new ArrayList<>(routes);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", this::handle);
+    }
+
+    static List<Route> loadRoutes(final InputStream recording) throws IOException {
+        final List<Route> routes = new ArrayList<>();
+        try (InputStream input = recording) {
+            for (final JsonNode route : MAPPER.readTree(input)) {
+                routes.add(new Route(route.get("method").asText(), route.get("path").asText(),
+                        MAPPER.writeValueAsBytes(route.get("body"))));
+            }
+        }
+        return routes;
+    }
+
+    void start() {
+        server.start();
+    }
+
+    String endpoint() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    Set<String> unmatchedRequests() {
+        return Collections.unmodifiableSet(unmatched);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    Route match(final String method, final String path) {
+        for (final Route route : routes) {
+            if (route.matches(method, path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (InputStream ignored = exchange.getRequestBody()) {
+            final String method = exchange.getRequestMethod();
+            final String path = exchange.getRequestURI().getPath();
+            final Route route = match(method, path);
+
+            final byte[] body;
+            final int status;
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("x-amzn-RequestId", UUID.randomUUID().toString());
+            if (route == null) {
+                unmatched.add(method + " " + path);
+                exchange.getResponseHeaders().add("x-amzn-ErrorType", "ResourceNotFoundException");
+                body = "{\"Message\":\"No recorded response\"}".getBytes(StandardCharsets.UTF_8);
+                status = 404;
+            } else {
+                body = route.body;
+                status = 200;
+            }
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    static final class Route {
+        private final String method;
+        private final String[] segments;
+        private final byte[] body;
+
+        Route(final String method, final String path, final byte[] body) {
+            this.method = method;
+            this.segments = split(path);
+            this.body = body;
+        }
+
+        boolean matches(final String requestMethod, final String requestPath) {
+            if (!method.equalsIgnoreCase(requestMethod)) {
+                return false;
+            }
+            final String[] requestSegments = split(requestPath);
+            if (requestSegments.length != segments.length) {
+                return false;
+            }
+            for (int i = 0; i < segments.length; i++) {
+                if (!"*".equals(segments[i]) && !segments[i].equals(requestSegments[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static String[] split(final String path) {
+            final String trimmed = path.replaceAll("^/+|/+$", "");
+            return trimmed.isEmpty() ? new String[0] : trimmed.split("/");
+        }
+    }
+}
@@ -0,0 +1,459 @@
+package software.amazon.databrew.benchmark.emulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory DataBrew service speaking the REST/JSON protocol of the SDK client, for integration and load
+ * tests without network access. Handlers reach it through the DATABREW_ENDPOINT override, or the
+ * databrew.endpoint system property when they run in the same JVM.
+ *
+ * Covers datasets, jobs and job runs, projects, recipes and their versions, rulesets, schedules and tags.
+ * Every request is delayed by the configured latency, requests above the configured rate or picked by the
+ * throttle probability fail with a 429 ThrottlingException, and reads only see a change once the
+ * consistency lag has passed.
+ *
+ * Usage: java -cp aws-databrew-benchmarks-1.0-SNAPSHOT.jar
+ * software.amazon.databrew.benchmark.emulator.DataBrewEmulator [--port 8080] [--latency 20]
+ * [--latency-jitter 10] [--throttle-rate 50] [--throttle-probability 0.01] [--consistency-lag 500]
+ */
+public final class DataBrewEmulator implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Options options;
+    private final EmulatorState state;
+    private final List<Route> routes = new ArrayList<>();
+    private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+    private final LongAdder throttled = new LongAdder();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public DataBrewEmulator(final Options options) throws IOException {
+        this(options, System::currentTimeMillis);
+    }
+
+    DataBrewEmulator(final Options options, final LongSupplier clock) throws IOException {
+        this.options = options;
+        this.state = new EmulatorState(options.region, options.accountId, options.consistencyLagMillis,
+                options.maxPageSize, clock);
+        this.tokens = Math.max(1.0, options.throttleRate);
+        this.lastRefillNanos = System.nanoTime();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), options.port), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "databrew-emulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        registerRoutes();
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final DataBrewEmulator emulator = new DataBrewEmulator(Options.parse(args));
+        Runtime.getRuntime().addShutdownHook(new Thread(emulator::close));
+        emulator.start();
+        System.out.println("DataBrew emulator listening on " + emulator.endpoint());
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public String endpoint() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Requests received per operation, including throttled ones.
+     */
+    public Map<String, Long> requestCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+        requests.forEach((operation, count) -> counts.put(operation, count.sum()));
+        return counts;
+    }
+
+    public long throttledRequests() {
+        return throttled.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void registerRoutes() {
+        route("CreateDataset", "POST", "/datasets", call -> state.create(EmulatorState.DATASET, call.body));
+        route("DescribeDataset", "GET", "/datasets/{name}", call -> state.describe(EmulatorState.DATASET, call.path("name")));
+        route("UpdateDataset", "PUT", "/datasets/{name}", call -> state.update(EmulatorState.DATASET, call.path("name"), call.body));
+        route("DeleteDataset", "DELETE", "/datasets/{name}", call -> state.delete(EmulatorState.DATASET, call.path("name")));
+        route("ListDatasets", "GET", "/datasets", call -> state.list(EmulatorState.DATASET, "Datasets", call.query, dataset -> true));
+
+        route("CreateProfileJob", "POST", "/profileJobs", call -> state.create(EmulatorState.JOB, call.body.put("Type", "PROFILE")));
+        route("CreateRecipeJob", "POST", "/recipeJobs", call -> state.create(EmulatorState.JOB, call.body.put("Type", "RECIPE")));
+        route("UpdateProfileJob", "PUT", "/profileJobs/{name}", call -> state.update(EmulatorState.JOB, call.path("name"), call.body));
+        route("UpdateRecipeJob", "PUT", "/recipeJobs/{name}", call -> state.update(EmulatorState.JOB, call.path("name"), call.body));
+        route("DescribeJob", "GET", "/jobs/{name}", call -> state.describe(EmulatorState.JOB, call.path("name")));
+        route("DeleteJob", "DELETE", "/jobs/{name}", call -> state.delete(EmulatorState.JOB, call.path("name")));
+        route("ListJobs", "GET", "/jobs", call -> state.list(EmulatorState.JOB, "Jobs", call.query,
+                job -> matches(job, "DatasetName", call.query("datasetName")) && matches(job, "ProjectName", call.query("projectName"))));
+        route("StartJobRun", "POST", "/jobs/{name}/startJobRun", call -> state.startJobRun(call.path("name")));
+        route("StopJobRun", "POST", "/jobs/{name}/jobRun/{runId}/stopJobRun", call -> state.stopJobRun(call.path("name"), call.path("runId")));
+        route("DescribeJobRun", "GET", "/jobs/{name}/jobRun/{runId}", call -> state.describeJobRun(call.path("name"), call.path("runId")));
+        route("ListJobRuns", "GET", "/jobs/{name}/jobRuns", call -> state.listJobRuns(call.path("name"), call.query));
+
+        route("CreateProject", "POST", "/projects", call -> state.create(EmulatorState.PROJECT, call.body));
+        route("DescribeProject", "GET", "/projects/{name}", call -> state.describe(EmulatorState.PROJECT, call.path("name")));
+        route("UpdateProject", "PUT", "/projects/{name}", call -> state.update(EmulatorState.PROJECT, call.path("name"), call.body));
+        route("DeleteProject", "DELETE", "/projects/{name}", call -> state.delete(EmulatorState.PROJECT, call.path("name")));
+        route("ListProjects", "GET", "/projects", call -> state.list(EmulatorState.PROJECT, "Projects", call.query, project -> true));
+
+        route("CreateRecipe", "POST", "/recipes", call -> state.create(EmulatorState.RECIPE, call.body));
+        route("DescribeRecipe", "GET", "/recipes/{name}", call -> state.describeRecipe(call.path("name"), call.query("recipeVersion")));
+        route("UpdateRecipe", "PUT", "/recipes/{name}", call -> state.update(EmulatorState.RECIPE, call.path("name"), call.body));
+        route("ListRecipes", "GET", "/recipes", call -> state.listRecipes(call.query));
+        route("ListRecipeVersions", "GET", "/recipeVersions", call -> state.listRecipeVersions(call.query));
+        route("PublishRecipe", "POST", "/recipes/{name}/publishRecipe", call -> state.publishRecipe(call.path("name"), call.body));
+        route("DeleteRecipeVersion", "DELETE", "/recipes/{name}/recipeVersion/{recipeVersion}",
+                call -> state.deleteRecipeVersion(call.path("name"), call.path("recipeVersion")));
+        route("BatchDeleteRecipeVersion", "POST", "/recipes/{name}/batchDeleteRecipeVersion",
+                call -> state.batchDeleteRecipeVersion(call.path("name"), call.body));
+
+        route("CreateRuleset", "POST", "/rulesets", call -> state.create(EmulatorState.RULESET, call.body));
+        route("DescribeRuleset", "GET", "/rulesets/{name}", call -> state.describe(EmulatorState.RULESET, call.path("name")));
+        route("UpdateRuleset", "PUT", "/rulesets/{name}", call -> state.update(EmulatorState.RULESET, call.path("name"), call.body));
+        route("DeleteRuleset", "DELETE", "/rulesets/{name}", call -> state.delete(EmulatorState.RULESET, call.path("name")));
+        route("ListRulesets", "GET", "/rulesets", call -> state.list(EmulatorState.RULESET, "Rulesets", call.query,
+                ruleset -> matches(ruleset, "TargetArn", call.query("targetArn"))));
+
+        route("CreateSchedule", "POST", "/schedules", call -> state.create(EmulatorState.SCHEDULE, call.body));
+        route("DescribeSchedule", "GET", "/schedules/{name}", call -> state.describe(EmulatorState.SCHEDULE, call.path("name")));
+        route("UpdateSchedule", "PUT", "/schedules/{name}", call -> state.update(EmulatorState.SCHEDULE, call.path("name"), call.body));
+        route("DeleteSchedule", "DELETE", "/schedules/{name}", call -> state.delete(EmulatorState.SCHEDULE, call.path("name")));
+        route("ListSchedules", "GET", "/schedules", call -> state.list(EmulatorState.SCHEDULE, "Schedules", call.query,
+                schedule -> call.query("jobName") == null || contains(schedule.get("JobNames"), call.query("jobName"))));
+
+        route("TagResource", "POST", "/tags/{arn}", call -> state.tagResource(call.path("arn"), call.body));
+        route("UntagResource", "DELETE", "/tags/{arn}", call -> state.untagResource(call.path("arn"), call.query.get("tagKeys")));
+        route("ListTagsForResource", "GET", "/tags/{arn}", call -> state.listTagsForResource(call.path("arn")));
+    }
+
+    private void route(final String operation, final String method, final String path, final Operation handler) {
+        routes.add(new Route(operation, method, path, handler));
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final byte[] request = readAll(exchange.getRequestBody());
+            delay();
+
+            int status = 200;
+            JsonNode response;
+            try {
+                final Call call = call(exchange, request);
+                if (isThrottled()) {
+                    throttled.increment();
+                    throw EmulatorException.throttling();
+                }
+                response = call.route.handler.handle(call);
+            } catch (final EmulatorException e) {
+                status = e.getStatusCode();
+                exchange.getResponseHeaders().add("x-amzn-ErrorType", e.getErrorCode());
+                final ObjectNode error = MAPPER.createObjectNode();
+                error.put("__type", e.getErrorCode());
+                error.put("Message", e.getMessage());
+                response = error;
+            }
+
+            final byte[] body = MAPPER.writeValueAsBytes(response);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("x-amzn-RequestId", UUID.randomUUID().toString());
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Call call(final HttpExchange exchange, final byte[] request) throws EmulatorException {
+        final String method = exchange.getRequestMethod();
+        final String[] segments = segments(exchange.getRequestURI().getRawPath());
+        for (final Route route : routes) {
+            final Map<String, String> path = route.match(method, segments);
+            if (path != null) {
+                requests.computeIfAbsent(route.operation, key -> new LongAdder()).increment();
+                return new Call(route, path, query(exchange.getRequestURI().getRawQuery()), body(request));
+            }
+        }
+        requests.computeIfAbsent("Unknown", key -> new LongAdder()).increment();
+        throw new EmulatorException(404, "UnknownOperationException",
+                String.format("No operation for %s %s", method, exchange.getRequestURI().getPath()));
+    }
+
+    private void delay() {
+        long millis = options.latencyMillis;
+        if (options.latencyJitterMillis > 0) {
+            millis += ThreadLocalRandom.current().nextLong(options.latencyJitterMillis + 1);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Token bucket of throttleRate requests per second that holds up to one second of requests, plus a
+     * random share of throttleProbability.
+     */
+    private boolean isThrottled() {
+        if (options.throttleProbability > 0 && ThreadLocalRandom.current().nextDouble() < options.throttleProbability) {
+            return true;
+        }
+        if (options.throttleRate <= 0) {
+            return false;
+        }
+        synchronized (this) {
+            final long now = System.nanoTime();
+            final double capacity = Math.max(1.0, options.throttleRate);
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / 1e9 * options.throttleRate);
+            lastRefillNanos = now;
+            if (tokens < 1.0) {
+                return true;
+            }
+            tokens -= 1.0;
+            return false;
+        }
+    }
+
+    private static boolean matches(final JsonNode resource, final String field, final String expected) {
+        return expected == null || resource.hasNonNull(field) && expected.equals(resource.get(field).asText());
+    }
+
+    private static boolean contains(final JsonNode values, final String expected) {
+        if (values == null || !values.isArray()) {
+            return false;
+        }
+        for (final JsonNode value : values) {
+            if (expected.equals(value.asText())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ObjectNode body(final byte[] request) throws EmulatorException {
+        if (request.length == 0) {
+            return MAPPER.createObjectNode();
+        }
+        final JsonNode body;
+        try {
+            body = MAPPER.readTree(request);
+        } catch (final IOException e) {
+            throw EmulatorException.validation("Request body is not valid JSON");
+        }
+        if (body == null || body.isMissingNode()) {
+            return MAPPER.createObjectNode();
+        }
+        if (!body.isObject()) {
+            throw EmulatorException.validation("Request body must be a JSON object");
+        }
+        return (ObjectNode) body;
+    }
+
+    private static Map<String, List<String>> query(final String rawQuery) {
+        final Map<String, List<String>> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (final String parameter : rawQuery.split("&")) {
+            final int separator = parameter.indexOf('=');
+            final String name = decode(separator < 0 ? parameter : parameter.substring(0, separator));
+            final String value = separator < 0 ? "" : decode(parameter.substring(separator + 1));
+            query.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+        return query;
+    }
+
+    private static String[] segments(final String rawPath) {
+        final String trimmed = rawPath.replaceAll("^/+|/+$", "");
+        if (trimmed.isEmpty()) {
+            return new String[0];
+        }
+        final String[] segments = trimmed.split("/");
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = decode(segments[i]);
+        }
+        return segments;
+    }
+
+    private static String decode(final String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] readAll(final InputStream input) throws IOException {
+        try (InputStream in = input) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+            return output.toByteArray();
+        }
+    }
+
+    public static final class Options {
+        public int port;
+        public long latencyMillis;
+        public long latencyJitterMillis;
+        public double throttleRate;
+        public double throttleProbability;
+        public long consistencyLagMillis;
+        public int maxPageSize = 100;
+        public String region = "us-east-1";
+        public String accountId = "123456789012";
+
+        public static Options parse(final String[] args) {
+            final Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                final String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                final String value = args[++i];
+                switch (option) {
+                    case "--port":
+                        options.port = Integer.parseInt(value);
+                        break;
+                    case "--latency":
+                        options.latencyMillis = Long.parseLong(value);
+                        break;
+                    case "--latency-jitter":
+                        options.latencyJitterMillis = Long.parseLong(value);
+                        break;
+                    case "--throttle-rate":
+                        options.throttleRate = Double.parseDouble(value);
+                        break;
+                    case "--throttle-probability":
+                        options.throttleProbability = Double.parseDouble(value);
+                        break;
+                    case "--consistency-lag":
+                        options.consistencyLagMillis = Long.parseLong(value);
+                        break;
+                    case "--max-page-size":
+                        options.maxPageSize = Integer.parseInt(value);
+                        break;
+                    case "--region":
+                        options.region = value;
+                        break;
+                    case "--account-id":
+                        options.accountId = value;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            return options;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        JsonNode handle(Call call) throws EmulatorException;
+    }
+
+    private static final class Call {
+        private final Route route;
+        private final Map<String, String> path;
+        private final Map<String, List<String>> query;
+        private final ObjectNode body;
+
+        Call(final Route route, final Map<String, String> path, final Map<String, List<String>> query, final ObjectNode body) {
+            this.route = route;
+            this.path = path;
+            this.query = query;
+            this.body = body;
+        }
+
+        String path(final String name) {
+            return path.get(name);
+        }
+
+        String query(final String name) {
+            return EmulatorState.first(query, name);
+        }
+    }
+
+    /**
+     * An operation's method and path, where a "{label}" segment captures one path segment.
+     */
+    private static final class Route {
+        private final String operation;
+        private final String method;
+        private final String[] segments;
+        private final Operation handler;
+
+        Route(final String operation, final String method, final String path, final Operation handler) {
+            this.operation = operation;
+            this.method = method;
+            this.segments = path.substring(1).split("/");
+            this.handler = handler;
+        }
+
+        Map<String, String> match(final String requestMethod, final String[] requestSegments) {
+            if (!method.equalsIgnoreCase(requestMethod) || requestSegments.length != segments.length) {
+                return null;
+            }
+            final Map<String, String> labels = new HashMap<>();
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].startsWith("{")) {
+                    labels.put(segments[i].substring(1, segments[i].length() - 1), requestSegments[i]);
+                } else if (!segments[i].equals(requestSegments[i])) {
+                    return null;
+                }
+            }
+            return Collections.unmodifiableMap(labels);
+        }
+    }
+}
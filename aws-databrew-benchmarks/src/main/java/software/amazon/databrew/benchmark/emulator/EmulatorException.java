@@ -0,0 +1,42 @@
+package software.amazon.databrew.benchmark.emulator;
+
+/**
+ * A DataBrew error response, sent with the service's status code and error type.
+ */
+final class EmulatorException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+    private final String errorCode;
+
+    EmulatorException(final int statusCode, final String errorCode, final String message) {
+        super(message);
+        this.statusCode = statusCode;
+        this.errorCode = errorCode;
+    }
+
+    static EmulatorException notFound(final String message) {
+        return new EmulatorException(404, "ResourceNotFoundException", message);
+    }
+
+    static EmulatorException conflict(final String message) {
+        return new EmulatorException(409, "ConflictException", message);
+    }
+
+    static EmulatorException validation(final String message) {
+        return new EmulatorException(400, "ValidationException", message);
+    }
+
+    static EmulatorException throttling() {
+        return new EmulatorException(429, "ThrottlingException", "Rate exceeded");
+    }
+
+    int getStatusCode() {
+        return statusCode;
+    }
+
+    String getErrorCode() {
+        return errorCode;
+    }
+}
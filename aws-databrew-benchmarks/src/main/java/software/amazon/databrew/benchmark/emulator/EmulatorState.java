@@ -0,0 +1,527 @@
+package software.amazon.databrew.benchmark.emulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DataBrew resources of one emulated account and region.
+ *
+ * Writes are checked against the latest state, reads see a change only once the consistency lag has passed,
+ * the way a Describe or List right after a Create can still miss the resource. Published recipe versions and
+ * job runs are not lagged.
+ */
+final class EmulatorState {
+
+    static final String DATASET = "dataset";
+    static final String JOB = "job";
+    static final String PROJECT = "project";
+    static final String RECIPE = "recipe";
+    static final String RULESET = "ruleset";
+    static final String SCHEDULE = "schedule";
+
+    static final String LATEST_WORKING = "LATEST_WORKING";
+    static final String LATEST_PUBLISHED = "LATEST_PUBLISHED";
+    static final int MAX_BATCH_DELETE_VERSIONS = 50;
+
+    private static final JsonNodeFactory JSON = JsonNodeFactory.instance;
+    private static final Pattern ARN = Pattern.compile("arn:aws[^:]*:databrew:[^:]*:[^:]*:([a-z]+)/(.+)");
+    private static final Pattern PUBLISHED_VERSION = Pattern.compile("(\\d+)\\.0");
+
+    private final String region;
+    private final String accountId;
+    private final long consistencyLagMillis;
+    private final int maxPageSize;
+    private final LongSupplier clock;
+
+    private final Map<String, TreeMap<String, Revisions>> resources = new HashMap<>();
+    private final Map<String, TreeMap<Integer, ObjectNode>> publishedRecipes = new HashMap<>();
+    private final Map<String, LinkedHashMap<String, ObjectNode>> jobRuns = new HashMap<>();
+    private long nextRunId = 1;
+
+    EmulatorState(final String region, final String accountId, final long consistencyLagMillis,
+                  final int maxPageSize, final LongSupplier clock) {
+        this.region = region;
+        this.accountId = accountId;
+        this.consistencyLagMillis = consistencyLagMillis;
+        this.maxPageSize = maxPageSize;
+        this.clock = clock;
+    }
+
+    String arn(final String type, final String name) {
+        return String.format("arn:aws:databrew:%s:%s:%s/%s", region, accountId, type, name);
+    }
+
+    synchronized ObjectNode create(final String type, final ObjectNode body) throws EmulatorException {
+        final String name = required(body, "Name");
+        if (current(type, name) != null) {
+            throw EmulatorException.conflict(String.format("%s %s already exists", label(type), name));
+        }
+        final ObjectNode resource = body.deepCopy();
+        resource.put("CreateDate", seconds());
+        resource.put("LastModifiedDate", seconds());
+        resource.put("AccountId", accountId);
+        resource.put("ResourceArn", arn(type, name));
+        if (RECIPE.equals(type)) {
+            resource.put("RecipeVersion", "0.1");
+        }
+        write(type, name, resource);
+        return named(name);
+    }
+
+    synchronized ObjectNode describe(final String type, final String name) throws EmulatorException {
+        final ObjectNode resource = visible(type, name);
+        if (resource == null) {
+            throw notFound(type, name);
+        }
+        return resource.deepCopy();
+    }
+
+    /**
+     * Replaces the configuration of the resource, keeping its name, tags and creation metadata.
+     */
+    synchronized ObjectNode update(final String type, final String name, final ObjectNode body) throws EmulatorException {
+        final ObjectNode previous = existing(type, name);
+        final ObjectNode resource = body.deepCopy();
+        for (final String field : new String[]{"Tags", "CreateDate", "AccountId", "ResourceArn", "Type", "RecipeVersion"}) {
+            if (previous.has(field)) {
+                resource.set(field, previous.get(field));
+            }
+        }
+        resource.put("Name", name);
+        resource.put("LastModifiedDate", seconds());
+        write(type, name, resource);
+        return named(name);
+    }
+
+    synchronized ObjectNode delete(final String type, final String name) throws EmulatorException {
+        existing(type, name);
+        if (JOB.equals(type) && runs(name).values().stream().anyMatch(EmulatorState::isActive)) {
+            throw EmulatorException.conflict(String.format("Job %s has active job runs", name));
+        }
+        write(type, name, null);
+        jobRuns.remove(name);
+        publishedRecipes.remove(name);
+        return named(name);
+    }
+
+    /**
+     * @param listKey the response member holding the page, e.g. "Datasets"
+     */
+    synchronized ObjectNode list(final String type, final String listKey, final Map<String, List<String>> query,
+                                 final Predicate<ObjectNode> filter) throws EmulatorException {
+        final List<ObjectNode> items = new ArrayList<>();
+        final long now = clock.getAsLong();
+        for (final Revisions revisions : table(type).values()) {
+            final ObjectNode resource = revisions.visible(now);
+            if (resource != null && filter.test(resource)) {
+                items.add(resource);
+            }
+        }
+        return page(items, listKey, query);
+    }
+
+    synchronized ObjectNode describeRecipe(final String name, final String version) throws EmulatorException {
+        if (version == null || LATEST_WORKING.equals(version)) {
+            return describe(RECIPE, name);
+        }
+        final TreeMap<Integer, ObjectNode> published = publishedRecipes.get(name);
+        final ObjectNode recipe;
+        if (LATEST_PUBLISHED.equals(version)) {
+            recipe = published == null || published.isEmpty() ? null : published.lastEntry().getValue();
+        } else {
+            recipe = published == null ? null : published.get(major(version));
+        }
+        if (recipe == null) {
+            throw EmulatorException.notFound(String.format("Recipe %s version %s not found", name, version));
+        }
+        return recipe.deepCopy();
+    }
+
+    synchronized ObjectNode listRecipes(final Map<String, List<String>> query) throws EmulatorException {
+        if (!LATEST_PUBLISHED.equals(first(query, "recipeVersion"))) {
+            return list(RECIPE, "Recipes", query, recipe -> true);
+        }
+        final List<ObjectNode> items = new ArrayList<>();
+        for (final TreeMap<Integer, ObjectNode> published : new TreeMap<>(publishedRecipes).values()) {
+            if (!published.isEmpty()) {
+                items.add(published.lastEntry().getValue());
+            }
+        }
+        return page(items, "Recipes", query);
+    }
+
+    /**
+     * Lists the published versions of a recipe, LATEST_WORKING is never included.
+     */
+    synchronized ObjectNode listRecipeVersions(final Map<String, List<String>> query) throws EmulatorException {
+        final String name = first(query, "name");
+        if (name == null) {
+            throw EmulatorException.validation("name is required");
+        }
+        existing(RECIPE, name);
+        final TreeMap<Integer, ObjectNode> published = publishedRecipes.get(name);
+        return page(published == null ? new ArrayList<>() : new ArrayList<>(published.values()), "Recipes", query);
+    }
+
+    synchronized ObjectNode publishRecipe(final String name, final ObjectNode body) throws EmulatorException {
+        final ObjectNode working = existing(RECIPE, name).deepCopy();
+        final TreeMap<Integer, ObjectNode> published = publishedRecipes.computeIfAbsent(name, key -> new TreeMap<>());
+        final int major = published.isEmpty() ? 1 : published.lastKey() + 1;
+
+        final ObjectNode version = working.deepCopy();
+        version.put("RecipeVersion", major + ".0");
+        version.put("PublishedDate", seconds());
+        if (body.hasNonNull("Description")) {
+            version.set("Description", body.get("Description"));
+        }
+        published.put(major, version);
+
+        working.put("RecipeVersion", major + ".1");
+        write(RECIPE, name, working);
+        return named(name);
+    }
+
+    /**
+     * Deleting LATEST_WORKING deletes the recipe, which is only allowed once no published version is left.
+     */
+    synchronized ObjectNode deleteRecipeVersion(final String name, final String version) throws EmulatorException {
+        existing(RECIPE, name);
+        if (LATEST_WORKING.equals(version)) {
+            final TreeMap<Integer, ObjectNode> published = publishedRecipes.get(name);
+            if (published != null && !published.isEmpty()) {
+                throw EmulatorException.conflict(String.format("Recipe %s still has %d published versions", name, published.size()));
+            }
+            delete(RECIPE, name);
+        } else {
+            final TreeMap<Integer, ObjectNode> published = publishedRecipes.get(name);
+            if (published == null || published.remove(major(version)) == null) {
+                throw EmulatorException.notFound(String.format("Recipe %s version %s not found", name, version));
+            }
+        }
+        final ObjectNode response = named(name);
+        response.put("RecipeVersion", version);
+        return response;
+    }
+
+    synchronized ObjectNode batchDeleteRecipeVersion(final String name, final ObjectNode body) throws EmulatorException {
+        existing(RECIPE, name);
+        final JsonNode versions = body.get("RecipeVersions");
+        if (versions == null || !versions.isArray() || versions.size() == 0 || versions.size() > MAX_BATCH_DELETE_VERSIONS) {
+            throw EmulatorException.validation(String.format("RecipeVersions must contain 1 to %d versions", MAX_BATCH_DELETE_VERSIONS));
+        }
+        final TreeMap<Integer, ObjectNode> published = publishedRecipes.getOrDefault(name, new TreeMap<>());
+        final ArrayNode errors = JSON.arrayNode();
+        for (final JsonNode node : versions) {
+            final String version = node.asText();
+            final Matcher matcher = PUBLISHED_VERSION.matcher(version);
+            if (LATEST_WORKING.equals(version)) {
+                errors.add(versionError(version, "ValidationException", "LATEST_WORKING cannot be deleted in a batch"));
+            } else if (!matcher.matches() || published.remove(Integer.parseInt(matcher.group(1))) == null) {
+                errors.add(versionError(version, "ResourceNotFoundException", "Recipe version not found"));
+            }
+        }
+        final ObjectNode response = named(name);
+        response.set("Errors", errors);
+        return response;
+    }
+
+    synchronized ObjectNode startJobRun(final String name) throws EmulatorException {
+        existing(JOB, name);
+        final String runId = String.format("db_%016x", nextRunId++);
+        final ObjectNode run = JSON.objectNode();
+        run.put("RunId", runId);
+        run.put("JobName", name);
+        run.put("State", "RUNNING");
+        run.put("Attempt", 0);
+        run.put("StartedOn", seconds());
+        runs(name).put(runId, run);
+
+        final ObjectNode response = JSON.objectNode();
+        response.put("RunId", runId);
+        return response;
+    }
+
+    synchronized ObjectNode stopJobRun(final String name, final String runId) throws EmulatorException {
+        final ObjectNode run = run(name, runId);
+        if (!isActive(run)) {
+            throw EmulatorException.conflict(String.format("Job run %s is %s", runId, run.get("State").asText()));
+        }
+        run.put("State", "STOPPED");
+        run.put("CompletedOn", seconds());
+
+        final ObjectNode response = JSON.objectNode();
+        response.put("RunId", runId);
+        return response;
+    }
+
+    synchronized ObjectNode describeJobRun(final String name, final String runId) throws EmulatorException {
+        return run(name, runId).deepCopy();
+    }
+
+    /**
+     * Lists the runs of a job, newest first.
+     */
+    synchronized ObjectNode listJobRuns(final String name, final Map<String, List<String>> query) throws EmulatorException {
+        describe(JOB, name);
+        final List<ObjectNode> items = new ArrayList<>(runs(name).values());
+        Collections.reverse(items);
+        return page(items, "JobRuns", query);
+    }
+
+    synchronized ObjectNode tagResource(final String resourceArn, final ObjectNode body) throws EmulatorException {
+        final JsonNode tags = body.get("Tags");
+        if (tags == null || !tags.isObject()) {
+            throw EmulatorException.validation("Tags is required");
+        }
+        final String[] resource = resolve(resourceArn);
+        final ObjectNode updated = existing(resource[0], resource[1]).deepCopy();
+        final ObjectNode merged = updated.has("Tags") && updated.get("Tags").isObject()
+                ? (ObjectNode) updated.get("Tags") : updated.putObject("Tags");
+        merged.setAll((ObjectNode) tags);
+        write(resource[0], resource[1], updated);
+        return JSON.objectNode();
+    }
+
+    synchronized ObjectNode untagResource(final String resourceArn, final List<String> tagKeys) throws EmulatorException {
+        if (tagKeys == null || tagKeys.isEmpty()) {
+            throw EmulatorException.validation("tagKeys is required");
+        }
+        final String[] resource = resolve(resourceArn);
+        final ObjectNode updated = existing(resource[0], resource[1]).deepCopy();
+        if (updated.get("Tags") instanceof ObjectNode) {
+            ((ObjectNode) updated.get("Tags")).remove(tagKeys);
+        }
+        write(resource[0], resource[1], updated);
+        return JSON.objectNode();
+    }
+
+    synchronized ObjectNode listTagsForResource(final String resourceArn) throws EmulatorException {
+        final String[] resource = resolve(resourceArn);
+        final ObjectNode tags = JSON.objectNode();
+        final JsonNode current = describe(resource[0], resource[1]).get("Tags");
+        if (current != null && current.isObject()) {
+            tags.setAll((ObjectNode) current);
+        }
+        final ObjectNode response = JSON.objectNode();
+        response.set("Tags", tags);
+        return response;
+    }
+
+    static String first(final Map<String, List<String>> query, final String name) {
+        final List<String> values = query.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    private static boolean isActive(final ObjectNode run) {
+        final String state = run.get("State").asText();
+        return "STARTING".equals(state) || "RUNNING".equals(state) || "STOPPING".equals(state);
+    }
+
+    /**
+     * One page of items. The next token is the offset of the next page, so like the service a listing
+     * can skip or repeat resources that are created or deleted while it is paged through.
+     */
+    private ObjectNode page(final List<ObjectNode> items, final String listKey, final Map<String, List<String>> query)
+            throws EmulatorException {
+        final int maxResults = maxResults(first(query, "maxResults"));
+        final int offset = offset(first(query, "nextToken"));
+        final int end = Math.min(items.size(), offset + maxResults);
+
+        final ObjectNode response = JSON.objectNode();
+        final ArrayNode page = response.putArray(listKey);
+        for (int i = Math.min(offset, end); i < end; i++) {
+            page.add(items.get(i).deepCopy());
+        }
+        if (end < items.size()) {
+            response.put("NextToken", Base64.getUrlEncoder().encodeToString(
+                    Integer.toString(end).getBytes(StandardCharsets.UTF_8)));
+        }
+        return response;
+    }
+
+    private int maxResults(final String value) throws EmulatorException {
+        if (value == null) {
+            return maxPageSize;
+        }
+        try {
+            final int maxResults = Integer.parseInt(value);
+            if (maxResults >= 1 && maxResults <= maxPageSize) {
+                return maxResults;
+            }
+        } catch (final NumberFormatException e) {
+            // reported below
+        }
+        throw EmulatorException.validation(String.format("maxResults must be between 1 and %d", maxPageSize));
+    }
+
+    private static int offset(final String nextToken) throws EmulatorException {
+        if (nextToken == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(new String(Base64.getUrlDecoder().decode(nextToken), StandardCharsets.UTF_8));
+        } catch (final IllegalArgumentException e) {
+            throw EmulatorException.validation("Invalid nextToken");
+        }
+    }
+
+    private ObjectNode run(final String name, final String runId) throws EmulatorException {
+        existing(JOB, name);
+        final ObjectNode run = runs(name).get(runId);
+        if (run == null) {
+            throw EmulatorException.notFound(String.format("Job run %s of job %s not found", runId, name));
+        }
+        return run;
+    }
+
+    private LinkedHashMap<String, ObjectNode> runs(final String name) {
+        return jobRuns.computeIfAbsent(name, key -> new LinkedHashMap<>());
+    }
+
+    private String[] resolve(final String resourceArn) throws EmulatorException {
+        final Matcher matcher = ARN.matcher(resourceArn == null ? "" : resourceArn);
+        if (!matcher.matches() || !isType(matcher.group(1))) {
+            throw EmulatorException.validation(String.format("Invalid resource ARN %s", resourceArn));
+        }
+        return new String[]{matcher.group(1), matcher.group(2)};
+    }
+
+    private static boolean isType(final String type) {
+        return DATASET.equals(type) || JOB.equals(type) || PROJECT.equals(type)
+                || RECIPE.equals(type) || RULESET.equals(type) || SCHEDULE.equals(type);
+    }
+
+    private static int major(final String version) throws EmulatorException {
+        final Matcher matcher = PUBLISHED_VERSION.matcher(version);
+        if (!matcher.matches()) {
+            throw EmulatorException.validation(String.format("Invalid recipe version %s", version));
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private ObjectNode existing(final String type, final String name) throws EmulatorException {
+        final ObjectNode resource = current(type, name);
+        if (resource == null) {
+            throw notFound(type, name);
+        }
+        return resource;
+    }
+
+    private ObjectNode current(final String type, final String name) {
+        final Revisions revisions = table(type).get(name);
+        return revisions == null ? null : revisions.latest();
+    }
+
+    private ObjectNode visible(final String type, final String name) {
+        final Revisions revisions = table(type).get(name);
+        return revisions == null ? null : revisions.visible(clock.getAsLong());
+    }
+
+    private void write(final String type, final String name, final ObjectNode resource) {
+        final long now = clock.getAsLong();
+        final Revisions revisions = table(type).computeIfAbsent(name, key -> new Revisions());
+        revisions.add(now + consistencyLagMillis, resource, now);
+        if (revisions.isDeleted()) {
+            table(type).remove(name);
+        }
+    }
+
+    private TreeMap<String, Revisions> table(final String type) {
+        return resources.computeIfAbsent(type, key -> new TreeMap<>());
+    }
+
+    private double seconds() {
+        return clock.getAsLong() / 1000.0;
+    }
+
+    private static ObjectNode named(final String name) {
+        final ObjectNode response = JSON.objectNode();
+        response.put("Name", name);
+        return response;
+    }
+
+    private static ObjectNode versionError(final String version, final String errorCode, final String message) {
+        final ObjectNode error = JSON.objectNode();
+        error.put("RecipeVersion", version);
+        error.put("ErrorCode", errorCode);
+        error.put("ErrorMessage", message);
+        return error;
+    }
+
+    private static String required(final ObjectNode body, final String field) throws EmulatorException {
+        final JsonNode value = body.get(field);
+        if (value == null || !value.isTextual() || value.asText().isEmpty()) {
+            throw EmulatorException.validation(String.format("%s is required", field));
+        }
+        return value.asText();
+    }
+
+    private static EmulatorException notFound(final String type, final String name) {
+        return EmulatorException.notFound(String.format("%s %s not found", label(type), name));
+    }
+
+    private static String label(final String type) {
+        return type.substring(0, 1).toUpperCase(Locale.ROOT) + type.substring(1);
+    }
+
+    /**
+     * The states of one resource, oldest first, where a null state means deleted. States older than the
+     * newest visible one are dropped.
+     */
+    private static final class Revisions {
+        private final List<Long> visibleAt = new ArrayList<>();
+        private final List<ObjectNode> states = new ArrayList<>();
+
+        void add(final long at, final ObjectNode state, final long now) {
+            visibleAt.add(at);
+            states.add(state);
+            int newestVisible = -1;
+            for (int i = 0; i < visibleAt.size(); i++) {
+                if (visibleAt.get(i) <= now) {
+                    newestVisible = i;
+                }
+            }
+            for (int i = 0; i < newestVisible; i++) {
+                visibleAt.remove(0);
+                states.remove(0);
+            }
+        }
+
+        /**
+         * True once the only state left is a visible delete.
+         */
+        boolean isDeleted() {
+            return states.size() == 1 && states.get(0) == null;
+        }
+
+        ObjectNode latest() {
+            return states.get(states.size() - 1);
+        }
+
+        ObjectNode visible(final long now) {
+            for (int i = visibleAt.size() - 1; i >= 0; i--) {
+                if (visibleAt.get(i) <= now) {
+                    return states.get(i);
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package software.amazon.databrew.benchmark.load;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * One warm Lambda container of a resource type: the shaded handler jar in its own class loader, so every
+ * container has its own client, caches and other static state, and invocations are run one at a time.
+ *
+ * The Lambda Context is a proxy of the interface bundled with the handler jar, which keeps the driver
+ * independent of the handler's copy of the Lambda runtime classes.
+ */
+final class HandlerContainer implements AutoCloseable {
+
+    private static final String CONTEXT = "com.amazonaws.services.lambda.runtime.Context";
+    private static final String LAMBDA_LOGGER = "com.amazonaws.services.lambda.runtime.LambdaLogger";
+    private static final long TIMEOUT_MILLIS = 60_000L;
+    private static final int MEMORY_MB = 256;
+
+    private final String resource;
+    private final URLClassLoader loader;
+    private final Object wrapper;
+    private final Method handleRequest;
+    private final Class<?> contextType;
+    private final Object logger;
+
+    HandlerContainer(final String resource, final Path handlerJar, final PrintStream handlerLog) throws Exception {
+        this.resource = resource;
+        // the platform class loader as parent keeps the benchmark's own dependencies out of the handler
+        this.loader = new URLClassLoader(new URL[]{handlerJar.toUri().toURL()}, ClassLoader.getSystemClassLoader().getParent());
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            this.contextType = loader.loadClass(CONTEXT);
+            this.wrapper = loader.loadClass(String.format("software.amazon.databrew.%s.HandlerWrapper", resource))
+                    .getConstructor().newInstance();
+            this.handleRequest = wrapper.getClass().getMethod("handleRequest", InputStream.class, OutputStream.class, contextType);
+            final Class<?> loggerType = loader.loadClass(LAMBDA_LOGGER);
+            this.logger = Proxy.newProxyInstance(loader, new Class<?>[]{loggerType}, (proxy, method, args) -> {
+                if ("log".equals(method.getName()) && args != null && args.length == 1) {
+                    final Object message = args[0];
+                    handlerLog.println(message instanceof byte[]
+                            ? new String((byte[]) message, StandardCharsets.UTF_8) : String.valueOf(message));
+                    return null;
+                }
+                return objectMethod(proxy, method.getName(), args);
+            });
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    String getResource() {
+        return resource;
+    }
+
+    /**
+     * Sends one CloudFormation handler request and returns the serialized progress event.
+     */
+    byte[] invoke(final byte[] request) throws Exception {
+        final ByteArrayOutputStream response = new ByteArrayOutputStream();
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            handleRequest.invoke(wrapper, new ByteArrayInputStream(request), response, context());
+        } catch (final InvocationTargetException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+        return response.toByteArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        loader.close();
+    }
+
+    private Object context() {
+        final String requestId = UUID.randomUUID().toString();
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        return Proxy.newProxyInstance(loader, new Class<?>[]{contextType}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getAwsRequestId":
+                case "getLogStreamName":
+                    return requestId;
+                case "getLogGroupName":
+                    return "/aws/lambda/databrew-load-test-" + resource;
+                case "getFunctionName":
+                    return "databrew-load-test-" + resource;
+                case "getFunctionVersion":
+                    return "$LATEST";
+                case "getInvokedFunctionArn":
+                    return "arn:aws:lambda:us-east-1:123456789012:function:databrew-load-test-" + resource;
+                case "getRemainingTimeInMillis":
+                    return (int) Math.max(0L, deadline - System.currentTimeMillis());
+                case "getMemoryLimitInMB":
+                    return MEMORY_MB;
+                case "getLogger":
+                    return logger;
+                case "getIdentity":
+                case "getClientContext":
+                    return null;
+                default:
+                    return objectMethod(proxy, method.getName(), args);
+            }
+        });
+    }
+
+    private static Object objectMethod(final Object proxy, final String name, final Object[] args) {
+        switch (name) {
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "HandlerContainer proxy";
+            default:
+                throw new UnsupportedOperationException(name);
+        }
+    }
+}
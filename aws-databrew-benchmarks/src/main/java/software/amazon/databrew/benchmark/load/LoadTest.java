@@ -0,0 +1,386 @@
+package software.amazon.databrew.benchmark.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.databrew.benchmark.coldstart.Statistics;
+import software.amazon.databrew.benchmark.emulator.DataBrewEmulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Drives the resource handlers the way CloudFormation does, with many stacks at once: every resource goes
+ * through CREATE, READ, UPDATE, LIST and DELETE, IN_PROGRESS events are re-invoked with their callback
+ * context after the requested delay, and operations failing with Throttling are retried with backoff.
+ *
+ * Handlers run in this JVM, each resource type in a few isolated {@link HandlerContainer}s, against the
+ * in-process {@link DataBrewEmulator} or the endpoint given with --endpoint. Reports operations per second,
+ * latency percentiles, re-invocations, throttling retries and failure codes per handler and action.
+ *
+ * Usage: java -cp aws-databrew-benchmarks-1.0-SNAPSHOT.jar software.amazon.databrew.benchmark.load.LoadTest
+ * [--root ..] [--resources dataset,job] [--actions create,read,update,list,delete] [--instances 20]
+ * [--concurrency 16] [--containers 4] [--callback-delay-scale 1.0] [--latency 20] [--throttle-rate 50]
+ * [--consistency-lag 500] [--output results.jsonl]
+ */
+public final class LoadTest {
+
+    static final List<String> RESOURCES = Arrays.asList("dataset", "job", "project", "recipe", "ruleset", "schedule");
+    static final List<String> ACTIONS = Arrays.asList("create", "read", "update", "list", "delete");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int MAX_INVOCATIONS = 500;
+    private static final long THROTTLE_BACKOFF_MILLIS = 1_000L;
+
+    private final Options options;
+    private final Map<String, BlockingQueue<HandlerContainer>> containers = new HashMap<>();
+    private final Map<String, JsonNode> templates = new HashMap<>();
+
+    private LoadTest(final Options options) {
+        this.options = options;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options options = Options.parse(args);
+        final LoadTest test = new LoadTest(options);
+        final long start = System.nanoTime();
+        final List<OperationResult> results;
+        final DataBrewEmulator emulator = options.endpoint == null ? new DataBrewEmulator(options.emulator) : null;
+        try {
+            if (emulator != null) {
+                emulator.start();
+            }
+            results = test.run(emulator == null ? options.endpoint : emulator.endpoint());
+            report(results, (System.nanoTime() - start) / 1e9, System.out);
+            if (emulator != null) {
+                System.out.println(String.format(Locale.ROOT, "emulator: %d requests, %d throttled",
+                        emulator.requestCounts().values().stream().mapToLong(Long::longValue).sum(), emulator.throttledRequests()));
+            }
+        } finally {
+            if (emulator != null) {
+                emulator.close();
+            }
+        }
+        // the handlers' SDK clients keep connection pools and reapers alive
+        System.exit(results.stream().allMatch(OperationResult::isSuccess) ? 0 : 1);
+    }
+
+    private List<OperationResult> run(final String endpoint) throws Exception {
+        System.setProperty("databrew.endpoint", endpoint);
+        System.setProperty("aws.region", "us-east-1");
+
+        final Path handlerLog = Files.createTempFile("databrew-load-test", ".log");
+        final List<OperationResult> results = Collections.synchronizedList(new ArrayList<>());
+        final ExecutorService executor = Executors.newFixedThreadPool(options.concurrency);
+        try (PrintStream log = new PrintStream(Files.newOutputStream(handlerLog), true, StandardCharsets.UTF_8.name());
+             Writer output = options.output == null ? null : Files.newBufferedWriter(options.output, StandardCharsets.UTF_8)) {
+            for (final String resource : options.resources) {
+                final BlockingQueue<HandlerContainer> pool = new ArrayBlockingQueue<>(options.containers);
+                for (int i = 0; i < options.containers; i++) {
+                    pool.add(new HandlerContainer(resource, handlerJar(resource), log));
+                }
+                containers.put(resource, pool);
+                templates.put(resource, template(resource));
+            }
+
+            final List<Future<?>> lifecycles = new ArrayList<>();
+            for (int instance = 1; instance <= options.instances; instance++) {
+                for (final String resource : options.resources) {
+                    final String name = String.format(Locale.ROOT, "load-%s-%05d", resource, instance);
+                    lifecycles.add(executor.submit(() -> {
+                        for (final String action : options.actions) {
+                            final OperationResult result = operation(resource, action, name);
+                            results.add(result);
+                            write(output, result);
+                            if ("create".equals(action) && !result.isSuccess()) {
+                                break;
+                            }
+                        }
+                        return null;
+                    }));
+                }
+            }
+            for (final Future<?> lifecycle : lifecycles) {
+                lifecycle.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            for (final BlockingQueue<HandlerContainer> pool : containers.values()) {
+                for (final HandlerContainer container : pool) {
+                    container.close();
+                }
+            }
+        }
+        System.err.println("Handler logs written to " + handlerLog);
+        return results;
+    }
+
+    /**
+     * Runs one operation to completion, re-invoking the handler like CloudFormation until it returns
+     * SUCCESS or FAILED.
+     */
+    private OperationResult operation(final String resource, final String action, final String name) throws Exception {
+        final OperationResult result = new OperationResult();
+        result.resource = resource;
+        result.action = action;
+        result.name = name;
+
+        final ObjectNode request = request(resource, action, name);
+        final long start = System.nanoTime();
+        long waitNanos = 0L;
+        while (true) {
+            final BlockingQueue<HandlerContainer> pool = containers.get(resource);
+            final long waitStart = System.nanoTime();
+            final HandlerContainer container = pool.take();
+            waitNanos += System.nanoTime() - waitStart;
+            final JsonNode event;
+            try {
+                event = MAPPER.readTree(container.invoke(MAPPER.writeValueAsBytes(request)));
+            } catch (final Exception e) {
+                result.status = "HANDLER_EXCEPTION";
+                result.message = String.valueOf(e);
+                break;
+            } finally {
+                pool.put(container);
+            }
+            result.invocations++;
+            if (event == null || !event.isObject()) {
+                result.status = "INVALID_RESPONSE";
+                break;
+            }
+            result.status = text(event, "status");
+            result.errorCode = text(event, "errorCode");
+            result.message = text(event, "message");
+
+            if ("IN_PROGRESS".equals(result.status) && result.invocations < MAX_INVOCATIONS) {
+                request.set("callbackContext", event.get("callbackContext"));
+                if (event.hasNonNull("resourceModel")) {
+                    ((ObjectNode) request.get("requestData")).set("resourceProperties", event.get("resourceModel"));
+                }
+                sleep(event.path("callbackDelaySeconds").asLong() * 1000L);
+            } else if ("FAILED".equals(result.status) && "Throttling".equals(result.errorCode)
+                    && result.throttleRetries < options.maxThrottleRetries) {
+                result.throttleRetries++;
+                request.set("callbackContext", null);
+                sleep(THROTTLE_BACKOFF_MILLIS << (result.throttleRetries - 1));
+            } else {
+                break;
+            }
+        }
+        result.millis = (System.nanoTime() - start - waitNanos) / 1e6;
+        return result;
+    }
+
+    private ObjectNode request(final String resource, final String action, final String name) {
+        final ObjectNode request = templates.get(resource).deepCopy();
+        final ObjectNode requestData = (ObjectNode) request.get("requestData");
+        final ObjectNode properties = (ObjectNode) requestData.get("resourceProperties");
+        properties.put("Name", name);
+        request.put("action", action.toUpperCase(Locale.ROOT));
+        request.put("bearerToken", name + "-" + action);
+        request.set("callbackContext", null);
+        switch (action) {
+            case "update":
+                requestData.set("previousResourceProperties", properties.deepCopy());
+                final ArrayNode tags = properties.putArray("Tags");
+                tags.addObject().put("Key", "team").put("Value", "load-test");
+                break;
+            case "read":
+            case "delete":
+                requestData.putObject("resourceProperties").put("Name", name);
+                break;
+            case "list":
+                requestData.putObject("resourceProperties");
+                break;
+            default:
+                break;
+        }
+        return request;
+    }
+
+    private void sleep(final long millis) throws InterruptedException {
+        final long scaled = (long) (millis * options.callbackDelayScale);
+        if (scaled > 0) {
+            Thread.sleep(scaled);
+        }
+    }
+
+    private Path handlerJar(final String resource) {
+        final Path jar = options.root.resolve(String.format("aws-databrew-%1$s/target/aws-databrew-%1$s-handler-1.0-SNAPSHOT.jar", resource));
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(String.format("%s not found, run mvn package in aws-databrew-%s first", jar, resource));
+        }
+        return jar;
+    }
+
+    private static JsonNode template(final String resource) throws IOException {
+        final String name = String.format("coldstart/%s/create.json", resource);
+        try (InputStream input = LoadTest.class.getClassLoader().getResourceAsStream(name)) {
+            if (input == null) {
+                throw new IllegalStateException("Missing recording " + name);
+            }
+            return MAPPER.readTree(input);
+        }
+    }
+
+    private static void write(final Writer output, final OperationResult result) throws IOException {
+        if (output == null) {
+            return;
+        }
+        synchronized (output) {
+            output.write(MAPPER.writeValueAsString(result));
+            output.write(System.lineSeparator());
+            output.flush();
+        }
+    }
+
+    private static String text(final JsonNode node, final String field) {
+        final JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    static void report(final List<OperationResult> results, final double seconds, final PrintStream out) {
+        // rows in lifecycle order, CREATE before READ and so on
+        final Map<String, List<OperationResult>> groups = results.stream().collect(Collectors.groupingBy(
+                result -> result.resource + " " + result.action,
+                () -> new TreeMap<>(Comparator.comparing((String group) -> group.substring(0, group.indexOf(' ')))
+                        .thenComparing(group -> ACTIONS.indexOf(group.substring(group.indexOf(' ') + 1)))),
+                Collectors.toList()));
+
+        out.println(String.format(Locale.ROOT, "%-16s %5s %5s %8s %26s %8s %8s  %s",
+                "resource action", "ops", "fail", "ops/s", "latency ms p50/p90/p99", "invokes", "retries", "failure codes"));
+        for (final Map.Entry<String, List<OperationResult>> group : groups.entrySet()) {
+            final List<OperationResult> operations = group.getValue();
+            final Statistics latency = new Statistics(operations.stream().map(result -> result.millis).collect(Collectors.toList()));
+            final long failed = operations.stream().filter(result -> !result.isSuccess()).count();
+            out.println(String.format(Locale.ROOT, "%-16s %5d %5d %8.1f %26s %8d %8d  %s",
+                    group.getKey(), operations.size(), failed, operations.size() / seconds,
+                    String.format(Locale.ROOT, "%.0f/%.0f/%.0f", latency.median(), latency.p90(), latency.percentile(99)),
+                    operations.stream().mapToInt(result -> result.invocations).sum(),
+                    operations.stream().mapToInt(result -> result.throttleRetries).sum(),
+                    failureCodes(operations)));
+        }
+        out.println(String.format(Locale.ROOT, "%d operations in %.1f s, %.1f ops/s", results.size(), seconds, results.size() / seconds));
+    }
+
+    static String failureCodes(final List<OperationResult> operations) {
+        final Map<String, Long> codes = operations.stream()
+                .filter(result -> !result.isSuccess())
+                .collect(Collectors.groupingBy(result -> result.errorCode != null ? result.errorCode : result.status,
+                        TreeMap::new, Collectors.counting()));
+        return codes.entrySet().stream()
+                .map(code -> code.getKey() + "=" + code.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    static final class Options {
+        Path root = Paths.get("..");
+        List<String> resources = RESOURCES;
+        List<String> actions = ACTIONS;
+        int instances = 20;
+        int concurrency = 16;
+        int containers = 4;
+        double callbackDelayScale = 1.0;
+        int maxThrottleRetries = 5;
+        String endpoint;
+        DataBrewEmulator.Options emulator = new DataBrewEmulator.Options();
+        Path output;
+
+        static Options parse(final String[] args) {
+            final Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                final String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                final String value = args[++i];
+                switch (option) {
+                    case "--root":
+                        options.root = Paths.get(value);
+                        break;
+                    case "--resources":
+                        options.resources = list(value, RESOURCES);
+                        break;
+                    case "--actions":
+                        options.actions = list(value, ACTIONS);
+                        break;
+                    case "--instances":
+                        options.instances = Integer.parseInt(value);
+                        break;
+                    case "--concurrency":
+                        options.concurrency = Integer.parseInt(value);
+                        break;
+                    case "--containers":
+                        options.containers = Integer.parseInt(value);
+                        break;
+                    case "--callback-delay-scale":
+                        options.callbackDelayScale = Double.parseDouble(value);
+                        break;
+                    case "--max-throttle-retries":
+                        options.maxThrottleRetries = Integer.parseInt(value);
+                        break;
+                    case "--endpoint":
+                        options.endpoint = value;
+                        break;
+                    case "--latency":
+                        options.emulator.latencyMillis = Long.parseLong(value);
+                        break;
+                    case "--latency-jitter":
+                        options.emulator.latencyJitterMillis = Long.parseLong(value);
+                        break;
+                    case "--throttle-rate":
+                        options.emulator.throttleRate = Double.parseDouble(value);
+                        break;
+                    case "--throttle-probability":
+                        options.emulator.throttleProbability = Double.parseDouble(value);
+                        break;
+                    case "--consistency-lag":
+                        options.emulator.consistencyLagMillis = Long.parseLong(value);
+                        break;
+                    case "--output":
+                        options.output = Paths.get(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            return options;
+        }
+
+        private static List<String> list(final String value, final List<String> allowed) {
+            final List<String> values = Arrays.stream(value.split(","))
+                    .map(String::trim)
+                    .map(item -> item.toLowerCase(Locale.ROOT))
+                    .filter(item -> !item.isEmpty())
+                    .collect(Collectors.toList());
+            for (final String item : values) {
+                if (!allowed.contains(item)) {
+                    throw new IllegalArgumentException(String.format("Unknown value %s, expected one of %s", item, allowed));
+                }
+            }
+            return values;
+        }
+    }
+}
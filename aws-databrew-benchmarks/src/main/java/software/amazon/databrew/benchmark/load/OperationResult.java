@@ -0,0 +1,24 @@
+package software.amazon.databrew.benchmark.load;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Outcome of one CloudFormation operation, from the first handler invocation to the final progress event.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OperationResult {
+    public String resource;
+    public String action;
+    public String name;
+    public String status;
+    public String errorCode;
+    public String message;
+    /** wall clock time of the operation, callback delays included, time spent waiting for a free container excluded */
+    public double millis;
+    public int invocations;
+    public int throttleRetries;
+
+    boolean isSuccess() {
+        return "SUCCESS".equals(status);
+    }
+}
@@ -0,0 +1,27 @@
+package software.amazon.databrew.benchmark.coldstart;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StatisticsTest {
+
+    @Test
+    public void percentiles() {
+        final Statistics statistics = new Statistics(Arrays.asList(10, 1, 9, 2, 8, 3, 7, 4, 6, 5));
+
+        assertThat(statistics.count()).isEqualTo(10);
+        assertThat(statistics.median()).isEqualTo(5.0);
+        assertThat(statistics.p90()).isEqualTo(9.0);
+        assertThat(statistics.percentile(100)).isEqualTo(10.0);
+        assertThat(statistics.percentile(0)).isEqualTo(1.0);
+    }
+
+    @Test
+    public void percentiles_NoSamples() {
+        assertThat(new Statistics(Collections.<Long>emptyList()).median()).isNaN();
+    }
+}
@@ -0,0 +1,58 @@
+package software.amazon.databrew.benchmark.coldstart;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StubDataBrewServerTest {
+
+    @Test
+    public void recordings_CoverEveryResourceAndAction() throws IOException {
+        for (final String resource : ColdStartBenchmark.RESOURCES) {
+            for (final String action : ColdStartBenchmark.ACTIONS) {
+                final String name = String.format("coldstart/%s/%s.json", resource, action);
+                try (InputStream payload = getClass().getClassLoader().getResourceAsStream(name)) {
+                    assertThat(payload).as(name).isNotNull();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void match() throws IOException {
+        final StubDataBrewServer stub = new StubDataBrewServer(StubDataBrewServer.loadRoutes(
+                getClass().getClassLoader().getResourceAsStream("coldstart/stub-routes.json")));
+
+        assertThat(stub.match("POST", "/profileJobs")).isNotNull();
+        assertThat(stub.match("GET", "/jobs/benchmark-job")).isNotNull();
+        assertThat(stub.match("GET", "/jobs")).isNotNull();
+        assertThat(stub.match("GET", "/jobs/benchmark-job/extra")).isNull();
+        assertThat(stub.match("DELETE", "/jobs/benchmark-job")).isNull();
+        stub.close();
+    }
+
+    @Test
+    public void serve() throws IOException {
+        final List<StubDataBrewServer.Route> routes = StubDataBrewServer.loadRoutes(
+                getClass().getClassLoader().getResourceAsStream("coldstart/stub-routes.json"));
+        try (StubDataBrewServer stub = new StubDataBrewServer(routes)) {
+            stub.start();
+
+            final HttpURLConnection describe = (HttpURLConnection) new URL(stub.endpoint() + "/schedules/benchmark-schedule").openConnection();
+            assertThat(describe.getResponseCode()).isEqualTo(200);
+            describe.disconnect();
+
+            final HttpURLConnection unknown = (HttpURLConnection) new URL(stub.endpoint() + "/unknown").openConnection();
+            assertThat(unknown.getResponseCode()).isEqualTo(404);
+            unknown.disconnect();
+
+            assertThat(stub.unmatchedRequests()).containsExactly("GET /unknown");
+        }
+    }
+}
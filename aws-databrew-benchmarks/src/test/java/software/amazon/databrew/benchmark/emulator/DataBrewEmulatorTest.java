@@ -0,0 +1,95 @@
+package software.amazon.databrew.benchmark.emulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataBrewEmulatorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void serve_CreateDescribeDelete() throws IOException {
+        try (DataBrewEmulator emulator = new DataBrewEmulator(new DataBrewEmulator.Options())) {
+            emulator.start();
+
+            assertThat(call(emulator, "POST", "/recipeJobs", "{\"Name\":\"nightly\",\"RoleArn\":\"role\"}").status).isEqualTo(200);
+            final Response describe = call(emulator, "GET", "/jobs/nightly", null);
+            assertThat(describe.status).isEqualTo(200);
+            assertThat(describe.body.get("Type").asText()).isEqualTo("RECIPE");
+
+            final Response tag = call(emulator, "POST", "/tags/arn%3Aaws%3Adatabrew%3Aus-east-1%3A123456789012%3Ajob%2Fnightly",
+                    "{\"Tags\":{\"team\":\"a\"}}");
+            assertThat(tag.status).isEqualTo(200);
+
+            assertThat(call(emulator, "DELETE", "/jobs/nightly", null).status).isEqualTo(200);
+            final Response missing = call(emulator, "GET", "/jobs/nightly", null);
+            assertThat(missing.status).isEqualTo(404);
+            assertThat(missing.errorType).isEqualTo("ResourceNotFoundException");
+
+            assertThat(call(emulator, "GET", "/unknown", null).status).isEqualTo(404);
+            assertThat(emulator.requestCounts()).containsEntry("DescribeJob", 2L).containsEntry("TagResource", 1L);
+        }
+    }
+
+    @Test
+    public void serve_Throttled() throws IOException {
+        final DataBrewEmulator.Options options = new DataBrewEmulator.Options();
+        options.throttleProbability = 1.0;
+        try (DataBrewEmulator emulator = new DataBrewEmulator(options)) {
+            emulator.start();
+
+            final Response response = call(emulator, "GET", "/datasets", null);
+
+            assertThat(response.status).isEqualTo(429);
+            assertThat(response.errorType).isEqualTo("ThrottlingException");
+            assertThat(emulator.throttledRequests()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void options() {
+        final DataBrewEmulator.Options options = DataBrewEmulator.Options.parse(new String[]{
+                "--latency", "20", "--throttle-rate", "50", "--consistency-lag", "500"});
+
+        assertThat(options.latencyMillis).isEqualTo(20L);
+        assertThat(options.throttleRate).isEqualTo(50.0);
+        assertThat(options.consistencyLagMillis).isEqualTo(500L);
+        assertThat(options.port).isEqualTo(0);
+    }
+
+    private static Response call(final DataBrewEmulator emulator, final String method, final String path,
+                                 final String body) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(emulator.endpoint() + path).openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream output = connection.getOutputStream()) {
+                output.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        final Response response = new Response();
+        response.status = connection.getResponseCode();
+        response.errorType = connection.getHeaderField("x-amzn-ErrorType");
+        try (InputStream input = response.status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            response.body = MAPPER.readTree(input);
+        }
+        connection.disconnect();
+        return response;
+    }
+
+    private static final class Response {
+        private int status;
+        private String errorType;
+        private JsonNode body;
+    }
+}
@@ -0,0 +1,165 @@
+package software.amazon.databrew.benchmark.emulator;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EmulatorStateTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    public void create_VisibleAfterConsistencyLag() throws EmulatorException {
+        final EmulatorState state = state(500L);
+        state.create(EmulatorState.DATASET, named("sales"));
+
+        assertThatThrownBy(() -> state.describe(EmulatorState.DATASET, "sales"))
+                .isInstanceOf(EmulatorException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "ResourceNotFoundException");
+        assertThatThrownBy(() -> state.create(EmulatorState.DATASET, named("sales")))
+                .hasFieldOrPropertyWithValue("errorCode", "ConflictException");
+
+        now.addAndGet(500L);
+        final ObjectNode dataset = state.describe(EmulatorState.DATASET, "sales");
+        assertThat(dataset.get("ResourceArn").asText()).isEqualTo("arn:aws:databrew:us-east-1:123456789012:dataset/sales");
+    }
+
+    @Test
+    public void delete_StillVisibleDuringConsistencyLag() throws EmulatorException {
+        final EmulatorState state = state(500L);
+        state.create(EmulatorState.DATASET, named("sales"));
+        now.addAndGet(500L);
+
+        state.delete(EmulatorState.DATASET, "sales");
+
+        assertThat(state.describe(EmulatorState.DATASET, "sales")).isNotNull();
+        assertThatThrownBy(() -> state.delete(EmulatorState.DATASET, "sales"))
+                .hasFieldOrPropertyWithValue("errorCode", "ResourceNotFoundException");
+        now.addAndGet(500L);
+        assertThatThrownBy(() -> state.describe(EmulatorState.DATASET, "sales"))
+                .hasFieldOrPropertyWithValue("errorCode", "ResourceNotFoundException");
+    }
+
+    @Test
+    public void update_KeepsTagsAndCreateDate() throws EmulatorException {
+        final EmulatorState state = state(0L);
+        final ObjectNode dataset = named("sales");
+        dataset.putObject("Tags").put("team", "a");
+        state.create(EmulatorState.DATASET, dataset);
+        final double created = state.describe(EmulatorState.DATASET, "sales").get("CreateDate").asDouble();
+
+        now.addAndGet(1_000L);
+        state.update(EmulatorState.DATASET, "sales", JsonNodeFactory.instance.objectNode().put("Format", "CSV"));
+
+        final ObjectNode updated = state.describe(EmulatorState.DATASET, "sales");
+        assertThat(updated.get("Format").asText()).isEqualTo("CSV");
+        assertThat(updated.get("Tags").get("team").asText()).isEqualTo("a");
+        assertThat(updated.get("CreateDate").asDouble()).isEqualTo(created);
+        assertThat(updated.get("LastModifiedDate").asDouble()).isGreaterThan(created);
+    }
+
+    @Test
+    public void list_Paginated() throws EmulatorException {
+        final EmulatorState state = state(0L);
+        for (final String name : Arrays.asList("c", "a", "b")) {
+            state.create(EmulatorState.PROJECT, named(name));
+        }
+
+        final ObjectNode first = state.list(EmulatorState.PROJECT, "Projects", query("maxResults", "2"), project -> true);
+        assertThat(first.get("Projects").size()).isEqualTo(2);
+        assertThat(first.get("Projects").get(0).get("Name").asText()).isEqualTo("a");
+
+        final Map<String, List<String>> next = query("maxResults", "2");
+        next.put("nextToken", Collections.singletonList(first.get("NextToken").asText()));
+        final ObjectNode second = state.list(EmulatorState.PROJECT, "Projects", next, project -> true);
+        assertThat(second.get("Projects").size()).isEqualTo(1);
+        assertThat(second.get("Projects").get(0).get("Name").asText()).isEqualTo("c");
+        assertThat(second.has("NextToken")).isFalse();
+
+        assertThatThrownBy(() -> state.list(EmulatorState.PROJECT, "Projects", query("maxResults", "101"), project -> true))
+                .hasFieldOrPropertyWithValue("errorCode", "ValidationException");
+    }
+
+    @Test
+    public void recipeVersions() throws EmulatorException {
+        final EmulatorState state = state(0L);
+        state.create(EmulatorState.RECIPE, named("clean"));
+        state.publishRecipe("clean", JsonNodeFactory.instance.objectNode());
+        state.publishRecipe("clean", JsonNodeFactory.instance.objectNode());
+
+        assertThat(state.describeRecipe("clean", null).get("RecipeVersion").asText()).isEqualTo("2.1");
+        assertThat(state.describeRecipe("clean", "LATEST_PUBLISHED").get("RecipeVersion").asText()).isEqualTo("2.0");
+        assertThat(state.listRecipeVersions(query("name", "clean")).get("Recipes").size()).isEqualTo(2);
+        assertThatThrownBy(() -> state.deleteRecipeVersion("clean", "LATEST_WORKING"))
+                .hasFieldOrPropertyWithValue("errorCode", "ConflictException");
+
+        final ObjectNode versions = JsonNodeFactory.instance.objectNode();
+        versions.putArray("RecipeVersions").add("1.0").add("2.0").add("3.0");
+        final ObjectNode response = state.batchDeleteRecipeVersion("clean", versions);
+
+        assertThat(response.get("Errors").size()).isEqualTo(1);
+        assertThat(response.get("Errors").get(0).get("RecipeVersion").asText()).isEqualTo("3.0");
+        assertThat(response.get("Errors").get(0).get("ErrorCode").asText()).isEqualTo("ResourceNotFoundException");
+        state.deleteRecipeVersion("clean", "LATEST_WORKING");
+        assertThatThrownBy(() -> state.describeRecipe("clean", null))
+                .hasFieldOrPropertyWithValue("errorCode", "ResourceNotFoundException");
+    }
+
+    @Test
+    public void jobRuns_BlockDeleteUntilStopped() throws EmulatorException {
+        final EmulatorState state = state(0L);
+        state.create(EmulatorState.JOB, named("nightly"));
+        final String runId = state.startJobRun("nightly").get("RunId").asText();
+
+        assertThatThrownBy(() -> state.delete(EmulatorState.JOB, "nightly"))
+                .hasFieldOrPropertyWithValue("errorCode", "ConflictException");
+        assertThat(state.listJobRuns("nightly", new HashMap<>()).get("JobRuns").get(0).get("State").asText()).isEqualTo("RUNNING");
+
+        state.stopJobRun("nightly", runId);
+        assertThatThrownBy(() -> state.stopJobRun("nightly", runId))
+                .hasFieldOrPropertyWithValue("errorCode", "ConflictException");
+        state.delete(EmulatorState.JOB, "nightly");
+    }
+
+    @Test
+    public void tags() throws EmulatorException {
+        final EmulatorState state = state(0L);
+        state.create(EmulatorState.SCHEDULE, named("daily"));
+        final String arn = state.arn(EmulatorState.SCHEDULE, "daily");
+
+        final ObjectNode tags = JsonNodeFactory.instance.objectNode();
+        tags.putObject("Tags").put("a", "1").put("b", "2");
+        state.tagResource(arn, tags);
+        state.untagResource(arn, Collections.singletonList("a"));
+
+        assertThat(state.listTagsForResource(arn).get("Tags").toString()).isEqualTo("{\"b\":\"2\"}");
+        assertThatThrownBy(() -> state.listTagsForResource("arn:aws:databrew:us-east-1:123456789012:schedule/other"))
+                .hasFieldOrPropertyWithValue("errorCode", "ResourceNotFoundException");
+        assertThatThrownBy(() -> state.listTagsForResource("not-an-arn"))
+                .hasFieldOrPropertyWithValue("errorCode", "ValidationException");
+    }
+
+    private EmulatorState state(final long consistencyLagMillis) {
+        return new EmulatorState("us-east-1", "123456789012", consistencyLagMillis, 100, now::get);
+    }
+
+    private static ObjectNode named(final String name) {
+        return JsonNodeFactory.instance.objectNode().put("Name", name);
+    }
+
+    private static Map<String, List<String>> query(final String name, final String value) {
+        final Map<String, List<String>> query = new HashMap<>();
+        query.put(name, Collections.singletonList(value));
+        return query;
+    }
+}
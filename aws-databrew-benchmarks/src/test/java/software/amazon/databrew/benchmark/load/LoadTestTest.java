@@ -0,0 +1,66 @@
+package software.amazon.databrew.benchmark.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LoadTestTest {
+
+    @Test
+    public void failureCodes() {
+        final List<OperationResult> results = Arrays.asList(
+                result("job", "create", "SUCCESS", null),
+                result("job", "create", "FAILED", "Throttling"),
+                result("job", "create", "FAILED", "ServiceInternalError"),
+                result("job", "create", "FAILED", "Throttling"),
+                result("job", "create", "HANDLER_EXCEPTION", null));
+
+        assertThat(LoadTest.failureCodes(results)).isEqualTo("HANDLER_EXCEPTION=1,ServiceInternalError=1,Throttling=2");
+    }
+
+    @Test
+    public void report_LifecycleOrder() throws UnsupportedEncodingException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LoadTest.report(Arrays.asList(
+                result("job", "delete", "SUCCESS", null),
+                result("dataset", "read", "SUCCESS", null),
+                result("job", "create", "FAILED", "NotStabilized")), 2.0, new PrintStream(output, true, "UTF-8"));
+
+        final String[] lines = new String(output.toByteArray(), StandardCharsets.UTF_8).split("\\R");
+        assertThat(lines[1]).startsWith("dataset read");
+        assertThat(lines[2]).startsWith("job create").endsWith("NotStabilized=1");
+        assertThat(lines[3]).startsWith("job delete");
+        assertThat(lines[4]).isEqualTo("3 operations in 2.0 s, 1.5 ops/s");
+    }
+
+    @Test
+    public void options() {
+        final LoadTest.Options options = LoadTest.Options.parse(new String[]{
+                "--resources", "job,recipe", "--actions", "create,delete", "--throttle-rate", "20"});
+
+        assertThat(options.resources).isEqualTo(Arrays.asList("job", "recipe"));
+        assertThat(options.actions).isEqualTo(Arrays.asList("create", "delete"));
+        assertThat(options.emulator.throttleRate).isEqualTo(20.0);
+        assertThatThrownBy(() -> LoadTest.Options.parse(new String[]{"--actions", "import"}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static OperationResult result(final String resource, final String action, final String status, final String errorCode) {
+        final OperationResult result = new OperationResult();
+        result.resource = resource;
+        result.action = action;
+        result.status = status;
+        result.errorCode = errorCode;
+        result.millis = 10.0;
+        result.invocations = 1;
+        return result;
+    }
+}
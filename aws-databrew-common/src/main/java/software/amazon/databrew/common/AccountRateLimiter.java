@@ -0,0 +1,168 @@
+package software.amazon.databrew.common;
+
+import software.amazon.awssdk.services.databrew.model.DataBrewException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side token bucket per caller, in front of every DataBrew call of the shared client.
+ *
+ * The handlers of one container serve many accounts, so the buckets are keyed by the access key of the
+ * credentials CloudFormation injects into each request. A bucket starts at DATABREW_RATE_LIMIT requests
+ * per second with DATABREW_RATE_LIMIT_BURST tokens, halves its rate whenever DataBrew still throttles
+ * after the SDK retries and grows back additively on success. A call that would have to wait longer than
+ * DATABREW_RATE_LIMIT_MAX_WAIT_MILLIS fails with a 429 DataBrewException, which the handlers report as
+ * Throttling so CloudFormation retries the operation later. DATABREW_RATE_LIMIT=0 turns the limiter off.
+ */
+final class AccountRateLimiter {
+
+    static final String RATE_ENV = "DATABREW_RATE_LIMIT";
+    static final String BURST_ENV = "DATABREW_RATE_LIMIT_BURST";
+    static final String MAX_WAIT_ENV = "DATABREW_RATE_LIMIT_MAX_WAIT_MILLIS";
+
+    static final double DEFAULT_RATE = 10.0;
+    static final long DEFAULT_MAX_WAIT_MILLIS = 5_000L;
+
+    private static final double MIN_RATE = 0.5;
+    private static final int MAX_BUCKETS = 256;
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final double rate;
+    private final double burst;
+    private final long maxWaitNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    AccountRateLimiter(final double rate, final double burst, final long maxWaitMillis, final LongSupplier nanoClock) {
+        this.rate = rate;
+        this.burst = burst;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return the limiter configured by the environment, or null when rate limiting is turned off
+     */
+    static AccountRateLimiter fromEnvironment() {
+        return parse(System.getenv(RATE_ENV), System.getenv(BURST_ENV), System.getenv(MAX_WAIT_ENV));
+    }
+
+    static AccountRateLimiter parse(final String rate, final String burst, final String maxWaitMillis) {
+        final double parsedRate = isBlank(rate) ? DEFAULT_RATE : parseNonNegative(RATE_ENV, rate);
+        if (parsedRate == 0) {
+            return null;
+        }
+        final double parsedBurst = isBlank(burst) ? Math.max(1.0, parsedRate * 2) : parseNonNegative(BURST_ENV, burst);
+        if (parsedBurst < 1) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], must be at least 1", BURST_ENV, burst.trim()));
+        }
+        final long parsedMaxWait = isBlank(maxWaitMillis) ? DEFAULT_MAX_WAIT_MILLIS : (long) parseNonNegative(MAX_WAIT_ENV, maxWaitMillis);
+        return new AccountRateLimiter(parsedRate, parsedBurst, parsedMaxWait, System::nanoTime);
+    }
+
+    /**
+     * Takes a token from the caller's bucket, sleeping until one is available.
+     *
+     * @throws DataBrewException with status code 429 when the wait would exceed the configured maximum
+     */
+    void acquire(final String key) throws InterruptedException {
+        final long waitNanos = bucket(key).reserve(nanoClock.getAsLong());
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    void onSuccess(final String key) {
+        bucket(key).increase();
+    }
+
+    void onThrottled(final String key) {
+        bucket(key).decrease();
+    }
+
+    double currentRate(final String key) {
+        return bucket(key).currentRate();
+    }
+
+    private Bucket bucket(final String key) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            final long now = nanoClock.getAsLong();
+            if (buckets.size() >= MAX_BUCKETS) {
+                // an idle bucket has refilled completely, dropping it only forgets a lowered rate
+                buckets.values().removeIf(candidate -> candidate.isIdle(now));
+            }
+            bucket = buckets.computeIfAbsent(key, ignored -> new Bucket(now));
+        }
+        return bucket;
+    }
+
+    private final class Bucket {
+        private double rate = AccountRateLimiter.this.rate;
+        private double tokens = burst;
+        private long lastRefill;
+
+        Bucket(final long now) {
+            this.lastRefill = now;
+        }
+
+        synchronized long reserve(final long now) {
+            refill(now);
+            tokens -= 1;
+            if (tokens >= 0) {
+                return 0L;
+            }
+            final long waitNanos = (long) (-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+            if (waitNanos > maxWaitNanos) {
+                tokens += 1;
+                throw (DataBrewException) DataBrewException.builder()
+                        .statusCode(TOO_MANY_REQUESTS)
+                        .message(String.format("Client side rate limit of %.1f requests per second exceeded", rate))
+                        .build();
+            }
+            return waitNanos;
+        }
+
+        synchronized void increase() {
+            rate = Math.min(AccountRateLimiter.this.rate, rate + 1.0 / Math.max(1.0, rate));
+        }
+
+        synchronized void decrease() {
+            rate = Math.max(MIN_RATE, rate / 2);
+        }
+
+        synchronized double currentRate() {
+            return rate;
+        }
+
+        synchronized boolean isIdle(final long now) {
+            return now - lastRefill > IDLE_NANOS;
+        }
+
+        private void refill(final long now) {
+            tokens = Math.min(burst, tokens + (now - lastRefill) * rate / TimeUnit.SECONDS.toNanos(1));
+            lastRefill = now;
+        }
+    }
+
+    private static double parseNonNegative(final String setting, final String value) {
+        final double parsed;
+        try {
+            parsed = Double.parseDouble(value.trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], expected a number", setting, value.trim()), e);
+        }
+        if (parsed < 0 || Double.isNaN(parsed) || Double.isInfinite(parsed)) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], must not be negative", setting, value.trim()));
+        }
+        return parsed;
+    }
+
+    private static boolean isBlank(final String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
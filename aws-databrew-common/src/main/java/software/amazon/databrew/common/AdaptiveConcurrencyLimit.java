@@ -0,0 +1,61 @@
+package software.amazon.databrew.common;
+
+/**
+ * Concurrency limit that grows by one for every limit's worth of successful calls and halves when the
+ * service throttles (additive increase, multiplicative decrease).
+ *
+ * Callers acquire a slot before the call and report its outcome with exactly one of onSuccess,
+ * onThrottled or onFailure.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimit(final int initialLimit, final int minLimit, final int maxLimit) {
+        if (minLimit <= 0 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(String.format("Invalid limits, initial %d min %d max %d",
+                    initialLimit, minLimit, maxLimit));
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    public synchronized void acquire() throws InterruptedException {
+        while (inFlight >= getLimit()) {
+            wait();
+        }
+        inFlight++;
+    }
+
+    public synchronized void onSuccess() {
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+        release();
+    }
+
+    public synchronized void onThrottled() {
+        limit = Math.max(minLimit, limit / 2);
+        release();
+    }
+
+    public synchronized void onFailure() {
+        release();
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void release() {
+        inFlight--;
+        notifyAll();
+    }
+}
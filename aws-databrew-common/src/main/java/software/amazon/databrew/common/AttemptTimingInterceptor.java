@@ -0,0 +1,178 @@
+package software.amazon.databrew.common;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Times the phases of every DataBrew call and records why each attempt was retried, then hands the call
+ * to the HandlerMetrics and the Tracing of the running invocation.
+ *
+ * Per call it measures marshalling, and per attempt the time from sending the request to the response
+ * headers (time to first byte) and unmarshalling. An attempt followed by another one was retried, its
+ * cause is the HTTP status and error type of its response, or NoResponse when the connection failed or
+ * the attempt timed out. Signing has no interceptor hook, its time comes from the SDK metrics instead.
+ */
+final class AttemptTimingInterceptor implements ExecutionInterceptor {
+
+    static final String ERROR_TYPE_HEADER = "x-amzn-ErrorType";
+    static final String NO_RESPONSE = "NoResponse";
+
+    private static final ExecutionAttribute<CallTiming> TIMING = new ExecutionAttribute<>("DataBrewCallTiming");
+
+    private final LongSupplier nanoTime;
+
+    AttemptTimingInterceptor() {
+        this(System::nanoTime);
+    }
+
+    AttemptTimingInterceptor(final LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public void beforeMarshalling(final Context.BeforeMarshalling context, final ExecutionAttributes executionAttributes) {
+        final CallTiming timing = new CallTiming(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+        timing.startNanos = nanoTime.getAsLong();
+        timing.mark = timing.startNanos;
+        executionAttributes.putAttribute(TIMING, timing);
+    }
+
+    @Override
+    public void afterMarshalling(final Context.AfterMarshalling context, final ExecutionAttributes executionAttributes) {
+        final CallTiming timing = executionAttributes.getAttribute(TIMING);
+        if (timing != null) {
+            timing.marshallingNanos = nanoTime.getAsLong() - timing.mark;
+        }
+    }
+
+    @Override
+    public void beforeTransmission(final Context.BeforeTransmission context, final ExecutionAttributes executionAttributes) {
+        final CallTiming timing = executionAttributes.getAttribute(TIMING);
+        if (timing != null) {
+            final Attempt previous = timing.lastAttempt();
+            if (previous != null && previous.retryCause == null) {
+                previous.retryCause = previous.cause();
+            }
+            final Attempt attempt = new Attempt();
+            timing.attempts.add(attempt);
+            timing.mark = nanoTime.getAsLong();
+        }
+    }
+
+    @Override
+    public void afterTransmission(final Context.AfterTransmission context, final ExecutionAttributes executionAttributes) {
+        final CallTiming timing = executionAttributes.getAttribute(TIMING);
+        final Attempt attempt = timing == null ? null : timing.lastAttempt();
+        if (attempt != null) {
+            attempt.timeToFirstByteNanos = nanoTime.getAsLong() - timing.mark;
+            attempt.statusCode = context.httpResponse().statusCode();
+            attempt.errorType = context.httpResponse().firstMatchingHeader(ERROR_TYPE_HEADER)
+                    .map(AttemptTimingInterceptor::errorType)
+                    .orElse("");
+        }
+    }
+
+    @Override
+    public void beforeUnmarshalling(final Context.BeforeUnmarshalling context, final ExecutionAttributes executionAttributes) {
+        final CallTiming timing = executionAttributes.getAttribute(TIMING);
+        if (timing != null) {
+            timing.mark = nanoTime.getAsLong();
+        }
+    }
+
+    @Override
+    public void afterUnmarshalling(final Context.AfterUnmarshalling context, final ExecutionAttributes executionAttributes) {
+        final CallTiming timing = executionAttributes.getAttribute(TIMING);
+        final Attempt attempt = timing == null ? null : timing.lastAttempt();
+        if (attempt != null) {
+            attempt.unmarshallingNanos = nanoTime.getAsLong() - timing.mark;
+        }
+    }
+
+    @Override
+    public void afterExecution(final Context.AfterExecution context, final ExecutionAttributes executionAttributes) {
+        complete(executionAttributes);
+    }
+
+    @Override
+    public void onExecutionFailure(final Context.FailedExecution context, final ExecutionAttributes executionAttributes) {
+        final CallTiming timing = executionAttributes.getAttribute(TIMING);
+        if (timing != null && context.exception() != null) {
+            timing.failure = context.exception().getClass().getSimpleName();
+        }
+        complete(executionAttributes);
+    }
+
+    private void complete(final ExecutionAttributes executionAttributes) {
+        final CallTiming timing = executionAttributes.getAttribute(TIMING);
+        if (timing != null && !timing.completed) {
+            timing.completed = true;
+            timing.durationNanos = nanoTime.getAsLong() - timing.startNanos;
+            HandlerMetrics.recordTiming(timing);
+            Tracing.recordCall(timing);
+        }
+    }
+
+    /**
+     * The header may carry a namespace after the error type, e.g. "ThrottlingException:http://...".
+     */
+    static String errorType(final String header) {
+        final int colon = header.indexOf(':');
+        return colon < 0 ? header : header.substring(0, colon);
+    }
+
+    /**
+     * Phases of one DataBrew call. Attempts of a call run one after the other, so no synchronization is
+     * needed until the call is handed to HandlerMetrics.
+     */
+    static final class CallTiming {
+        final String operation;
+        final List<Attempt> attempts = new ArrayList<>();
+        long startNanos;
+        long durationNanos;
+        long marshallingNanos;
+        long mark;
+        boolean completed;
+        /** exception class of a failed call */
+        String failure;
+
+        CallTiming(final String operation) {
+            this.operation = operation;
+        }
+
+        Attempt lastAttempt() {
+            return attempts.isEmpty() ? null : attempts.get(attempts.size() - 1);
+        }
+
+        long timeToFirstByteNanos() {
+            return attempts.stream().mapToLong(attempt -> attempt.timeToFirstByteNanos).sum();
+        }
+
+        long unmarshallingNanos() {
+            return attempts.stream().mapToLong(attempt -> attempt.unmarshallingNanos).sum();
+        }
+    }
+
+    static final class Attempt {
+        long timeToFirstByteNanos;
+        long unmarshallingNanos;
+        int statusCode;
+        String errorType = "";
+        /** null for the last attempt of a call */
+        String retryCause;
+
+        String cause() {
+            if (statusCode == 0) {
+                return NO_RESPONSE;
+            }
+            return errorType.isEmpty() ? String.valueOf(statusCode) : statusCode + " " + errorType;
+        }
+    }
+}
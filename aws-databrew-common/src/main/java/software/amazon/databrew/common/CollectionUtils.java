@@ -0,0 +1,29 @@
+package software.amazon.databrew.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public final class CollectionUtils {
+
+    private CollectionUtils() {
+    }
+
+    public static boolean isNullOrEmpty(final Collection<?> collection) {
+        return collection == null || collection.isEmpty();
+    }
+
+    /**
+     * Splits the list into consecutive views of at most the given size, the last one possibly shorter.
+     */
+    public static <T> List<List<T>> partition(final List<T> list, final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Partition size must be positive, was " + size);
+        }
+        final List<List<T>> partitions = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += size) {
+            partitions.add(list.subList(from, Math.min(list.size(), from + size)));
+        }
+        return partitions;
+    }
+}
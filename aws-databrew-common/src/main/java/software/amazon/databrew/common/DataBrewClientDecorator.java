@@ -0,0 +1,105 @@
+package software.amazon.databrew.common;
+
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.services.databrew.DataBrewClient;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Wraps a DataBrewClient so that every call made with a request object goes through the per-operation
+ * settings and the caller's rate limit before reaching the SDK. Paginator calls use the settings of the
+ * underlying List operation; they are not rate limited because their pages are fetched lazily.
+ */
+final class DataBrewClientDecorator implements InvocationHandler {
+
+    private static final String PAGINATOR_SUFFIX = "Paginator";
+    private static final String ANONYMOUS_CALLER = "";
+
+    private final DataBrewClient delegate;
+    private final OperationTimeouts timeouts;
+    private final AccountRateLimiter rateLimiter;
+
+    private DataBrewClientDecorator(final DataBrewClient delegate, final OperationTimeouts timeouts,
+                                    final AccountRateLimiter rateLimiter) {
+        this.delegate = delegate;
+        this.timeouts = timeouts;
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * @param rateLimiter null when rate limiting is turned off
+     */
+    static DataBrewClient decorate(final DataBrewClient delegate, final OperationTimeouts timeouts,
+                                   final AccountRateLimiter rateLimiter) {
+        if (!timeouts.hasOperationTimeouts() && rateLimiter == null) {
+            return delegate;
+        }
+        return (DataBrewClient) Proxy.newProxyInstance(DataBrewClient.class.getClassLoader(),
+                new Class<?>[]{DataBrewClient.class},
+                new DataBrewClientDecorator(delegate, timeouts, rateLimiter));
+    }
+
+    static String operationName(final String methodName) {
+        String name = methodName;
+        if (name.endsWith(PAGINATOR_SUFFIX)) {
+            name = name.substring(0, name.length() - PAGINATOR_SUFFIX.length());
+        }
+        return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * The access key of the credentials the CloudFormation proxy injected, which identifies the calling
+     * account's session.
+     */
+    static String caller(final AwsRequest request) {
+        return request.overrideConfiguration()
+                .flatMap(AwsRequestOverrideConfiguration::credentialsProvider)
+                .map(AwsCredentialsProvider::resolveCredentials)
+                .map(AwsCredentials::accessKeyId)
+                .orElse(ANONYMOUS_CALLER);
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        if (args == null || args.length != 1 || !(args[0] instanceof AwsRequest)) {
+            return call(method, args);
+        }
+        args[0] = timeouts.apply(operationName(method.getName()), (AwsRequest) args[0]);
+        if (rateLimiter == null || method.getName().endsWith(PAGINATOR_SUFFIX)) {
+            return call(method, args);
+        }
+
+        final String caller = caller((AwsRequest) args[0]);
+        try {
+            rateLimiter.acquire(caller);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw AbortedException.builder().message("Interrupted while waiting for the rate limiter").cause(e).build();
+        }
+        try {
+            final Object result = call(method, args);
+            rateLimiter.onSuccess(caller);
+            return result;
+        } catch (final RuntimeException e) {
+            if (Throttling.isThrottling(e)) {
+                rateLimiter.onThrottled(caller);
+            }
+            throw e;
+        }
+    }
+
+    private Object call(final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
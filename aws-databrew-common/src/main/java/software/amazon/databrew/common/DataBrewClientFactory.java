@@ -0,0 +1,153 @@
+package software.amazon.databrew.common;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
+import software.amazon.awssdk.services.databrew.DataBrewClient;
+import software.amazon.awssdk.services.databrew.DataBrewClientBuilder;
+import software.amazon.awssdk.services.databrew.model.ListDatasetsRequest;
+import software.amazon.cloudformation.LambdaWrapper;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Single DataBrewClient shared by all handlers running in the same container.
+ *
+ * The client is created once, safely under concurrent invocations, and can be warmed up during Lambda
+ * static initialization so the first real request does not pay for endpoint resolution, marshaller and
+ * signer class loading. Set DATABREW_CLIENT_WARM_UP to "false" to skip the warm-up.
+ *
+ * DATABREW_ENDPOINT overrides the service endpoint, which is how the benchmarks point the handlers at a
+ * local stub or emulator. Handlers running in the same JVM as the emulator use the databrew.endpoint
+ * system property instead, the environment variable wins when both are set.
+ *
+ * Throttled and other retryable calls are retried up to DATABREW_MAX_RETRIES times with full jitter
+ * backoff, on top of the per-caller AccountRateLimiter.
+ *
+ * The SDK metrics and AttemptTimingInterceptor timings of every call feed the HandlerMetrics of the
+ * running invocation.
+ */
+public final class DataBrewClientFactory {
+
+    static final String WARM_UP_ENV = "DATABREW_CLIENT_WARM_UP";
+    static final String ENDPOINT_ENV = "DATABREW_ENDPOINT";
+    static final String ENDPOINT_PROPERTY = "databrew.endpoint";
+    static final String MAX_RETRIES_ENV = "DATABREW_MAX_RETRIES";
+    static final int DEFAULT_MAX_RETRIES = 5;
+
+    private static final Duration BASE_DELAY = Duration.ofMillis(100);
+    private static final Duration THROTTLED_BASE_DELAY = Duration.ofMillis(500);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(20);
+
+    private static final StaticCredentialsProvider WARM_UP_CREDENTIALS =
+            StaticCredentialsProvider.create(AwsBasicCredentials.create("warm-up", "warm-up"));
+
+    private static final Object LOCK = new Object();
+
+    private static volatile DataBrewClient client;
+
+    private DataBrewClientFactory() {
+    }
+
+    public static DataBrewClient getClient() {
+        DataBrewClient result = client;
+        if (result == null) {
+            synchronized (LOCK) {
+                result = client;
+                if (result == null) {
+                    result = buildClient(OperationTimeouts.fromEnvironment());
+                    client = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sends a signed ListDatasets request that is aborted right before transmission. Never throws: a
+     * failed warm-up only means the first real request pays the initialization cost.
+     */
+    public static void warmUp() {
+        if (!isWarmUpEnabled(System.getenv(WARM_UP_ENV))) {
+            return;
+        }
+        try {
+            getClient().listDatasets(warmUpRequest());
+        } catch (final RuntimeException e) {
+            // expected, the warm-up request is never sent
+        }
+    }
+
+    static DataBrewClient buildClient(final OperationTimeouts timeouts) {
+        return buildClient(timeouts, endpoint(System.getenv(ENDPOINT_ENV), System.getProperty(ENDPOINT_PROPERTY)));
+    }
+
+    static String endpoint(final String environment, final String property) {
+        return environment != null && !environment.trim().isEmpty() ? environment : property;
+    }
+
+    static DataBrewClient buildClient(final OperationTimeouts timeouts, final String endpoint) {
+        final DataBrewClientBuilder builder = DataBrewClient.builder()
+                .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .apiCallAttemptTimeout(timeouts.getDefaultTimeout())
+                        .retryPolicy(retryPolicy(maxRetries(System.getenv(MAX_RETRIES_ENV))))
+                        .addExecutionInterceptor(new WarmUpInterceptor())
+                        .addExecutionInterceptor(new AttemptTimingInterceptor())
+                        .addMetricPublisher(new HandlerMetrics.SdkCallPublisher())
+                        .build());
+        if (endpoint != null && !endpoint.trim().isEmpty()) {
+            builder.endpointOverride(URI.create(endpoint.trim()));
+        }
+        return DataBrewClientDecorator.decorate(builder.build(), timeouts, AccountRateLimiter.fromEnvironment());
+    }
+
+    static RetryPolicy retryPolicy(final int maxRetries) {
+        return RetryPolicy.builder(RetryMode.STANDARD)
+                .numRetries(maxRetries)
+                .backoffStrategy(FullJitterBackoffStrategy.builder()
+                        .baseDelay(BASE_DELAY)
+                        .maxBackoffTime(MAX_BACKOFF)
+                        .build())
+                .throttlingBackoffStrategy(FullJitterBackoffStrategy.builder()
+                        .baseDelay(THROTTLED_BASE_DELAY)
+                        .maxBackoffTime(MAX_BACKOFF)
+                        .build())
+                .build();
+    }
+
+    static int maxRetries(final String setting) {
+        if (setting == null || setting.trim().isEmpty()) {
+            return DEFAULT_MAX_RETRIES;
+        }
+        final int maxRetries;
+        try {
+            maxRetries = Integer.parseInt(setting.trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], expected a number", MAX_RETRIES_ENV, setting.trim()), e);
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], must not be negative", MAX_RETRIES_ENV, setting.trim()));
+        }
+        return maxRetries;
+    }
+
+    static ListDatasetsRequest warmUpRequest() {
+        return ListDatasetsRequest.builder()
+                .maxResults(1)
+                .overrideConfiguration(AwsRequestOverrideConfiguration.builder()
+                        .credentialsProvider(WARM_UP_CREDENTIALS)
+                        .putHeader(WarmUpInterceptor.WARM_UP_HEADER, "true")
+                        .build())
+                .build();
+    }
+
+    static boolean isWarmUpEnabled(final String setting) {
+        return setting == null || !"false".equalsIgnoreCase(setting.trim());
+    }
+}
@@ -0,0 +1,50 @@
+package software.amazon.databrew.common;
+
+import software.amazon.awssdk.services.databrew.model.AccessDeniedException;
+import software.amazon.awssdk.services.databrew.model.ConflictException;
+import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.databrew.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.databrew.model.ValidationException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+/**
+ * The one mapping from DataBrew errors to CloudFormation error codes, shared by the handlers of every
+ * resource type. Throttling wins over the exception type, so CloudFormation retries the operation later
+ * instead of failing the stack. A conflict means the name is taken on CREATE and the resource is in use
+ * by another resource or operation otherwise.
+ */
+public final class DataBrewErrors {
+
+    private DataBrewErrors() {
+    }
+
+    /**
+     * @param action the handler action, e.g. "CREATE"
+     */
+    public static HandlerErrorCode errorCode(final String action, final Exception exception) {
+        if (Throttling.isThrottling(exception)) {
+            return HandlerErrorCode.Throttling;
+        }
+        if (exception instanceof ResourceNotFoundException) {
+            return HandlerErrorCode.NotFound;
+        }
+        if (exception instanceof ConflictException) {
+            return "CREATE".equals(action) ? HandlerErrorCode.AlreadyExists : HandlerErrorCode.ResourceConflict;
+        }
+        if (exception instanceof ValidationException) {
+            return HandlerErrorCode.InvalidRequest;
+        }
+        if (exception instanceof AccessDeniedException) {
+            return HandlerErrorCode.AccessDenied;
+        }
+        if (exception instanceof ServiceQuotaExceededException) {
+            return HandlerErrorCode.ServiceLimitExceeded;
+        }
+        return HandlerErrorCode.ServiceInternalError;
+    }
+
+    public static <ResourceT, CallbackT> ProgressEvent<ResourceT, CallbackT> failure(final String action, final Exception exception) {
+        return ProgressEvent.defaultFailureHandler(exception, errorCode(action, exception));
+    }
+}
@@ -0,0 +1,180 @@
+package software.amazon.databrew.common;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Container wide cache of Describe responses, so that the READ right after a CREATE or UPDATE and repeated
+ * drift detection READs do not describe the same resource back to back.
+ *
+ * Off unless DATABREW_DESCRIBE_CACHE_TTL_MILLIS is set, since a cached READ does not see changes made
+ * outside CloudFormation until the entry expires. Entries are keyed by account, region, resource type and
+ * name and at most DATABREW_DESCRIBE_CACHE_MAX_ENTRIES are kept, the least recently used is evicted first.
+ * Hits and misses are counted in the HandlerMetrics of the invocation.
+ * Handlers that change a resource invalidate or refresh its entry; a Lambda container runs one invocation at
+ * a time, so no READ of that container can cache the old state while the change is in flight. Other warm
+ * containers of the handler keep their entry though, the TTL is the only bound on how stale their READs
+ * can be.
+ */
+public final class DescribeCache {
+
+    static final String TTL_ENV = "DATABREW_DESCRIBE_CACHE_TTL_MILLIS";
+    static final String MAX_ENTRIES_ENV = "DATABREW_DESCRIBE_CACHE_MAX_ENTRIES";
+    static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private static volatile DescribeCache shared;
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries;
+
+    public DescribeCache(final long ttlMillis, final int maxEntries) {
+        this(ttlMillis, maxEntries, System::currentTimeMillis);
+    }
+
+    DescribeCache(final long ttlMillis, final int maxEntries, final LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > DescribeCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * The cache shared by all handlers of the container, configured from the environment.
+     */
+    public static DescribeCache shared() {
+        DescribeCache result = shared;
+        if (result == null) {
+            synchronized (DescribeCache.class) {
+                result = shared;
+                if (result == null) {
+                    result = parse(System.getenv(TTL_ENV), System.getenv(MAX_ENTRIES_ENV));
+                    shared = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    static DescribeCache parse(final String ttlMillis, final String maxEntries) {
+        return new DescribeCache(parseLong(TTL_ENV, ttlMillis, 0L), (int) parseLong(MAX_ENTRIES_ENV, maxEntries, DEFAULT_MAX_ENTRIES));
+    }
+
+    /**
+     * @param resourceType the DataBrew resource type as it appears in ARNs, e.g. "job"
+     */
+    public static String key(final ResourceHandlerRequest<?> request, final String resourceType, final String name) {
+        return ResourceArns.of(request, resourceType, name);
+    }
+
+    public boolean isEnabled() {
+        return ttlMillis > 0 && maxEntries > 0;
+    }
+
+    /**
+     * Returns the cached response, or calls describe and caches its result. Exceptions of describe are not
+     * cached.
+     */
+    public <V> V getOrLoad(final String key, final Class<V> type, final Supplier<V> describe) {
+        if (!isEnabled()) {
+            return describe.get();
+        }
+        final V cached = get(key, type);
+        if (cached != null) {
+            return cached;
+        }
+        final V loaded = describe.get();
+        put(key, loaded);
+        return loaded;
+    }
+
+    public synchronized <V> V get(final String key, final Class<V> type) {
+        if (!isEnabled()) {
+            return null;
+        }
+        final Entry entry = entries.get(key);
+        if (entry == null || entry.expiresAt <= clock.getAsLong() || !type.isInstance(entry.value)) {
+            if (entry != null) {
+                entries.remove(key);
+            }
+            HandlerMetrics.recordCacheLookup(false);
+            return null;
+        }
+        HandlerMetrics.recordCacheLookup(true);
+        return type.cast(entry.value);
+    }
+
+    public synchronized void put(final String key, final Object value) {
+        if (isEnabled() && value != null) {
+            entries.put(key, new Entry(value, clock.getAsLong() + ttlMillis));
+        }
+    }
+
+    public synchronized void invalidate(final String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Replaces the entry with the state after a change, so that the READ following an UPDATE is answered
+     * from the cache. Does not describe while the cache is off. When describe fails the entry stays
+     * invalidated and the next READ describes the resource, the change itself has succeeded already.
+     */
+    public void refresh(final String key, final Supplier<?> describe) {
+        invalidate(key);
+        if (!isEnabled()) {
+            return;
+        }
+        final Object described;
+        try {
+            described = describe.get();
+        } catch (final SdkException e) {
+            return;
+        }
+        put(key, described);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static long parseLong(final String setting, final String value, final long defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        final long parsed;
+        try {
+            parsed = Long.parseLong(value.trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], expected a number",
+                    setting, value.trim()), e);
+        }
+        if (parsed < 0 || parsed > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], must be between 0 and %d",
+                    setting, value.trim(), Integer.MAX_VALUE));
+        }
+        return parsed;
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long expiresAt;
+
+        Entry(final Object value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package software.amazon.databrew.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Structured log of one handler invocation: every entry is a JSON object with the resource type, name,
+ * action, outcome, milliseconds since the invocation started and, for failures, the error code.
+ *
+ * Nothing is formatted for entries that are not written. Successful outcomes are sampled per invocation
+ * at DATABREW_LOG_SAMPLE_RATE (0 to 1, default 1), so a sampled invocation keeps all its entries;
+ * failures are always written.
+ */
+public final class HandlerLog {
+
+    static final String SAMPLE_RATE_ENV = "DATABREW_LOG_SAMPLE_RATE";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final double SAMPLE_RATE = sampleRate(System.getenv(SAMPLE_RATE_ENV));
+
+    private final Logger logger;
+    private final String type;
+    private final String action;
+    private final String name;
+    private final boolean sampled;
+    private final long startNanos = System.nanoTime();
+
+    HandlerLog(final Logger logger, final String type, final String action, final String name, final boolean sampled) {
+        this.logger = logger;
+        this.type = type;
+        this.action = action;
+        this.name = name;
+        this.sampled = sampled;
+    }
+
+    /**
+     * @param name the resource name, null for LIST
+     */
+    public static HandlerLog start(final Logger logger, final String type, final String action, final String name) {
+        return new HandlerLog(logger, type, action, name, isSampled(SAMPLE_RATE, ThreadLocalRandom.current().nextDouble()));
+    }
+
+    /**
+     * Logs a successful outcome if this invocation is sampled.
+     *
+     * @param fields additional keys and values, alternating
+     */
+    public void success(final String outcome, final Object... fields) {
+        if (sampled) {
+            write(outcome, null, null, fields);
+        }
+    }
+
+    /**
+     * Logs a failed DataBrew call with the error code it maps to.
+     */
+    public void failure(final String outcome, final Exception exception) {
+        write(outcome, DataBrewErrors.errorCode(action, exception), exception.getMessage());
+    }
+
+    public void failure(final String outcome, final HandlerErrorCode errorCode, final Object... fields) {
+        write(outcome, errorCode, null, fields);
+    }
+
+    String getType() {
+        return type;
+    }
+
+    String getAction() {
+        return action;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    static boolean isSampled(final double rate, final double random) {
+        return rate >= 1.0 || random < rate;
+    }
+
+    static double sampleRate(final String setting) {
+        return sampleRate(SAMPLE_RATE_ENV, setting, 1.0);
+    }
+
+    static double sampleRate(final String name, final String setting, final double defaultRate) {
+        if (setting == null || setting.trim().isEmpty()) {
+            return defaultRate;
+        }
+        final double rate;
+        try {
+            rate = Double.parseDouble(setting.trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], expected a number", name, setting.trim()), e);
+        }
+        if (!(rate >= 0.0 && rate <= 1.0)) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], must be between 0 and 1", name, setting.trim()));
+        }
+        return rate;
+    }
+
+    String format(final String outcome, final HandlerErrorCode errorCode, final String message, final Object... fields) {
+        final ObjectNode entry = MAPPER.createObjectNode();
+        entry.put("type", type);
+        if (name != null) {
+            entry.put("name", name);
+        }
+        entry.put("action", action);
+        entry.put("outcome", outcome);
+        entry.put("durationMs", (System.nanoTime() - startNanos) / 1_000_000L);
+        if (errorCode != null) {
+            entry.put("errorCode", errorCode.name());
+        }
+        if (message != null) {
+            entry.put("message", message);
+        }
+        for (int i = 0; i + 1 < fields.length; i += 2) {
+            final Object value = fields[i + 1];
+            if (value instanceof Integer || value instanceof Long) {
+                entry.put(String.valueOf(fields[i]), ((Number) value).longValue());
+            } else {
+                entry.put(String.valueOf(fields[i]), String.valueOf(value));
+            }
+        }
+        final String traceId = Tracing.currentTraceId();
+        if (traceId != null) {
+            entry.put("traceId", traceId);
+        }
+        return entry.toString();
+    }
+
+    private void write(final String outcome, final HandlerErrorCode errorCode, final String message, final Object... fields) {
+        logger.log(format(outcome, errorCode, message, fields));
+    }
+}
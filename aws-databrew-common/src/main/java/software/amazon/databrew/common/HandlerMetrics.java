@@ -0,0 +1,296 @@
+package software.amazon.databrew.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Per-invocation handler metrics, logged as one CloudWatch Embedded Metric Format object at the end of
+ * every invocation, so CloudWatch extracts them from the log without a PutMetricData call.
+ *
+ * SDK call latency, attempts, signing time and HTTP status come from the SDK metrics of the shared client,
+ * marshalling, time to first byte, unmarshalling and retry causes from its AttemptTimingInterceptor. The
+ * attempts of the slowest call and the DescribeCache hits and misses are logged as well. A Lambda container
+ * runs one invocation at a time, so every SDK call made while a handler runs, including those on
+ * ParallelDescriber threads, belongs to that invocation.
+ *
+ * Metrics are published under DATABREW_METRICS_NAMESPACE with the dimensions ResourceType and Action. Set
+ * DATABREW_METRICS_ENABLED to "false" to turn them off. The payload sizes take serializing the desired state
+ * and the returned models, a whole LIST page, so they are only measured on a share of the invocations,
+ * DATABREW_METRICS_PAYLOAD_SAMPLE_RATE (0 to 1, default 0.01).
+ */
+public final class HandlerMetrics {
+
+    static final String ENABLED_ENV = "DATABREW_METRICS_ENABLED";
+    static final String NAMESPACE_ENV = "DATABREW_METRICS_NAMESPACE";
+    static final String DEFAULT_NAMESPACE = "DataBrew/ResourceHandlers";
+    static final String PAYLOAD_SAMPLE_RATE_ENV = "DATABREW_METRICS_PAYLOAD_SAMPLE_RATE";
+    static final double DEFAULT_PAYLOAD_SAMPLE_RATE = 0.01;
+
+    private static final String TRANSLATE_SPAN = "ModelHelper.translate";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final AtomicReference<HandlerMetrics> CURRENT = new AtomicReference<>();
+    private static final boolean ENABLED = isEnabled(System.getenv(ENABLED_ENV));
+    private static final String NAMESPACE = namespace(System.getenv(NAMESPACE_ENV));
+    private static final double PAYLOAD_SAMPLE_RATE = HandlerLog.sampleRate(PAYLOAD_SAMPLE_RATE_ENV,
+            System.getenv(PAYLOAD_SAMPLE_RATE_ENV), DEFAULT_PAYLOAD_SAMPLE_RATE);
+
+    private final String resourceType;
+    private final String action;
+    private final boolean payloadSampled;
+    private final long startNanos = System.nanoTime();
+    private final AtomicInteger sdkCalls = new AtomicInteger();
+    private final AtomicInteger sdkAttempts = new AtomicInteger();
+    private final AtomicLong sdkLatencyNanos = new AtomicLong();
+    private final AtomicLong translationNanos = new AtomicLong();
+    private final AtomicLong signingNanos = new AtomicLong();
+    private final AtomicLong marshallingNanos = new AtomicLong();
+    private final AtomicLong timeToFirstByteNanos = new AtomicLong();
+    private final AtomicLong unmarshallingNanos = new AtomicLong();
+    private final AtomicInteger describeCacheHits = new AtomicInteger();
+    private final AtomicInteger describeCacheMisses = new AtomicInteger();
+    private final Map<String, Integer> retryCauses = new TreeMap<>();
+    private AttemptTimingInterceptor.CallTiming slowestCall;
+    private volatile int httpStatusCode;
+
+    HandlerMetrics(final String resourceType, final String action, final boolean payloadSampled) {
+        this.resourceType = resourceType;
+        this.action = action;
+        this.payloadSampled = payloadSampled;
+    }
+
+    /**
+     * Runs the handler and logs its metrics, also when it throws.
+     *
+     * @param action the CloudFormation action, e.g. "CREATE"
+     */
+    public static <M, C> ProgressEvent<M, C> record(
+        final String resourceType,
+        final String action,
+        final ResourceHandlerRequest<M> request,
+        final Logger logger,
+        final Supplier<ProgressEvent<M, C>> handler) {
+
+        if (!ENABLED) {
+            return handler.get();
+        }
+        return record(resourceType, action, request, logger, handler,
+                HandlerLog.isSampled(PAYLOAD_SAMPLE_RATE, ThreadLocalRandom.current().nextDouble()));
+    }
+
+    static <M, C> ProgressEvent<M, C> record(
+        final String resourceType,
+        final String action,
+        final ResourceHandlerRequest<M> request,
+        final Logger logger,
+        final Supplier<ProgressEvent<M, C>> handler,
+        final boolean payloadSampled) {
+
+        final HandlerMetrics metrics = new HandlerMetrics(resourceType, action, payloadSampled);
+        CURRENT.set(metrics);
+        ProgressEvent<M, C> event = null;
+        try {
+            event = handler.get();
+            return event;
+        } finally {
+            CURRENT.compareAndSet(metrics, null);
+            logger.log(metrics.toEmf(event, request.getDesiredResourceState(), System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Runs a ModelHelper translation as a trace span and adds its time to the current invocation.
+     */
+    public static <T> T translate(final Supplier<T> translation) {
+        final HandlerMetrics metrics = CURRENT.get();
+        if (metrics == null) {
+            return Tracing.span(TRANSLATE_SPAN, translation);
+        }
+        final long start = System.nanoTime();
+        try {
+            return Tracing.span(TRANSLATE_SPAN, translation);
+        } finally {
+            metrics.translationNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    static boolean isEnabled(final String setting) {
+        return setting == null || !"false".equalsIgnoreCase(setting.trim());
+    }
+
+    static String namespace(final String setting) {
+        return setting == null || setting.trim().isEmpty() ? DEFAULT_NAMESPACE : setting.trim();
+    }
+
+    static void recordCacheLookup(final boolean hit) {
+        final HandlerMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            (hit ? metrics.describeCacheHits : metrics.describeCacheMisses).incrementAndGet();
+        }
+    }
+
+    static void recordTiming(final AttemptTimingInterceptor.CallTiming timing) {
+        final HandlerMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.addTiming(timing);
+        }
+    }
+
+    void addTiming(final AttemptTimingInterceptor.CallTiming timing) {
+        marshallingNanos.addAndGet(timing.marshallingNanos);
+        timeToFirstByteNanos.addAndGet(timing.timeToFirstByteNanos());
+        unmarshallingNanos.addAndGet(timing.unmarshallingNanos());
+        synchronized (retryCauses) {
+            for (final AttemptTimingInterceptor.Attempt attempt : timing.attempts) {
+                if (attempt.retryCause != null) {
+                    retryCauses.merge(attempt.retryCause, 1, Integer::sum);
+                }
+            }
+            if (slowestCall == null || timing.durationNanos > slowestCall.durationNanos) {
+                slowestCall = timing;
+            }
+        }
+    }
+
+    void recordCall(final MetricCollection call) {
+        sdkCalls.incrementAndGet();
+        final List<Integer> retries = call.metricValues(CoreMetric.RETRY_COUNT);
+        sdkAttempts.addAndGet(1 + (retries.isEmpty() ? 0 : retries.get(0)));
+        for (final Duration duration : call.metricValues(CoreMetric.API_CALL_DURATION)) {
+            sdkLatencyNanos.addAndGet(duration.toNanos());
+        }
+        for (final MetricCollection attempt : call.children()) {
+            for (final Duration duration : attempt.metricValues(CoreMetric.SIGNING_DURATION)) {
+                signingNanos.addAndGet(duration.toNanos());
+            }
+            for (final Integer statusCode : attempt.metricValues(HttpMetric.HTTP_STATUS_CODE)) {
+                httpStatusCode = statusCode;
+            }
+        }
+    }
+
+    String toEmf(final ProgressEvent<?, ?> event, final Object desiredState, final long timestamp) {
+        final ObjectNode log = MAPPER.createObjectNode();
+        final ObjectNode aws = log.putObject("_aws");
+        aws.put("Timestamp", timestamp);
+        final ObjectNode directive = aws.putArray("CloudWatchMetrics").addObject();
+        directive.put("Namespace", NAMESPACE);
+        directive.putArray("Dimensions").addArray().add("ResourceType").add("Action");
+        final ArrayNode metrics = directive.putArray("Metrics");
+
+        log.put("ResourceType", resourceType);
+        log.put("Action", action);
+        final String traceId = Tracing.currentTraceId();
+        if (traceId != null) {
+            log.put("TraceId", traceId);
+        }
+        metric(metrics, log, "Duration", "Milliseconds", (System.nanoTime() - startNanos) / 1e6);
+        metric(metrics, log, "SdkLatency", "Milliseconds", sdkLatencyNanos.get() / 1e6);
+        metric(metrics, log, "SdkCalls", "Count", sdkCalls.get());
+        metric(metrics, log, "SdkAttempts", "Count", sdkAttempts.get());
+        metric(metrics, log, "MarshallingTime", "Milliseconds", marshallingNanos.get() / 1e6);
+        metric(metrics, log, "SigningTime", "Milliseconds", signingNanos.get() / 1e6);
+        metric(metrics, log, "TimeToFirstByte", "Milliseconds", timeToFirstByteNanos.get() / 1e6);
+        metric(metrics, log, "UnmarshallingTime", "Milliseconds", unmarshallingNanos.get() / 1e6);
+        metric(metrics, log, "TranslationTime", "Milliseconds", translationNanos.get() / 1e6);
+        metric(metrics, log, "DescribeCacheHit", "Count", describeCacheHits.get());
+        metric(metrics, log, "DescribeCacheMiss", "Count", describeCacheMisses.get());
+        if (payloadSampled) {
+            metric(metrics, log, "RequestPayloadSize", "Bytes", size(desiredState));
+            if (event != null) {
+                metric(metrics, log, "ResponsePayloadSize", "Bytes",
+                        size(event.getResourceModels() != null ? event.getResourceModels() : event.getResourceModel()));
+            }
+        }
+        metric(metrics, log, "Fault", "Count", event == null || event.getErrorCode() != null ? 1 : 0);
+
+        log.put("Status", event == null ? "EXCEPTION" : String.valueOf(event.getStatus()));
+        if (event != null && event.getErrorCode() != null) {
+            log.put("ErrorCode", event.getErrorCode().name());
+        }
+        if (httpStatusCode != 0) {
+            log.put("HttpStatusCode", httpStatusCode);
+        }
+        synchronized (retryCauses) {
+            if (!retryCauses.isEmpty()) {
+                final ObjectNode causes = log.putObject("RetryCauses");
+                retryCauses.forEach(causes::put);
+            }
+            if (slowestCall != null) {
+                putCall(log.putObject("SlowestCall"), slowestCall);
+            }
+        }
+        return log.toString();
+    }
+
+    private static void metric(final ArrayNode metrics, final ObjectNode log, final String name, final String unit,
+                               final double value) {
+        metrics.addObject().put("Name", name).put("Unit", unit);
+        log.put(name, value);
+    }
+
+    private static void putCall(final ObjectNode node, final AttemptTimingInterceptor.CallTiming call) {
+        node.put("Operation", call.operation);
+        node.put("Duration", call.durationNanos / 1e6);
+        node.put("MarshallingTime", call.marshallingNanos / 1e6);
+        final ArrayNode attempts = node.putArray("Attempts");
+        for (final AttemptTimingInterceptor.Attempt attempt : call.attempts) {
+            final ObjectNode entry = attempts.addObject();
+            entry.put("TimeToFirstByte", attempt.timeToFirstByteNanos / 1e6);
+            entry.put("UnmarshallingTime", attempt.unmarshallingNanos / 1e6);
+            if (attempt.statusCode != 0) {
+                entry.put("HttpStatusCode", attempt.statusCode);
+            }
+            if (attempt.retryCause != null) {
+                entry.put("RetryCause", attempt.retryCause);
+            }
+        }
+    }
+
+    private static long size(final Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return MAPPER.writeValueAsBytes(value).length;
+        } catch (final JsonProcessingException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Adds the SDK metrics of every DataBrew call to the current invocation.
+     */
+    static final class SdkCallPublisher implements MetricPublisher {
+
+        @Override
+        public void publish(final MetricCollection metricCollection) {
+            final HandlerMetrics metrics = CURRENT.get();
+            if (metrics != null) {
+                metrics.recordCall(metricCollection);
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package software.amazon.databrew.common;
+
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Entry point shared by the handleRequest methods of all handlers.
+ */
+public final class Handlers {
+
+    private Handlers() {
+    }
+
+    /**
+     * Runs the handler as a traced invocation and logs its metrics.
+     *
+     * @param action the CloudFormation action, e.g. "CREATE"
+     */
+    public static <M, C extends Tracing.TraceContext> ProgressEvent<M, C> run(
+        final String resourceType,
+        final String action,
+        final ResourceHandlerRequest<M> request,
+        final C callbackContext,
+        final Logger logger,
+        final Supplier<ProgressEvent<M, C>> handler) {
+
+        return Tracing.invocation(resourceType, action, callbackContext, logger,
+                () -> HandlerMetrics.record(resourceType, action, request, logger, handler));
+    }
+}
@@ -0,0 +1,115 @@
+package software.amazon.databrew.common;
+
+import software.amazon.awssdk.services.databrew.model.JobRunState;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Opt-in draining of active job runs before a job is deleted, turned on with DATABREW_JOB_DELETE_DRAIN_RUNS.
+ *
+ * DataBrew refuses to delete a job while one of its runs is active. With draining the job DeleteHandler stops
+ * the active runs, at most DATABREW_JOB_DELETE_STOP_CONCURRENCY at a time, and polls across invocations
+ * until none is left before it deletes the job. The StopJobRun calls run on a small fixed pool of their own,
+ * apart from the LIST describe fan-out of ParallelDescriber.
+ */
+public final class JobRunDrain {
+
+    static final String DRAIN_ENV = "DATABREW_JOB_DELETE_DRAIN_RUNS";
+    static final String CONCURRENCY_ENV = "DATABREW_JOB_DELETE_STOP_CONCURRENCY";
+    static final int DEFAULT_CONCURRENCY = 10;
+
+    private static final Set<JobRunState> ACTIVE_STATES
+            = EnumSet.of(JobRunState.STARTING, JobRunState.RUNNING, JobRunState.STOPPING);
+    private static final Set<JobRunState> STOPPABLE_STATES = EnumSet.of(JobRunState.STARTING, JobRunState.RUNNING);
+
+    private final boolean enabled;
+    private final int maxConcurrency;
+
+    private volatile ExecutorService executor;
+
+    public JobRunDrain(final boolean enabled, final int maxConcurrency) {
+        this.enabled = enabled;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public static JobRunDrain fromEnvironment() {
+        return parse(System.getenv(DRAIN_ENV), System.getenv(CONCURRENCY_ENV));
+    }
+
+    static JobRunDrain parse(final String drain, final String concurrency) {
+        return new JobRunDrain(Boolean.parseBoolean(drain == null ? null : drain.trim()),
+                ParallelDescriber.parseConcurrency(CONCURRENCY_ENV, concurrency, DEFAULT_CONCURRENCY));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * True while the run blocks the deletion of its job.
+     */
+    public static boolean isActive(final JobRunState state) {
+        return ACTIVE_STATES.contains(state);
+    }
+
+    /**
+     * True when StopJobRun should be sent, runs that are already stopping only need to be waited for.
+     */
+    public static boolean isStoppable(final JobRunState state) {
+        return STOPPABLE_STATES.contains(state);
+    }
+
+    /**
+     * Applies stop to every run concurrently. The first exception is rethrown once the remaining calls have
+     * been cancelled; throttled calls have already been retried by the SDK client at that point.
+     */
+    public <T> void stopAll(final List<T> runs, final Consumer<T> stop) {
+        final List<Future<?>> futures = new ArrayList<>(runs.size());
+        for (final T run : runs) {
+            futures.add(executor().submit(() -> stop.accept(run)));
+        }
+        try {
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while stopping the active job runs", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private ExecutorService executor() {
+        ExecutorService result = executor;
+        if (result == null) {
+            synchronized (this) {
+                result = executor;
+                if (result == null) {
+                    final AtomicInteger threads = new AtomicInteger();
+                    result = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+                        final Thread thread = new Thread(runnable, "databrew-stop-run-" + threads.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    executor = result;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,164 @@
+package software.amazon.databrew.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Paging settings of the LIST handlers.
+ *
+ * By default a LIST invocation returns exactly one service page and hands the service's next token back
+ * to CloudFormation. With DATABREW_LIST_MODE set to "PREFETCH" the handler keeps fetching the following
+ * pages itself, up to DATABREW_LIST_PREFETCH_MAX_PAGES pages or DATABREW_LIST_PREFETCH_BUDGET_MILLIS,
+ * whichever comes first, so large accounts need fewer handler round trips.
+ *
+ * The page size defaults to DATABREW_LIST_PAGE_SIZE and can be set per resource type with
+ * DATABREW_LIST_PAGE_SIZES, e.g. "Job=50,Dataset=100".
+ */
+public final class ListPaging {
+
+    static final String MODE_ENV = "DATABREW_LIST_MODE";
+    static final String PAGE_SIZE_ENV = "DATABREW_LIST_PAGE_SIZE";
+    static final String PAGE_SIZES_ENV = "DATABREW_LIST_PAGE_SIZES";
+    static final String PREFETCH_MAX_PAGES_ENV = "DATABREW_LIST_PREFETCH_MAX_PAGES";
+    static final String PREFETCH_BUDGET_ENV = "DATABREW_LIST_PREFETCH_BUDGET_MILLIS";
+
+    // MaxResults accepted by every DataBrew List operation
+    static final int MAX_PAGE_SIZE = 100;
+    static final int DEFAULT_PREFETCH_MAX_PAGES = 10;
+    static final long DEFAULT_PREFETCH_BUDGET_MILLIS = 20_000L;
+
+    public enum Mode {
+        SINGLE_PAGE,
+        PREFETCH
+    }
+
+    private final Mode mode;
+    private final int pageSize;
+    private final int maxPages;
+    private final long budgetNanos;
+    private final LongSupplier nanoClock;
+
+    ListPaging(final Mode mode, final int pageSize, final int maxPages, final long budgetMillis,
+               final LongSupplier nanoClock) {
+        this.mode = mode;
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param resourceType the resource type as used in DATABREW_LIST_PAGE_SIZES, e.g. "Job"
+     */
+    public static ListPaging fromEnvironment(final String resourceType) {
+        return parse(resourceType, System.getenv(MODE_ENV), System.getenv(PAGE_SIZE_ENV), System.getenv(PAGE_SIZES_ENV),
+                System.getenv(PREFETCH_MAX_PAGES_ENV), System.getenv(PREFETCH_BUDGET_ENV));
+    }
+
+    static ListPaging parse(final String resourceType, final String mode, final String pageSize, final String pageSizes,
+                            final String maxPages, final String budgetMillis) {
+        final Mode parsedMode;
+        try {
+            parsedMode = isBlank(mode) ? Mode.SINGLE_PAGE : Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], expected one of SINGLE_PAGE, PREFETCH",
+                    MODE_ENV, mode.trim()), e);
+        }
+
+        final Map<String, Integer> sizes = new HashMap<>();
+        if (!isBlank(pageSizes)) {
+            for (final String entry : pageSizes.split(",")) {
+                if (isBlank(entry)) {
+                    continue;
+                }
+                final String[] pair = entry.split("=", 2);
+                if (pair.length != 2 || isBlank(pair[0])) {
+                    throw new IllegalArgumentException(String.format("Invalid %s entry [%s], expected ResourceType=size",
+                            PAGE_SIZES_ENV, entry.trim()));
+                }
+                sizes.put(pair[0].trim(), parseInt(PAGE_SIZES_ENV, pair[1], MAX_PAGE_SIZE));
+            }
+        }
+        final int defaultPageSize = isBlank(pageSize) ? MAX_PAGE_SIZE : parseInt(PAGE_SIZE_ENV, pageSize, MAX_PAGE_SIZE);
+
+        return new ListPaging(parsedMode,
+                sizes.getOrDefault(resourceType, defaultPageSize),
+                isBlank(maxPages) ? DEFAULT_PREFETCH_MAX_PAGES : parseInt(PREFETCH_MAX_PAGES_ENV, maxPages, Integer.MAX_VALUE),
+                isBlank(budgetMillis) ? DEFAULT_PREFETCH_BUDGET_MILLIS : parseInt(PREFETCH_BUDGET_ENV, budgetMillis, Integer.MAX_VALUE),
+                System::nanoTime);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Fetches the page starting at the given token and, in PREFETCH mode, the pages following it while the
+     * budget allows. The returned next token is the service's token after the last fetched page, or null
+     * once the listing is complete.
+     *
+     * @param nextToken the token CloudFormation sent, null for the first page
+     * @param fetchPage calls the List operation with the given token
+     * @param nextTokenOf reads the next token from a List response
+     */
+    public <R> Pages<R> fetch(final String nextToken, final Function<String, R> fetchPage,
+                              final Function<R, String> nextTokenOf) {
+        final long start = nanoClock.getAsLong();
+        final List<R> pages = new ArrayList<>();
+        String token = nextToken;
+        do {
+            final R page = fetchPage.apply(token);
+            pages.add(page);
+            token = nextTokenOf.apply(page);
+        } while (token != null && !token.isEmpty() && mode == Mode.PREFETCH
+                && pages.size() < maxPages && nanoClock.getAsLong() - start < budgetNanos);
+        return new Pages<>(pages, token == null || token.isEmpty() ? null : token);
+    }
+
+    private static int parseInt(final String setting, final String value, final int max) {
+        final int parsed;
+        try {
+            parsed = Integer.parseInt(value.trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], expected a number", setting, value.trim()), e);
+        }
+        if (parsed <= 0 || parsed > max) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], must be between 1 and %d",
+                    setting, value.trim(), max));
+        }
+        return parsed;
+    }
+
+    private static boolean isBlank(final String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    public static final class Pages<R> {
+        private final List<R> pages;
+        private final String nextToken;
+
+        Pages(final List<R> pages, final String nextToken) {
+            this.pages = Collections.unmodifiableList(pages);
+            this.nextToken = nextToken;
+        }
+
+        public List<R> getPages() {
+            return pages;
+        }
+
+        public String getNextToken() {
+            return nextToken;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package software.amazon.databrew.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Compares the previous and desired ResourceModel of an UPDATE over the properties one service call
+ * accepts, so the UpdateHandlers can skip calls that would not change anything.
+ *
+ * Properties are compared with equals, which the generated models implement structurally. A missing
+ * list or map equals an empty one, because CloudFormation drops empty properties from the previous
+ * state. Without a previous state every property counts as changed.
+ */
+public final class ModelDiff<M> {
+
+    private final Map<String, Function<M, ?>> properties = new LinkedHashMap<>();
+
+    public ModelDiff<M> property(final String name, final Function<M, ?> getter) {
+        properties.put(name, getter);
+        return this;
+    }
+
+    /**
+     * @return the names of the changed properties, in the order they were registered
+     */
+    public List<String> changedProperties(final M previous, final M desired) {
+        if (previous == null) {
+            return Collections.unmodifiableList(new ArrayList<>(properties.keySet()));
+        }
+        final List<String> changed = new ArrayList<>();
+        for (final Map.Entry<String, Function<M, ?>> property : properties.entrySet()) {
+            if (!isEqual(property.getValue().apply(previous), property.getValue().apply(desired))) {
+                changed.add(property.getKey());
+            }
+        }
+        return Collections.unmodifiableList(changed);
+    }
+
+    public boolean hasChanges(final M previous, final M desired) {
+        return !changedProperties(previous, desired).isEmpty();
+    }
+
+    static boolean isEqual(final Object previous, final Object desired) {
+        return Objects.equals(normalize(previous), normalize(desired));
+    }
+
+    private static Object normalize(final Object value) {
+        if (value instanceof Collection && ((Collection<?>) value).isEmpty()) {
+            return null;
+        }
+        if (value instanceof Map && ((Map<?, ?>) value).isEmpty()) {
+            return null;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,109 @@
+package software.amazon.databrew.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * API call attempt timeouts used by the shared DataBrew client.
+ *
+ * The client-wide default is read from DATABREW_API_CALL_ATTEMPT_TIMEOUT (seconds) and individual
+ * operations can be overridden with DATABREW_OPERATION_TIMEOUTS, e.g. "DescribeJob=10,ListJobs=15".
+ */
+public final class OperationTimeouts {
+
+    static final String DEFAULT_TIMEOUT_ENV = "DATABREW_API_CALL_ATTEMPT_TIMEOUT";
+    static final String OPERATION_TIMEOUTS_ENV = "DATABREW_OPERATION_TIMEOUTS";
+    static final Duration DEFAULT_API_CALL_ATTEMPT_TIMEOUT = Duration.ofSeconds(28);
+
+    private final Duration defaultTimeout;
+    private final Map<String, Duration> operationTimeouts;
+
+    OperationTimeouts(final Duration defaultTimeout, final Map<String, Duration> operationTimeouts) {
+        this.defaultTimeout = defaultTimeout;
+        this.operationTimeouts = Collections.unmodifiableMap(new HashMap<>(operationTimeouts));
+    }
+
+    public static OperationTimeouts fromEnvironment() {
+        return parse(System.getenv(DEFAULT_TIMEOUT_ENV), System.getenv(OPERATION_TIMEOUTS_ENV));
+    }
+
+    static OperationTimeouts parse(final String defaultSeconds, final String operationSeconds) {
+        final Duration defaultTimeout = isBlank(defaultSeconds)
+                ? DEFAULT_API_CALL_ATTEMPT_TIMEOUT
+                : parseSeconds(DEFAULT_TIMEOUT_ENV, defaultSeconds);
+
+        final Map<String, Duration> timeouts = new HashMap<>();
+        if (!isBlank(operationSeconds)) {
+            for (final String entry : operationSeconds.split(",")) {
+                if (isBlank(entry)) {
+                    continue;
+                }
+                final String[] pair = entry.split("=", 2);
+                if (pair.length != 2 || isBlank(pair[0])) {
+                    throw new IllegalArgumentException(String.format("Invalid %s entry [%s], expected Operation=seconds",
+                            OPERATION_TIMEOUTS_ENV, entry.trim()));
+                }
+                timeouts.put(pair[0].trim(), parseSeconds(OPERATION_TIMEOUTS_ENV, pair[1]));
+            }
+        }
+        return new OperationTimeouts(defaultTimeout, timeouts);
+    }
+
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    public Optional<Duration> forOperation(final String operationName) {
+        return Optional.ofNullable(operationTimeouts.get(operationName));
+    }
+
+    public boolean hasOperationTimeouts() {
+        return !operationTimeouts.isEmpty();
+    }
+
+    /**
+     * Returns a copy of the request carrying the operation's timeout. The request's existing override
+     * configuration, such as the credentials injected by the CloudFormation proxy, is kept, and a timeout
+     * that was already set on the request wins over the configured one.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends AwsRequest> T apply(final String operationName, final T request) {
+        final Optional<Duration> timeout = forOperation(operationName);
+        if (!timeout.isPresent()) {
+            return request;
+        }
+        final Optional<AwsRequestOverrideConfiguration> existing = request.overrideConfiguration();
+        if (existing.isPresent() && existing.get().apiCallAttemptTimeout().isPresent()) {
+            return request;
+        }
+        final AwsRequestOverrideConfiguration overrideConfiguration = existing
+                .map(AwsRequestOverrideConfiguration::toBuilder)
+                .orElseGet(AwsRequestOverrideConfiguration::builder)
+                .apiCallAttemptTimeout(timeout.get())
+                .build();
+        return (T) request.toBuilder().overrideConfiguration(overrideConfiguration).build();
+    }
+
+    private static Duration parseSeconds(final String setting, final String value) {
+        final long seconds;
+        try {
+            seconds = Long.parseLong(value.trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], expected seconds", setting, value.trim()), e);
+        }
+        if (seconds <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], must be positive", setting, value.trim()));
+        }
+        return Duration.ofSeconds(seconds);
+    }
+
+    private static boolean isBlank(final String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,153 @@
+package software.amazon.databrew.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Describes the items of a LIST page concurrently so the handler can return complete models.
+ *
+ * Opt-in per resource type with DATABREW_LIST_COMPLETE_MODELS, e.g. "Job,Ruleset". The calls run on a
+ * shared pool of DATABREW_LIST_DESCRIBE_CONCURRENCY threads and the number of calls in flight follows an
+ * AdaptiveConcurrencyLimit, so a throttled account backs off instead of failing the whole page. The
+ * learned limit is kept for the lifetime of the container.
+ */
+public final class ParallelDescriber {
+
+    static final String COMPLETE_MODELS_ENV = "DATABREW_LIST_COMPLETE_MODELS";
+    static final String CONCURRENCY_ENV = "DATABREW_LIST_DESCRIBE_CONCURRENCY";
+    static final int DEFAULT_CONCURRENCY = 8;
+    static final int MAX_ATTEMPTS = 5;
+
+    private static final long BASE_BACKOFF_MILLIS = 100L;
+
+    private final boolean enabled;
+    private final int maxConcurrency;
+    private final AdaptiveConcurrencyLimit limit;
+
+    private volatile ExecutorService executor;
+
+    public ParallelDescriber(final boolean enabled, final int maxConcurrency) {
+        this.enabled = enabled;
+        this.maxConcurrency = maxConcurrency;
+        this.limit = new AdaptiveConcurrencyLimit(Math.max(1, maxConcurrency / 2), 1, maxConcurrency);
+    }
+
+    /**
+     * @param resourceType the resource type as used in DATABREW_LIST_COMPLETE_MODELS, e.g. "Job"
+     */
+    public static ParallelDescriber fromEnvironment(final String resourceType) {
+        return parse(resourceType, System.getenv(COMPLETE_MODELS_ENV), System.getenv(CONCURRENCY_ENV));
+    }
+
+    static ParallelDescriber parse(final String resourceType, final String completeModels, final String concurrency) {
+        final boolean enabled = completeModels != null && Arrays.stream(completeModels.split(","))
+                .map(type -> type.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet())
+                .contains(resourceType.toLowerCase(Locale.ROOT));
+
+        return new ParallelDescriber(enabled, parseConcurrency(CONCURRENCY_ENV, concurrency, DEFAULT_CONCURRENCY));
+    }
+
+    static int parseConcurrency(final String variable, final String value, final int defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        final int concurrency;
+        try {
+            concurrency = Integer.parseInt(value.trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], expected a number",
+                    variable, value.trim()), e);
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid %s value [%s], must be positive",
+                    variable, value.trim()));
+        }
+        return concurrency;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    AdaptiveConcurrencyLimit getLimit() {
+        return limit;
+    }
+
+    /**
+     * Applies describe to every item and returns the results in the order of the items. Throttled calls are
+     * retried up to MAX_ATTEMPTS times, any other exception is rethrown once the remaining calls have been
+     * cancelled.
+     */
+    public <T, R> List<R> describeAll(final List<T> items, final Function<T, R> describe) {
+        final List<Future<R>> futures = new ArrayList<>(items.size());
+        for (final T item : items) {
+            futures.add(executor().submit(() -> describe(item, describe)));
+        }
+        final List<R> results = new ArrayList<>(items.size());
+        try {
+            for (final Future<R> future : futures) {
+                results.add(future.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while describing the listed resources", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return results;
+    }
+
+    private <T, R> R describe(final T item, final Function<T, R> describe) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            limit.acquire();
+            try {
+                final R result = describe.apply(item);
+                limit.onSuccess();
+                return result;
+            } catch (final RuntimeException e) {
+                if (!Throttling.isThrottling(e) || attempt >= MAX_ATTEMPTS) {
+                    limit.onFailure();
+                    throw e;
+                }
+                limit.onThrottled();
+            }
+            // full jitter, so throttled calls do not come back in lockstep
+            Thread.sleep(ThreadLocalRandom.current().nextLong(BASE_BACKOFF_MILLIS << attempt));
+        }
+    }
+
+    private ExecutorService executor() {
+        ExecutorService result = executor;
+        if (result == null) {
+            synchronized (this) {
+                result = executor;
+                if (result == null) {
+                    final AtomicInteger threads = new AtomicInteger();
+                    result = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+                        final Thread thread = new Thread(runnable, "databrew-describe-" + threads.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    executor = result;
+                }
+            }
+        }
+        return result;
+    }
+}
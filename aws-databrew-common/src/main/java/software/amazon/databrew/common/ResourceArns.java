@@ -0,0 +1,23 @@
+package software.amazon.databrew.common;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Builds the ARNs of DataBrew resources from the account, region and partition of the handler request.
+ */
+public final class ResourceArns {
+
+    private static final String DEFAULT_PARTITION = "aws";
+
+    private ResourceArns() {
+    }
+
+    /**
+     * @param resourceType the DataBrew resource type as it appears in ARNs, e.g. "job"
+     */
+    public static String of(final ResourceHandlerRequest<?> request, final String resourceType, final String name) {
+        final String partition = request.getAwsPartition() == null ? DEFAULT_PARTITION : request.getAwsPartition();
+        return String.format("arn:%s:databrew:%s:%s:%s/%s", partition, request.getRegion(), request.getAwsAccountId(),
+                resourceType, name);
+    }
+}
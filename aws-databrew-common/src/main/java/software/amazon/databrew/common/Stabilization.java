@@ -0,0 +1,129 @@
+package software.amazon.databrew.common;
+
+import software.amazon.awssdk.services.databrew.model.DataBrewException;
+import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Polling schedule for handlers that wait, across invocations, for a new resource to become readable or
+ * for a deleted one to disappear.
+ *
+ * The create and delete calls return before the change is visible everywhere: a new resource may not be
+ * readable yet, so dependent resources would race, and a deleted one still holds its name, so a replacement
+ * with the same name would conflict. Instead of sleeping inside the Lambda, a handler returns IN_PROGRESS
+ * with callbackDelaySeconds and keeps its progress in the CallbackContext; CloudFormation invokes it again
+ * after the delay.
+ */
+public final class Stabilization {
+
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String READABLE = "READABLE";
+    public static final String THROTTLED = "THROTTLED";
+
+    static final int MAX_ATTEMPTS = 20;
+    static final long TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private static final int INITIAL_DELAY_SECONDS = 2;
+    private static final int MAX_DELAY_SECONDS = 30;
+
+    /**
+     * The progress of a wait, kept in the CallbackContext of the handler.
+     */
+    public interface Context {
+
+        int getStabilizationAttempts();
+
+        void setStabilizationAttempts(int stabilizationAttempts);
+
+        long getStabilizationStartTime();
+
+        String getLastObservedState();
+
+        void setLastObservedState(String lastObservedState);
+    }
+
+    private Stabilization() {
+    }
+
+    /**
+     * Delay before the next attempt: 2, 4, 8, 16 and then 30 seconds.
+     *
+     * @param attempts the attempts made so far, at least 1
+     */
+    public static int callbackDelaySeconds(final int attempts) {
+        final int exponent = Math.min(Math.max(attempts, 1) - 1, 4);
+        return Math.min(MAX_DELAY_SECONDS, INITIAL_DELAY_SECONDS << exponent);
+    }
+
+    /**
+     * True when the handler should give up waiting.
+     */
+    public static boolean isExhausted(final int attempts, final long startTimeMillis, final long nowMillis) {
+        return attempts >= MAX_ATTEMPTS || nowMillis - startTimeMillis >= TIMEOUT_MILLIS;
+    }
+
+    /**
+     * One attempt of waiting for a new resource to become readable: SUCCESS with the model once describe
+     * returns, IN_PROGRESS while it fails with not found or throttling.
+     */
+    public static <ResourceT, CallbackT extends Context> ProgressEvent<ResourceT, CallbackT> awaitReadable(
+            final Runnable describe, final ResourceT model, final CallbackT context, final HandlerLog log,
+            final LongSupplier clock) {
+        return await(true, describe, model, context, log, clock);
+    }
+
+    /**
+     * One attempt of waiting for a deleted resource to disappear: SUCCESS once describe fails with not
+     * found, IN_PROGRESS while it returns or is throttled.
+     */
+    public static <ResourceT, CallbackT extends Context> ProgressEvent<ResourceT, CallbackT> awaitDeleted(
+            final Runnable describe, final ResourceT model, final CallbackT context, final HandlerLog log,
+            final LongSupplier clock) {
+        return await(false, describe, model, context, log, clock);
+    }
+
+    private static <ResourceT, CallbackT extends Context> ProgressEvent<ResourceT, CallbackT> await(
+            final boolean readable, final Runnable describe, final ResourceT model, final CallbackT context,
+            final HandlerLog log, final LongSupplier clock) {
+
+        context.setStabilizationAttempts(context.getStabilizationAttempts() + 1);
+        Tracing.attribute("databrew.stabilization_attempt", context.getStabilizationAttempts());
+        try {
+            describe.run();
+            context.setLastObservedState(READABLE);
+        } catch (final ResourceNotFoundException e) {
+            context.setLastObservedState(NOT_FOUND);
+        } catch (final DataBrewException e) {
+            if (!Throttling.isThrottling(e)) {
+                log.failure(readable ? "StabilizationFailed" : "DeleteStabilizationFailed", e);
+                return DataBrewErrors.failure(log.getAction(), e);
+            }
+            context.setLastObservedState(THROTTLED);
+        }
+
+        if ((readable ? READABLE : NOT_FOUND).equals(context.getLastObservedState())) {
+            log.success(readable ? "Stabilized" : "DeleteStabilized", "attempts", context.getStabilizationAttempts());
+            return ProgressEvent.<ResourceT, CallbackT>builder()
+                    .resourceModel(readable ? model : null)
+                    .status(OperationStatus.SUCCESS)
+                    .build();
+        }
+        if (isExhausted(context.getStabilizationAttempts(), context.getStabilizationStartTime(), clock.getAsLong())) {
+            log.failure("NotStabilized", HandlerErrorCode.NotStabilized, "attempts", context.getStabilizationAttempts());
+            return ProgressEvent.<ResourceT, CallbackT>builder()
+                    .resourceModel(readable ? model : null)
+                    .status(OperationStatus.FAILED)
+                    .errorCode(HandlerErrorCode.NotStabilized)
+                    .message(String.format("%s [%s] %s after %d attempts, last observed state %s",
+                            log.getType(), log.getName(), readable ? "is not readable" : "still exists",
+                            context.getStabilizationAttempts(), context.getLastObservedState()))
+                    .build();
+        }
+        return ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds(context.getStabilizationAttempts()), model);
+    }
+}
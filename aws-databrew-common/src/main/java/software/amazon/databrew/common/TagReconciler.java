@@ -0,0 +1,105 @@
+package software.amazon.databrew.common;
+
+import software.amazon.awssdk.services.databrew.DataBrewClient;
+import software.amazon.awssdk.services.databrew.model.TagResourceRequest;
+import software.amazon.awssdk.services.databrew.model.UntagResourceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Brings the tags of a resource from the previous to the desired model with at most one TagResource and
+ * one UntagResource call, and none when the tags did not change.
+ */
+public final class TagReconciler {
+
+    private TagReconciler() {
+    }
+
+    /**
+     * @param previous the tags of the previous model, null when CloudFormation sent no previous state
+     * @param desired the tags of the desired model
+     */
+    public static <T> Changes diff(final List<T> previous, final List<T> desired,
+                                   final Function<T, String> keyOf, final Function<T, String> valueOf) {
+        final Map<String, String> previousTags = toMap(previous, keyOf, valueOf);
+        final Map<String, String> desiredTags = toMap(desired, keyOf, valueOf);
+
+        final Map<String, String> tagsToAdd = new LinkedHashMap<>();
+        desiredTags.forEach((key, value) -> {
+            if (!previousTags.containsKey(key) || !Objects.equals(previousTags.get(key), value)) {
+                tagsToAdd.put(key, value);
+            }
+        });
+        final List<String> keysToRemove = new ArrayList<>();
+        for (final String key : previousTags.keySet()) {
+            if (!desiredTags.containsKey(key)) {
+                keysToRemove.add(key);
+            }
+        }
+        return new Changes(tagsToAdd, keysToRemove);
+    }
+
+    /**
+     * Applies the changes to the resource, skipping the calls that have nothing to do.
+     */
+    public static void reconcile(final AmazonWebServicesClientProxy proxy, final DataBrewClient databrewClient,
+                                 final String resourceArn, final Changes changes) {
+        if (!changes.getTagsToAdd().isEmpty()) {
+            final TagResourceRequest tagResourceRequest = TagResourceRequest.builder()
+                    .resourceArn(resourceArn)
+                    .tags(changes.getTagsToAdd())
+                    .build();
+            proxy.injectCredentialsAndInvokeV2(tagResourceRequest, databrewClient::tagResource);
+        }
+        if (!changes.getKeysToRemove().isEmpty()) {
+            final UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder()
+                    .resourceArn(resourceArn)
+                    .tagKeys(changes.getKeysToRemove())
+                    .build();
+            proxy.injectCredentialsAndInvokeV2(untagResourceRequest, databrewClient::untagResource);
+        }
+    }
+
+    private static <T> Map<String, String> toMap(final List<T> tags, final Function<T, String> keyOf,
+                                                 final Function<T, String> valueOf) {
+        final Map<String, String> map = new LinkedHashMap<>();
+        if (tags != null) {
+            for (final T tag : tags) {
+                map.put(keyOf.apply(tag), valueOf.apply(tag));
+            }
+        }
+        return map;
+    }
+
+    public static final class Changes {
+        private final Map<String, String> tagsToAdd;
+        private final List<String> keysToRemove;
+
+        Changes(final Map<String, String> tagsToAdd, final List<String> keysToRemove) {
+            this.tagsToAdd = Collections.unmodifiableMap(tagsToAdd);
+            this.keysToRemove = Collections.unmodifiableList(keysToRemove);
+        }
+
+        /**
+         * @return the added tags and the tags whose value changed
+         */
+        public Map<String, String> getTagsToAdd() {
+            return tagsToAdd;
+        }
+
+        public List<String> getKeysToRemove() {
+            return keysToRemove;
+        }
+
+        public boolean isEmpty() {
+            return tagsToAdd.isEmpty() && keysToRemove.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package software.amazon.databrew.common;
+
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+public final class Throttling {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private Throttling() {
+    }
+
+    /**
+     * True when the exception, or one of its causes, is the service telling us to slow down.
+     */
+    public static boolean isThrottling(final Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof SdkServiceException) {
+                final SdkServiceException serviceException = (SdkServiceException) current;
+                if (serviceException.isThrottlingException() || serviceException.statusCode() == TOO_MANY_REQUESTS) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Throttling for throttling errors, so CloudFormation retries the operation, otherwise the given code.
+     */
+    public static HandlerErrorCode errorCode(final Throwable throwable, final HandlerErrorCode otherwise) {
+        return isThrottling(throwable) ? HandlerErrorCode.Throttling : otherwise;
+    }
+}
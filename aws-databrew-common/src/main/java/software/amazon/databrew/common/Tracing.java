@@ -0,0 +1,390 @@
+package software.amazon.databrew.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OpenTelemetry compatible spans around handler invocations, their phases and DataBrew calls.
+ *
+ * Every invocation is a span of one trace per CloudFormation operation: the first invocation stores its
+ * W3C traceparent in the CallbackContext, and the invocations CloudFormation makes for callbacks and
+ * stabilization rounds become its children. A Job create that waits over several invocations is then one
+ * trace. Below the invocation are spans for input validation, ModelHelper translations, stabilization
+ * rounds and, recorded by AttemptTimingInterceptor, every DataBrew call with its retries as events.
+ *
+ * The spans of an invocation are exported at its end as an OTLP/JSON traces document, either logged as
+ * one line (DATABREW_TRACING=log) or posted to the OTLP/HTTP endpoint of a collector
+ * (DATABREW_TRACING=otlp, OTEL_EXPORTER_OTLP_ENDPOINT, default http://localhost:4318). Tracing is off by
+ * default. Like HandlerMetrics, the running invocation is held per container, so spans started on
+ * ParallelDescriber threads belong to it.
+ */
+public final class Tracing {
+
+    static final String EXPORTER_ENV = "DATABREW_TRACING";
+    static final String ENDPOINT_ENV = "OTEL_EXPORTER_OTLP_ENDPOINT";
+    static final String DEFAULT_ENDPOINT = "http://localhost:4318";
+    static final int MAX_SPANS = 512;
+
+    private static final int EXPORT_TIMEOUT_MILLIS = 1_000;
+    private static final Pattern TRACE_PARENT = Pattern.compile("00-([0-9a-f]{32})-([0-9a-f]{16})-[0-9a-f]{2}");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final AtomicReference<Trace> CURRENT = new AtomicReference<>();
+    private static final ThreadLocal<Deque<Span>> ACTIVE = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final Exporter EXPORTER = Exporter.parse(System.getenv(EXPORTER_ENV));
+    private static final String ENDPOINT = endpoint(System.getenv(ENDPOINT_ENV));
+
+    /**
+     * Implemented by the CallbackContext of every resource type, so the trace survives re-invocations.
+     */
+    public interface TraceContext {
+
+        String getTraceParent();
+
+        void setTraceParent(String traceParent);
+    }
+
+    enum Exporter {
+        NONE, LOG, OTLP;
+
+        static Exporter parse(final String setting) {
+            if (setting == null || setting.trim().isEmpty()) {
+                return NONE;
+            }
+            try {
+                return valueOf(setting.trim().toUpperCase(Locale.ROOT));
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("Invalid %s value [%s], expected none, log or otlp", EXPORTER_ENV, setting.trim()), e);
+            }
+        }
+    }
+
+    private Tracing() {
+    }
+
+    /**
+     * Runs one handler invocation as a span and exports the spans of the invocation.
+     *
+     * @param callbackContext the context CloudFormation passed in, null on the first invocation
+     */
+    public static <M, C extends TraceContext> ProgressEvent<M, C> invocation(
+        final String resourceType,
+        final String action,
+        final C callbackContext,
+        final Logger logger,
+        final Supplier<ProgressEvent<M, C>> handler) {
+
+        return invocation(resourceType, action, callbackContext, logger, handler, EXPORTER);
+    }
+
+    static <M, C extends TraceContext> ProgressEvent<M, C> invocation(
+        final String resourceType,
+        final String action,
+        final C callbackContext,
+        final Logger logger,
+        final Supplier<ProgressEvent<M, C>> handler,
+        final Exporter exporter) {
+
+        if (exporter == Exporter.NONE) {
+            return handler.get();
+        }
+        final String traceParent = callbackContext == null ? null : callbackContext.getTraceParent();
+        final Trace trace = new Trace(resourceType, traceParent);
+        final Span root = trace.start(resourceType + " " + action, null, System.nanoTime());
+        root.attributes.put("cloudformation.resource_type", resourceType);
+        root.attributes.put("cloudformation.action", action);
+        CURRENT.set(trace);
+        ACTIVE.get().push(root);
+        ProgressEvent<M, C> event = null;
+        try {
+            event = handler.get();
+            if (event != null && event.getCallbackContext() != null && event.getCallbackContext().getTraceParent() == null) {
+                event.getCallbackContext().setTraceParent(trace.traceParent());
+            }
+            return event;
+        } finally {
+            ACTIVE.get().pop();
+            CURRENT.compareAndSet(trace, null);
+            if (event != null) {
+                root.attributes.put("cloudformation.status", String.valueOf(event.getStatus()));
+                if (event.getErrorCode() != null) {
+                    root.attributes.put("cloudformation.error_code", event.getErrorCode().name());
+                }
+            }
+            root.error = event == null || event.getStatus() == OperationStatus.FAILED;
+            root.endNanos = System.nanoTime();
+            export(trace, logger, exporter);
+        }
+    }
+
+    /**
+     * Runs a phase of the handler as a child of the span active on this thread, or of the invocation.
+     */
+    public static <T> T span(final String name, final Supplier<T> phase) {
+        final Trace trace = CURRENT.get();
+        if (trace == null) {
+            return phase.get();
+        }
+        final Span span = trace.start(name, ACTIVE.get().peek(), System.nanoTime());
+        ACTIVE.get().push(span);
+        boolean failed = true;
+        try {
+            final T result = phase.get();
+            failed = false;
+            return result;
+        } finally {
+            ACTIVE.get().pop();
+            span.error = failed;
+            span.endNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Adds an attribute to the span active on this thread.
+     */
+    public static void attribute(final String key, final Object value) {
+        final Span span = CURRENT.get() == null ? null : ACTIVE.get().peek();
+        if (span != null) {
+            span.attributes.put(key, value);
+        }
+    }
+
+    /**
+     * The trace id of the running invocation, for log correlation, or null.
+     */
+    public static String currentTraceId() {
+        final Trace trace = CURRENT.get();
+        return trace == null ? null : trace.traceId;
+    }
+
+    static void recordCall(final AttemptTimingInterceptor.CallTiming timing) {
+        final Trace trace = CURRENT.get();
+        if (trace == null) {
+            return;
+        }
+        final Span span = trace.start("DataBrew." + timing.operation, ACTIVE.get().peek(), timing.startNanos);
+        span.client = true;
+        span.endNanos = timing.startNanos + timing.durationNanos;
+        span.error = timing.failure != null;
+        span.attributes.put("rpc.system", "aws-api");
+        span.attributes.put("rpc.service", "DataBrew");
+        span.attributes.put("rpc.method", timing.operation);
+        span.attributes.put("aws.attempts", timing.attempts.size());
+        final AttemptTimingInterceptor.Attempt last = timing.lastAttempt();
+        if (last != null && last.statusCode != 0) {
+            span.attributes.put("http.status_code", last.statusCode);
+        }
+        if (timing.failure != null) {
+            span.attributes.put("exception.type", timing.failure);
+        }
+        for (final AttemptTimingInterceptor.Attempt attempt : timing.attempts) {
+            if (attempt.retryCause != null) {
+                span.retries.add(attempt.retryCause);
+            }
+        }
+    }
+
+    static String endpoint(final String setting) {
+        final String endpoint = setting == null || setting.trim().isEmpty() ? DEFAULT_ENDPOINT : setting.trim();
+        return endpoint.endsWith("/") ? endpoint + "v1/traces" : endpoint + "/v1/traces";
+    }
+
+    private static void export(final Trace trace, final Logger logger, final Exporter exporter) {
+        final String document = trace.toOtlpJson();
+        if (exporter == Exporter.LOG) {
+            logger.log(document);
+            return;
+        }
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) new URL(ENDPOINT).openConnection();
+            connection.setRequestMethod("POST");
+            connection.setConnectTimeout(EXPORT_TIMEOUT_MILLIS);
+            connection.setReadTimeout(EXPORT_TIMEOUT_MILLIS);
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream body = connection.getOutputStream()) {
+                body.write(document.getBytes(StandardCharsets.UTF_8));
+            }
+            final int status = connection.getResponseCode();
+            connection.disconnect();
+            if (status >= 300) {
+                logger.log(String.format("Trace export to %s failed with status %d", ENDPOINT, status));
+            }
+        } catch (final IOException e) {
+            // tracing must never fail the handler
+            logger.log(String.format("Trace export to %s failed: %s", ENDPOINT, e));
+        }
+    }
+
+    static String randomHex(final int bytes) {
+        final char[] hex = new char[bytes * 2];
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < hex.length; i++) {
+            hex[i] = Character.forDigit(random.nextInt(16), 16);
+        }
+        return new String(hex);
+    }
+
+    /**
+     * The spans of one invocation. Span times are taken from System.nanoTime and converted to epoch time
+     * on export.
+     */
+    static final class Trace {
+        final String serviceName;
+        final String traceId;
+        final String parentSpanId;
+        final long epochNanos = System.currentTimeMillis() * 1_000_000L;
+        final long baseNanos = System.nanoTime();
+        private final List<Span> spans = new ArrayList<>();
+        private volatile Span root;
+        private int dropped;
+
+        Trace(final String serviceName, final String traceParent) {
+            this.serviceName = serviceName;
+            final Matcher matcher = traceParent == null ? null : TRACE_PARENT.matcher(traceParent);
+            if (matcher != null && matcher.matches()) {
+                this.traceId = matcher.group(1);
+                this.parentSpanId = matcher.group(2);
+            } else {
+                this.traceId = randomHex(16);
+                this.parentSpanId = null;
+            }
+        }
+
+        /**
+         * Later invocations are children of the first invocation's span.
+         */
+        String traceParent() {
+            return String.format("00-%s-%s-01", traceId, parentSpanId != null ? parentSpanId : root.spanId);
+        }
+
+        /**
+         * Spans without a parent on their thread are children of the invocation span, which in turn is
+         * the child of the first invocation's span.
+         */
+        Span start(final String name, final Span parent, final long startNanos) {
+            final Span invocation = root;
+            final String parentId = parent != null ? parent.spanId : invocation != null ? invocation.spanId : parentSpanId;
+            final Span span = new Span(name, randomHex(8), parentId, startNanos);
+            if (invocation == null) {
+                root = span;
+            }
+            synchronized (spans) {
+                if (spans.size() < MAX_SPANS) {
+                    spans.add(span);
+                } else {
+                    dropped++;
+                }
+            }
+            return span;
+        }
+
+        String toOtlpJson() {
+            final ObjectNode document = MAPPER.createObjectNode();
+            final ObjectNode resourceSpans = document.putArray("resourceSpans").addObject();
+            attributes(resourceSpans.putObject("resource"), singleton("service.name", serviceName));
+            final ObjectNode scopeSpans = resourceSpans.putArray("scopeSpans").addObject();
+            scopeSpans.putObject("scope").put("name", Tracing.class.getName());
+            final ArrayNode array = scopeSpans.putArray("spans");
+            synchronized (spans) {
+                if (dropped > 0) {
+                    root.attributes.put("databrew.dropped_spans", dropped);
+                }
+                for (final Span span : spans) {
+                    final ObjectNode node = array.addObject();
+                    node.put("traceId", traceId);
+                    node.put("spanId", span.spanId);
+                    if (span.parentSpanId != null) {
+                        node.put("parentSpanId", span.parentSpanId);
+                    }
+                    node.put("name", span.name);
+                    // SPAN_KIND_CLIENT for DataBrew calls, SPAN_KIND_INTERNAL otherwise
+                    node.put("kind", span.client ? 3 : 1);
+                    node.put("startTimeUnixNano", String.valueOf(epoch(span.startNanos)));
+                    final long end = span.endNanos == 0L ? System.nanoTime() : span.endNanos;
+                    node.put("endTimeUnixNano", String.valueOf(epoch(end)));
+                    attributes(node, span.attributes);
+                    if (!span.retries.isEmpty()) {
+                        final ArrayNode events = node.putArray("events");
+                        for (final String cause : span.retries) {
+                            final ObjectNode event = events.addObject();
+                            event.put("name", "retry");
+                            event.put("timeUnixNano", String.valueOf(epoch(end)));
+                            attributes(event, singleton("databrew.retry_cause", cause));
+                        }
+                    }
+                    // STATUS_CODE_ERROR or STATUS_CODE_UNSET
+                    node.putObject("status").put("code", span.error ? 2 : 0);
+                }
+            }
+            return document.toString();
+        }
+
+        private long epoch(final long nanos) {
+            return epochNanos + (nanos - baseNanos);
+        }
+
+        private static Map<String, Object> singleton(final String key, final Object value) {
+            final Map<String, Object> map = new LinkedHashMap<>();
+            map.put(key, value);
+            return map;
+        }
+
+        private static void attributes(final ObjectNode node, final Map<String, Object> attributes) {
+            final ArrayNode array = node.putArray("attributes");
+            attributes.forEach((key, value) -> {
+                final ObjectNode attribute = array.addObject();
+                attribute.put("key", key);
+                if (value instanceof Integer || value instanceof Long) {
+                    // int64 values are strings in OTLP/JSON
+                    attribute.putObject("value").put("intValue", String.valueOf(value));
+                } else if (value instanceof Boolean) {
+                    attribute.putObject("value").put("boolValue", (Boolean) value);
+                } else {
+                    attribute.putObject("value").put("stringValue", String.valueOf(value));
+                }
+            });
+        }
+    }
+
+    static final class Span {
+        final String name;
+        final String spanId;
+        final String parentSpanId;
+        final long startNanos;
+        final Map<String, Object> attributes = new LinkedHashMap<>();
+        final List<String> retries = new ArrayList<>();
+        volatile long endNanos;
+        volatile boolean error;
+        boolean client;
+
+        Span(final String name, final String spanId, final String parentSpanId, final long startNanos) {
+            this.name = name;
+            this.spanId = spanId;
+            this.parentSpanId = parentSpanId;
+            this.startNanos = startNanos;
+        }
+    }
+}
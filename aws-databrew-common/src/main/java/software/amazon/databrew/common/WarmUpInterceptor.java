@@ -0,0 +1,29 @@
+package software.amazon.databrew.common;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+/**
+ * Stops warm-up calls right before they are sent. By then the request has gone through endpoint
+ * resolution, marshalling and signing, so those classes are loaded without any network round trip.
+ */
+final class WarmUpInterceptor implements ExecutionInterceptor {
+
+    static final String WARM_UP_HEADER = "x-databrew-handler-warm-up";
+
+    @Override
+    public void beforeTransmission(final Context.BeforeTransmission context, final ExecutionAttributes executionAttributes) {
+        if (context.httpRequest().firstMatchingHeader(WARM_UP_HEADER).isPresent()) {
+            throw new WarmUpAbortedException();
+        }
+    }
+
+    static final class WarmUpAbortedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        WarmUpAbortedException() {
+            super("Warm-up request aborted before transmission", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.databrew.model.DataBrewException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AccountRateLimiterTest {
+
+    @Test
+    public void parse_Defaults() {
+        final AccountRateLimiter limiter = AccountRateLimiter.parse(null, null, null);
+
+        assertThat(limiter).isNotNull();
+        assertThat(limiter.currentRate("caller")).isEqualTo(AccountRateLimiter.DEFAULT_RATE);
+    }
+
+    @Test
+    public void parse_ZeroTurnsLimiterOff() {
+        assertThat(AccountRateLimiter.parse("0", null, null)).isNull();
+    }
+
+    @Test
+    public void parse_InvalidValues() {
+        assertThatThrownBy(() -> AccountRateLimiter.parse("fast", null, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AccountRateLimiter.parse("-1", null, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AccountRateLimiter.parse("5", "0.5", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AccountRateLimiter.parse("5", null, "x")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void acquire_BurstThenOverflow() throws InterruptedException {
+        final AtomicLong now = new AtomicLong();
+        final AccountRateLimiter limiter = new AccountRateLimiter(1.0, 2.0, 0L, now::get);
+
+        limiter.acquire("caller");
+        limiter.acquire("caller");
+        assertThatThrownBy(() -> limiter.acquire("caller"))
+                .isInstanceOf(DataBrewException.class)
+                .matches(Throttling::isThrottling);
+
+        // other callers have their own bucket
+        limiter.acquire("other-caller");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limiter.acquire("caller");
+    }
+
+    @Test
+    public void acquire_WaitsWithinMaxWait() throws InterruptedException {
+        final AtomicLong now = new AtomicLong();
+        final AccountRateLimiter limiter = new AccountRateLimiter(100.0, 1.0, 1000L, now::get);
+
+        final long start = System.nanoTime();
+        limiter.acquire("caller");
+        limiter.acquire("caller");
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    @Test
+    public void onThrottled_HalvesRateAndRecovers() {
+        final AccountRateLimiter limiter = new AccountRateLimiter(4.0, 4.0, 0L, System::nanoTime);
+
+        limiter.onThrottled("caller");
+        assertThat(limiter.currentRate("caller")).isEqualTo(2.0);
+        limiter.onThrottled("caller");
+        limiter.onThrottled("caller");
+        limiter.onThrottled("caller");
+        assertThat(limiter.currentRate("caller")).isEqualTo(0.5);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.onSuccess("caller");
+        }
+        assertThat(limiter.currentRate("caller")).isEqualTo(4.0);
+        assertThat(limiter.currentRate("other-caller")).isEqualTo(4.0);
+    }
+}
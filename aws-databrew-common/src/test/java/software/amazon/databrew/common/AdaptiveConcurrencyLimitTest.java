@@ -0,0 +1,85 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AdaptiveConcurrencyLimitTest {
+
+    @Test
+    public void onSuccess_GrowsAdditively() throws InterruptedException {
+        final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 3);
+
+        limit.acquire();
+        limit.onSuccess();
+        assertThat(limit.getLimit()).isEqualTo(2);
+        limit.acquire();
+        limit.onSuccess();
+        assertThat(limit.getLimit()).isEqualTo(3);
+
+        for (int i = 0; i < 10; i++) {
+            limit.acquire();
+            limit.onSuccess();
+        }
+        assertThat(limit.getLimit()).isEqualTo(3);
+        assertThat(limit.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void onThrottled_HalvesDownToMinimum() throws InterruptedException {
+        final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 1, 8);
+
+        limit.acquire();
+        limit.onThrottled();
+        assertThat(limit.getLimit()).isEqualTo(4);
+        limit.acquire();
+        limit.onThrottled();
+        limit.acquire();
+        limit.onThrottled();
+        limit.acquire();
+        limit.onThrottled();
+        assertThat(limit.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    public void onFailure_KeepsLimit() throws InterruptedException {
+        final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 8);
+
+        limit.acquire();
+        limit.onFailure();
+
+        assertThat(limit.getLimit()).isEqualTo(4);
+        assertThat(limit.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void acquire_BlocksAtLimit() throws InterruptedException {
+        final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1);
+        limit.acquire();
+
+        final Thread waiter = new Thread(() -> {
+            try {
+                limit.acquire();
+                limit.onSuccess();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+        waiter.join(200L);
+        assertThat(waiter.isAlive()).isTrue();
+
+        limit.onSuccess();
+        waiter.join(5000L);
+        assertThat(waiter.isAlive()).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void constructor_InvalidLimits() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(1, 0, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(5, 1, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(2, 3, 4)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
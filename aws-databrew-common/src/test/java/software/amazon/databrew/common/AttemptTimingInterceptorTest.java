@@ -0,0 +1,92 @@
+package software.amazon.databrew.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class AttemptTimingInterceptorTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    public void errorType() {
+        assertThat(AttemptTimingInterceptor.errorType("ThrottlingException:http://internal.amazon.com/")).isEqualTo("ThrottlingException");
+        assertThat(AttemptTimingInterceptor.errorType("ValidationException")).isEqualTo("ValidationException");
+    }
+
+    @Test
+    public void retriedCall_RecordsPhasesAndCauses() throws IOException {
+        final AtomicLong now = new AtomicLong();
+        final AttemptTimingInterceptor interceptor = new AttemptTimingInterceptor(now::get);
+        final Logger logger = mock(Logger.class);
+
+        HandlerMetrics.record("AWS::DataBrew::Job", "READ", ResourceHandlerRequest.<String>builder().build(), logger, () -> {
+            final ExecutionAttributes attributes = new ExecutionAttributes();
+            attributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, "DescribeJob");
+            interceptor.beforeMarshalling(mock(Context.BeforeMarshalling.class), attributes);
+            now.addAndGet(2 * MILLIS);
+            interceptor.afterMarshalling(mock(Context.AfterMarshalling.class), attributes);
+
+            // connection reset, no response
+            interceptor.beforeTransmission(mock(Context.BeforeTransmission.class), attributes);
+            now.addAndGet(10 * MILLIS);
+            // throttled
+            interceptor.beforeTransmission(mock(Context.BeforeTransmission.class), attributes);
+            now.addAndGet(20 * MILLIS);
+            interceptor.afterTransmission(response(429, "ThrottlingException:http://internal.amazon.com/"), attributes);
+            now.addAndGet(100 * MILLIS);
+            interceptor.beforeTransmission(mock(Context.BeforeTransmission.class), attributes);
+            now.addAndGet(30 * MILLIS);
+            interceptor.afterTransmission(response(200, null), attributes);
+            interceptor.beforeUnmarshalling(mock(Context.BeforeUnmarshalling.class), attributes);
+            now.addAndGet(3 * MILLIS);
+            interceptor.afterUnmarshalling(mock(Context.AfterUnmarshalling.class), attributes);
+            interceptor.afterExecution(mock(Context.AfterExecution.class), attributes);
+            interceptor.onExecutionFailure(mock(Context.FailedExecution.class), attributes);
+            return ProgressEvent.<String, Void>builder().status(OperationStatus.SUCCESS).build();
+        });
+
+        final ArgumentCaptor<String> line = ArgumentCaptor.forClass(String.class);
+        verify(logger).log(line.capture());
+        final JsonNode log = new ObjectMapper().readTree(line.getValue());
+        assertThat(log.get("MarshallingTime").asDouble()).isEqualTo(2.0);
+        assertThat(log.get("TimeToFirstByte").asDouble()).isEqualTo(50.0);
+        assertThat(log.get("UnmarshallingTime").asDouble()).isEqualTo(3.0);
+        assertThat(log.get("RetryCauses").toString()).isEqualTo("{\"429 ThrottlingException\":1,\"NoResponse\":1}");
+
+        final JsonNode call = log.get("SlowestCall");
+        assertThat(call.get("Operation").asText()).isEqualTo("DescribeJob");
+        assertThat(call.get("Duration").asDouble()).isEqualTo(165.0);
+        assertThat(call.get("Attempts").size()).isEqualTo(3);
+        assertThat(call.get("Attempts").get(0).get("RetryCause").asText()).isEqualTo("NoResponse");
+        assertThat(call.get("Attempts").get(2).has("RetryCause")).isFalse();
+        assertThat(call.get("Attempts").get(2).get("HttpStatusCode").asInt()).isEqualTo(200);
+    }
+
+    private static Context.AfterTransmission response(final int statusCode, final String errorType) {
+        final SdkHttpResponse.Builder response = SdkHttpResponse.builder().statusCode(statusCode);
+        if (errorType != null) {
+            response.putHeader(AttemptTimingInterceptor.ERROR_TYPE_HEADER, errorType);
+        }
+        final Context.AfterTransmission context = mock(Context.AfterTransmission.class);
+        doReturn(response.build()).when(context).httpResponse();
+        return context;
+    }
+}
@@ -0,0 +1,29 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CollectionUtilsTest {
+
+    @Test
+    public void isNullOrEmpty() {
+        assertThat(CollectionUtils.isNullOrEmpty(null)).isTrue();
+        assertThat(CollectionUtils.isNullOrEmpty(new ArrayList<String>())).isTrue();
+        assertThat(CollectionUtils.isNullOrEmpty(Collections.singletonList("value"))).isFalse();
+    }
+
+    @Test
+    public void partition() {
+        assertThat(CollectionUtils.partition(Arrays.asList(1, 2, 3, 4, 5), 2))
+                .isEqualTo(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Collections.singletonList(5)));
+        assertThat(CollectionUtils.partition(Arrays.asList(1, 2), 2)).isEqualTo(Collections.singletonList(Arrays.asList(1, 2)));
+        assertThat(CollectionUtils.partition(Collections.emptyList(), 2)).isEmpty();
+        assertThatThrownBy(() -> CollectionUtils.partition(Arrays.asList(1, 2), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
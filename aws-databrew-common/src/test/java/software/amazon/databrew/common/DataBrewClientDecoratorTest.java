@@ -0,0 +1,100 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.databrew.DataBrewClient;
+import software.amazon.awssdk.services.databrew.model.DataBrewException;
+import software.amazon.awssdk.services.databrew.model.DescribeJobRequest;
+import software.amazon.awssdk.services.databrew.model.DescribeJobResponse;
+import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class DataBrewClientDecoratorTest {
+
+    @Mock
+    private DataBrewClient delegate;
+
+    @Test
+    public void decorate_NoOperationTimeouts() {
+        assertThat(DataBrewClientDecorator.decorate(delegate, OperationTimeouts.parse(null, null), null)).isSameAs(delegate);
+    }
+
+    @Test
+    public void operationName() {
+        assertThat(DataBrewClientDecorator.operationName("describeJob")).isEqualTo("DescribeJob");
+        assertThat(DataBrewClientDecorator.operationName("listJobsPaginator")).isEqualTo("ListJobs");
+        assertThat(DataBrewClientDecorator.operationName("")).isEqualTo("");
+    }
+
+    @Test
+    public void invoke_AppliesOperationTimeout() {
+        final DescribeJobResponse response = DescribeJobResponse.builder().name("job").build();
+        doReturn(response).when(delegate).describeJob(any(DescribeJobRequest.class));
+        final DataBrewClient client = DataBrewClientDecorator.decorate(delegate, OperationTimeouts.parse(null, "DescribeJob=10"), null);
+
+        assertThat(client.describeJob(DescribeJobRequest.builder().name("job").build())).isSameAs(response);
+
+        final ArgumentCaptor<DescribeJobRequest> captor = ArgumentCaptor.forClass(DescribeJobRequest.class);
+        verify(delegate).describeJob(captor.capture());
+        assertThat(captor.getValue().overrideConfiguration().get().apiCallAttemptTimeout()).contains(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void invoke_UnwrapsServiceExceptions() {
+        doThrow(ResourceNotFoundException.builder().build()).when(delegate).describeJob(any(DescribeJobRequest.class));
+        final DataBrewClient client = DataBrewClientDecorator.decorate(delegate, OperationTimeouts.parse(null, "DescribeJob=10"), null);
+
+        assertThatThrownBy(() -> client.describeJob(DescribeJobRequest.builder().name("job").build()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void caller_FromInjectedCredentials() {
+        final DescribeJobRequest request = DescribeJobRequest.builder()
+                .overrideConfiguration(AwsRequestOverrideConfiguration.builder()
+                        .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("access-key", "secret")))
+                        .build())
+                .build();
+
+        assertThat(DataBrewClientDecorator.caller(request)).isEqualTo("access-key");
+        assertThat(DataBrewClientDecorator.caller(DescribeJobRequest.builder().build())).isEmpty();
+    }
+
+    @Test
+    public void invoke_LowersRateWhenThrottled() {
+        doThrow(DataBrewException.builder().statusCode(429).build()).when(delegate).describeJob(any(DescribeJobRequest.class));
+        final AccountRateLimiter rateLimiter = new AccountRateLimiter(8.0, 8.0, 0L, System::nanoTime);
+        final DataBrewClient client = DataBrewClientDecorator.decorate(delegate, OperationTimeouts.parse(null, null), rateLimiter);
+
+        assertThatThrownBy(() -> client.describeJob(DescribeJobRequest.builder().name("job").build()))
+                .isInstanceOf(DataBrewException.class);
+        assertThat(rateLimiter.currentRate("")).isEqualTo(4.0);
+    }
+
+    @Test
+    public void invoke_RejectsOverRateLimit() {
+        final AccountRateLimiter rateLimiter = new AccountRateLimiter(1.0, 1.0, 0L, () -> 0L);
+        final DataBrewClient client = DataBrewClientDecorator.decorate(delegate, OperationTimeouts.parse(null, null), rateLimiter);
+        doReturn(DescribeJobResponse.builder().build()).when(delegate).describeJob(any(DescribeJobRequest.class));
+
+        client.describeJob(DescribeJobRequest.builder().name("job").build());
+        assertThatThrownBy(() -> client.describeJob(DescribeJobRequest.builder().name("job").build()))
+                .matches(Throttling::isThrottling);
+        verify(delegate).describeJob(any(DescribeJobRequest.class));
+    }
+}
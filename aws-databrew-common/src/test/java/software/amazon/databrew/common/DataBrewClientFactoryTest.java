@@ -0,0 +1,81 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.services.databrew.model.ListDatasetsRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class DataBrewClientFactoryTest {
+
+    @Test
+    public void isWarmUpEnabled() {
+        assertThat(DataBrewClientFactory.isWarmUpEnabled(null)).isTrue();
+        assertThat(DataBrewClientFactory.isWarmUpEnabled("true")).isTrue();
+        assertThat(DataBrewClientFactory.isWarmUpEnabled(" FALSE ")).isFalse();
+    }
+
+    @Test
+    public void warmUpRequest_IsMarked() {
+        final ListDatasetsRequest request = DataBrewClientFactory.warmUpRequest();
+
+        assertThat(request.maxResults()).isEqualTo(1);
+        assertThat(request.overrideConfiguration().get().credentialsProvider()).isPresent();
+        assertThat(request.overrideConfiguration().get().headers()).containsKey(WarmUpInterceptor.WARM_UP_HEADER);
+    }
+
+    @Test
+    public void warmUpInterceptor_AbortsOnlyWarmUpRequests() {
+        final WarmUpInterceptor interceptor = new WarmUpInterceptor();
+        final Context.BeforeTransmission warmUp = mock(Context.BeforeTransmission.class);
+        final Context.BeforeTransmission regular = mock(Context.BeforeTransmission.class);
+        final SdkHttpFullRequest.Builder httpRequest = SdkHttpFullRequest.builder()
+                .method(SdkHttpMethod.POST)
+                .protocol("https")
+                .host("databrew.us-east-1.amazonaws.com");
+        doReturn(httpRequest.build()).when(regular).httpRequest();
+        doReturn(httpRequest.putHeader(WarmUpInterceptor.WARM_UP_HEADER, "true").build()).when(warmUp).httpRequest();
+
+        interceptor.beforeTransmission(regular, new ExecutionAttributes());
+        assertThatThrownBy(() -> interceptor.beforeTransmission(warmUp, new ExecutionAttributes()))
+                .isInstanceOf(WarmUpInterceptor.WarmUpAbortedException.class);
+    }
+
+    @Test
+    public void getClient_IsShared() {
+        System.setProperty("aws.region", "us-east-1");
+        DataBrewClientFactory.warmUp();
+
+        assertThat(DataBrewClientFactory.getClient()).isSameAs(DataBrewClientFactory.getClient());
+    }
+
+    @Test
+    public void buildClient_EndpointOverride() {
+        System.setProperty("aws.region", "us-east-1");
+
+        assertThat(DataBrewClientFactory.buildClient(OperationTimeouts.parse(null, null), "http://127.0.0.1:8080")).isNotNull();
+        assertThat(DataBrewClientFactory.buildClient(OperationTimeouts.parse(null, "DescribeJob=5"), " ")).isNotNull();
+    }
+
+    @Test
+    public void endpoint_EnvironmentWins() {
+        assertThat(DataBrewClientFactory.endpoint("http://127.0.0.1:8080", "http://127.0.0.1:9090")).isEqualTo("http://127.0.0.1:8080");
+        assertThat(DataBrewClientFactory.endpoint(" ", "http://127.0.0.1:9090")).isEqualTo("http://127.0.0.1:9090");
+        assertThat(DataBrewClientFactory.endpoint(null, null)).isNull();
+    }
+
+    @Test
+    public void maxRetries() {
+        assertThat(DataBrewClientFactory.maxRetries(null)).isEqualTo(DataBrewClientFactory.DEFAULT_MAX_RETRIES);
+        assertThat(DataBrewClientFactory.maxRetries(" 8 ")).isEqualTo(8);
+        assertThat(DataBrewClientFactory.retryPolicy(8).numRetries()).isEqualTo(8);
+        assertThatThrownBy(() -> DataBrewClientFactory.maxRetries("-1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DataBrewClientFactory.maxRetries("many")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
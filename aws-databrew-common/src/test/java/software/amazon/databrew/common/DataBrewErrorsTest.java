@@ -0,0 +1,50 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.databrew.model.AccessDeniedException;
+import software.amazon.awssdk.services.databrew.model.ConflictException;
+import software.amazon.awssdk.services.databrew.model.DataBrewException;
+import software.amazon.awssdk.services.databrew.model.InternalServerException;
+import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.databrew.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.databrew.model.ValidationException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataBrewErrorsTest {
+
+    @Test
+    public void errorCode_ByExceptionType() {
+        assertThat(DataBrewErrors.errorCode("UPDATE", ResourceNotFoundException.builder().build())).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(DataBrewErrors.errorCode("UPDATE", ValidationException.builder().build())).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(DataBrewErrors.errorCode("UPDATE", AccessDeniedException.builder().build())).isEqualTo(HandlerErrorCode.AccessDenied);
+        assertThat(DataBrewErrors.errorCode("UPDATE", ServiceQuotaExceededException.builder().build())).isEqualTo(HandlerErrorCode.ServiceLimitExceeded);
+        assertThat(DataBrewErrors.errorCode("UPDATE", InternalServerException.builder().build())).isEqualTo(HandlerErrorCode.ServiceInternalError);
+        assertThat(DataBrewErrors.errorCode("UPDATE", DataBrewException.builder().build())).isEqualTo(HandlerErrorCode.ServiceInternalError);
+    }
+
+    @Test
+    public void errorCode_ConflictByAction() {
+        assertThat(DataBrewErrors.errorCode("CREATE", ConflictException.builder().build())).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(DataBrewErrors.errorCode("UPDATE", ConflictException.builder().build())).isEqualTo(HandlerErrorCode.ResourceConflict);
+        assertThat(DataBrewErrors.errorCode("DELETE", ConflictException.builder().build())).isEqualTo(HandlerErrorCode.ResourceConflict);
+    }
+
+    @Test
+    public void errorCode_ThrottlingWins() {
+        assertThat(DataBrewErrors.errorCode("UPDATE", DataBrewException.builder().statusCode(429).build())).isEqualTo(HandlerErrorCode.Throttling);
+        assertThat(DataBrewErrors.errorCode("UPDATE", ValidationException.builder().statusCode(429).build())).isEqualTo(HandlerErrorCode.Throttling);
+    }
+
+    @Test
+    public void failure() {
+        final ProgressEvent<Object, Object> event = DataBrewErrors.failure("CREATE", ConflictException.builder().message("exists").build());
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(event.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(event.getMessage()).isEqualTo("exists");
+    }
+}
@@ -0,0 +1,102 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DescribeCacheTest {
+
+    @Test
+    public void parse_OffByDefault() {
+        assertThat(DescribeCache.parse(null, null).isEnabled()).isFalse();
+        assertThat(DescribeCache.parse("5000", null).isEnabled()).isTrue();
+        assertThat(DescribeCache.parse("5000", "0").isEnabled()).isFalse();
+        assertThatThrownBy(() -> DescribeCache.parse("x", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DescribeCache.parse("-1", null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void getOrLoad_CachesUntilExpired() {
+        final AtomicLong now = new AtomicLong();
+        final DescribeCache cache = new DescribeCache(1_000L, 10, now::get);
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.getOrLoad("a", String.class, () -> "v" + calls.incrementAndGet())).isEqualTo("v1");
+        now.set(999L);
+        assertThat(cache.getOrLoad("a", String.class, () -> "v" + calls.incrementAndGet())).isEqualTo("v1");
+        now.set(1_000L);
+        assertThat(cache.getOrLoad("a", String.class, () -> "v" + calls.incrementAndGet())).isEqualTo("v2");
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void put_EvictsLeastRecentlyUsed() {
+        final DescribeCache cache = new DescribeCache(1_000L, 2, () -> 0L);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a", String.class);
+        cache.put("c", "3");
+
+        assertThat(cache.get("a", String.class)).isEqualTo("1");
+        assertThat(cache.get("b", String.class)).isNull();
+        assertThat(cache.get("c", String.class)).isEqualTo("3");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidate() {
+        final DescribeCache cache = new DescribeCache(1_000L, 2, () -> 0L);
+        cache.put("a", "1");
+        cache.invalidate("a");
+
+        assertThat(cache.get("a", String.class)).isNull();
+    }
+
+    @Test
+    public void refresh_ReplacesEntry() {
+        final DescribeCache cache = new DescribeCache(1_000L, 2, () -> 0L);
+        cache.put("a", "1");
+        cache.refresh("a", () -> "2");
+
+        assertThat(cache.get("a", String.class)).isEqualTo("2");
+    }
+
+    @Test
+    public void refresh_FailedDescribeInvalidates() {
+        final DescribeCache cache = new DescribeCache(1_000L, 2, () -> 0L);
+        cache.put("a", "1");
+        cache.refresh("a", () -> {
+            throw SdkException.builder().message("throttled").build();
+        });
+
+        assertThat(cache.get("a", String.class)).isNull();
+    }
+
+    @Test
+    public void refresh_DisabledDoesNotDescribe() {
+        final DescribeCache cache = new DescribeCache(0L, 10);
+        final AtomicInteger calls = new AtomicInteger();
+
+        cache.refresh("a", calls::incrementAndGet);
+
+        assertThat(calls.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void disabled_AlwaysDescribes() {
+        final DescribeCache cache = new DescribeCache(0L, 10);
+        final AtomicInteger calls = new AtomicInteger();
+
+        cache.getOrLoad("a", Integer.class, calls::incrementAndGet);
+        cache.getOrLoad("a", Integer.class, calls::incrementAndGet);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,76 @@
+package software.amazon.databrew.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.databrew.model.ConflictException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class HandlerLogTest {
+
+    @Test
+    public void sampleRate() {
+        assertThat(HandlerLog.sampleRate(null)).isEqualTo(1.0);
+        assertThat(HandlerLog.sampleRate(" 0.25 ")).isEqualTo(0.25);
+        assertThatThrownBy(() -> HandlerLog.sampleRate("half")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HandlerLog.sampleRate("1.5")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HandlerLog.sampleRate("NaN")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void isSampled() {
+        assertThat(HandlerLog.isSampled(1.0, 0.999)).isTrue();
+        assertThat(HandlerLog.isSampled(0.25, 0.2)).isTrue();
+        assertThat(HandlerLog.isSampled(0.25, 0.3)).isFalse();
+        assertThat(HandlerLog.isSampled(0.0, 0.0)).isFalse();
+    }
+
+    @Test
+    public void success_Sampled() throws IOException {
+        final Logger logger = mock(Logger.class);
+        new HandlerLog(logger, "AWS::DataBrew::Job", "DELETE", "job-name", true)
+                .success("StoppingRuns", "stopping", 2, "active", 3);
+
+        final JsonNode entry = entry(logger);
+        assertThat(entry.get("type").asText()).isEqualTo("AWS::DataBrew::Job");
+        assertThat(entry.get("name").asText()).isEqualTo("job-name");
+        assertThat(entry.get("action").asText()).isEqualTo("DELETE");
+        assertThat(entry.get("outcome").asText()).isEqualTo("StoppingRuns");
+        assertThat(entry.get("durationMs").isNumber()).isTrue();
+        assertThat(entry.get("stopping").asInt()).isEqualTo(2);
+        assertThat(entry.get("active").asInt()).isEqualTo(3);
+        assertThat(entry.has("errorCode")).isFalse();
+    }
+
+    @Test
+    public void notSampled_LogsFailuresOnly() throws IOException {
+        final Logger logger = mock(Logger.class);
+        final HandlerLog log = new HandlerLog(logger, "AWS::DataBrew::Dataset", "LIST", null, false);
+
+        log.success("Listed");
+        verify(logger, never()).log(anyString());
+
+        log.failure("ListFailed", ConflictException.builder().message("busy").build());
+        final JsonNode entry = entry(logger);
+        assertThat(entry.has("name")).isFalse();
+        assertThat(entry.get("errorCode").asText()).isEqualTo(HandlerErrorCode.ResourceConflict.name());
+        assertThat(entry.get("message").asText()).contains("busy");
+    }
+
+    private static JsonNode entry(final Logger logger) throws IOException {
+        final ArgumentCaptor<String> line = ArgumentCaptor.forClass(String.class);
+        verify(logger).log(line.capture());
+        return new ObjectMapper().readTree(line.getValue());
+    }
+}
@@ -0,0 +1,147 @@
+package software.amazon.databrew.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class HandlerMetricsTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void settings() {
+        assertThat(HandlerMetrics.isEnabled(null)).isTrue();
+        assertThat(HandlerMetrics.isEnabled(" FALSE ")).isFalse();
+        assertThat(HandlerMetrics.namespace(" ")).isEqualTo(HandlerMetrics.DEFAULT_NAMESPACE);
+        assertThat(HandlerMetrics.namespace("Custom")).isEqualTo("Custom");
+        assertThat(HandlerLog.sampleRate(HandlerMetrics.PAYLOAD_SAMPLE_RATE_ENV, null, HandlerMetrics.DEFAULT_PAYLOAD_SAMPLE_RATE))
+                .isEqualTo(0.01);
+    }
+
+    @Test
+    public void record_LogsEmbeddedMetrics() throws IOException {
+        final Logger logger = mock(Logger.class);
+        final HandlerMetrics.SdkCallPublisher publisher = new HandlerMetrics.SdkCallPublisher();
+        final DescribeCache cache = new DescribeCache(1_000L, 10, () -> 0L);
+
+        final ProgressEvent<Map<String, String>, Void> event = HandlerMetrics.record("AWS::DataBrew::Job", "READ", request(), logger, () -> {
+            publisher.publish(call(2, 200));
+            HandlerMetrics.translate(() -> "model");
+            cache.getOrLoad("job", String.class, () -> "described");
+            cache.getOrLoad("job", String.class, () -> "described");
+            return ProgressEvent.<Map<String, String>, Void>builder()
+                    .resourceModel(Collections.singletonMap("Name", "job"))
+                    .status(OperationStatus.SUCCESS)
+                    .build();
+        }, true);
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final JsonNode log = logged(logger);
+        final JsonNode directive = log.get("_aws").get("CloudWatchMetrics").get(0);
+        assertThat(directive.get("Dimensions").toString()).isEqualTo("[[\"ResourceType\",\"Action\"]]");
+        assertThat(directive.get("Metrics").size()).isEqualTo(14);
+        assertThat(log.get("ResourceType").asText()).isEqualTo("AWS::DataBrew::Job");
+        assertThat(log.get("Action").asText()).isEqualTo("READ");
+        assertThat(log.get("SdkCalls").asInt()).isEqualTo(1);
+        assertThat(log.get("SdkAttempts").asInt()).isEqualTo(3);
+        assertThat(log.get("SdkLatency").asDouble()).isEqualTo(25.0);
+        assertThat(log.get("DescribeCacheHit").asInt()).isEqualTo(1);
+        assertThat(log.get("DescribeCacheMiss").asInt()).isEqualTo(1);
+        assertThat(log.get("RequestPayloadSize").asInt()).isEqualTo("{\"Name\":\"job\"}".length());
+        assertThat(log.get("ResponsePayloadSize").asInt()).isEqualTo("{\"Name\":\"job\"}".length());
+        assertThat(log.get("Fault").asInt()).isEqualTo(0);
+        assertThat(log.get("Status").asText()).isEqualTo("SUCCESS");
+        assertThat(log.get("HttpStatusCode").asInt()).isEqualTo(200);
+        assertThat(log.has("ErrorCode")).isFalse();
+    }
+
+    @Test
+    public void record_PayloadNotSampled() throws IOException {
+        final Logger logger = mock(Logger.class);
+
+        HandlerMetrics.record("AWS::DataBrew::Job", "LIST", request(), logger,
+                () -> ProgressEvent.<Map<String, String>, Void>builder()
+                        .resourceModels(Collections.singletonList(Collections.singletonMap("Name", "job")))
+                        .status(OperationStatus.SUCCESS)
+                        .build(), false);
+
+        final JsonNode log = logged(logger);
+        assertThat(log.get("_aws").get("CloudWatchMetrics").get(0).get("Metrics").size()).isEqualTo(12);
+        assertThat(log.has("RequestPayloadSize")).isFalse();
+        assertThat(log.has("ResponsePayloadSize")).isFalse();
+        assertThat(log.get("Status").asText()).isEqualTo("SUCCESS");
+    }
+
+    @Test
+    public void record_Failure() throws IOException {
+        final Logger logger = mock(Logger.class);
+
+        HandlerMetrics.record("AWS::DataBrew::Job", "CREATE", request(), logger,
+                () -> ProgressEvent.<Map<String, String>, Void>failed(null, null, HandlerErrorCode.Throttling, "slow down"));
+
+        final JsonNode log = logged(logger);
+        assertThat(log.get("Status").asText()).isEqualTo("FAILED");
+        assertThat(log.get("ErrorCode").asText()).isEqualTo("Throttling");
+        assertThat(log.get("Fault").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void record_Exception() throws IOException {
+        final Logger logger = mock(Logger.class);
+        final HandlerMetrics.SdkCallPublisher publisher = new HandlerMetrics.SdkCallPublisher();
+
+        assertThatThrownBy(() -> HandlerMetrics.<Map<String, String>, Void>record("AWS::DataBrew::Job", "DELETE", request(), logger, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        final JsonNode log = logged(logger);
+        assertThat(log.get("Status").asText()).isEqualTo("EXCEPTION");
+        assertThat(log.has("ResponsePayloadSize")).isFalse();
+
+        // calls and translations outside of an invocation are ignored
+        publisher.publish(call(0, 200));
+        assertThat(HandlerMetrics.translate(() -> "model")).isEqualTo("model");
+    }
+
+    private static ResourceHandlerRequest<Map<String, String>> request() {
+        return ResourceHandlerRequest.<Map<String, String>>builder()
+                .desiredResourceState(Collections.singletonMap("Name", "job"))
+                .build();
+    }
+
+    private static MetricCollection call(final int retries, final int statusCode) {
+        final MetricCollector call = MetricCollector.create("ApiCall");
+        call.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(25));
+        call.reportMetric(CoreMetric.RETRY_COUNT, retries);
+        for (int attempt = 0; attempt <= retries; attempt++) {
+            call.createChild("ApiCallAttempt").reportMetric(HttpMetric.HTTP_STATUS_CODE, attempt < retries ? 429 : statusCode);
+        }
+        return call.collect();
+    }
+
+    private static JsonNode logged(final Logger logger) throws IOException {
+        final ArgumentCaptor<String> line = ArgumentCaptor.forClass(String.class);
+        verify(logger).log(line.capture());
+        return MAPPER.readTree(line.getValue());
+    }
+}
@@ -0,0 +1,45 @@
+package software.amazon.databrew.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class HandlersTest {
+
+    @Test
+    public void run_RecordsMetrics() throws IOException {
+        final Logger logger = mock(Logger.class);
+        final ResourceHandlerRequest<String> request = ResourceHandlerRequest.<String>builder()
+                .desiredResourceState("model")
+                .build();
+
+        final ProgressEvent<String, TracingTest.Context> event = Handlers.run("AWS::DataBrew::Job", "READ", request, null, logger,
+                () -> ProgressEvent.<String, TracingTest.Context>builder()
+                        .resourceModel("model")
+                        .status(OperationStatus.SUCCESS)
+                        .build());
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<String> lines = ArgumentCaptor.forClass(String.class);
+        verify(logger, atLeastOnce()).log(lines.capture());
+        // the metrics line, the trace is logged as well with DATABREW_TRACING=log
+        final JsonNode metrics = new ObjectMapper().readTree(lines.getAllValues().stream()
+                .filter(line -> line.contains("\"_aws\""))
+                .findFirst()
+                .orElse("{}"));
+        assertThat(metrics.get("Action").asText()).isEqualTo("READ");
+        assertThat(metrics.get("Status").asText()).isEqualTo("SUCCESS");
+    }
+}
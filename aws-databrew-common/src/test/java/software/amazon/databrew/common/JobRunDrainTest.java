@@ -0,0 +1,50 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.databrew.model.JobRunState;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JobRunDrainTest {
+
+    @Test
+    public void parse_OptIn() {
+        assertThat(JobRunDrain.parse(null, null).isEnabled()).isFalse();
+        assertThat(JobRunDrain.parse("false", "4").isEnabled()).isFalse();
+        assertThat(JobRunDrain.parse(" TRUE ", null).isEnabled()).isTrue();
+        assertThatThrownBy(() -> JobRunDrain.parse("true", "0")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void runStates() {
+        assertThat(JobRunDrain.isActive(JobRunState.RUNNING)).isTrue();
+        assertThat(JobRunDrain.isActive(JobRunState.STOPPING)).isTrue();
+        assertThat(JobRunDrain.isActive(JobRunState.SUCCEEDED)).isFalse();
+        assertThat(JobRunDrain.isStoppable(JobRunState.STARTING)).isTrue();
+        assertThat(JobRunDrain.isStoppable(JobRunState.STOPPING)).isFalse();
+        assertThat(JobRunDrain.isStoppable(JobRunState.FAILED)).isFalse();
+    }
+
+    @Test
+    public void stopAll_StopsEveryRun() {
+        final Set<String> stopped = ConcurrentHashMap.newKeySet();
+
+        new JobRunDrain(true, 3).stopAll(Arrays.asList("r1", "r2", "r3", "r4", "r5"), stopped::add);
+
+        assertThat(stopped).containsOnly("r1", "r2", "r3", "r4", "r5");
+    }
+
+    @Test
+    public void stopAll_RethrowsFailure() {
+        assertThatThrownBy(() -> new JobRunDrain(true, 2).stopAll(Arrays.asList("r1", "r2"), run -> {
+            if ("r2".equals(run)) {
+                throw new IllegalStateException("rejected");
+            }
+        })).isInstanceOf(IllegalStateException.class).hasMessage("rejected");
+    }
+}
@@ -0,0 +1,120 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ListPagingTest {
+
+    // page token -> next token, null marks the last page
+    private static final Map<String, String> NEXT_TOKENS = new HashMap<>();
+
+    static {
+        NEXT_TOKENS.put(null, "t1");
+        NEXT_TOKENS.put("t1", "t2");
+        NEXT_TOKENS.put("t2", "t3");
+        NEXT_TOKENS.put("t3", null);
+    }
+
+    @Test
+    public void parse_Defaults() {
+        final ListPaging paging = ListPaging.parse("Job", null, null, null, null, null);
+
+        assertThat(paging.getMode()).isEqualTo(ListPaging.Mode.SINGLE_PAGE);
+        assertThat(paging.getPageSize()).isEqualTo(ListPaging.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    public void parse_PageSizePerResourceType() {
+        assertThat(ListPaging.parse("Job", "prefetch", "50", "Job=20, Dataset=100", null, null).getPageSize()).isEqualTo(20);
+        assertThat(ListPaging.parse("Recipe", "prefetch", "50", "Job=20, Dataset=100", null, null).getPageSize()).isEqualTo(50);
+        assertThat(ListPaging.parse("Job", "prefetch", null, null, null, null).getMode()).isEqualTo(ListPaging.Mode.PREFETCH);
+    }
+
+    @Test
+    public void parse_InvalidValues() {
+        assertThatThrownBy(() -> ListPaging.parse("Job", "ALL", null, null, null, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ListPaging.parse("Job", null, "101", null, null, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ListPaging.parse("Job", null, null, "Job", null, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ListPaging.parse("Job", null, null, "Job=0", null, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ListPaging.parse("Job", null, null, null, "x", null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void fetch_SinglePage_ReturnsServiceToken() {
+        final ListPaging paging = new ListPaging(ListPaging.Mode.SINGLE_PAGE, 100, 10, 1000L, System::nanoTime);
+        final List<String> requested = new ArrayList<>();
+
+        final ListPaging.Pages<String> pages = paging.fetch("t1", fetcher(requested), Function.identity());
+
+        assertThat(requested).containsExactly("t1");
+        assertThat(pages.getPages()).containsExactly("t2");
+        assertThat(pages.getNextToken()).isEqualTo("t2");
+    }
+
+    @Test
+    public void fetch_Prefetch_UntilLastPage() {
+        final ListPaging paging = new ListPaging(ListPaging.Mode.PREFETCH, 100, 10, 1000L, System::nanoTime);
+        final List<String> requested = new ArrayList<>();
+
+        final ListPaging.Pages<String> pages = paging.fetch(null, fetcher(requested), Function.identity());
+
+        assertThat(requested).containsExactly(null, "t1", "t2", "t3");
+        assertThat(pages.getPages()).hasSize(4);
+        assertThat(pages.getNextToken()).isNull();
+    }
+
+    @Test
+    public void fetch_Prefetch_StopsAtMaxPages() {
+        final ListPaging paging = new ListPaging(ListPaging.Mode.PREFETCH, 100, 2, 1000L, System::nanoTime);
+        final List<String> requested = new ArrayList<>();
+
+        final ListPaging.Pages<String> pages = paging.fetch(null, fetcher(requested), Function.identity());
+
+        assertThat(requested).containsExactly(null, "t1");
+        assertThat(pages.getNextToken()).isEqualTo("t2");
+    }
+
+    @Test
+    public void fetch_Prefetch_StopsWhenBudgetIsSpent() {
+        final AtomicLong now = new AtomicLong();
+        final ListPaging paging = new ListPaging(ListPaging.Mode.PREFETCH, 100, 10, 1000L, now::get);
+        final List<String> requested = new ArrayList<>();
+
+        final ListPaging.Pages<String> pages = paging.fetch(null, token -> {
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(600L));
+            return fetcher(requested).apply(token);
+        }, Function.identity());
+
+        assertThat(requested).containsExactly(null, "t1");
+        assertThat(pages.getNextToken()).isEqualTo("t2");
+    }
+
+    @Test
+    public void fetch_EmptyTokenEndsListing() {
+        final ListPaging paging = new ListPaging(ListPaging.Mode.PREFETCH, 100, 10, 1000L, System::nanoTime);
+
+        final ListPaging.Pages<String> pages = paging.fetch(null, token -> "", Function.identity());
+
+        assertThat(pages.getPages()).isEqualTo(Arrays.asList(""));
+        assertThat(pages.getNextToken()).isNull();
+    }
+
+    // each page is represented by its next token
+    private static Function<String, String> fetcher(final List<String> requested) {
+        return token -> {
+            requested.add(token);
+            return NEXT_TOKENS.get(token);
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModelDiffTest {
+
+    private static final ModelDiff<Model> DIFF = new ModelDiff<Model>()
+            .property("Description", Model::getDescription)
+            .property("Steps", Model::getSteps);
+
+    @Test
+    public void changedProperties_NoPreviousState() {
+        assertThat(DIFF.changedProperties(null, new Model("a", null))).containsExactly("Description", "Steps");
+    }
+
+    @Test
+    public void changedProperties_Unchanged() {
+        final Model previous = new Model("a", Arrays.asList("x", "y"));
+        final Model desired = new Model("a", Arrays.asList("x", "y"));
+
+        assertThat(DIFF.changedProperties(previous, desired)).isEmpty();
+        assertThat(DIFF.hasChanges(previous, desired)).isFalse();
+    }
+
+    @Test
+    public void changedProperties_Changed() {
+        final Model previous = new Model("a", Arrays.asList("x", "y"));
+
+        assertThat(DIFF.changedProperties(previous, new Model("b", Arrays.asList("x", "y")))).containsExactly("Description");
+        assertThat(DIFF.changedProperties(previous, new Model("a", Arrays.asList("y", "x")))).containsExactly("Steps");
+        assertThat(DIFF.changedProperties(previous, new Model(null, null))).containsExactly("Description", "Steps");
+    }
+
+    @Test
+    public void changedProperties_MissingEqualsEmpty() {
+        assertThat(DIFF.hasChanges(new Model("a", null), new Model("a", Collections.emptyList()))).isFalse();
+        assertThat(ModelDiff.isEqual(null, Collections.emptyMap())).isTrue();
+    }
+
+    private static final class Model {
+        private final String description;
+        private final List<String> steps;
+
+        Model(final String description, final List<String> steps) {
+            this.description = description;
+            this.steps = steps;
+        }
+
+        String getDescription() {
+            return description;
+        }
+
+        List<String> getSteps() {
+            return steps;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.databrew.model.DescribeJobRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OperationTimeoutsTest {
+
+    @Test
+    public void parse_Defaults() {
+        final OperationTimeouts timeouts = OperationTimeouts.parse(null, null);
+
+        assertThat(timeouts.getDefaultTimeout()).isEqualTo(OperationTimeouts.DEFAULT_API_CALL_ATTEMPT_TIMEOUT);
+        assertThat(timeouts.hasOperationTimeouts()).isFalse();
+        assertThat(timeouts.forOperation("DescribeJob")).isEmpty();
+    }
+
+    @Test
+    public void parse_OperationTimeouts() {
+        final OperationTimeouts timeouts = OperationTimeouts.parse("20", " DescribeJob=10, ListJobs = 15,");
+
+        assertThat(timeouts.getDefaultTimeout()).isEqualTo(Duration.ofSeconds(20));
+        assertThat(timeouts.hasOperationTimeouts()).isTrue();
+        assertThat(timeouts.forOperation("DescribeJob")).contains(Duration.ofSeconds(10));
+        assertThat(timeouts.forOperation("ListJobs")).contains(Duration.ofSeconds(15));
+        assertThat(timeouts.forOperation("CreateRecipeJob")).isEmpty();
+    }
+
+    @Test
+    public void parse_InvalidValues() {
+        assertThatThrownBy(() -> OperationTimeouts.parse("abc", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OperationTimeouts.parse("0", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OperationTimeouts.parse(null, "DescribeJob")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OperationTimeouts.parse(null, "=10")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OperationTimeouts.parse(null, "DescribeJob=-1")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void apply_KeepsCredentials() {
+        final OperationTimeouts timeouts = OperationTimeouts.parse(null, "DescribeJob=10");
+        final StaticCredentialsProvider credentials = StaticCredentialsProvider.create(AwsBasicCredentials.create("a", "b"));
+        final DescribeJobRequest request = DescribeJobRequest.builder()
+                .name("job")
+                .overrideConfiguration(AwsRequestOverrideConfiguration.builder().credentialsProvider(credentials).build())
+                .build();
+
+        final DescribeJobRequest result = timeouts.apply("DescribeJob", request);
+
+        assertThat(result.name()).isEqualTo("job");
+        assertThat(result.overrideConfiguration().get().credentialsProvider()).contains(credentials);
+        assertThat(result.overrideConfiguration().get().apiCallAttemptTimeout()).contains(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void apply_RequestTimeoutWins() {
+        final OperationTimeouts timeouts = OperationTimeouts.parse(null, "DescribeJob=10");
+        final DescribeJobRequest request = DescribeJobRequest.builder()
+                .name("job")
+                .overrideConfiguration(AwsRequestOverrideConfiguration.builder().apiCallAttemptTimeout(Duration.ofSeconds(3)).build())
+                .build();
+
+        assertThat(timeouts.apply("DescribeJob", request)).isSameAs(request);
+        assertThat(timeouts.apply("ListJobs", request)).isSameAs(request);
+    }
+}
@@ -0,0 +1,65 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.databrew.model.DataBrewException;
+import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParallelDescriberTest {
+
+    @Test
+    public void parse_EnabledPerResourceType() {
+        assertThat(ParallelDescriber.parse("Job", null, null).isEnabled()).isFalse();
+        assertThat(ParallelDescriber.parse("Job", "job, Ruleset", null).isEnabled()).isTrue();
+        assertThat(ParallelDescriber.parse("Dataset", "Job,Ruleset", "4").isEnabled()).isFalse();
+        assertThat(ParallelDescriber.parse("Job", "Job", "4").getLimit().getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void parse_InvalidConcurrency() {
+        assertThatThrownBy(() -> ParallelDescriber.parse("Job", "Job", "x")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelDescriber.parse("Job", "Job", "0")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void describeAll_KeepsOrder() {
+        final ParallelDescriber describer = new ParallelDescriber(true, 4);
+
+        final List<String> results = describer.describeAll(Arrays.asList("a", "b", "c", "d", "e"), String::toUpperCase);
+
+        assertThat(results).containsExactly("A", "B", "C", "D", "E");
+        assertThat(describer.getLimit().getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void describeAll_RetriesThrottledCalls() {
+        final ParallelDescriber describer = new ParallelDescriber(true, 4);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final List<String> results = describer.describeAll(Arrays.asList("a", "b"), item -> {
+            if ("a".equals(item) && calls.incrementAndGet() < 3) {
+                throw DataBrewException.builder().statusCode(429).message("Rate exceeded").build();
+            }
+            return item.toUpperCase();
+        });
+
+        assertThat(results).containsExactly("A", "B");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(describer.getLimit().getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void describeAll_RethrowsOtherFailures() {
+        final ParallelDescriber describer = new ParallelDescriber(true, 2);
+
+        assertThatThrownBy(() -> describer.describeAll(Arrays.asList("a", "b"), item -> {
+            throw ResourceNotFoundException.builder().message(item).build();
+        })).isInstanceOf(ResourceNotFoundException.class);
+    }
+}
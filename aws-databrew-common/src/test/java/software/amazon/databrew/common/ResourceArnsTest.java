@@ -0,0 +1,32 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceArnsTest {
+
+    @Test
+    public void of_DefaultPartition() {
+        final ResourceHandlerRequest<Object> request = ResourceHandlerRequest.<Object>builder()
+                .region("eu-west-1")
+                .awsAccountId("123456789012")
+                .build();
+
+        assertThat(ResourceArns.of(request, "dataset", "sales"))
+                .isEqualTo("arn:aws:databrew:eu-west-1:123456789012:dataset/sales");
+    }
+
+    @Test
+    public void of_RequestPartition() {
+        final ResourceHandlerRequest<Object> request = ResourceHandlerRequest.<Object>builder()
+                .awsPartition("aws-cn")
+                .region("cn-north-1")
+                .awsAccountId("123456789012")
+                .build();
+
+        assertThat(ResourceArns.of(request, "job", "daily"))
+                .isEqualTo("arn:aws-cn:databrew:cn-north-1:123456789012:job/daily");
+    }
+}
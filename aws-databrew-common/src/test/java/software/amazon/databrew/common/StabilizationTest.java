@@ -0,0 +1,117 @@
+package software.amazon.databrew.common;
+
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.databrew.model.DataBrewException;
+import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.databrew.model.ValidationException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class StabilizationTest {
+
+    @Test
+    public void callbackDelaySeconds_BacksOffUpToMaximum() {
+        assertThat(Stabilization.callbackDelaySeconds(0)).isEqualTo(2);
+        assertThat(Stabilization.callbackDelaySeconds(1)).isEqualTo(2);
+        assertThat(Stabilization.callbackDelaySeconds(2)).isEqualTo(4);
+        assertThat(Stabilization.callbackDelaySeconds(4)).isEqualTo(16);
+        assertThat(Stabilization.callbackDelaySeconds(5)).isEqualTo(30);
+        assertThat(Stabilization.callbackDelaySeconds(100)).isEqualTo(30);
+    }
+
+    @Test
+    public void isExhausted() {
+        assertThat(Stabilization.isExhausted(1, 0L, 1000L)).isFalse();
+        assertThat(Stabilization.isExhausted(Stabilization.MAX_ATTEMPTS, 0L, 1000L)).isTrue();
+        assertThat(Stabilization.isExhausted(1, 0L, Stabilization.TIMEOUT_MILLIS)).isTrue();
+    }
+
+    @Test
+    public void awaitReadable_Readable() {
+        final Context context = new Context();
+
+        final ProgressEvent<String, Context> event = Stabilization.awaitReadable(() -> { }, "model", context, log("CREATE"), () -> 0L);
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(event.getResourceModel()).isEqualTo("model");
+        assertThat(context.getStabilizationAttempts()).isEqualTo(1);
+        assertThat(context.getLastObservedState()).isEqualTo(Stabilization.READABLE);
+    }
+
+    @Test
+    public void awaitReadable_NotFoundWaits() {
+        final Context context = new Context();
+
+        final ProgressEvent<String, Context> event = Stabilization.awaitReadable(() -> {
+            throw ResourceNotFoundException.builder().build();
+        }, "model", context, log("CREATE"), () -> 0L);
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(event.getCallbackDelaySeconds()).isEqualTo(2);
+        assertThat(context.getLastObservedState()).isEqualTo(Stabilization.NOT_FOUND);
+    }
+
+    @Test
+    public void awaitDeleted_NotFound() {
+        final Context context = new Context();
+
+        final ProgressEvent<String, Context> event = Stabilization.awaitDeleted(() -> {
+            throw ResourceNotFoundException.builder().build();
+        }, "model", context, log("DELETE"), () -> 0L);
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(event.getResourceModel()).isNull();
+    }
+
+    @Test
+    public void awaitDeleted_ThrottledWaits() {
+        final Context context = new Context();
+
+        final ProgressEvent<String, Context> event = Stabilization.awaitDeleted(() -> {
+            throw DataBrewException.builder().statusCode(429).build();
+        }, "model", context, log("DELETE"), () -> 0L);
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(context.getLastObservedState()).isEqualTo(Stabilization.THROTTLED);
+    }
+
+    @Test
+    public void awaitDeleted_Failed() {
+        final ProgressEvent<String, Context> event = Stabilization.awaitDeleted(() -> {
+            throw ValidationException.builder().message("invalid").build();
+        }, "model", new Context(), log("DELETE"), () -> 0L);
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(event.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+    }
+
+    @Test
+    public void awaitDeleted_Exhausted() {
+        final Context context = new Context();
+        context.setStabilizationAttempts(Stabilization.MAX_ATTEMPTS - 1);
+
+        final ProgressEvent<String, Context> event = Stabilization.awaitDeleted(() -> { }, "model", context, log("DELETE"), () -> 0L);
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(event.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+        assertThat(event.getMessage()).isEqualTo(String.format(
+                "AWS::DataBrew::Job [job-name] still exists after %d attempts, last observed state READABLE", Stabilization.MAX_ATTEMPTS));
+    }
+
+    private static HandlerLog log(final String action) {
+        return new HandlerLog(mock(Logger.class), "AWS::DataBrew::Job", action, "job-name", true);
+    }
+
+    @Data
+    private static class Context implements Stabilization.Context {
+        private int stabilizationAttempts;
+        private long stabilizationStartTime;
+        private String lastObservedState;
+    }
+}
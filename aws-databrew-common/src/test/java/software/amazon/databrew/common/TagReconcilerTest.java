@@ -0,0 +1,91 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.services.databrew.DataBrewClient;
+import software.amazon.awssdk.services.databrew.model.TagResourceRequest;
+import software.amazon.awssdk.services.databrew.model.UntagResourceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class TagReconcilerTest {
+
+    @Test
+    public void diff_AddedChangedAndRemoved() {
+        final TagReconciler.Changes changes = diff(
+                tags(tag("kept", "v"), tag("changed", "old"), tag("removed", "v")),
+                tags(tag("kept", "v"), tag("changed", "new"), tag("added", "v")));
+
+        assertThat(changes.getTagsToAdd()).containsOnly(entry("changed", "new"), entry("added", "v"));
+        assertThat(changes.getKeysToRemove()).containsExactly("removed");
+        assertThat(changes.isEmpty()).isFalse();
+    }
+
+    @Test
+    public void diff_Unchanged() {
+        assertThat(diff(tags(tag("a", "1"), tag("b", "2")), tags(tag("b", "2"), tag("a", "1"))).isEmpty()).isTrue();
+        assertThat(diff(null, Collections.emptyList()).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void diff_NoPreviousState() {
+        final TagReconciler.Changes changes = diff(null, tags(tag("a", "1")));
+
+        assertThat(changes.getTagsToAdd()).containsOnly(entry("a", "1"));
+        assertThat(changes.getKeysToRemove()).isEmpty();
+    }
+
+    @Test
+    public void reconcile_OneCallPerOperation() {
+        final AmazonWebServicesClientProxy proxy = mock(AmazonWebServicesClientProxy.class);
+        final TagReconciler.Changes changes = diff(tags(tag("a", "1"), tag("b", "2"), tag("c", "3")),
+                tags(tag("d", "4"), tag("e", "5")));
+
+        TagReconciler.reconcile(proxy, mock(DataBrewClient.class), "arn:aws:databrew:us-east-1:123456789012:job/job", changes);
+
+        final ArgumentCaptor<AwsRequest> requests = ArgumentCaptor.forClass(AwsRequest.class);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(requests.capture(), any());
+        final TagResourceRequest tagResourceRequest = (TagResourceRequest) requests.getAllValues().get(0);
+        assertThat(tagResourceRequest.resourceArn()).isEqualTo("arn:aws:databrew:us-east-1:123456789012:job/job");
+        assertThat(tagResourceRequest.tags()).containsOnlyKeys("d", "e");
+        final UntagResourceRequest untagResourceRequest = (UntagResourceRequest) requests.getAllValues().get(1);
+        assertThat(untagResourceRequest.tagKeys()).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    public void reconcile_NothingToDo() {
+        final AmazonWebServicesClientProxy proxy = mock(AmazonWebServicesClientProxy.class);
+
+        TagReconciler.reconcile(proxy, mock(DataBrewClient.class), "arn", diff(tags(tag("a", "1")), tags(tag("a", "1"))));
+
+        verifyNoInteractions(proxy);
+    }
+
+    private static TagReconciler.Changes diff(final List<Map.Entry<String, String>> previous,
+                                              final List<Map.Entry<String, String>> desired) {
+        return TagReconciler.diff(previous, desired, Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    @SafeVarargs
+    private static List<Map.Entry<String, String>> tags(final Map.Entry<String, String>... tags) {
+        return Arrays.asList(tags);
+    }
+
+    private static Map.Entry<String, String> tag(final String key, final String value) {
+        return new SimpleEntry<>(key, value);
+    }
+}
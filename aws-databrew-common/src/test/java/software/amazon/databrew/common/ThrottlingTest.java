@@ -0,0 +1,31 @@
+package software.amazon.databrew.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.databrew.model.DataBrewException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ThrottlingTest {
+
+    @Test
+    public void isThrottling_StatusCode() {
+        assertThat(Throttling.isThrottling(DataBrewException.builder().statusCode(429).build())).isTrue();
+        assertThat(Throttling.isThrottling(DataBrewException.builder().statusCode(500).build())).isFalse();
+    }
+
+    @Test
+    public void isThrottling_Cause() {
+        assertThat(Throttling.isThrottling(new IllegalStateException(DataBrewException.builder().statusCode(429).build()))).isTrue();
+        assertThat(Throttling.isThrottling(new IllegalStateException())).isFalse();
+        assertThat(Throttling.isThrottling(null)).isFalse();
+    }
+
+    @Test
+    public void errorCode() {
+        assertThat(Throttling.errorCode(DataBrewException.builder().statusCode(429).build(), HandlerErrorCode.ServiceInternalError))
+                .isEqualTo(HandlerErrorCode.Throttling);
+        assertThat(Throttling.errorCode(DataBrewException.builder().statusCode(500).build(), HandlerErrorCode.ServiceInternalError))
+                .isEqualTo(HandlerErrorCode.ServiceInternalError);
+    }
+}
@@ -0,0 +1,117 @@
+package software.amazon.databrew.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class TracingTest {
+
+    @Test
+    public void settings() {
+        assertThat(Tracing.Exporter.parse(null)).isEqualTo(Tracing.Exporter.NONE);
+        assertThat(Tracing.Exporter.parse(" Log ")).isEqualTo(Tracing.Exporter.LOG);
+        assertThatThrownBy(() -> Tracing.Exporter.parse("xray")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(Tracing.endpoint(null)).isEqualTo("http://localhost:4318/v1/traces");
+        assertThat(Tracing.endpoint("http://collector:4318/")).isEqualTo("http://collector:4318/v1/traces");
+    }
+
+    @Test
+    public void invocation_Disabled() {
+        final Logger logger = mock(Logger.class);
+        final Context context = new Context();
+
+        Tracing.invocation("AWS::DataBrew::Job", "CREATE", null, logger,
+                () -> ProgressEvent.defaultInProgressHandler(context, 2, "model"), Tracing.Exporter.NONE);
+
+        assertThat(context.getTraceParent()).isNull();
+        verify(logger, never()).log(anyString());
+    }
+
+    @Test
+    public void invocations_ShareOneTrace() throws IOException {
+        final Logger first = mock(Logger.class);
+        final Context context = new Context();
+
+        Tracing.invocation("AWS::DataBrew::Job", "CREATE", null, first, () -> {
+            assertThat(Tracing.span("ValidateInput", () -> true)).isTrue();
+            HandlerMetrics.translate(() -> "request");
+            return ProgressEvent.defaultInProgressHandler(context, 2, "model");
+        }, Tracing.Exporter.LOG);
+
+        final JsonNode firstSpans = spans(first);
+        final String traceId = firstSpans.get(0).get("traceId").asText();
+        final String rootSpanId = firstSpans.get(0).get("spanId").asText();
+        assertThat(traceId).matches("[0-9a-f]{32}");
+        assertThat(firstSpans.get(0).get("name").asText()).isEqualTo("AWS::DataBrew::Job CREATE");
+        assertThat(firstSpans.get(0).has("parentSpanId")).isFalse();
+        assertThat(firstSpans.get(1).get("name").asText()).isEqualTo("ValidateInput");
+        assertThat(firstSpans.get(1).get("parentSpanId").asText()).isEqualTo(rootSpanId);
+        assertThat(firstSpans.get(2).get("name").asText()).isEqualTo("ModelHelper.translate");
+        assertThat(context.getTraceParent()).isEqualTo(String.format("00-%s-%s-01", traceId, rootSpanId));
+
+        final Logger second = mock(Logger.class);
+        Tracing.invocation("AWS::DataBrew::Job", "CREATE", context, second, () -> Tracing.span("Stabilize", () -> {
+            Tracing.attribute("databrew.stabilization_attempt", 2);
+            return ProgressEvent.<String, Context>failed("model", null, HandlerErrorCode.NotStabilized, "not readable");
+        }), Tracing.Exporter.LOG);
+
+        final JsonNode secondSpans = spans(second);
+        assertThat(secondSpans.get(0).get("traceId").asText()).isEqualTo(traceId);
+        assertThat(secondSpans.get(0).get("parentSpanId").asText()).isEqualTo(rootSpanId);
+        assertThat(secondSpans.get(0).get("status").get("code").asInt()).isEqualTo(2);
+        assertThat(secondSpans.get(1).get("attributes").get(0).get("value").get("intValue").asText()).isEqualTo("2");
+        assertThat(context.getTraceParent()).isEqualTo(String.format("00-%s-%s-01", traceId, rootSpanId));
+    }
+
+    @Test
+    public void trace_CapsSpans() throws IOException {
+        final Tracing.Trace trace = new Tracing.Trace("AWS::DataBrew::Job", "not a traceparent");
+        final Tracing.Span root = trace.start("root", null, System.nanoTime());
+        for (int i = 0; i < Tracing.MAX_SPANS + 10; i++) {
+            trace.start("child", null, System.nanoTime()).endNanos = System.nanoTime();
+        }
+        root.endNanos = System.nanoTime();
+
+        final JsonNode spans = new ObjectMapper().readTree(trace.toOtlpJson())
+                .get("resourceSpans").get(0).get("scopeSpans").get(0).get("spans");
+        assertThat(spans.size()).isEqualTo(Tracing.MAX_SPANS);
+        assertThat(spans.get(1).get("parentSpanId").asText()).isEqualTo(root.spanId);
+        assertThat(spans.get(0).get("attributes").get(0).get("key").asText()).isEqualTo("databrew.dropped_spans");
+    }
+
+    private static JsonNode spans(final Logger logger) throws IOException {
+        final ArgumentCaptor<String> line = ArgumentCaptor.forClass(String.class);
+        verify(logger).log(line.capture());
+        final JsonNode document = new ObjectMapper().readTree(line.getValue());
+        assertThat(document.get("resourceSpans").get(0).get("resource").get("attributes").get(0).get("key").asText())
+                .isEqualTo("service.name");
+        return document.get("resourceSpans").get(0).get("scopeSpans").get(0).get("spans");
+    }
+
+    static final class Context implements Tracing.TraceContext {
+        private String traceParent;
+
+        @Override
+        public String getTraceParent() {
+            return traceParent;
+        }
+
+        @Override
+        public void setTraceParent(final String traceParent) {
+            this.traceParent = traceParent;
+        }
+    }
+}
@@ -1,12 +1,24 @@
 package software.amazon.databrew.dataset;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import software.amazon.databrew.common.Stabilization;
+import software.amazon.databrew.common.Tracing;
 
 @Data
 @NoArgsConstructor
+@AllArgsConstructor
 @Builder
-public class CallbackContext {
-
+public class CallbackContext implements Tracing.TraceContext, Stabilization.Context {
+    // the create call succeeded, later invocations only wait for the dataset to become readable
+    private boolean created;
+    private int stabilizationAttempts;
+    private long stabilizationStartTime;
+    private String lastObservedState;
+    // the delete call succeeded, later invocations only wait for the dataset to disappear
+    private boolean deleted;
+    // W3C traceparent of the first invocation, links all invocations of the operation into one trace
+    private String traceParent;
 }
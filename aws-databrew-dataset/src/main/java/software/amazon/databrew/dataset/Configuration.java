@@ -2,6 +2,11 @@ package software.amazon.databrew.dataset;
 
 class Configuration extends BaseConfiguration {
 
+    static {
+        // the wrapper creates the configuration during Lambda init, warm the client up while we are there
+        ClientBuilder.warmUp();
+    }
+
     public Configuration() {
         super("aws-databrew-dataset.json");
     }
@@ -1,18 +1,20 @@
 package software.amazon.databrew.dataset;
 
 import software.amazon.awssdk.services.databrew.DataBrewClient;
-import software.amazon.awssdk.services.databrew.model.AccessDeniedException;
-import software.amazon.awssdk.services.databrew.model.ConflictException;
 import software.amazon.awssdk.services.databrew.model.CreateDatasetRequest;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
-import software.amazon.awssdk.services.databrew.model.ServiceQuotaExceededException;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
+import software.amazon.awssdk.services.databrew.model.DescribeDatasetRequest;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
-import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.Stabilization;
+import software.amazon.databrew.common.Tracing;
 
 import java.util.ArrayList;
 
@@ -24,43 +26,66 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "CREATE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "CREATE", model.getName());
+        final DataBrewClient databrewClient = ClientBuilder.getClient();
+        final CallbackContext context = callbackContext == null ? new CallbackContext() : callbackContext;
+
+        if (context.isCreated()) {
+            model.setTags(model.getTags() == null ? new ArrayList<>() : model.getTags());
+            return Tracing.span("Stabilize", () -> stabilize(proxy, request, databrewClient, model, context, log));
+        }
 
         final String datasetName = model.getName();
-        final DataBrewClient databrewClient = ClientBuilder.getClient();
-        final CreateDatasetRequest createDatasetRequest = CreateDatasetRequest.builder()
+        final CreateDatasetRequest createDatasetRequest = HandlerMetrics.translate(() -> CreateDatasetRequest.builder()
                 .name(datasetName)
                 .format(model.getFormat())
                 .formatOptions(ModelHelper.buildRequestFormatOptions(model.getFormatOptions()))
                 .pathOptions(ModelHelper.buildRequestPathOptions(model.getPathOptions()))
                 .input(ModelHelper.buildRequestInput(model.getInput()))
                 .tags(ModelHelper.buildMapFromList(model.getTags(), tag -> tag.getKey(), tag -> tag.getValue()))
-                .build();
+                .build());
 
         try {
             proxy.injectCredentialsAndInvokeV2(createDatasetRequest, databrewClient::createDataset);
             model.setTags(model.getTags() == null ? new ArrayList<>() : model.getTags());
-            logger.log(String.format("%s [%s] Created Successfully", ResourceModel.TYPE_NAME, datasetName));
-        } catch (AccessDeniedException ex) {
-            logger.log(String.format("%s [%s] Access Denied", ResourceModel.TYPE_NAME, datasetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.AccessDenied);
-        } catch (ConflictException ex) {
-            logger.log(String.format("%s [%s] Already Exists", ResourceModel.TYPE_NAME, datasetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.AlreadyExists);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, datasetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
-        } catch (ServiceQuotaExceededException ex) {
-            logger.log(String.format("%s [%s] Limit Exceeded", ResourceModel.TYPE_NAME, datasetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceLimitExceeded);
+            log.success("Created");
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Created Failed", ResourceModel.TYPE_NAME, datasetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("CreateFailed", ex);
+            return DataBrewErrors.failure("CREATE", ex);
         }
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModel(model)
-                .status(OperationStatus.SUCCESS)
+
+        context.setCreated(true);
+        context.setStabilizationStartTime(System.currentTimeMillis());
+        return Tracing.span("Stabilize", () -> stabilize(proxy, request, databrewClient, model, context, log));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> stabilize(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final DataBrewClient databrewClient,
+        final ResourceModel model,
+        final CallbackContext context,
+        final HandlerLog log) {
+
+        final String datasetName = model.getName();
+        final DescribeDatasetRequest describeDatasetRequest = DescribeDatasetRequest.builder()
+                .name(datasetName)
                 .build();
+        // the READ that usually follows a CREATE can use this response
+        return Stabilization.awaitReadable(
+                () -> DescribeCache.shared().put(DescribeCache.key(request, "dataset", datasetName),
+                        proxy.injectCredentialsAndInvokeV2(describeDatasetRequest, databrewClient::describeDataset)),
+                model, context, log, System::currentTimeMillis);
     }
 }
@@ -9,14 +9,18 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.ListPaging;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
 
-    private static final int MAX_RESULTS = 100;
+    private static final ListPaging PAGING = ListPaging.fromEnvironment("Dataset");
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -24,36 +28,48 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "LIST", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "LIST", null);
         final ResourceModel m = request.getDesiredResourceState();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
 
         final ListDatasetsRequest listDatasetsRequest = ListDatasetsRequest.builder()
-                .maxResults(MAX_RESULTS)
-                .nextToken(request.getNextToken())
+                .maxResults(PAGING.getPageSize())
                 .build();
 
-        final ListDatasetsResponse listDatasetsResponse;
         try {
-            listDatasetsResponse = proxy.injectCredentialsAndInvokeV2(listDatasetsRequest, databrewClient::listDatasets);
-            logger.log(String.format("%s List Successfully", ResourceModel.TYPE_NAME));
+            final ListPaging.Pages<ListDatasetsResponse> pages = PAGING.fetch(request.getNextToken(),
+                    nextToken -> proxy.injectCredentialsAndInvokeV2(listDatasetsRequest.toBuilder().nextToken(nextToken).build(), databrewClient::listDatasets),
+                    ListDatasetsResponse::nextToken);
+            log.success("Listed");
 
             List<ResourceModel> outputModels = new ArrayList<>();
-            if (listDatasetsResponse.datasets() != null) {
-                listDatasetsResponse.datasets().forEach(dataset ->{
-                    ResourceModel outputModel = ModelHelper.constructModel(dataset);
-                    outputModels.add(outputModel);
-                });
-            }
+            pages.getPages().forEach(listDatasetsResponse -> {
+                if (listDatasetsResponse.datasets() != null) {
+                    listDatasetsResponse.datasets().forEach(dataset ->{
+                        ResourceModel outputModel = HandlerMetrics.translate(() -> ModelHelper.constructModel(dataset));
+                        outputModels.add(outputModel);
+                    });
+                }
+            });
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .resourceModels(outputModels)
-                    .nextToken(request.getNextToken())
+                    .nextToken(pages.getNextToken())
                     .status(OperationStatus.SUCCESS)
                     .build();
 
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s List Failed", ResourceModel.TYPE_NAME));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("ListFailed", ex);
+            return DataBrewErrors.failure("LIST", ex);
         }
     }
 }
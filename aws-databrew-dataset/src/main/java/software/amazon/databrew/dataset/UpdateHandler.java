@@ -2,51 +2,92 @@ package software.amazon.databrew.dataset;
 
 import software.amazon.awssdk.services.databrew.DataBrewClient;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
-import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.databrew.model.DescribeDatasetRequest;
 import software.amazon.awssdk.services.databrew.model.UpdateDatasetRequest;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.ModelDiff;
+import software.amazon.databrew.common.ResourceArns;
+import software.amazon.databrew.common.TagReconciler;
 
 public class UpdateHandler extends BaseHandler<CallbackContext> {
 
+    private static final ModelDiff<ResourceModel> UPDATABLE_PROPERTIES = new ModelDiff<ResourceModel>()
+            .property("Format", ResourceModel::getFormat)
+            .property("FormatOptions", ResourceModel::getFormatOptions)
+            .property("PathOptions", ResourceModel::getPathOptions)
+            .property("Input", ResourceModel::getInput);
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "UPDATE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "UPDATE", model.getName());
         final String datasetName = model.getName();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
+        DescribeCache.shared().invalidate(DescribeCache.key(request, "dataset", datasetName));
 
-        final UpdateDatasetRequest updateDatasetRequest = UpdateDatasetRequest.builder()
-                .name(datasetName)
-                .format(model.getFormat())
-                .formatOptions(ModelHelper.buildRequestFormatOptions(model.getFormatOptions()))
-                .pathOptions(ModelHelper.buildRequestPathOptions(model.getPathOptions()))
-                .input(ModelHelper.buildRequestInput(model.getInput()))
-                .build();
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        if (UPDATABLE_PROPERTIES.hasChanges(previousModel, model)) {
+            final UpdateDatasetRequest updateDatasetRequest = HandlerMetrics.translate(() -> UpdateDatasetRequest.builder()
+                    .name(datasetName)
+                    .format(model.getFormat())
+                    .formatOptions(ModelHelper.buildRequestFormatOptions(model.getFormatOptions()))
+                    .pathOptions(ModelHelper.buildRequestPathOptions(model.getPathOptions()))
+                    .input(ModelHelper.buildRequestInput(model.getInput()))
+                    .build());
+
+            try {
+                proxy.injectCredentialsAndInvokeV2(updateDatasetRequest, databrewClient::updateDataset);
+                log.success("Updated");
+            } catch (DataBrewException ex) {
+                log.failure("UpdateFailed", ex);
+                return DataBrewErrors.failure("UPDATE", ex);
+            }
+        } else {
+            log.success("UpdateSkipped");
+        }
 
-        try {
-            proxy.injectCredentialsAndInvokeV2(updateDatasetRequest, databrewClient::updateDataset);
-            logger.log(String.format("%s [%s] Updated Successfully", ResourceModel.TYPE_NAME, datasetName));
-        } catch (ResourceNotFoundException ex) {
-            logger.log(String.format("%s [%s] Does Not Exist", ResourceModel.TYPE_NAME, datasetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, datasetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
-        } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Updated Failed", ResourceModel.TYPE_NAME, datasetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+        final TagReconciler.Changes tagChanges = TagReconciler.diff(previousModel == null ? null : previousModel.getTags(),
+                model.getTags(), Tag::getKey, Tag::getValue);
+        if (!tagChanges.isEmpty()) {
+            try {
+                TagReconciler.reconcile(proxy, databrewClient, ResourceArns.of(request, "dataset", datasetName), tagChanges);
+                log.success("TagsUpdated");
+            } catch (DataBrewException ex) {
+                log.failure("TagsUpdateFailed", ex);
+                return DataBrewErrors.failure("UPDATE", ex);
+            }
         }
 
+        // the READ that usually follows an UPDATE can use this response
+        final DescribeDatasetRequest describeDatasetRequest = DescribeDatasetRequest.builder()
+                .name(datasetName)
+                .build();
+        DescribeCache.shared().refresh(DescribeCache.key(request, "dataset", datasetName),
+                () -> proxy.injectCredentialsAndInvokeV2(describeDatasetRequest, databrewClient::describeDataset));
+
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .resourceModel(model)
                 .status(OperationStatus.SUCCESS)
@@ -1,8 +1,11 @@
 package software.amazon.databrew.dataset;
 
 import software.amazon.awssdk.services.databrew.model.ConflictException;
+import software.amazon.awssdk.services.databrew.model.CreateDatasetRequest;
 import software.amazon.awssdk.services.databrew.model.CreateDatasetResponse;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
+import software.amazon.awssdk.services.databrew.model.DescribeDatasetRequest;
+import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.databrew.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -11,6 +14,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.Stabilization;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +28,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest {
@@ -713,4 +719,82 @@ public class CreateHandlerTest {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_InProgress_NotYetReadable() {
+        final CreateHandler handler = new CreateHandler();
+        doReturn(CreateDatasetResponse.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(CreateDatasetRequest.class), any());
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeDatasetRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .name(TestUtil.DATASET_NAME)
+                        .input(TestUtil.S3_INPUT)
+                        .build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isGreaterThan(0);
+        assertThat(response.getCallbackContext().isCreated()).isTrue();
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(response.getCallbackContext().getLastObservedState()).isEqualTo(Stabilization.NOT_FOUND);
+    }
+
+    @Test
+    public void handleRequest_Stabilized_OnCallback() {
+        final CreateHandler handler = new CreateHandler();
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .created(true)
+                .stabilizationAttempts(1)
+                .stabilizationStartTime(System.currentTimeMillis())
+                .lastObservedState(Stabilization.NOT_FOUND)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .name(TestUtil.DATASET_NAME)
+                        .input(TestUtil.S3_INPUT)
+                        .build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxy).injectCredentialsAndInvokeV2(any(DescribeDatasetRequest.class), any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(CreateDatasetRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_NotStabilized() {
+        final CreateHandler handler = new CreateHandler();
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeDatasetRequest.class), any());
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .created(true)
+                .stabilizationAttempts(1)
+                .stabilizationStartTime(0L)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .name(TestUtil.DATASET_NAME)
+                        .input(TestUtil.S3_INPUT)
+                        .build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+    }
 }
@@ -1,6 +1,10 @@
 package software.amazon.databrew.dataset;
 
+import software.amazon.awssdk.services.databrew.model.ConflictException;
+import software.amazon.awssdk.services.databrew.model.DeleteDatasetRequest;
 import software.amazon.awssdk.services.databrew.model.DeleteDatasetResponse;
+import software.amazon.awssdk.services.databrew.model.DescribeDatasetRequest;
+import software.amazon.awssdk.services.databrew.model.DescribeDatasetResponse;
 import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -21,6 +25,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class DeleteHandlerTest {
@@ -43,7 +49,10 @@ public class DeleteHandlerTest {
         final DeleteDatasetResponse deleteDatasetResponse = DeleteDatasetResponse.builder().build();
         doReturn(deleteDatasetResponse)
                 .when(proxy)
-                .injectCredentialsAndInvokeV2(any(), any());
+                .injectCredentialsAndInvokeV2(any(DeleteDatasetRequest.class), any());
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeDatasetRequest.class), any());
 
         final ResourceModel model = ResourceModel.builder()
                 .name(TestUtil.DATASET_NAME)
@@ -115,4 +124,74 @@ public class DeleteHandlerTest {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
     }
+
+    @Test
+    public void handleRequest_FailedDelete_ConflictException() {
+        doThrow(ConflictException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DeleteDatasetRequest.class), any());
+
+        final DeleteHandler handler = new DeleteHandler();
+        final ResourceModel model = ResourceModel.builder()
+                .name(TestUtil.DATASET_NAME)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ResourceConflict);
+    }
+
+    @Test
+    public void handleRequest_StillExists_InProgress() {
+        final DeleteHandler handler = new DeleteHandler();
+        doReturn(DeleteDatasetResponse.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DeleteDatasetRequest.class), any());
+        doReturn(DescribeDatasetResponse.builder().name(TestUtil.DATASET_NAME).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeDatasetRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.DATASET_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().isDeleted()).isTrue();
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(response.getCallbackDelaySeconds()).isGreaterThan(0);
+    }
+
+    @Test
+    public void handleRequest_Deleted_SuccessOnceNotFound() {
+        final DeleteHandler handler = new DeleteHandler();
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeDatasetRequest.class), any());
+        final CallbackContext context = new CallbackContext();
+        context.setDeleted(true);
+        context.setStabilizationAttempts(1);
+        context.setStabilizationStartTime(System.currentTimeMillis());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.DATASET_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, context, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(DeleteDatasetRequest.class), any());
+    }
 }
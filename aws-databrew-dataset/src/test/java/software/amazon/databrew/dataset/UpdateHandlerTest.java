@@ -1,8 +1,11 @@
 package software.amazon.databrew.dataset;
 
+import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.services.databrew.model.CreateDatasetResponse;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
 import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.databrew.model.TagResourceRequest;
+import software.amazon.awssdk.services.databrew.model.UntagResourceRequest;
 import software.amazon.awssdk.services.databrew.model.UpdateDatasetResponse;
 import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -14,15 +17,20 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.ArgumentMatchers.any;
 
 @ExtendWith(MockitoExtension.class)
@@ -681,4 +689,70 @@ public class UpdateHandlerTest {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_Unchanged_SkipsUpdate() {
+        final UpdateHandler handler = new UpdateHandler();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(TestUtil.DATASET_NAME)
+                .input(TestUtil.UPDATED_S3_INPUT)
+                .formatOptions(TestUtil.EXCEL_FORMAT_OPTIONS_INDEXES)
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .name(TestUtil.DATASET_NAME)
+                .input(TestUtil.UPDATED_S3_INPUT)
+                .formatOptions(TestUtil.EXCEL_FORMAT_OPTIONS_INDEXES)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void handleRequest_TagsChanged_ReconcilesTagsOnly() {
+        final UpdateHandler handler = new UpdateHandler();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(TestUtil.DATASET_NAME)
+                .input(TestUtil.UPDATED_S3_INPUT)
+                .formatOptions(TestUtil.EXCEL_FORMAT_OPTIONS_INDEXES)
+                .tags(Arrays.asList(Tag.builder().key("kept").value("v").build(),
+                        Tag.builder().key("changed").value("old").build(),
+                        Tag.builder().key("removed").value("v").build()))
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .name(TestUtil.DATASET_NAME)
+                .input(TestUtil.UPDATED_S3_INPUT)
+                .formatOptions(TestUtil.EXCEL_FORMAT_OPTIONS_INDEXES)
+                .tags(Arrays.asList(Tag.builder().key("kept").value("v").build(),
+                        Tag.builder().key("changed").value("new").build(),
+                        Tag.builder().key("added").value("v").build()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<AwsRequest> requests = ArgumentCaptor.forClass(AwsRequest.class);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(requests.capture(), any());
+        final TagResourceRequest tagResourceRequest = (TagResourceRequest) requests.getAllValues().get(0);
+        assertThat(tagResourceRequest.tags()).containsOnlyKeys("changed", "added");
+        final UntagResourceRequest untagResourceRequest = (UntagResourceRequest) requests.getAllValues().get(1);
+        assertThat(untagResourceRequest.tagKeys()).containsExactly("removed");
+    }
 }
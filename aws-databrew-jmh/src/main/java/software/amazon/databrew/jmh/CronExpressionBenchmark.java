@@ -0,0 +1,91 @@
+package software.amazon.databrew.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.databrew.schedule.CronExpression;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CronExpressionBenchmark {
+
+    private static final String[] DAYS_OF_MONTH = {"*", "1", "1,15", "L", "L-3", "15W", "LW", "1-7", "*/2"};
+    private static final String[] DAYS_OF_WEEK = {"*", "MON-FRI", "2", "SAT,SUN", "6L", "2#1", "FRI-MON"};
+    private static final Instant FROM = Instant.parse("2024-01-01T00:00:00Z");
+    private static final long YEAR_FROM = FROM.getEpochSecond() / 60;
+    private static final long YEAR_UNTIL = Instant.parse("2025-01-01T00:00:00Z").getEpochSecond() / 60;
+
+    @Param({"10000"})
+    public int expressions;
+
+    @Param({"100"})
+    public int fireTimes;
+
+    private List<String> corpus;
+    private List<CronExpression> parsed;
+    private CronExpression everyMinute;
+
+    @Setup
+    public void setup() {
+        // the same corpus on every run
+        final Random random = new Random(42);
+        corpus = new ArrayList<>(expressions);
+        parsed = new ArrayList<>(expressions);
+        for (int i = 0; i < expressions; i++) {
+            final boolean byDayOfWeek = random.nextBoolean();
+            final String expression = String.format("cron(%s %s %s %s %s %s)",
+                    random.nextInt(4) == 0 ? "*/" + (1 + random.nextInt(30)) : Integer.toString(random.nextInt(60)),
+                    random.nextInt(3) == 0 ? "*" : random.nextInt(12) + "-" + (12 + random.nextInt(12)),
+                    byDayOfWeek ? "?" : DAYS_OF_MONTH[random.nextInt(DAYS_OF_MONTH.length)],
+                    random.nextInt(4) == 0 ? "JAN,APR,JUL,OCT" : "*",
+                    byDayOfWeek ? DAYS_OF_WEEK[random.nextInt(DAYS_OF_WEEK.length)] : "?",
+                    random.nextInt(4) == 0 ? "2024-2030" : "*");
+            corpus.add(expression);
+            parsed.add(CronExpression.parse(expression));
+        }
+        everyMinute = CronExpression.parse("cron(* * * * ? *)");
+    }
+
+    @Benchmark
+    public void parseCorpus(final Blackhole blackhole) {
+        for (final String expression : corpus) {
+            blackhole.consume(CronExpression.parse(expression));
+        }
+    }
+
+    @Benchmark
+    public void nextFireTimesCorpus(final Blackhole blackhole) {
+        for (final CronExpression cron : parsed) {
+            blackhole.consume(cron.nextFireTimes(FROM, fireTimes));
+        }
+    }
+
+    /**
+     * All 527040 fire times of an every-minute schedule in a leap year.
+     */
+    @Benchmark
+    public long everyMinuteForAYear() {
+        final long[] last = new long[1];
+        everyMinute.forEachFireTime(YEAR_FROM, YEAR_UNTIL, epochMinute -> last[0] = epochMinute);
+        return last[0];
+    }
+}
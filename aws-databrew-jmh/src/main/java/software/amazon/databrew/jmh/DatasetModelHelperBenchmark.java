@@ -0,0 +1,81 @@
+package software.amazon.databrew.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.databrew.model.DatasetParameter;
+import software.amazon.awssdk.services.databrew.model.DatetimeOptions;
+import software.amazon.awssdk.services.databrew.model.FilesLimit;
+import software.amazon.awssdk.services.databrew.model.FilterExpression;
+import software.amazon.awssdk.services.databrew.model.Order;
+import software.amazon.awssdk.services.databrew.model.OrderedBy;
+import software.amazon.awssdk.services.databrew.model.ParameterType;
+import software.amazon.awssdk.services.databrew.model.PathOptions;
+import software.amazon.databrew.dataset.ModelHelper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DatasetModelHelperBenchmark {
+
+    @Param({"100"})
+    public int pathParameters;
+
+    private PathOptions requestPathOptions;
+    private software.amazon.databrew.dataset.PathOptions modelPathOptions;
+
+    @Setup
+    public void setup() {
+        final Map<String, DatasetParameter> parameters = new HashMap<>();
+        for (int i = 0; i < pathParameters; i++) {
+            final String name = "param" + i;
+            final Map<String, String> valuesMap = new HashMap<>();
+            valuesMap.put(":val" + i, "value" + i);
+            final DatasetParameter.Builder parameter = DatasetParameter.builder()
+                    .name(name)
+                    .createColumn(i % 2 == 0)
+                    .filter(FilterExpression.builder().expression("contains :val" + i).valuesMap(valuesMap).build());
+            if (i % 3 == 0) {
+                parameter.type(ParameterType.DATETIME)
+                        .datetimeOptions(DatetimeOptions.builder().format("yyyy-MM-dd").localeCode("en-US").timezoneOffset("+01:00").build());
+            } else {
+                parameter.type(ParameterType.STRING);
+            }
+            parameters.put(name, parameter.build());
+        }
+        final Map<String, String> lastModifiedValues = new HashMap<>();
+        lastModifiedValues.put(":date1", "-7d");
+
+        requestPathOptions = PathOptions.builder()
+                .filesLimit(FilesLimit.builder().maxFiles(100).orderedBy(OrderedBy.LAST_MODIFIED_DATE).order(Order.DESCENDING).build())
+                .lastModifiedDateCondition(FilterExpression.builder().expression("relative_after :date1").valuesMap(lastModifiedValues).build())
+                .parameters(parameters)
+                .build();
+        modelPathOptions = ModelHelper.buildModelPathOptions(requestPathOptions);
+    }
+
+    @Benchmark
+    public PathOptions buildRequestPathOptions() {
+        return ModelHelper.buildRequestPathOptions(modelPathOptions);
+    }
+
+    @Benchmark
+    public software.amazon.databrew.dataset.PathOptions buildModelPathOptions() {
+        return ModelHelper.buildModelPathOptions(requestPathOptions);
+    }
+}
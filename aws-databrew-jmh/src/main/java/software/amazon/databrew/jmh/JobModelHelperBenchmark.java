@@ -0,0 +1,186 @@
+package software.amazon.databrew.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.databrew.model.ColumnSelector;
+import software.amazon.awssdk.services.databrew.model.ColumnStatisticsConfiguration;
+import software.amazon.awssdk.services.databrew.model.CompressionFormat;
+import software.amazon.awssdk.services.databrew.model.CsvOutputOptions;
+import software.amazon.awssdk.services.databrew.model.DataCatalogOutput;
+import software.amazon.awssdk.services.databrew.model.DatabaseOutput;
+import software.amazon.awssdk.services.databrew.model.DatabaseTableOutputOptions;
+import software.amazon.awssdk.services.databrew.model.DescribeJobResponse;
+import software.amazon.awssdk.services.databrew.model.JobType;
+import software.amazon.awssdk.services.databrew.model.Output;
+import software.amazon.awssdk.services.databrew.model.OutputFormat;
+import software.amazon.awssdk.services.databrew.model.OutputFormatOptions;
+import software.amazon.awssdk.services.databrew.model.ProfileConfiguration;
+import software.amazon.awssdk.services.databrew.model.RecipeReference;
+import software.amazon.awssdk.services.databrew.model.S3Location;
+import software.amazon.awssdk.services.databrew.model.S3TableOutputOptions;
+import software.amazon.awssdk.services.databrew.model.StatisticsConfiguration;
+import software.amazon.awssdk.services.databrew.model.ValidationConfiguration;
+import software.amazon.awssdk.services.databrew.model.ValidationMode;
+import software.amazon.databrew.job.ModelHelper;
+import software.amazon.databrew.job.ResourceModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobModelHelperBenchmark {
+
+    @Param({"50"})
+    public int outputs;
+
+    @Param({"100"})
+    public int validationConfigurations;
+
+    private DescribeJobResponse recipeJob;
+    private DescribeJobResponse profileJob;
+    private List<software.amazon.databrew.job.Output> modelOutputs;
+    private List<software.amazon.databrew.job.ValidationConfiguration> modelValidationConfigurations;
+    private software.amazon.databrew.job.ProfileConfiguration modelProfileConfiguration;
+
+    @Setup
+    public void setup() {
+        final List<Output> requestOutputs = new ArrayList<>();
+        final List<DataCatalogOutput> dataCatalogOutputs = new ArrayList<>();
+        final List<DatabaseOutput> databaseOutputs = new ArrayList<>();
+        for (int i = 0; i < outputs; i++) {
+            requestOutputs.add(Output.builder()
+                    .compressionFormat(CompressionFormat.GZIP)
+                    .format(OutputFormat.CSV)
+                    .formatOptions(OutputFormatOptions.builder().csv(CsvOutputOptions.builder().delimiter(",").build()).build())
+                    .partitionColumns(Arrays.asList("year", "month", "day"))
+                    .location(s3Location("outputs/" + i + "/"))
+                    .overwrite(true)
+                    .maxOutputFiles(10)
+                    .build());
+            dataCatalogOutputs.add(DataCatalogOutput.builder()
+                    .catalogId("123456789012")
+                    .databaseName("database")
+                    .tableName("table_" + i)
+                    .s3Options(S3TableOutputOptions.builder().location(s3Location("catalog/" + i + "/")).build())
+                    .overwrite(true)
+                    .build());
+            databaseOutputs.add(DatabaseOutput.builder()
+                    .glueConnectionName("connection")
+                    .databaseOutputMode("NEW_TABLE")
+                    .databaseOptions(DatabaseTableOutputOptions.builder()
+                            .tempDirectory(s3Location("temp/" + i + "/"))
+                            .tableName("table_" + i)
+                            .build())
+                    .build());
+        }
+
+        final List<ValidationConfiguration> requestValidationConfigurations = new ArrayList<>();
+        for (int i = 0; i < validationConfigurations; i++) {
+            requestValidationConfigurations.add(ValidationConfiguration.builder()
+                    .rulesetArn("arn:aws:databrew:us-east-1:123456789012:ruleset/ruleset-" + i)
+                    .validationMode(ValidationMode.CHECK_ALL)
+                    .build());
+        }
+
+        final List<ColumnStatisticsConfiguration> columnStatisticsConfigurations = new ArrayList<>();
+        final List<ColumnSelector> profileColumns = new ArrayList<>();
+        for (int i = 0; i < outputs; i++) {
+            final ColumnSelector column = ColumnSelector.builder().name("column_" + i).build();
+            profileColumns.add(column);
+            columnStatisticsConfigurations.add(ColumnStatisticsConfiguration.builder()
+                    .selectors(column, ColumnSelector.builder().regex("column_" + i + "_.*").build())
+                    .statistics(StatisticsConfiguration.builder()
+                            .includedStatistics("MEAN", "MEDIAN", "OUTLIER_DETECTION")
+                            .build())
+                    .build());
+        }
+        final ProfileConfiguration profileConfiguration = ProfileConfiguration.builder()
+                .profileColumns(profileColumns)
+                .columnStatisticsConfigurations(columnStatisticsConfigurations)
+                .build();
+
+        recipeJob = DescribeJobResponse.builder()
+                .name("recipe-job")
+                .type(JobType.RECIPE)
+                .datasetName("dataset")
+                .roleArn("arn:aws:iam::123456789012:role/databrew")
+                .recipeReference(RecipeReference.builder().name("recipe").recipeVersion("1.0").build())
+                .maxCapacity(10)
+                .maxRetries(1)
+                .timeout(2880)
+                .outputs(requestOutputs)
+                .dataCatalogOutputs(dataCatalogOutputs)
+                .databaseOutputs(databaseOutputs)
+                .tags(tags())
+                .build();
+        profileJob = DescribeJobResponse.builder()
+                .name("profile-job")
+                .type(JobType.PROFILE)
+                .datasetName("dataset")
+                .roleArn("arn:aws:iam::123456789012:role/databrew")
+                .outputs(requestOutputs.get(0))
+                .profileConfiguration(profileConfiguration)
+                .validationConfigurations(requestValidationConfigurations)
+                .tags(tags())
+                .build();
+
+        modelOutputs = ModelHelper.buildModelOutputs(requestOutputs);
+        modelValidationConfigurations = ModelHelper.buildModelValidationConfigurations(requestValidationConfigurations);
+        modelProfileConfiguration = ModelHelper.buildModelProfileConfiguration(profileConfiguration);
+    }
+
+    @Benchmark
+    public ResourceModel constructRecipeJobModel() {
+        return ModelHelper.constructModel(recipeJob);
+    }
+
+    @Benchmark
+    public ResourceModel constructProfileJobModel() {
+        return ModelHelper.constructModel(profileJob);
+    }
+
+    @Benchmark
+    public List<Output> buildRequestOutputs() {
+        return ModelHelper.buildRequestOutputs(modelOutputs);
+    }
+
+    @Benchmark
+    public List<ValidationConfiguration> buildRequestValidationConfigurations() {
+        return ModelHelper.buildRequestValidationConfigurations(modelValidationConfigurations);
+    }
+
+    @Benchmark
+    public ProfileConfiguration buildRequestProfileConfiguration() {
+        return ModelHelper.buildRequestProfileConfiguration(modelProfileConfiguration);
+    }
+
+    private static S3Location s3Location(final String key) {
+        return S3Location.builder().bucket("databrew-benchmark").key(key).bucketOwner("123456789012").build();
+    }
+
+    static Map<String, String> tags() {
+        final Map<String, String> tags = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            tags.put("key" + i, "value" + i);
+        }
+        return tags;
+    }
+}
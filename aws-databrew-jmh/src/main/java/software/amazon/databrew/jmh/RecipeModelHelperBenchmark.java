@@ -0,0 +1,76 @@
+package software.amazon.databrew.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.databrew.model.ConditionExpression;
+import software.amazon.awssdk.services.databrew.model.DescribeRecipeResponse;
+import software.amazon.awssdk.services.databrew.model.RecipeAction;
+import software.amazon.awssdk.services.databrew.model.RecipeStep;
+import software.amazon.databrew.recipe.ModelHelper;
+import software.amazon.databrew.recipe.ResourceModel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipeModelHelperBenchmark {
+
+    @Param({"500"})
+    public int steps;
+
+    private DescribeRecipeResponse recipe;
+    private List<software.amazon.databrew.recipe.RecipeStep> modelSteps;
+
+    @Setup
+    public void setup() {
+        final List<RecipeStep> requestSteps = new ArrayList<>();
+        for (int i = 0; i < steps; i++) {
+            final Map<String, String> parameters = new HashMap<>();
+            parameters.put("sourceColumn", "column_" + i);
+            parameters.put("targetColumn", "column_" + i + "_clean");
+            parameters.put("pattern", "[^a-z0-9]");
+            parameters.put("value", "");
+            requestSteps.add(RecipeStep.builder()
+                    .action(RecipeAction.builder().operation("REPLACE_PATTERN").parameters(parameters).build())
+                    .conditionExpressions(ConditionExpression.builder()
+                            .condition("IS_NOT_MISSING")
+                            .targetColumn("column_" + i)
+                            .build())
+                    .build());
+        }
+        recipe = DescribeRecipeResponse.builder()
+                .name("recipe")
+                .description("Benchmark recipe")
+                .steps(requestSteps)
+                .tags(JobModelHelperBenchmark.tags())
+                .build();
+        modelSteps = ModelHelper.buildModelRecipeSteps(requestSteps);
+    }
+
+    @Benchmark
+    public List<RecipeStep> buildRequestRecipeSteps() {
+        return ModelHelper.buildRequestRecipeSteps(modelSteps);
+    }
+
+    @Benchmark
+    public ResourceModel constructModel() {
+        return ModelHelper.constructModel(recipe);
+    }
+}
@@ -0,0 +1,120 @@
+package software.amazon.databrew.jmh;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.databrew.model.ConditionExpression;
+import software.amazon.awssdk.services.databrew.model.RecipeAction;
+import software.amazon.awssdk.services.databrew.model.RecipeStep;
+import software.amazon.databrew.recipe.Action;
+import software.amazon.databrew.recipe.ModelHelper;
+import software.amazon.databrew.recipe.RecipeParameters;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the recipe step translation against the previous implementation, which converted every
+ * step's parameters with ObjectMapper.convertValue and then copied them into a second map to change the
+ * case of the names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipeParameterConversionBenchmark {
+
+    private static final ObjectMapper LEGACY_MAPPER = new ObjectMapper();
+
+    @Param({"500"})
+    public int steps;
+
+    /** MAP is what CloudFormation sends, RECIPE_PARAMETERS is the typed object built in code. */
+    @Param({"MAP", "RECIPE_PARAMETERS"})
+    public String parameterType;
+
+    private List<software.amazon.databrew.recipe.RecipeStep> modelSteps;
+    private List<RecipeStep> requestSteps;
+
+    @Setup
+    public void setup() {
+        modelSteps = new ArrayList<>();
+        for (int i = 0; i < steps; i++) {
+            final Object parameters;
+            if ("MAP".equals(parameterType)) {
+                final Map<String, String> map = new HashMap<>();
+                map.put("SourceColumn", "column_" + i);
+                map.put("TargetColumn", "column_" + i + "_clean");
+                map.put("Pattern", "[^a-z0-9]");
+                parameters = map;
+            } else {
+                parameters = RecipeParameters.builder()
+                        .sourceColumn("column_" + i)
+                        .targetColumn("column_" + i + "_clean")
+                        .pattern("[^a-z0-9]")
+                        .build();
+            }
+            modelSteps.add(software.amazon.databrew.recipe.RecipeStep.builder()
+                    .action(Action.builder().operation("REPLACE_PATTERN").parameters(parameters).build())
+                    .build());
+        }
+        requestSteps = ModelHelper.buildRequestRecipeSteps(modelSteps);
+    }
+
+    @Benchmark
+    public List<RecipeStep> buildRequestRecipeSteps() {
+        return ModelHelper.buildRequestRecipeSteps(modelSteps);
+    }
+
+    @Benchmark
+    public List<RecipeStep> legacyBuildRequestRecipeSteps() {
+        final List<RecipeStep> result = new ArrayList<>();
+        modelSteps.forEach(step -> {
+            final Map<String, String> tempMap = LEGACY_MAPPER.convertValue(step.getAction().getParameters(),
+                    new TypeReference<Map<String, String>>() { });
+            final Map<String, String> parametersMap = new HashMap<>();
+            if (tempMap != null) {
+                tempMap.forEach((key, value) -> parametersMap.put(Character.toLowerCase(key.charAt(0)) + key.substring(1), value));
+            }
+            result.add(RecipeStep.builder()
+                    .action(RecipeAction.builder().operation(step.getAction().getOperation()).parameters(parametersMap).build())
+                    .conditionExpressions(new ArrayList<ConditionExpression>())
+                    .build());
+        });
+        return result;
+    }
+
+    @Benchmark
+    public List<software.amazon.databrew.recipe.RecipeStep> buildModelRecipeSteps() {
+        return ModelHelper.buildModelRecipeSteps(requestSteps);
+    }
+
+    @Benchmark
+    public List<software.amazon.databrew.recipe.RecipeStep> legacyBuildModelRecipeSteps() {
+        final List<software.amazon.databrew.recipe.RecipeStep> result = new ArrayList<>();
+        requestSteps.forEach(step -> {
+            final Map<String, String> parametersMap = new HashMap<>();
+            step.action().parameters().forEach((key, value) -> parametersMap.put(Character.toUpperCase(key.charAt(0)) + key.substring(1), value));
+            result.add(software.amazon.databrew.recipe.RecipeStep.builder()
+                    .action(Action.builder().operation(step.action().operation()).parameters(parametersMap).build())
+                    .conditionExpressions(new ArrayList<software.amazon.databrew.recipe.ConditionExpression>())
+                    .build());
+        });
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+package software.amazon.databrew.jmh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.databrew.model.ColumnSelector;
+import software.amazon.awssdk.services.databrew.model.DescribeRulesetResponse;
+import software.amazon.awssdk.services.databrew.model.Rule;
+import software.amazon.awssdk.services.databrew.model.Threshold;
+import software.amazon.awssdk.services.databrew.model.ThresholdType;
+import software.amazon.awssdk.services.databrew.model.ThresholdUnit;
+import software.amazon.databrew.ruleset.ModelHelper;
+import software.amazon.databrew.ruleset.ResourceModel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RulesetModelHelperBenchmark {
+
+    @Param({"200"})
+    public int rules;
+
+    private DescribeRulesetResponse ruleset;
+    private List<software.amazon.databrew.ruleset.Rule> modelRules;
+
+    @Setup
+    public void setup() {
+        final List<Rule> requestRules = new ArrayList<>();
+        for (int i = 0; i < rules; i++) {
+            final Map<String, String> substitutionMap = new HashMap<>();
+            substitutionMap.put(":col1", "column_" + i);
+            substitutionMap.put(":val1", Integer.toString(i));
+            requestRules.add(Rule.builder()
+                    .name("rule_" + i)
+                    .disabled(i % 10 == 0)
+                    .checkExpression(":col1 >= :val1")
+                    .substitutionMap(substitutionMap)
+                    .threshold(Threshold.builder().value(95.0).type(ThresholdType.GREATER_THAN_OR_EQUAL).unit(ThresholdUnit.PERCENTAGE).build())
+                    .columnSelectors(ColumnSelector.builder().name("column_" + i).build(),
+                            ColumnSelector.builder().regex("column_" + i + "_.*").build())
+                    .build());
+        }
+        ruleset = DescribeRulesetResponse.builder()
+                .name("ruleset")
+                .description("Benchmark ruleset")
+                .targetArn("arn:aws:databrew:us-east-1:123456789012:dataset/dataset")
+                .rules(requestRules)
+                .tags(JobModelHelperBenchmark.tags())
+                .build();
+        modelRules = ModelHelper.buildModelRules(requestRules);
+    }
+
+    @Benchmark
+    public List<Rule> buildRequestRules() {
+        return ModelHelper.buildRequestRules(modelRules);
+    }
+
+    @Benchmark
+    public ResourceModel constructModel() {
+        return ModelHelper.constructModel(ruleset);
+    }
+}
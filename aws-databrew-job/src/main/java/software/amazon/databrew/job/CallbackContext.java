@@ -1,12 +1,26 @@
 package software.amazon.databrew.job;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import software.amazon.databrew.common.Stabilization;
+import software.amazon.databrew.common.Tracing;
 
 @Data
 @NoArgsConstructor
+@AllArgsConstructor
 @Builder
-public class CallbackContext {
-
+public class CallbackContext implements Tracing.TraceContext, Stabilization.Context {
+    // the create call succeeded, later invocations only wait for the job to become readable
+    private boolean created;
+    private int stabilizationAttempts;
+    private long stabilizationStartTime;
+    private String lastObservedState;
+    // the delete call succeeded, later invocations only wait for the job to disappear
+    private boolean deleted;
+    // delete with draining, no active job run is left
+    private boolean runsDrained;
+    // W3C traceparent of the first invocation, links all invocations of the operation into one trace
+    private String traceParent;
 }
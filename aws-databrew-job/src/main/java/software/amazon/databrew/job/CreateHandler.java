@@ -1,18 +1,23 @@
 package software.amazon.databrew.job;
 
 import software.amazon.awssdk.services.databrew.DataBrewClient;
-import software.amazon.awssdk.services.databrew.model.ConflictException;
 import software.amazon.awssdk.services.databrew.model.CreateProfileJobRequest;
 import software.amazon.awssdk.services.databrew.model.CreateRecipeJobRequest;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
-import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
+import software.amazon.awssdk.services.databrew.model.DescribeJobRequest;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.Stabilization;
+import software.amazon.databrew.common.Tracing;
 
 import java.util.ArrayList;
 
@@ -24,16 +29,30 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "CREATE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "CREATE", model.getName());
         final DataBrewClient databrewClient = ClientBuilder.getClient();
+        final CallbackContext context = callbackContext == null ? new CallbackContext() : callbackContext;
+
+        if (context.isCreated()) {
+            model.setTags(model.getTags() == null ? new ArrayList<>() : model.getTags());
+            return Tracing.span("Stabilize", () -> stabilize(proxy, request, databrewClient, model, context, log));
+        }
 
         final String jobName = model.getName();
         final String jobType = model.getType();
-        final JobSample jobSample = model.getJobSample();
 
-        if (((!jobType.equals(ModelHelper.Type.PROFILE.toString())) && (!jobType.equals(ModelHelper.Type.RECIPE.toString()))) ||
-            jobType.equals(ModelHelper.Type.RECIPE.toString()) && jobSample != null) {
+        if (!Tracing.span("ValidateInput", () -> ModelHelper.isValid(model))) {
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .errorCode(HandlerErrorCode.InvalidRequest)
                     .status(OperationStatus.FAILED)
@@ -42,7 +61,7 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
 
 
         if (jobType.equals(ModelHelper.Type.RECIPE.toString())) {
-            final CreateRecipeJobRequest createRecipeJobRequest = CreateRecipeJobRequest.builder()
+            final CreateRecipeJobRequest createRecipeJobRequest = HandlerMetrics.translate(() -> CreateRecipeJobRequest.builder()
                     .datasetName(model.getDatasetName())
                     .encryptionKeyArn(model.getEncryptionKeyArn())
                     .encryptionMode(model.getEncryptionMode())
@@ -58,28 +77,19 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
                     .roleArn(model.getRoleArn())
                     .tags(ModelHelper.buildTagInputMap(model.getTags()))
                     .timeout(model.getTimeout())
-                    .build();
+                    .build());
 
             try {
                 proxy.injectCredentialsAndInvokeV2(createRecipeJobRequest, databrewClient::createRecipeJob);
                 model.setTags(model.getTags() == null ? new ArrayList<>() : model.getTags());
-                logger.log(String.format("%s [%s] Created Successfully", ResourceModel.TYPE_NAME, jobName));
-            } catch (ResourceNotFoundException ex) {
-                logger.log(String.format("%s [%s] Does Not Exist", ResourceModel.TYPE_NAME, jobName));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-            } catch (ConflictException ex) {
-                logger.log(String.format("%s [%s] Already Exists", ResourceModel.TYPE_NAME, jobName));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.AlreadyExists);
-            } catch (ValidationException ex) {
-                logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, jobName));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
+                log.success("Created");
             } catch (DataBrewException ex) {
-                logger.log(String.format("%s Create Failed", ResourceModel.TYPE_NAME));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+                log.failure("CreateFailed", ex);
+                return DataBrewErrors.failure("CREATE", ex);
             }
         }
         else if (jobType.equals(ModelHelper.Type.PROFILE.toString())) {
-            final CreateProfileJobRequest createProfileJobRequest = CreateProfileJobRequest.builder()
+            final CreateProfileJobRequest createProfileJobRequest = HandlerMetrics.translate(() -> CreateProfileJobRequest.builder()
                     .datasetName(model.getDatasetName())
                     .encryptionKeyArn(model.getEncryptionKeyArn())
                     .encryptionMode(model.getEncryptionMode())
@@ -94,29 +104,39 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
                     .jobSample(ModelHelper.buildModelJobSample(model.getJobSample()))
                     .configuration(ModelHelper.buildRequestProfileConfiguration(model.getProfileConfiguration()))
                     .validationConfigurations(ModelHelper.buildRequestValidationConfigurations(model.getValidationConfigurations()))
-                    .build();
+                    .build());
 
             try {
                 proxy.injectCredentialsAndInvokeV2(createProfileJobRequest, databrewClient::createProfileJob);
                 model.setTags(model.getTags() == null ? new ArrayList<>() : model.getTags());
-                logger.log(String.format("%s [%s] Created Successfully", ResourceModel.TYPE_NAME, jobName));
-            } catch (ResourceNotFoundException ex) {
-                logger.log(String.format("%s [%s] Does Not Exist", ResourceModel.TYPE_NAME, jobName));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-            } catch (ConflictException ex) {
-                logger.log(String.format("%s [%s] Already Exists", ResourceModel.TYPE_NAME, jobName));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.AlreadyExists);
-            } catch (ValidationException ex) {
-                logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, jobName));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
+                log.success("Created");
             } catch (DataBrewException ex) {
-                logger.log(String.format("%s Create Failed", ResourceModel.TYPE_NAME));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+                log.failure("CreateFailed", ex);
+                return DataBrewErrors.failure("CREATE", ex);
             }
         }
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModel(model)
-                .status(OperationStatus.SUCCESS)
+
+        context.setCreated(true);
+        context.setStabilizationStartTime(System.currentTimeMillis());
+        return Tracing.span("Stabilize", () -> stabilize(proxy, request, databrewClient, model, context, log));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> stabilize(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final DataBrewClient databrewClient,
+        final ResourceModel model,
+        final CallbackContext context,
+        final HandlerLog log) {
+
+        final String jobName = model.getName();
+        final DescribeJobRequest describeJobRequest = DescribeJobRequest.builder()
+                .name(jobName)
                 .build();
+        // the READ that usually follows a CREATE can use this response
+        return Stabilization.awaitReadable(
+                () -> DescribeCache.shared().put(DescribeCache.key(request, "job", jobName),
+                        proxy.injectCredentialsAndInvokeV2(describeJobRequest, databrewClient::describeJob)),
+                model, context, log, System::currentTimeMillis);
     }
 }
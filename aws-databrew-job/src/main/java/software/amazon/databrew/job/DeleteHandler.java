@@ -1,50 +1,204 @@
 package software.amazon.databrew.job;
 
 import software.amazon.awssdk.services.databrew.DataBrewClient;
+import software.amazon.awssdk.services.databrew.model.ConflictException;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
 import software.amazon.awssdk.services.databrew.model.DeleteJobRequest;
+import software.amazon.awssdk.services.databrew.model.DescribeJobRequest;
+import software.amazon.awssdk.services.databrew.model.JobRun;
+import software.amazon.awssdk.services.databrew.model.ListJobRunsRequest;
+import software.amazon.awssdk.services.databrew.model.ListJobRunsResponse;
 import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
+import software.amazon.awssdk.services.databrew.model.StopJobRunRequest;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.JobRunDrain;
+import software.amazon.databrew.common.Stabilization;
+import software.amazon.databrew.common.Tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class DeleteHandler extends BaseHandler<CallbackContext> {
 
+    private static final JobRunDrain DRAIN = JobRunDrain.fromEnvironment();
+    private static final int LIST_PAGE_SIZE = 100;
+
+    private final JobRunDrain drain;
+
+    public DeleteHandler() {
+        this(DRAIN);
+    }
+
+    DeleteHandler(final JobRunDrain drain) {
+        this.drain = drain;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "DELETE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "DELETE", model.getName());
 
         final DataBrewClient databrewClient = ClientBuilder.getClient();
         final String jobName = model.getName();
+        final CallbackContext context = callbackContext == null ? new CallbackContext() : callbackContext;
+
+        if (drain.isEnabled() && !context.isRunsDrained()) {
+            final ProgressEvent<ResourceModel, CallbackContext> progress =
+                    Tracing.span("DrainRuns", () -> drainRuns(proxy, databrewClient, model, context, log));
+            if (progress != null) {
+                return progress;
+            }
+        }
+
+        if (!context.isDeleted()) {
+            try {
+                final DeleteJobRequest deleteJobRequest = DeleteJobRequest.builder()
+                        .name(jobName)
+                        .build();
+                proxy.injectCredentialsAndInvokeV2(deleteJobRequest, databrewClient::deleteJob);
+                log.success("Deleted");
+            } catch (DataBrewException ex) {
+                log.failure("DeleteFailed", ex);
+                return DataBrewErrors.failure("DELETE", ex);
+            }
+
+            DescribeCache.shared().invalidate(DescribeCache.key(request, "job", jobName));
+
+            // draining used its own attempts
+            context.setDeleted(true);
+            context.setStabilizationAttempts(0);
+            context.setStabilizationStartTime(System.currentTimeMillis());
+        }
+        return Tracing.span("Stabilize", () -> stabilize(proxy, databrewClient, model, context, log));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> stabilize(
+        final AmazonWebServicesClientProxy proxy,
+        final DataBrewClient databrewClient,
+        final ResourceModel model,
+        final CallbackContext context,
+        final HandlerLog log) {
 
+        final String jobName = model.getName();
+        final DescribeJobRequest describeJobRequest = DescribeJobRequest.builder()
+                .name(jobName)
+                .build();
+        return Stabilization.awaitDeleted(() -> proxy.injectCredentialsAndInvokeV2(describeJobRequest, databrewClient::describeJob),
+                model, context, log, System::currentTimeMillis);
+    }
+
+    /**
+     * Stops the active runs of the job and waits across invocations until none is left. Every invocation
+     * stops the runs again, which also catches runs started by a schedule in the meantime.
+     *
+     * @return null once no active run is left, otherwise the event to return
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> drainRuns(
+        final AmazonWebServicesClientProxy proxy,
+        final DataBrewClient databrewClient,
+        final ResourceModel model,
+        final CallbackContext context,
+        final HandlerLog log) {
+
+        final String jobName = model.getName();
+        if (context.getStabilizationStartTime() == 0L) {
+            context.setStabilizationStartTime(System.currentTimeMillis());
+        }
+        context.setStabilizationAttempts(context.getStabilizationAttempts() + 1);
+        Tracing.attribute("databrew.stabilization_attempt", context.getStabilizationAttempts());
         try {
-            final DeleteJobRequest deleteJobRequest = DeleteJobRequest.builder()
-                    .name(jobName)
-                    .build();
-            proxy.injectCredentialsAndInvokeV2(deleteJobRequest, databrewClient::deleteJob);
-            logger.log(String.format("%s [%s] Deleted Successfully", ResourceModel.TYPE_NAME, jobName));
-        } catch (ResourceNotFoundException ex) {
-            logger.log(String.format("%s Create Failed. Job %s Does Not Exist", ResourceModel.TYPE_NAME, jobName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, jobName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
+            final List<JobRun> activeRuns = listActiveRuns(proxy, databrewClient, jobName);
+            if (activeRuns.isEmpty()) {
+                context.setRunsDrained(true);
+                log.success("Drained", "attempts", context.getStabilizationAttempts());
+                return null;
+            }
+
+            final List<JobRun> stoppableRuns = activeRuns.stream()
+                    .filter(jobRun -> JobRunDrain.isStoppable(jobRun.state()))
+                    .collect(Collectors.toList());
+            drain.stopAll(stoppableRuns, jobRun -> stopRun(proxy, databrewClient, jobRun));
+            context.setLastObservedState(String.format("%d active runs", activeRuns.size()));
+            log.success("StoppingRuns", "stopping", stoppableRuns.size(), "active", activeRuns.size());
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Deleted Failed", ResourceModel.TYPE_NAME, jobName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("DrainFailed", ex);
+            return DataBrewErrors.failure("DELETE", ex);
         }
 
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .status(OperationStatus.SUCCESS)
+        if (Stabilization.isExhausted(context.getStabilizationAttempts(), context.getStabilizationStartTime(), System.currentTimeMillis())) {
+            log.failure("NotDrained", HandlerErrorCode.NotStabilized, "attempts", context.getStabilizationAttempts());
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .status(OperationStatus.FAILED)
+                    .errorCode(HandlerErrorCode.NotStabilized)
+                    .message(String.format("%s [%s] still has active runs after %d attempts, last observed state %s",
+                            ResourceModel.TYPE_NAME, jobName, context.getStabilizationAttempts(), context.getLastObservedState()))
+                    .build();
+        }
+        return ProgressEvent.defaultInProgressHandler(context, Stabilization.callbackDelaySeconds(context.getStabilizationAttempts()), model);
+    }
+
+    private List<JobRun> listActiveRuns(
+        final AmazonWebServicesClientProxy proxy,
+        final DataBrewClient databrewClient,
+        final String jobName) {
+
+        final List<JobRun> activeRuns = new ArrayList<>();
+        String nextToken = null;
+        do {
+            final ListJobRunsRequest listJobRunsRequest = ListJobRunsRequest.builder()
+                    .name(jobName)
+                    .maxResults(LIST_PAGE_SIZE)
+                    .nextToken(nextToken)
+                    .build();
+            final ListJobRunsResponse listJobRunsResponse = proxy.injectCredentialsAndInvokeV2(listJobRunsRequest, databrewClient::listJobRuns);
+            final List<JobRun> activeOnPage = listJobRunsResponse.jobRuns().stream()
+                    .filter(jobRun -> JobRunDrain.isActive(jobRun.state()))
+                    .collect(Collectors.toList());
+            activeRuns.addAll(activeOnPage);
+            // runs are listed newest first, so a page without an active run ends the search instead of
+            // paging through the whole run history on every poll
+            nextToken = activeOnPage.isEmpty() ? null : listJobRunsResponse.nextToken();
+        } while (nextToken != null);
+        return activeRuns;
+    }
+
+    private static void stopRun(
+        final AmazonWebServicesClientProxy proxy,
+        final DataBrewClient databrewClient,
+        final JobRun jobRun) {
+
+        final StopJobRunRequest stopJobRunRequest = StopJobRunRequest.builder()
+                .name(jobRun.jobName())
+                .runId(jobRun.runId())
                 .build();
+        try {
+            proxy.injectCredentialsAndInvokeV2(stopJobRunRequest, databrewClient::stopJobRun);
+        } catch (ResourceNotFoundException | ConflictException ex) {
+            // the run finished after it was listed, the next listing no longer reports it
+        }
     }
 }
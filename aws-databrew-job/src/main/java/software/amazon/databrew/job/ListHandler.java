@@ -2,21 +2,41 @@ package software.amazon.databrew.job;
 
 import software.amazon.awssdk.services.databrew.DataBrewClient;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
+import software.amazon.awssdk.services.databrew.model.DescribeJobRequest;
+import software.amazon.awssdk.services.databrew.model.DescribeJobResponse;
+import software.amazon.awssdk.services.databrew.model.Job;
 import software.amazon.awssdk.services.databrew.model.ListJobsRequest;
 import software.amazon.awssdk.services.databrew.model.ListJobsResponse;
+import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.ListPaging;
+import software.amazon.databrew.common.ParallelDescriber;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
 
-    private static final int MAX_RESULTS = 100;
+    private static final ListPaging PAGING = ListPaging.fromEnvironment("Job");
+    private static final ParallelDescriber DESCRIBER = ParallelDescriber.fromEnvironment("Job");
+
+    private final ParallelDescriber describer;
+
+    public ListHandler() {
+        this(DESCRIBER);
+    }
+
+    ListHandler(final ParallelDescriber describer) {
+        this.describer = describer;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -24,38 +44,69 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "LIST", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "LIST", null);
         final ResourceModel m = request.getDesiredResourceState();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
 
         final ListJobsRequest listJobsRequest = ListJobsRequest.builder()
                 .datasetName(m.getDatasetName())
-                .maxResults(MAX_RESULTS)
-                .nextToken(request.getNextToken())
+                .maxResults(PAGING.getPageSize())
                 .projectName(m.getProjectName())
                 .build();
 
-        final ListJobsResponse listJobsResponse;
         try {
-            listJobsResponse = proxy.injectCredentialsAndInvokeV2(listJobsRequest, databrewClient::listJobs);
-            logger.log(String.format("%s List Successfully", ResourceModel.TYPE_NAME));
+            final ListPaging.Pages<ListJobsResponse> pages = PAGING.fetch(request.getNextToken(),
+                    nextToken -> proxy.injectCredentialsAndInvokeV2(listJobsRequest.toBuilder().nextToken(nextToken).build(), databrewClient::listJobs),
+                    ListJobsResponse::nextToken);
+            log.success("Listed");
 
             List<ResourceModel> outputModels = new ArrayList<>();
-            if (listJobsResponse.jobs() != null) {
-                listJobsResponse.jobs().forEach(job ->{
-                    ResourceModel outputModel = ModelHelper.constructModel(job);
-                    outputModels.add(outputModel);
-                });
-            }
+            pages.getPages().forEach(listJobsResponse -> {
+                if (listJobsResponse.jobs() != null && describer.isEnabled()) {
+                    // the Job summary has no database outputs and profile configuration, describe every job
+                    outputModels.addAll(describer.describeAll(listJobsResponse.jobs(),
+                            job -> describeJob(proxy, databrewClient, job)));
+                } else if (listJobsResponse.jobs() != null) {
+                    listJobsResponse.jobs().forEach(job ->{
+                        ResourceModel outputModel = HandlerMetrics.translate(() -> ModelHelper.constructModel(job));
+                        outputModels.add(outputModel);
+                    });
+                }
+            });
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .resourceModels(outputModels)
-                    .nextToken(request.getNextToken())
+                    .nextToken(pages.getNextToken())
                     .status(OperationStatus.SUCCESS)
                     .build();
 
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s List Failed", ResourceModel.TYPE_NAME));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("ListFailed", ex);
+            return DataBrewErrors.failure("LIST", ex);
+        }
+    }
+
+    private static ResourceModel describeJob(final AmazonWebServicesClientProxy proxy,
+                                             final DataBrewClient databrewClient,
+                                             final Job job) {
+        final DescribeJobRequest describeJobRequest = DescribeJobRequest.builder()
+                .name(job.name())
+                .build();
+        try {
+            final DescribeJobResponse response = proxy.injectCredentialsAndInvokeV2(describeJobRequest, databrewClient::describeJob);
+            return HandlerMetrics.translate(() -> ModelHelper.constructModel(response));
+        } catch (ResourceNotFoundException ex) {
+            // deleted after it was listed, keep what the list returned
+            return HandlerMetrics.translate(() -> ModelHelper.constructModel(job));
         }
     }
 }
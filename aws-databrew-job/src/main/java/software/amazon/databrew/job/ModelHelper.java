@@ -1,6 +1,6 @@
 package software.amazon.databrew.job;
 
-import com.amazonaws.util.CollectionUtils;
+import software.amazon.databrew.common.CollectionUtils;
 import software.amazon.awssdk.services.databrew.model.AllowedStatistics;
 import software.amazon.awssdk.services.databrew.model.DescribeJobResponse;
 import software.amazon.awssdk.services.databrew.model.Job;
@@ -27,6 +27,16 @@ public class ModelHelper {
         RECIPE
     }
 
+    /**
+     * A job is either a PROFILE job or a RECIPE job, and only PROFILE jobs take a job sample.
+     */
+    public static boolean isValid(final ResourceModel model) {
+        if (Type.RECIPE.toString().equals(model.getType())) {
+            return model.getJobSample() == null;
+        }
+        return Type.PROFILE.toString().equals(model.getType());
+    }
+
     public static ResourceModel constructModel(final DescribeJobResponse job) {
         Map<String, String> tags = job.tags();
         ResourceModel model = ResourceModel.builder()
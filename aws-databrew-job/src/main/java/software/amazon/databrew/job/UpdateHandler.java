@@ -1,45 +1,95 @@
 package software.amazon.databrew.job;
 
 import software.amazon.awssdk.services.databrew.DataBrewClient;
-import software.amazon.awssdk.services.databrew.model.ConflictException;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
-import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.databrew.model.DescribeJobRequest;
 import software.amazon.awssdk.services.databrew.model.UpdateProfileJobRequest;
 import software.amazon.awssdk.services.databrew.model.UpdateRecipeJobRequest;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.ModelDiff;
+import software.amazon.databrew.common.ResourceArns;
+import software.amazon.databrew.common.TagReconciler;
+import software.amazon.databrew.common.Tracing;
 
 public class UpdateHandler extends BaseHandler<CallbackContext> {
 
+    private static final ModelDiff<ResourceModel> RECIPE_JOB_PROPERTIES = new ModelDiff<ResourceModel>()
+            .property("EncryptionKeyArn", ResourceModel::getEncryptionKeyArn)
+            .property("EncryptionMode", ResourceModel::getEncryptionMode)
+            .property("LogSubscription", ResourceModel::getLogSubscription)
+            .property("MaxCapacity", ResourceModel::getMaxCapacity)
+            .property("MaxRetries", ResourceModel::getMaxRetries)
+            .property("Outputs", ResourceModel::getOutputs)
+            .property("DataCatalogOutputs", ResourceModel::getDataCatalogOutputs)
+            .property("DatabaseOutputs", ResourceModel::getDatabaseOutputs)
+            .property("RoleArn", ResourceModel::getRoleArn)
+            .property("Timeout", ResourceModel::getTimeout);
+
+    private static final ModelDiff<ResourceModel> PROFILE_JOB_PROPERTIES = new ModelDiff<ResourceModel>()
+            .property("EncryptionKeyArn", ResourceModel::getEncryptionKeyArn)
+            .property("EncryptionMode", ResourceModel::getEncryptionMode)
+            .property("LogSubscription", ResourceModel::getLogSubscription)
+            .property("MaxCapacity", ResourceModel::getMaxCapacity)
+            .property("MaxRetries", ResourceModel::getMaxRetries)
+            .property("OutputLocation", ResourceModel::getOutputLocation)
+            .property("RoleArn", ResourceModel::getRoleArn)
+            .property("Timeout", ResourceModel::getTimeout)
+            .property("JobSample", ResourceModel::getJobSample)
+            .property("ProfileConfiguration", ResourceModel::getProfileConfiguration)
+            .property("ValidationConfigurations", ResourceModel::getValidationConfigurations);
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "UPDATE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "UPDATE", model.getName());
         final DataBrewClient databrewClient = ClientBuilder.getClient();
 
         final String jobName = model.getName();
+        DescribeCache.shared().invalidate(DescribeCache.key(request, "job", jobName));
+
         final String jobType = model.getType();
-        final JobSample jobSample = model.getJobSample();
 
-        if (((!jobType.equals(ModelHelper.Type.PROFILE.toString())) && (!jobType.equals(ModelHelper.Type.RECIPE.toString()))) ||
-            jobType.equals(ModelHelper.Type.RECIPE.toString()) && jobSample != null) {
+        if (!Tracing.span("ValidateInput", () -> ModelHelper.isValid(model))) {
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .errorCode(HandlerErrorCode.InvalidRequest)
                     .status(OperationStatus.FAILED)
                     .build();
         }
 
-        if (jobType.equals(ModelHelper.Type.RECIPE.toString())) {
-            final UpdateRecipeJobRequest updateRecipeJobRequest = UpdateRecipeJobRequest.builder()
+        final ModelDiff<ResourceModel> updatableProperties = jobType.equals(ModelHelper.Type.RECIPE.toString())
+                ? RECIPE_JOB_PROPERTIES : PROFILE_JOB_PROPERTIES;
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        final boolean propertiesChanged = updatableProperties.hasChanges(previousModel, model);
+        if (!propertiesChanged) {
+            log.success("UpdateSkipped");
+        }
+
+        if (propertiesChanged && jobType.equals(ModelHelper.Type.RECIPE.toString())) {
+            final UpdateRecipeJobRequest updateRecipeJobRequest = HandlerMetrics.translate(() -> UpdateRecipeJobRequest.builder()
                     .encryptionKeyArn(model.getEncryptionKeyArn())
                     .encryptionMode(model.getEncryptionMode())
                     .name(jobName)
@@ -51,28 +101,19 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
                     .databaseOutputs(ModelHelper.buildRequestDatabaseOutputs(model.getDatabaseOutputs()))
                     .roleArn(model.getRoleArn())
                     .timeout(model.getTimeout())
-                    .build();
+                    .build());
 
             try {
                 proxy.injectCredentialsAndInvokeV2(updateRecipeJobRequest, databrewClient::updateRecipeJob);
-                logger.log(String.format("%s [%s] Created Successfully", ResourceModel.TYPE_NAME, jobName));
-            } catch (ResourceNotFoundException ex) {
-                logger.log(String.format("%s [%s] Does Not Exist", ResourceModel.TYPE_NAME, jobName));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-            } catch (ConflictException ex) {
-                logger.log(String.format("%s [%s] Already Exists", ResourceModel.TYPE_NAME, jobName));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.AlreadyExists);
-            } catch (ValidationException ex) {
-                logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, jobName));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
+                log.success("Updated");
             } catch (DataBrewException ex) {
-                logger.log(String.format("%s Create Failed", ResourceModel.TYPE_NAME));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+                log.failure("UpdateFailed", ex);
+                return DataBrewErrors.failure("UPDATE", ex);
             }
         }
 
-        if (jobType.equals(ModelHelper.Type.PROFILE.toString())) {
-            final UpdateProfileJobRequest updateProfileJobRequest = UpdateProfileJobRequest.builder()
+        if (propertiesChanged && jobType.equals(ModelHelper.Type.PROFILE.toString())) {
+            final UpdateProfileJobRequest updateProfileJobRequest = HandlerMetrics.translate(() -> UpdateProfileJobRequest.builder()
                     .encryptionKeyArn(model.getEncryptionKeyArn())
                     .encryptionMode(model.getEncryptionMode())
                     .name(jobName)
@@ -85,26 +126,36 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
                     .jobSample(ModelHelper.buildModelJobSample(model.getJobSample()))
                     .configuration(ModelHelper.buildRequestProfileConfiguration(model.getProfileConfiguration()))
                     .validationConfigurations(ModelHelper.buildRequestValidationConfigurations(model.getValidationConfigurations()))
-                    .build();
+                    .build());
 
             try {
                 proxy.injectCredentialsAndInvokeV2(updateProfileJobRequest, databrewClient::updateProfileJob);
-                logger.log(String.format("%s [%s] Created Successfully", ResourceModel.TYPE_NAME, jobName));
-            } catch (ResourceNotFoundException ex) {
-                logger.log(String.format("%s [%s] Does Not Exist", ResourceModel.TYPE_NAME, jobName));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-            } catch (ConflictException ex) {
-                logger.log(String.format("%s [%s] Already Exists", ResourceModel.TYPE_NAME, jobName));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.AlreadyExists);
-            } catch (ValidationException ex) {
-                logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, jobName));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
+                log.success("Updated");
+            } catch (DataBrewException ex) {
+                log.failure("UpdateFailed", ex);
+                return DataBrewErrors.failure("UPDATE", ex);
+            }
+        }
+
+        final TagReconciler.Changes tagChanges = TagReconciler.diff(previousModel == null ? null : previousModel.getTags(),
+                model.getTags(), Tag::getKey, Tag::getValue);
+        if (!tagChanges.isEmpty()) {
+            try {
+                TagReconciler.reconcile(proxy, databrewClient, ResourceArns.of(request, "job", jobName), tagChanges);
+                log.success("TagsUpdated");
             } catch (DataBrewException ex) {
-                logger.log(String.format("%s Create Failed", ResourceModel.TYPE_NAME));
-                return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+                log.failure("TagsUpdateFailed", ex);
+                return DataBrewErrors.failure("UPDATE", ex);
             }
         }
 
+        // the READ that usually follows an UPDATE can use this response
+        final DescribeJobRequest describeJobRequest = DescribeJobRequest.builder()
+                .name(jobName)
+                .build();
+        DescribeCache.shared().refresh(DescribeCache.key(request, "job", jobName),
+                () -> proxy.injectCredentialsAndInvokeV2(describeJobRequest, databrewClient::describeJob));
+
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .resourceModel(model)
                 .status(OperationStatus.SUCCESS)
@@ -1,9 +1,11 @@
 package software.amazon.databrew.job;
 
 import software.amazon.awssdk.services.databrew.model.ConflictException;
+import software.amazon.awssdk.services.databrew.model.CreateProfileJobRequest;
 import software.amazon.awssdk.services.databrew.model.CreateProfileJobResponse;
 import software.amazon.awssdk.services.databrew.model.CreateRecipeJobResponse;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
+import software.amazon.awssdk.services.databrew.model.DescribeJobRequest;
 import software.amazon.awssdk.services.databrew.model.OutputFormat;
 import software.amazon.awssdk.services.databrew.model.ProfileConfiguration;
 import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
@@ -16,6 +18,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.Stabilization;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +33,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static software.amazon.databrew.job.TestUtil.CSV_OUTPUT_WITH_MAX_OUTPUT_FILES;
 import static software.amazon.databrew.job.TestUtil.DATA_CATALOG_OUTPUT_LIST;
 import static software.amazon.databrew.job.TestUtil.INVALID_JOB_NAME;
@@ -946,7 +951,7 @@ public class CreateHandlerTest {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).isNull();
-        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
     }
 
     @Test
@@ -973,7 +978,84 @@ public class CreateHandlerTest {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).isNull();
-        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
     }
 
+    @Test
+    public void handleRequest_InProgress_NotYetReadable() {
+        final CreateHandler handler = new CreateHandler();
+        doReturn(CreateProfileJobResponse.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(CreateProfileJobRequest.class), any());
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeJobRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .type(JOB_TYPE_PROFILE)
+                        .name(JOB_NAME)
+                        .build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isGreaterThan(0);
+        assertThat(response.getCallbackContext().isCreated()).isTrue();
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(response.getCallbackContext().getLastObservedState()).isEqualTo(Stabilization.NOT_FOUND);
+    }
+
+    @Test
+    public void handleRequest_Stabilized_OnCallback() {
+        final CreateHandler handler = new CreateHandler();
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .created(true)
+                .stabilizationAttempts(1)
+                .stabilizationStartTime(System.currentTimeMillis())
+                .lastObservedState(Stabilization.NOT_FOUND)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .type(JOB_TYPE_PROFILE)
+                        .name(JOB_NAME)
+                        .build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxy).injectCredentialsAndInvokeV2(any(DescribeJobRequest.class), any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(CreateProfileJobRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_NotStabilized() {
+        final CreateHandler handler = new CreateHandler();
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeJobRequest.class), any());
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .created(true)
+                .stabilizationAttempts(1)
+                .stabilizationStartTime(0L)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .type(JOB_TYPE_PROFILE)
+                        .name(JOB_NAME)
+                        .build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+    }
 }
@@ -1,8 +1,18 @@
 package software.amazon.databrew.job;
 
+import software.amazon.awssdk.services.databrew.model.ConflictException;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
+import software.amazon.awssdk.services.databrew.model.DeleteJobRequest;
 import software.amazon.awssdk.services.databrew.model.DeleteJobResponse;
+import software.amazon.awssdk.services.databrew.model.DescribeJobRequest;
+import software.amazon.awssdk.services.databrew.model.DescribeJobResponse;
+import software.amazon.awssdk.services.databrew.model.JobRun;
+import software.amazon.awssdk.services.databrew.model.JobRunState;
+import software.amazon.awssdk.services.databrew.model.ListJobRunsRequest;
+import software.amazon.awssdk.services.databrew.model.ListJobRunsResponse;
 import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.databrew.model.StopJobRunRequest;
+import software.amazon.awssdk.services.databrew.model.StopJobRunResponse;
 import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -10,10 +20,12 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.JobRunDrain;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -22,6 +34,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class DeleteHandlerTest {
@@ -44,7 +59,10 @@ public class DeleteHandlerTest {
         final DeleteJobResponse deleteJobResponse = DeleteJobResponse.builder().build();
         doReturn(deleteJobResponse)
                 .when(proxy)
-                .injectCredentialsAndInvokeV2(any(), any());
+                .injectCredentialsAndInvokeV2(any(DeleteJobRequest.class), any());
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeJobRequest.class), any());
 
         final ResourceModel model = ResourceModel.builder()
                 .name(TestUtil.JOB_NAME)
@@ -116,6 +134,31 @@ public class DeleteHandlerTest {
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
     }
 
+    @Test
+    public void handleRequest_FailedDelete_ConflictException() {
+        doThrow(ConflictException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DeleteJobRequest.class), any());
+
+        final DeleteHandler handler = new DeleteHandler();
+        final ResourceModel model = ResourceModel.builder()
+                .name(TestUtil.JOB_NAME)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ResourceConflict);
+    }
+
     @Test
     public void handleRequest_FailedDelete_InvalidParameterException() {
         doThrow(ValidationException.class)
@@ -139,4 +182,161 @@ public class DeleteHandlerTest {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
     }
+
+    @Test
+    public void handleRequest_Drain_StopsActiveRuns() {
+        final DeleteHandler handler = new DeleteHandler(new JobRunDrain(true, 2));
+        doReturn(ListJobRunsResponse.builder()
+                .jobRuns(jobRun("run-1", JobRunState.RUNNING),
+                        jobRun("run-2", JobRunState.STOPPING),
+                        jobRun("run-3", JobRunState.SUCCEEDED))
+                .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListJobRunsRequest.class), any());
+        doReturn(StopJobRunResponse.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(StopJobRunRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.JOB_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().isRunsDrained()).isFalse();
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(response.getCallbackDelaySeconds()).isGreaterThan(0);
+        final ArgumentCaptor<StopJobRunRequest> stopJobRunRequest = ArgumentCaptor.forClass(StopJobRunRequest.class);
+        verify(proxy).injectCredentialsAndInvokeV2(stopJobRunRequest.capture(), any());
+        assertThat(stopJobRunRequest.getValue().runId()).isEqualTo("run-1");
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(DeleteJobRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_Drain_StopsPagingAtFinishedRuns() {
+        final DeleteHandler handler = new DeleteHandler(new JobRunDrain(true, 2));
+        doReturn(ListJobRunsResponse.builder().jobRuns(jobRun("run-1", JobRunState.STOPPING)).nextToken("token-1").build(),
+                ListJobRunsResponse.builder().jobRuns(jobRun("run-2", JobRunState.SUCCEEDED)).nextToken("token-2").build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListJobRunsRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.JOB_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getLastObservedState()).isEqualTo("1 active runs");
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(ListJobRunsRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_Drain_StopRejected() {
+        final DeleteHandler handler = new DeleteHandler(new JobRunDrain(true, 2));
+        doReturn(ListJobRunsResponse.builder().jobRuns(jobRun("run-1", JobRunState.RUNNING)).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListJobRunsRequest.class), any());
+        doThrow(ValidationException.builder().message("invalid run id").build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(StopJobRunRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.JOB_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("invalid run id");
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(DeleteJobRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_Drain_DeletesOnceNoRunIsActive() {
+        final DeleteHandler handler = new DeleteHandler(new JobRunDrain(true, 2));
+        doReturn(ListJobRunsResponse.builder().jobRuns(jobRun("run-1", JobRunState.STOPPED)).nextToken("token").build(),
+                ListJobRunsResponse.builder().jobRuns(jobRun("run-2", JobRunState.SUCCEEDED)).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListJobRunsRequest.class), any());
+        doReturn(DeleteJobResponse.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DeleteJobRequest.class), any());
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeJobRequest.class), any());
+        final CallbackContext context = CallbackContext.builder()
+                .stabilizationAttempts(1)
+                .stabilizationStartTime(System.currentTimeMillis())
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.JOB_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, context, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(StopJobRunRequest.class), any());
+        verify(proxy).injectCredentialsAndInvokeV2(any(DeleteJobRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_StillExists_InProgress() {
+        final DeleteHandler handler = new DeleteHandler();
+        doReturn(DeleteJobResponse.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DeleteJobRequest.class), any());
+        doReturn(DescribeJobResponse.builder().name(TestUtil.JOB_NAME).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeJobRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.JOB_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().isDeleted()).isTrue();
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(response.getCallbackDelaySeconds()).isGreaterThan(0);
+    }
+
+    @Test
+    public void handleRequest_Deleted_SuccessOnceNotFound() {
+        final DeleteHandler handler = new DeleteHandler();
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeJobRequest.class), any());
+        final CallbackContext context = new CallbackContext();
+        context.setDeleted(true);
+        context.setStabilizationAttempts(1);
+        context.setStabilizationStartTime(System.currentTimeMillis());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.JOB_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, context, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(DeleteJobRequest.class), any());
+    }
+
+    private static JobRun jobRun(final String runId, final JobRunState state) {
+        return JobRun.builder()
+                .jobName(TestUtil.JOB_NAME)
+                .runId(runId)
+                .state(state)
+                .build();
+    }
 }
@@ -1,7 +1,10 @@
 package software.amazon.databrew.job;
 
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
+import software.amazon.awssdk.services.databrew.model.DescribeJobRequest;
+import software.amazon.awssdk.services.databrew.model.DescribeJobResponse;
 import software.amazon.awssdk.services.databrew.model.Job;
+import software.amazon.awssdk.services.databrew.model.ListJobsRequest;
 import software.amazon.awssdk.services.databrew.model.ListJobsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -9,10 +12,12 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.ParallelDescriber;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -25,6 +30,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static software.amazon.databrew.job.TestUtil.assertThatJobModelsAreEqual;
 
 @ExtendWith(MockitoExtension.class)
@@ -213,4 +219,63 @@ public class ListHandlerTest {
         assertThat(response.getErrorCode()).isNull();
         assertThatJobModelsAreEqual(response.getResourceModels().get(0), job);
     }
+
+    @Test
+    public void handleRequest_SuccessfulList_ReturnsServiceNextToken() {
+        final ListHandler handler = new ListHandler();
+
+        doReturn(ListJobsResponse.builder().nextToken("page-3").build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .nextToken("page-2")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        final ArgumentCaptor<ListJobsRequest> captor = ArgumentCaptor.forClass(ListJobsRequest.class);
+        verify(proxy).injectCredentialsAndInvokeV2(captor.capture(), any());
+        assertThat(captor.getValue().nextToken()).isEqualTo("page-2");
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+        assertThat(response.getNextToken()).isEqualTo("page-3");
+    }
+
+    @Test
+    public void handleRequest_SuccessfulList_CompleteModels() {
+        final ListHandler handler = new ListHandler(new ParallelDescriber(true, 2));
+
+        final Job job = Job.builder()
+                .type(TestUtil.JOB_TYPE_RECIPE)
+                .name(TestUtil.JOB_NAME)
+                .outputs(TestUtil.OUTPUTS)
+                .build();
+        final DescribeJobResponse describeJobResponse = DescribeJobResponse.builder()
+                .type(TestUtil.JOB_TYPE_RECIPE)
+                .name(TestUtil.JOB_NAME)
+                .outputs(TestUtil.OUTPUTS)
+                .databaseOutputs(TestUtil.DATABASE_OUTPUT_LIST)
+                .build();
+
+        doReturn(ListJobsResponse.builder().jobs(job).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListJobsRequest.class), any());
+        doReturn(describeJobResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeJobRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getResourceModels().get(0).getDatabaseOutputs()).hasSize(TestUtil.DATABASE_OUTPUT_LIST.size());
+    }
 }
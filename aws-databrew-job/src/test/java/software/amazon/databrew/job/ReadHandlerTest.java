@@ -11,6 +11,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DescribeCache;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest {
@@ -260,4 +263,26 @@ public class ReadHandlerTest {
         assertThat(response.getResourceModel().getOutputLocation()).isNotNull();
         assertThat(response.getResourceModel().getOutputLocation().getBucketOwner()).isEqualTo(TestUtil.VALID_BUCKET_OWNER);
     }
+
+    @Test
+    public void handleRequest_CachedDescribe() {
+        final ReadHandler handler = new ReadHandler(new DescribeCache(60_000L, 10));
+        doReturn(DescribeJobResponse.builder().name(TestUtil.JOB_NAME).type(TestUtil.JOB_TYPE_RECIPE).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.JOB_NAME).build())
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .build();
+
+        handler.handleRequest(proxy, request, null, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getName()).isEqualTo(TestUtil.JOB_NAME);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(any(), any());
+    }
 }
@@ -3,12 +3,16 @@ package software.amazon.databrew.job;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.services.databrew.model.ConflictException;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
 import software.amazon.awssdk.services.databrew.model.OutputFormat;
 import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.databrew.model.TagResourceRequest;
+import software.amazon.awssdk.services.databrew.model.UntagResourceRequest;
 import software.amazon.awssdk.services.databrew.model.UpdateProfileJobResponse;
 import software.amazon.awssdk.services.databrew.model.UpdateRecipeJobResponse;
 import software.amazon.awssdk.services.databrew.model.ValidationException;
@@ -23,6 +27,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,6 +35,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static software.amazon.databrew.job.TestUtil.JOB_TYPE_RECIPE;
 import static software.amazon.databrew.job.TestUtil.JOB_NAME;
 import static software.amazon.databrew.job.TestUtil.JOB_TYPE_PROFILE;
@@ -449,7 +457,7 @@ public class UpdateHandlerTest {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).isNull();
-        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ResourceConflict);
     }
 
     @Test
@@ -776,7 +784,7 @@ public class UpdateHandlerTest {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).isNull();
-        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
     }
 
     @Test
@@ -836,7 +844,76 @@ public class UpdateHandlerTest {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).isNull();
-        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
+    }
+
+    @Test
+    public void handleRequest_Unchanged_SkipsUpdate() {
+        final UpdateHandler handler = new UpdateHandler();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .type(TestUtil.JOB_TYPE_PROFILE)
+                .name(TestUtil.JOB_NAME)
+                .timeout(TestUtil.TIMEOUT)
+                .validationConfigurations(ModelHelper.buildModelValidationConfigurations(TestUtil.createValidationConfigurations()))
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .type(TestUtil.JOB_TYPE_PROFILE)
+                .name(TestUtil.JOB_NAME)
+                .timeout(TestUtil.TIMEOUT)
+                .validationConfigurations(ModelHelper.buildModelValidationConfigurations(TestUtil.createValidationConfigurations()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(), any());
     }
 
+    @Test
+    public void handleRequest_TagsChanged_ReconcilesTagsOnly() {
+        final UpdateHandler handler = new UpdateHandler();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .type(TestUtil.JOB_TYPE_PROFILE)
+                .name(TestUtil.JOB_NAME)
+                .timeout(TestUtil.TIMEOUT)
+                .validationConfigurations(ModelHelper.buildModelValidationConfigurations(TestUtil.createValidationConfigurations()))
+                .tags(Arrays.asList(Tag.builder().key("kept").value("v").build(),
+                        Tag.builder().key("changed").value("old").build(),
+                        Tag.builder().key("removed").value("v").build()))
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .type(TestUtil.JOB_TYPE_PROFILE)
+                .name(TestUtil.JOB_NAME)
+                .timeout(TestUtil.TIMEOUT)
+                .validationConfigurations(ModelHelper.buildModelValidationConfigurations(TestUtil.createValidationConfigurations()))
+                .tags(Arrays.asList(Tag.builder().key("kept").value("v").build(),
+                        Tag.builder().key("changed").value("new").build(),
+                        Tag.builder().key("added").value("v").build()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<AwsRequest> requests = ArgumentCaptor.forClass(AwsRequest.class);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(requests.capture(), any());
+        final TagResourceRequest tagResourceRequest = (TagResourceRequest) requests.getAllValues().get(0);
+        assertThat(tagResourceRequest.tags()).containsOnlyKeys("changed", "added");
+        final UntagResourceRequest untagResourceRequest = (UntagResourceRequest) requests.getAllValues().get(1);
+        assertThat(untagResourceRequest.tagKeys()).containsExactly("removed");
+    }
 }
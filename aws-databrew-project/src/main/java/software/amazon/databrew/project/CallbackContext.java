@@ -1,12 +1,22 @@
 package software.amazon.databrew.project;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import software.amazon.databrew.common.Stabilization;
+import software.amazon.databrew.common.Tracing;
 
 @Data
 @NoArgsConstructor
+@AllArgsConstructor
 @Builder
-public class CallbackContext {
-
+public class CallbackContext implements Tracing.TraceContext, Stabilization.Context {
+    // the delete call succeeded, later invocations only wait for the project to disappear
+    private boolean deleted;
+    private int stabilizationAttempts;
+    private long stabilizationStartTime;
+    private String lastObservedState;
+    // W3C traceparent of the first invocation, links all invocations of the operation into one trace
+    private String traceParent;
 }
@@ -3,11 +3,15 @@ package software.amazon.databrew.project;
 import software.amazon.awssdk.services.databrew.DataBrewClient;
 import software.amazon.awssdk.services.databrew.model.*;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
 
 import java.util.ArrayList;
 
@@ -19,40 +23,39 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "CREATE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "CREATE", model.getName());
 
         final String projectName = model.getName();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
+        DescribeCache.shared().invalidate(DescribeCache.key(request, "project", projectName));
 
-        final CreateProjectRequest createprojectRequest = CreateProjectRequest.builder()
+        final CreateProjectRequest createprojectRequest = HandlerMetrics.translate(() -> CreateProjectRequest.builder()
                 .datasetName(model.getDatasetName())
                 .name(projectName)
                 .recipeName(model.getRecipeName())
                 .sample(ModelHelper.buildRequestSample(model.getSample()))
                 .roleArn(model.getRoleArn())
                 .tags(ModelHelper.buildTagInputMap(model.getTags()))
-                .build();
+                .build());
 
         try {
             proxy.injectCredentialsAndInvokeV2(createprojectRequest, databrewClient::createProject);
             model.setTags(model.getTags() == null ? new ArrayList<>() : model.getTags());
-            logger.log(String.format("%s [%s] Created Successfully", ResourceModel.TYPE_NAME, projectName));
-        } catch (ConflictException ex) {
-            logger.log(String.format("%s [%s] Already Exists", ResourceModel.TYPE_NAME, projectName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.AlreadyExists);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, projectName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
-        } catch (ServiceQuotaExceededException ex) {
-            logger.log(String.format("%s [%s] Limit Exceeded", ResourceModel.TYPE_NAME, projectName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceLimitExceeded);
-        } catch (InternalServerException ex) {
-            logger.log(String.format("%s [%s] Created Failed", ResourceModel.TYPE_NAME, projectName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.success("Created");
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Created Failed", ResourceModel.TYPE_NAME, projectName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("CreateFailed", ex);
+            return DataBrewErrors.failure("CREATE", ex);
         }
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
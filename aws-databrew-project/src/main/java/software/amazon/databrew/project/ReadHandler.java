@@ -4,24 +4,47 @@ import software.amazon.awssdk.services.databrew.DataBrewClient;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
 import software.amazon.awssdk.services.databrew.model.DescribeProjectRequest;
 import software.amazon.awssdk.services.databrew.model.DescribeProjectResponse;
-import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
 
 public class ReadHandler extends BaseHandler<CallbackContext> {
 
+    private final DescribeCache cache;
+
+    public ReadHandler() {
+        this(DescribeCache.shared());
+    }
+
+    ReadHandler(final DescribeCache cache) {
+        this.cache = cache;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "READ", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "READ", model.getName());
 
         final String projectName = model.getName();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
@@ -31,19 +54,17 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
 
         final DescribeProjectResponse describeProjectResponse;
         try {
-            describeProjectResponse = proxy.injectCredentialsAndInvokeV2(describeProjectRequest, databrewClient::describeProject);
-            logger.log(String.format("%s [%s] Read Successfully", ResourceModel.TYPE_NAME, projectName));
-            ResourceModel resultModel = ModelHelper.constructModel(describeProjectResponse);
+            describeProjectResponse = cache.getOrLoad(DescribeCache.key(request, "project", projectName), DescribeProjectResponse.class,
+                    () -> proxy.injectCredentialsAndInvokeV2(describeProjectRequest, databrewClient::describeProject));
+            log.success("Read");
+            ResourceModel resultModel = HandlerMetrics.translate(() -> ModelHelper.constructModel(describeProjectResponse));
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .resourceModel(resultModel)
                     .status(OperationStatus.SUCCESS)
                     .build();
-        } catch (ResourceNotFoundException ex) {
-            logger.log(String.format("%s [%s] Does Not Exist", ResourceModel.TYPE_NAME, projectName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Read Failed", ResourceModel.TYPE_NAME, projectName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("ReadFailed", ex);
+            return DataBrewErrors.failure("READ", ex);
         }
     }
 }
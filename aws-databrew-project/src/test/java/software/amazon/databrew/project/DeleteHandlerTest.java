@@ -18,6 +18,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.doReturn;
 
 
@@ -42,7 +44,10 @@ public class DeleteHandlerTest {
         final DeleteProjectResponse deleteProjectResponse = DeleteProjectResponse.builder().build();
         doReturn(deleteProjectResponse)
                 .when(proxy)
-                .injectCredentialsAndInvokeV2(any(), any());
+                .injectCredentialsAndInvokeV2(any(DeleteProjectRequest.class), any());
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeProjectRequest.class), any());
 
         final ResourceModel model = ResourceModel.builder()
                 .name(TestUtil.PROJECT_NAME)
@@ -114,4 +119,74 @@ public class DeleteHandlerTest {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
     }
+
+    @Test
+    public void handleRequest_FailedDelete_ConflictException() {
+        doThrow(ConflictException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DeleteProjectRequest.class), any());
+
+        final DeleteHandler handler = new DeleteHandler();
+        final ResourceModel model = ResourceModel.builder()
+                .name(TestUtil.PROJECT_NAME)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ResourceConflict);
+    }
+
+    @Test
+    public void handleRequest_StillExists_InProgress() {
+        final DeleteHandler handler = new DeleteHandler();
+        doReturn(DeleteProjectResponse.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DeleteProjectRequest.class), any());
+        doReturn(DescribeProjectResponse.builder().name(TestUtil.PROJECT_NAME).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeProjectRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.PROJECT_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().isDeleted()).isTrue();
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(response.getCallbackDelaySeconds()).isGreaterThan(0);
+    }
+
+    @Test
+    public void handleRequest_Deleted_SuccessOnceNotFound() {
+        final DeleteHandler handler = new DeleteHandler();
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeProjectRequest.class), any());
+        final CallbackContext context = new CallbackContext();
+        context.setDeleted(true);
+        context.setStabilizationAttempts(1);
+        context.setStabilizationStartTime(System.currentTimeMillis());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.PROJECT_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, context, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(DeleteProjectRequest.class), any());
+    }
 }
@@ -9,12 +9,14 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.doReturn;
 
 import java.util.ArrayList;
@@ -73,4 +75,28 @@ public class ListHandlerTest {
         TestUtil.assertThatModelsAreEqual(response.getResourceModels().get(0), project1);
         TestUtil.assertThatModelsAreEqual(response.getResourceModels().get(1), project2);
     }
+
+    @Test
+    public void handleRequest_SuccessfulList_ReturnsServiceNextToken() {
+        final ListHandler handler = new ListHandler();
+
+        doReturn(ListProjectsResponse.builder().nextToken("page-3").build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .nextToken("page-2")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        final ArgumentCaptor<ListProjectsRequest> captor = ArgumentCaptor.forClass(ListProjectsRequest.class);
+        verify(proxy).injectCredentialsAndInvokeV2(captor.capture(), any());
+        assertThat(captor.getValue().nextToken()).isEqualTo("page-2");
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+        assertThat(response.getNextToken()).isEqualTo("page-3");
+    }
 }
@@ -1,12 +1,25 @@
 package software.amazon.databrew.recipe;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import software.amazon.databrew.common.Stabilization;
+import software.amazon.databrew.common.Tracing;
 
 @Data
 @NoArgsConstructor
+@AllArgsConstructor
 @Builder
-public class CallbackContext {
-
+public class CallbackContext implements Tracing.TraceContext, Stabilization.Context {
+    // all published versions are gone, later invocations only delete the working version
+    private boolean publishedVersionsDeleted;
+    private int deletedVersions;
+    // the delete call succeeded, later invocations only wait for the recipe to disappear
+    private boolean deleted;
+    private int stabilizationAttempts;
+    private long stabilizationStartTime;
+    private String lastObservedState;
+    // W3C traceparent of the first invocation, links all invocations of the operation into one trace
+    private String traceParent;
 }
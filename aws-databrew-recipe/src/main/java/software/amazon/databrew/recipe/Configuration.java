@@ -6,6 +6,11 @@ import org.json.JSONTokener;
 
 class Configuration extends BaseConfiguration {
 
+    static {
+        // the wrapper creates the configuration during Lambda init, warm the client up while we are there
+        ClientBuilder.warmUp();
+    }
+
     public Configuration() {
         super("aws-databrew-recipe.json");
     }
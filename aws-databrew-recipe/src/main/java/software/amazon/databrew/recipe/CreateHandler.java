@@ -1,17 +1,18 @@
 package software.amazon.databrew.recipe;
 
 import software.amazon.awssdk.services.databrew.DataBrewClient;
-import software.amazon.awssdk.services.databrew.model.ConflictException;
 import software.amazon.awssdk.services.databrew.model.CreateRecipeRequest;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
-import software.amazon.awssdk.services.databrew.model.ServiceQuotaExceededException;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
 
 import java.util.ArrayList;
 
@@ -23,34 +24,37 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "CREATE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "CREATE", model.getName());
         final String recipeName = model.getName();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
+        DescribeCache.shared().invalidate(DescribeCache.key(request, "recipe", recipeName));
+        RecipeVersionCache.shared().invalidate(DescribeCache.key(request, "recipe", recipeName));
 
-        final CreateRecipeRequest createRecipeRequest = CreateRecipeRequest.builder()
+        final CreateRecipeRequest createRecipeRequest = HandlerMetrics.translate(() -> CreateRecipeRequest.builder()
                 .description(model.getDescription())
                 .name(recipeName)
                 .steps(ModelHelper.buildRequestRecipeSteps(model.getSteps()))
                 .tags(ModelHelper.buildTagInputMap(model.getTags()))
-                .build();
+                .build());
 
         try {
             proxy.injectCredentialsAndInvokeV2(createRecipeRequest, databrewClient::createRecipe);
             model.setTags(model.getTags() == null ? new ArrayList<>() : model.getTags());
-            logger.log(String.format("%s [%s] Created Successfully", ResourceModel.TYPE_NAME, recipeName));
-        } catch (ConflictException ex) {
-            logger.log(String.format("%s [%s] Already Exists", ResourceModel.TYPE_NAME, recipeName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.AlreadyExists);
-        } catch (ServiceQuotaExceededException ex) {
-            logger.log(String.format("%s [%s] Limit Exceeded", ResourceModel.TYPE_NAME, recipeName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceLimitExceeded);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, recipeName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
+            log.success("Created");
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Created Failed", ResourceModel.TYPE_NAME, recipeName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("CreateFailed", ex);
+            return DataBrewErrors.failure("CREATE", ex);
         }
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
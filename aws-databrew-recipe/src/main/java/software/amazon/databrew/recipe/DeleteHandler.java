@@ -1,51 +1,238 @@
 package software.amazon.databrew.recipe;
 
 import software.amazon.awssdk.services.databrew.DataBrewClient;
+import software.amazon.awssdk.services.databrew.model.BatchDeleteRecipeVersionRequest;
+import software.amazon.awssdk.services.databrew.model.BatchDeleteRecipeVersionResponse;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
 import software.amazon.awssdk.services.databrew.model.DeleteRecipeVersionRequest;
+import software.amazon.awssdk.services.databrew.model.DescribeRecipeRequest;
+import software.amazon.awssdk.services.databrew.model.ListRecipeVersionsRequest;
+import software.amazon.awssdk.services.databrew.model.ListRecipeVersionsResponse;
+import software.amazon.awssdk.services.databrew.model.Recipe;
+import software.amazon.awssdk.services.databrew.model.RecipeVersionErrorDetail;
 import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.CollectionUtils;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.Stabilization;
+import software.amazon.databrew.common.Tracing;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 public class DeleteHandler extends BaseHandler<CallbackContext> {
     private static final String LATEST_WORKING = "LATEST_WORKING";
+    private static final String NOT_FOUND = "ResourceNotFoundException";
+    private static final String CONFLICT = "ConflictException";
+
+    // BatchDeleteRecipeVersion accepts at most 50 versions per call
+    static final int BATCH_SIZE = 50;
+    static final int LIST_PAGE_SIZE = 100;
+    // leaves room for the working version delete within one handler invocation
+    static final long TIME_BUDGET_MILLIS = 30_000L;
+    static final int RESUME_DELAY_SECONDS = 1;
+
+    private final LongSupplier clock;
+
+    public DeleteHandler() {
+        this(System::currentTimeMillis);
+    }
+
+    DeleteHandler(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "DELETE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "DELETE", model.getName());
         final String recipeName = model.getName();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
+        final CallbackContext context = callbackContext == null ? new CallbackContext() : callbackContext;
+
+        if (!context.isDeleted()) {
+            if (!context.isPublishedVersionsDeleted()) {
+                final ProgressEvent<ResourceModel, CallbackContext> progress
+                        = deletePublishedVersions(proxy, databrewClient, model, context, log);
+                if (progress != null) {
+                    return progress;
+                }
+            }
+
+            final DeleteRecipeVersionRequest deleteRecipeVersionRequest = DeleteRecipeVersionRequest.builder()
+                    .name(recipeName)
+                    .recipeVersion(LATEST_WORKING)
+                    .build();
+
+            try {
+                proxy.injectCredentialsAndInvokeV2(deleteRecipeVersionRequest, databrewClient::deleteRecipeVersion);
+                log.success("Deleted");
+            } catch (DataBrewException ex) {
+                log.failure("DeleteFailed", ex);
+                return DataBrewErrors.failure("DELETE", ex);
+            }
+
+            DescribeCache.shared().invalidate(DescribeCache.key(request, "recipe", recipeName));
+            RecipeVersionCache.shared().invalidate(DescribeCache.key(request, "recipe", recipeName));
+
+            // deleting the published versions used its own attempts
+            context.setDeleted(true);
+            context.setStabilizationAttempts(0);
+            context.setStabilizationStartTime(clock.getAsLong());
+        }
+        return Tracing.span("Stabilize", () -> stabilize(proxy, databrewClient, model, context, log));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> stabilize(
+        final AmazonWebServicesClientProxy proxy,
+        final DataBrewClient databrewClient,
+        final ResourceModel model,
+        final CallbackContext context,
+        final HandlerLog log) {
 
-        final DeleteRecipeVersionRequest deleteRecipeVersionRequest = DeleteRecipeVersionRequest.builder()
+        final String recipeName = model.getName();
+        final DescribeRecipeRequest describeRecipeRequest = DescribeRecipeRequest.builder()
                 .name(recipeName)
-                .recipeVersion(LATEST_WORKING)
                 .build();
+        return Stabilization.awaitDeleted(() -> proxy.injectCredentialsAndInvokeV2(describeRecipeRequest, databrewClient::describeRecipe),
+                model, context, log, clock);
+    }
 
+    /**
+     * Deletes the published versions in batches. Versions disappear from the listing once deleted, so every
+     * round lists the first page again instead of following the next token. A round that deletes nothing
+     * means the listing still shows versions that are already gone, so the handler waits for it to catch up
+     * instead of listing again right away. Like the other waits it gives up once
+     * {@link Stabilization#isExhausted} says so, counting only the rounds since versions were last deleted:
+     * a recipe with many versions that runs out of TIME_BUDGET_MILLIS is making progress, not stuck.
+     *
+     * @return null once no published version is left, otherwise the event to return
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> deletePublishedVersions(
+        final AmazonWebServicesClientProxy proxy,
+        final DataBrewClient databrewClient,
+        final ResourceModel model,
+        final CallbackContext context,
+        final HandlerLog log) {
+
+        final String recipeName = model.getName();
+        final long start = clock.getAsLong();
+        if (context.getStabilizationStartTime() == 0L) {
+            context.setStabilizationStartTime(start);
+        }
+        context.setStabilizationAttempts(context.getStabilizationAttempts() + 1);
+        final ListRecipeVersionsRequest listRecipeVersionsRequest = ListRecipeVersionsRequest.builder()
+                .name(recipeName)
+                .maxResults(LIST_PAGE_SIZE)
+                .build();
+        final int callbackDelaySeconds;
         try {
-            proxy.injectCredentialsAndInvokeV2(deleteRecipeVersionRequest, databrewClient::deleteRecipeVersion);
-            logger.log(String.format("%s [%s] Deleted Successfully", ResourceModel.TYPE_NAME, recipeName));
-        } catch (ResourceNotFoundException ex) {
-            logger.log(String.format("%s [%s] Does Not Exist", ResourceModel.TYPE_NAME, recipeName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, recipeName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
+            while (true) {
+                final ListRecipeVersionsResponse listRecipeVersionsResponse
+                        = proxy.injectCredentialsAndInvokeV2(listRecipeVersionsRequest, databrewClient::listRecipeVersions);
+                final List<String> versions = listRecipeVersionsResponse.recipes().stream()
+                        .map(Recipe::recipeVersion)
+                        .filter(version -> !LATEST_WORKING.equals(version))
+                        .collect(Collectors.toList());
+                if (versions.isEmpty()) {
+                    context.setPublishedVersionsDeleted(true);
+                    return null;
+                }
+
+                int deleted = 0;
+                for (final List<String> batch : CollectionUtils.partition(versions, BATCH_SIZE)) {
+                    final BatchDeleteRecipeVersionRequest batchDeleteRecipeVersionRequest = BatchDeleteRecipeVersionRequest.builder()
+                            .name(recipeName)
+                            .recipeVersions(batch)
+                            .build();
+                    final BatchDeleteRecipeVersionResponse batchDeleteRecipeVersionResponse
+                            = proxy.injectCredentialsAndInvokeV2(batchDeleteRecipeVersionRequest, databrewClient::batchDeleteRecipeVersion);
+                    final List<RecipeVersionErrorDetail> errors = batchDeleteRecipeVersionResponse.errors().stream()
+                            .filter(error -> !NOT_FOUND.equals(error.errorCode()))
+                            .collect(Collectors.toList());
+                    if (!errors.isEmpty()) {
+                        final ProgressEvent<ResourceModel, CallbackContext> failure = batchFailure(recipeName, errors);
+                        log.failure("VersionsDeleteFailed", failure.getErrorCode(), "versions", errors.size());
+                        return failure;
+                    }
+                    // the remaining errors are versions that were already gone
+                    deleted += batch.size() - batchDeleteRecipeVersionResponse.errors().size();
+                }
+                context.setDeletedVersions(context.getDeletedVersions() + deleted);
+                if (deleted == 0) {
+                    context.setLastObservedState(String.format("%d versions listed but not found", versions.size()));
+                    if (Stabilization.isExhausted(context.getStabilizationAttempts(), context.getStabilizationStartTime(), clock.getAsLong())) {
+                        return notStabilized(recipeName, context, log);
+                    }
+                    callbackDelaySeconds = Stabilization.callbackDelaySeconds(context.getStabilizationAttempts());
+                    break;
+                }
+                context.setStabilizationAttempts(0);
+                context.setStabilizationStartTime(clock.getAsLong());
+                log.success("VersionsDeleted", "versions", context.getDeletedVersions());
+
+                if (clock.getAsLong() - start >= TIME_BUDGET_MILLIS) {
+                    context.setLastObservedState(String.format("%d versions deleted", context.getDeletedVersions()));
+                    callbackDelaySeconds = RESUME_DELAY_SECONDS;
+                    break;
+                }
+            }
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Deleted Failed", ResourceModel.TYPE_NAME, recipeName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("DeleteFailed", ex);
+            return DataBrewErrors.failure("DELETE", ex);
         }
+        return ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds, model);
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> notStabilized(
+        final String recipeName,
+        final CallbackContext context,
+        final HandlerLog log) {
+
+        log.failure("VersionsNotDeleted", HandlerErrorCode.NotStabilized, "attempts", context.getStabilizationAttempts());
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .status(OperationStatus.FAILED)
+                .errorCode(HandlerErrorCode.NotStabilized)
+                .message(String.format("%s [%s] still has published versions after %d attempts, last observed state %s",
+                        ResourceModel.TYPE_NAME, recipeName, context.getStabilizationAttempts(), context.getLastObservedState()))
+                .build();
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> batchFailure(
+        final String recipeName,
+        final List<RecipeVersionErrorDetail> errors) {
 
+        final boolean conflict = errors.stream().allMatch(error -> CONFLICT.equals(error.errorCode()));
+        final String details = errors.stream()
+                .map(error -> String.format("%s (%s: %s)", error.recipeVersion(), error.errorCode(), error.errorMessage()))
+                .collect(Collectors.joining(", "));
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .status(OperationStatus.SUCCESS)
+                .status(OperationStatus.FAILED)
+                .errorCode(conflict ? HandlerErrorCode.ResourceConflict : HandlerErrorCode.GeneralServiceException)
+                .message(String.format("%s [%s] could not delete versions %s", ResourceModel.TYPE_NAME, recipeName, details))
                 .build();
     }
 }
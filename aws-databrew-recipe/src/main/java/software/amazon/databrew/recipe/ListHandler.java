@@ -9,14 +9,18 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.ListPaging;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
     private static final String LATEST_WORKING = "LATEST_WORKING";
-    private static final int MAX_RESULTS = 100;
+    private static final ListPaging PAGING = ListPaging.fromEnvironment("Recipe");
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -24,38 +28,50 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "LIST", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "LIST", null);
         final ResourceModel m = request.getDesiredResourceState();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
 
         final ListRecipesRequest listRecipesRequest = ListRecipesRequest.builder()
-                .maxResults(MAX_RESULTS)
-                .nextToken(request.getNextToken())
+                .maxResults(PAGING.getPageSize())
                 .recipeVersion(LATEST_WORKING)
                 .build();
 
-        final ListRecipesResponse listRecipesResponse;
         try {
-            listRecipesResponse = proxy.injectCredentialsAndInvokeV2(listRecipesRequest, databrewClient::listRecipes);
+            final ListPaging.Pages<ListRecipesResponse> pages = PAGING.fetch(request.getNextToken(),
+                    nextToken -> proxy.injectCredentialsAndInvokeV2(listRecipesRequest.toBuilder().nextToken(nextToken).build(), databrewClient::listRecipes),
+                    ListRecipesResponse::nextToken);
             List<ResourceModel> outputModels = new ArrayList<>();
 
-            if (listRecipesResponse.recipes() != null){
-                listRecipesResponse.recipes().forEach(recipe ->{
-                    ResourceModel outputModel = ModelHelper.constructModel(recipe);
-                    outputModels.add(outputModel);
-                });
-            }
+            pages.getPages().forEach(listRecipesResponse -> {
+                if (listRecipesResponse.recipes() != null){
+                    listRecipesResponse.recipes().forEach(recipe ->{
+                        ResourceModel outputModel = HandlerMetrics.translate(() -> ModelHelper.constructModel(recipe));
+                        outputModels.add(outputModel);
+                    });
+                }
+            });
 
-            logger.log(String.format("%s List Successfully", ResourceModel.TYPE_NAME));
+            log.success("Listed");
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .resourceModels(outputModels)
-                    .nextToken(request.getNextToken())
+                    .nextToken(pages.getNextToken())
                     .status(OperationStatus.SUCCESS)
                     .build();
 
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s List Failed", ResourceModel.TYPE_NAME));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("ListFailed", ex);
+            return DataBrewErrors.failure("LIST", ex);
         }
     }
 }
@@ -5,8 +5,6 @@ import software.amazon.awssdk.services.databrew.model.DescribeRecipeResponse;
 import software.amazon.awssdk.services.databrew.model.Recipe;
 import software.amazon.awssdk.services.databrew.model.RecipeAction;
 import software.amazon.awssdk.services.databrew.model.RecipeStep;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -15,7 +13,6 @@ import java.util.Map;
 
 
 public class ModelHelper {
-    private static final ObjectMapper mapper = new ObjectMapper();
 
     public static ResourceModel constructModel(final DescribeRecipeResponse recipe) {
         Map<String, String> tags = recipe.tags();
@@ -59,14 +56,9 @@ public class ModelHelper {
         List<software.amazon.databrew.recipe.RecipeStep> modelRecipeSteps = new ArrayList<>();
         if (requestRecipeSteps != null) {
             requestRecipeSteps.forEach(recipeStep -> {
-                Map<String, String> tempMap = recipeStep.action().parameters();
-                Map<String, String> parametersMap = new HashMap<>();
-                if (tempMap != null) {
-                    tempMap.forEach((key, value) -> parametersMap.put(Character.toUpperCase(key.charAt(0)) + key.substring(1), value));
-                }
                 Action modelStepAction = Action.builder()
                         .operation(recipeStep.action().operation())
-                        .parameters(parametersMap)
+                        .parameters(RecipeParameterConverter.toModelParameters(recipeStep.action().parameters()))
                         .build();
 
                 List<software.amazon.databrew.recipe.ConditionExpression> modelConditions = new ArrayList<>();
@@ -97,15 +89,9 @@ public class ModelHelper {
         if (modelRecipeSteps != null) {
             modelRecipeSteps.forEach(step -> {
                 Action modelRecipeAction = step.getAction();
-                Object parameters = modelRecipeAction.getParameters();
-                Map<String, String> tempMap = mapper.convertValue(parameters, new TypeReference<Map<String, String>>() { });
-                Map<String, String> parametersMap = new HashMap<>();
-                if (tempMap != null) {
-                    tempMap.forEach((key, value) -> parametersMap.put(Character.toLowerCase(key.charAt(0)) + key.substring(1), value));
-                }
                 RecipeAction requestRecipeAction = RecipeAction.builder()
                         .operation(modelRecipeAction.getOperation())
-                        .parameters(parametersMap)
+                        .parameters(RecipeParameterConverter.toRequestParameters(modelRecipeAction.getParameters()))
                         .build();
 
                 List<software.amazon.databrew.recipe.ConditionExpression> modelConditionExpressions = step.getConditionExpressions();
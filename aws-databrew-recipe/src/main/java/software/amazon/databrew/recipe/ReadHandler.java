@@ -4,52 +4,90 @@ import software.amazon.awssdk.services.databrew.DataBrewClient;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
 import software.amazon.awssdk.services.databrew.model.DescribeRecipeRequest;
 import software.amazon.awssdk.services.databrew.model.DescribeRecipeResponse;
-import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
 
 public class ReadHandler extends BaseHandler<CallbackContext> {
     private static final String LATEST_WORKING = "LATEST_WORKING";
+
+    private final DescribeCache cache;
+    private final RecipeVersionCache versions;
+
+    public ReadHandler() {
+        this(DescribeCache.shared(), RecipeVersionCache.shared());
+    }
+
+    ReadHandler(final DescribeCache cache, final RecipeVersionCache versions) {
+        this.cache = cache;
+        this.versions = versions;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "READ", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "READ", model.getName());
 
         final String recipeName = model.getName();
+        final String recipeVersion = model.getVersion() == null ? LATEST_WORKING : model.getVersion();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
         final DescribeRecipeRequest describeRecipeRequest = DescribeRecipeRequest.builder()
                 .name(recipeName)
-                .recipeVersion(LATEST_WORKING)
+                .recipeVersion(recipeVersion)
                 .build();
 
-        final DescribeRecipeResponse describeRecipeResponse;
+        final String key = DescribeCache.key(request, "recipe", recipeName);
         try {
-            describeRecipeResponse = proxy.injectCredentialsAndInvokeV2(describeRecipeRequest, databrewClient::describeRecipe);
-            logger.log(String.format("%s [%s] Read Successfully", ResourceModel.TYPE_NAME, recipeName));
-            final ResourceModel resultModel = ModelHelper.constructModel(describeRecipeResponse);
+            // published versions never change and are described once, see RecipeVersionCache
+            final ResourceModel resultModel = versions.read(key, recipeVersion, () -> {
+                final DescribeRecipeResponse response = describe(proxy, databrewClient, describeRecipeRequest, key);
+                return HandlerMetrics.translate(() -> ModelHelper.constructModel(response));
+            });
+            resultModel.setVersion(model.getVersion());
+            log.success("Read");
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .resourceModel(resultModel)
                     .status(OperationStatus.SUCCESS)
                     .build();
 
-        } catch (ResourceNotFoundException ex) {
-            logger.log(String.format("%s [%s] Does Not Exist", ResourceModel.TYPE_NAME, recipeName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, recipeName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Read Failed", ResourceModel.TYPE_NAME, recipeName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("ReadFailed", ex);
+            return DataBrewErrors.failure("READ", ex);
+        }
+    }
+
+    private DescribeRecipeResponse describe(
+        final AmazonWebServicesClientProxy proxy,
+        final DataBrewClient databrewClient,
+        final DescribeRecipeRequest describeRecipeRequest,
+        final String key) {
+
+        // DescribeCache entries hold the working version, the other versions are described directly
+        if (!LATEST_WORKING.equals(describeRecipeRequest.recipeVersion())) {
+            return proxy.injectCredentialsAndInvokeV2(describeRecipeRequest, databrewClient::describeRecipe);
         }
+        return cache.getOrLoad(key, DescribeRecipeResponse.class,
+                () -> proxy.injectCredentialsAndInvokeV2(describeRecipeRequest, databrewClient::describeRecipe));
     }
 }
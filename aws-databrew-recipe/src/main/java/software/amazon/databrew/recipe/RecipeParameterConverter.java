@@ -0,0 +1,128 @@
+package software.amazon.databrew.recipe;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Converts recipe step parameters between the resource model, where names start with an upper case
+ * letter ("SourceColumn"), and the DataBrew API, where they start with a lower case one ("sourceColumn").
+ *
+ * The names of all RecipeParameters properties are mapped once up front, so converting a step is a single
+ * pass over its parameters. Model parameters coming from CloudFormation are always a plain map; only a
+ * RecipeParameters object built in code goes through Jackson first.
+ */
+final class RecipeParameterConverter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> PARAMETERS_TYPE = new TypeReference<Map<String, Object>>() { };
+
+    private static final String[] KNOWN_PARAMETERS = {
+            "AggregateFunction", "Base", "CaseStatement", "CategoryMap", "CharsToRemove",
+            "CollapseConsecutiveWhitespace", "ColumnDataType", "ColumnRange", "Count", "CustomCharacters",
+            "CustomStopWords", "CustomValue", "DatasetsColumns", "DateAddValue", "DateTimeFormat",
+            "DateTimeParameters", "DeleteOtherRows", "Delimiter", "EndPattern", "EndPosition", "EndValue",
+            "ExpandContractions", "Exponent", "FalseString", "GroupByAggFunctionOptions", "GroupByColumns",
+            "HiddenColumns", "IgnoreCase", "IncludeInSplit", "Input", "Interval", "IsText", "JoinKeys", "JoinType",
+            "LeftColumns", "Limit", "LowerBound", "MapType", "ModeType", "MultiLine", "NumRows", "NumRowsAfter",
+            "NumRowsBefore", "OrderByColumn", "OrderByColumns", "Other", "Pattern", "PatternOption1",
+            "PatternOption2", "PatternOptions", "Period", "Position", "RemoveAllPunctuation", "RemoveAllQuotes",
+            "RemoveAllWhitespace", "RemoveCustomCharacters", "RemoveCustomValue",
+            "RemoveLeadingAndTrailingPunctuation", "RemoveLeadingAndTrailingQuotes",
+            "RemoveLeadingAndTrailingWhitespace", "RemoveLetters", "RemoveNumbers", "RemoveSourceColumn",
+            "RemoveSpecialCharacters", "RightColumns", "SampleSize", "SampleType", "SecondInput", "SecondaryInputs",
+            "SheetIndexes", "SheetNames", "SourceColumn", "SourceColumn1", "SourceColumn2", "SourceColumns",
+            "StartColumnIndex", "StartPattern", "StartPosition", "StartValue", "StemmingMode", "StepCount",
+            "StepIndex", "StopWordsMode", "Strategy", "TargetColumn", "TargetColumnNames", "TargetDateFormat",
+            "TargetIndex", "TimeZone", "TokenizerPattern", "TrueString", "UdfLang", "Units", "UnpivotColumn",
+            "UpperBound", "UseNewDataFrame", "Value", "Value1", "Value2", "ValueColumn", "ViewFrame"
+    };
+
+    private static final Map<String, String> MODEL_TO_REQUEST = new HashMap<>(capacity(KNOWN_PARAMETERS.length));
+    private static final Map<String, String> REQUEST_TO_MODEL = new HashMap<>(capacity(KNOWN_PARAMETERS.length));
+
+    static {
+        for (final String modelName : KNOWN_PARAMETERS) {
+            final String requestName = lowerCaseFirst(modelName);
+            MODEL_TO_REQUEST.put(modelName, requestName);
+            REQUEST_TO_MODEL.put(requestName, modelName);
+        }
+    }
+
+    private RecipeParameterConverter() {
+    }
+
+    /**
+     * Builds the DataBrew request parameters from a model parameters object, either a map or a
+     * RecipeParameters. Parameters without a value are left out; non-string values such as sheet
+     * indexes are sent as their string or JSON form, which is what the DataBrew API expects.
+     */
+    static Map<String, String> toRequestParameters(final Object parameters) {
+        if (parameters == null) {
+            return new HashMap<>();
+        }
+        final Map<?, ?> modelParameters = parameters instanceof Map
+                ? (Map<?, ?>) parameters
+                : MAPPER.convertValue(parameters, PARAMETERS_TYPE);
+        final Map<String, String> requestParameters = new HashMap<>(capacity(modelParameters.size()));
+        for (final Map.Entry<?, ?> parameter : modelParameters.entrySet()) {
+            if (parameter.getKey() == null || parameter.getValue() == null) {
+                continue;
+            }
+            final String modelName = parameter.getKey().toString();
+            final String requestName = MODEL_TO_REQUEST.get(modelName);
+            requestParameters.put(requestName != null ? requestName : lowerCaseFirst(modelName), toValue(parameter.getValue()));
+        }
+        return requestParameters;
+    }
+
+    /**
+     * Builds the model parameters map from the parameters returned by DataBrew.
+     */
+    static Map<String, String> toModelParameters(final Map<String, String> parameters) {
+        if (parameters == null) {
+            return new HashMap<>();
+        }
+        final Map<String, String> modelParameters = new HashMap<>(capacity(parameters.size()));
+        for (final Map.Entry<String, String> parameter : parameters.entrySet()) {
+            final String modelName = REQUEST_TO_MODEL.get(parameter.getKey());
+            modelParameters.put(modelName != null ? modelName : upperCaseFirst(parameter.getKey()), parameter.getValue());
+        }
+        return modelParameters;
+    }
+
+    private static String toValue(final Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return String.valueOf(value);
+        }
+        try {
+            return MAPPER.writeValueAsString(value);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalArgumentException("Recipe step parameter cannot be converted to a string", e);
+        }
+    }
+
+    private static String lowerCaseFirst(final String name) {
+        if (name.isEmpty() || Character.isLowerCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String upperCaseFirst(final String name) {
+        if (name.isEmpty() || Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static int capacity(final int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+}
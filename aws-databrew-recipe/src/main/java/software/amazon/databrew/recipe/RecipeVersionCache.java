@@ -0,0 +1,161 @@
+package software.amazon.databrew.recipe;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Models of published recipe versions. A published version never changes, so its entry never expires and
+ * is also written to the temp directory (/tmp on Lambda), where it survives a restart of the runtime within
+ * the same execution environment. Working and alias versions such as LATEST_WORKING are always described.
+ *
+ * Tags belong to the recipe, not to a version, and can change at any time; cached models carry none.
+ * Creating or deleting a recipe drops its versions, since a recipe created again under the same name starts
+ * over at 1.0. This only reaches the cache of the container that runs the handler: a recipe recreated through
+ * another container keeps its old versions here until the execution environment is recycled.
+ */
+public final class RecipeVersionCache {
+
+    static final Path DEFAULT_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"), "databrew-recipe-versions");
+
+    private static final RecipeVersionCache SHARED = new RecipeVersionCache(DEFAULT_DIRECTORY);
+    private static final Pattern PUBLISHED_VERSION = Pattern.compile("\\d+\\.\\d+");
+    private static final String SUFFIX = ".json";
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    // JSON per recipe version, keyed by its file relative to the directory, so every read hands out its own model
+    private final Map<String, String> models = new ConcurrentHashMap<>();
+    private final Path directory;
+
+    RecipeVersionCache(final Path directory) {
+        this.directory = directory;
+    }
+
+    public static RecipeVersionCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * True for published version numbers such as "1.0", false for LATEST_WORKING and other aliases.
+     */
+    static boolean isPublished(final String version) {
+        return version != null && PUBLISHED_VERSION.matcher(version).matches();
+    }
+
+    /**
+     * @param recipeKey identifies the recipe across accounts and regions, e.g. its ARN
+     * @param describe describes the version and builds its model, called on a miss and for unpublished versions
+     */
+    public ResourceModel read(final String recipeKey, final String version, final Supplier<ResourceModel> describe) {
+        if (!isPublished(version)) {
+            return describe.get();
+        }
+        final Path file = file(recipeKey, version);
+        final String entry = entry(file);
+        String json = models.get(entry);
+        if (json == null) {
+            json = load(file);
+        }
+        final ResourceModel cached = json == null ? null : fromJson(json);
+        if (cached != null) {
+            models.put(entry, json);
+            return cached;
+        }
+
+        final ResourceModel model = describe.get();
+        model.setTags(null);
+        json = toJson(model);
+        if (json != null) {
+            models.put(entry, json);
+            store(file, json);
+        }
+        return model;
+    }
+
+    /**
+     * Drops all cached versions of the recipe. Only the directory of this recipe is listed.
+     */
+    public void invalidate(final String recipeKey) {
+        final Path recipeDirectory = directory.resolve(encode(recipeKey));
+        final String prefix = entry(recipeDirectory) + "/";
+        models.keySet().removeIf(entry -> entry.startsWith(prefix));
+        if (!Files.isDirectory(recipeDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(recipeDirectory)) {
+            for (final Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (final IOException e) {
+            // best effort, entries that could not be removed are replaced when the version is read again
+        }
+    }
+
+    private String load(final Path file) {
+        try {
+            return Files.isRegularFile(file) ? new String(Files.readAllBytes(file), StandardCharsets.UTF_8) : null;
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    private void store(final Path file, final String json) {
+        try {
+            Files.createDirectories(file.getParent());
+            final Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            Files.write(temp, json.getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            // best effort, the version stays cached in memory
+        }
+    }
+
+    // one directory per recipe, so that invalidating a recipe does not list the versions of all others
+    private Path file(final String recipeKey, final String version) {
+        return directory.resolve(encode(recipeKey)).resolve(version + SUFFIX);
+    }
+
+    private String entry(final Path file) {
+        return directory.relativize(file).toString().replace(File.separatorChar, '/');
+    }
+
+    private static String encode(final String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toJson(final ResourceModel model) {
+        try {
+            return MAPPER.writeValueAsString(model);
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    // null for entries that cannot be read back, e.g. a file written by an older model
+    private static ResourceModel fromJson(final String json) {
+        try {
+            return MAPPER.readValue(json, ResourceModel.class);
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+}
@@ -2,49 +2,89 @@ package software.amazon.databrew.recipe;
 
 import software.amazon.awssdk.services.databrew.DataBrewClient;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
-import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.databrew.model.DescribeRecipeRequest;
 import software.amazon.awssdk.services.databrew.model.UpdateRecipeRequest;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.ModelDiff;
+import software.amazon.databrew.common.ResourceArns;
+import software.amazon.databrew.common.TagReconciler;
 
 public class UpdateHandler extends BaseHandler<CallbackContext> {
 
+    private static final ModelDiff<ResourceModel> UPDATABLE_PROPERTIES = new ModelDiff<ResourceModel>()
+            .property("Description", ResourceModel::getDescription)
+            .property("Steps", ResourceModel::getSteps);
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "UPDATE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "UPDATE", model.getName());
         final String recipeName = model.getName();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
+        DescribeCache.shared().invalidate(DescribeCache.key(request, "recipe", recipeName));
 
-        final UpdateRecipeRequest updateRecipeRequest = UpdateRecipeRequest.builder()
-                .description(model.getDescription())
-                .name(recipeName)
-                .steps(ModelHelper.buildRequestRecipeSteps(model.getSteps()))
-                .build();
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        if (UPDATABLE_PROPERTIES.hasChanges(previousModel, model)) {
+            final UpdateRecipeRequest updateRecipeRequest = HandlerMetrics.translate(() -> UpdateRecipeRequest.builder()
+                    .description(model.getDescription())
+                    .name(recipeName)
+                    .steps(ModelHelper.buildRequestRecipeSteps(model.getSteps()))
+                    .build());
+
+            try {
+                proxy.injectCredentialsAndInvokeV2(updateRecipeRequest, databrewClient::updateRecipe);
+                log.success("Updated");
+            } catch (DataBrewException ex) {
+                log.failure("UpdateFailed", ex);
+                return DataBrewErrors.failure("UPDATE", ex);
+            }
+        } else {
+            log.success("UpdateSkipped");
+        }
 
-        try {
-            proxy.injectCredentialsAndInvokeV2(updateRecipeRequest, databrewClient::updateRecipe);
-            logger.log(String.format("%s [%s] Updated Successfully", ResourceModel.TYPE_NAME, recipeName));
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, recipeName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
-        } catch (ResourceNotFoundException ex) {
-            logger.log(String.format("%s [%s] Does Not Exist", ResourceModel.TYPE_NAME, recipeName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-        } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Updated Failed", ResourceModel.TYPE_NAME, recipeName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+        final TagReconciler.Changes tagChanges = TagReconciler.diff(previousModel == null ? null : previousModel.getTags(),
+                model.getTags(), Tag::getKey, Tag::getValue);
+        if (!tagChanges.isEmpty()) {
+            try {
+                TagReconciler.reconcile(proxy, databrewClient, ResourceArns.of(request, "recipe", recipeName), tagChanges);
+                log.success("TagsUpdated");
+            } catch (DataBrewException ex) {
+                log.failure("TagsUpdateFailed", ex);
+                return DataBrewErrors.failure("UPDATE", ex);
+            }
         }
 
+        // the READ that usually follows an UPDATE can use this response, cache entries hold the working version
+        final DescribeRecipeRequest describeRecipeRequest = DescribeRecipeRequest.builder()
+                .name(recipeName)
+                .recipeVersion("LATEST_WORKING")
+                .build();
+        DescribeCache.shared().refresh(DescribeCache.key(request, "recipe", recipeName),
+                () -> proxy.injectCredentialsAndInvokeV2(describeRecipeRequest, databrewClient::describeRecipe));
+
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .resourceModel(model)
                 .status(OperationStatus.SUCCESS)
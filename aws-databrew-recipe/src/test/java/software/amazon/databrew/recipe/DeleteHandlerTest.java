@@ -12,14 +12,23 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class DeleteHandlerTest {
@@ -40,9 +49,15 @@ public class DeleteHandlerTest {
     public void handleRequest_SimpleSuccess() {
         final DeleteHandler handler = new DeleteHandler();
         final DeleteRecipeVersionResponse deleteRecipeVersionResponse = DeleteRecipeVersionResponse.builder().build();
+        doReturn(ListRecipeVersionsResponse.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListRecipeVersionsRequest.class), any());
         doReturn(deleteRecipeVersionResponse)
                 .when(proxy)
-                .injectCredentialsAndInvokeV2(any(), any());
+                .injectCredentialsAndInvokeV2(any(DeleteRecipeVersionRequest.class), any());
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeRecipeRequest.class), any());
 
         final ResourceModel model = ResourceModel.builder()
                 .name(TestUtil.RECIPE_NAME)
@@ -138,4 +153,284 @@ public class DeleteHandlerTest {
         Assertions.assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
     }
+
+    @Test
+    public void handleRequest_FailedDelete_ConflictException() {
+        doReturn(ListRecipeVersionsResponse.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListRecipeVersionsRequest.class), any());
+        doThrow(ConflictException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DeleteRecipeVersionRequest.class), any());
+
+        final DeleteHandler handler = new DeleteHandler();
+        final ResourceModel model = ResourceModel.builder()
+                .name(TestUtil.RECIPE_NAME)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getResourceModel()).isNull();
+        Assertions.assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ResourceConflict);
+    }
+
+    @Test
+    public void handleRequest_DeletesPublishedVersionsInBatches() {
+        final DeleteHandler handler = new DeleteHandler();
+        doReturn(listRecipeVersionsResponse(120), listRecipeVersionsResponse(0))
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListRecipeVersionsRequest.class), any());
+        doReturn(BatchDeleteRecipeVersionResponse.builder().name(TestUtil.RECIPE_NAME).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(BatchDeleteRecipeVersionRequest.class), any());
+        doReturn(DeleteRecipeVersionResponse.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DeleteRecipeVersionRequest.class), any());
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeRecipeRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.RECIPE_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<BatchDeleteRecipeVersionRequest> batches = ArgumentCaptor.forClass(BatchDeleteRecipeVersionRequest.class);
+        verify(proxy, times(3)).injectCredentialsAndInvokeV2(batches.capture(), any());
+        assertThat(batches.getAllValues().get(0).recipeVersions()).hasSize(DeleteHandler.BATCH_SIZE);
+        assertThat(batches.getAllValues().get(2).recipeVersions()).hasSize(20);
+        verify(proxy).injectCredentialsAndInvokeV2(any(DeleteRecipeVersionRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_PartialBatchFailure() {
+        final DeleteHandler handler = new DeleteHandler();
+        doReturn(listRecipeVersionsResponse(2))
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListRecipeVersionsRequest.class), any());
+        doReturn(BatchDeleteRecipeVersionResponse.builder()
+                .name(TestUtil.RECIPE_NAME)
+                .errors(RecipeVersionErrorDetail.builder().recipeVersion("1.0").errorCode("ConflictException").errorMessage("in use").build(),
+                        RecipeVersionErrorDetail.builder().recipeVersion("2.0").errorCode("ResourceNotFoundException").build())
+                .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(BatchDeleteRecipeVersionRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.RECIPE_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ResourceConflict);
+        assertThat(response.getMessage()).contains("1.0 (ConflictException: in use)").doesNotContain("2.0");
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(DeleteRecipeVersionRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_TimeBudgetSpent_InProgress() {
+        final AtomicLong now = new AtomicLong();
+        final DeleteHandler handler = new DeleteHandler(() -> now.getAndAdd(DeleteHandler.TIME_BUDGET_MILLIS));
+        doReturn(listRecipeVersionsResponse(60))
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListRecipeVersionsRequest.class), any());
+        doReturn(BatchDeleteRecipeVersionResponse.builder().name(TestUtil.RECIPE_NAME).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(BatchDeleteRecipeVersionRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.RECIPE_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(DeleteHandler.RESUME_DELAY_SECONDS);
+        assertThat(response.getCallbackContext().getDeletedVersions()).isEqualTo(60);
+        assertThat(response.getCallbackContext().isPublishedVersionsDeleted()).isFalse();
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(DeleteRecipeVersionRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_TimeBudgetSpent_ProgressResetsAttempts() {
+        final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+        final DeleteHandler handler = new DeleteHandler(() -> now.getAndAdd(DeleteHandler.TIME_BUDGET_MILLIS));
+        doReturn(listRecipeVersionsResponse(60))
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListRecipeVersionsRequest.class), any());
+        doReturn(BatchDeleteRecipeVersionResponse.builder().name(TestUtil.RECIPE_NAME).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(BatchDeleteRecipeVersionRequest.class), any());
+        // as many rounds and as much time as a stuck delete may take, but versions are still being deleted
+        final long startTime = now.get() - TimeUnit.HOURS.toMillis(1);
+        final CallbackContext context = CallbackContext.builder()
+                .stabilizationAttempts(19)
+                .stabilizationStartTime(startTime)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.RECIPE_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, context, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(DeleteHandler.RESUME_DELAY_SECONDS);
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(0);
+        assertThat(response.getCallbackContext().getStabilizationStartTime()).isGreaterThan(startTime);
+    }
+
+    @Test
+    public void handleRequest_VersionsListedButNotFound_Waits() {
+        final DeleteHandler handler = new DeleteHandler();
+        doReturn(listRecipeVersionsResponse(2))
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListRecipeVersionsRequest.class), any());
+        doReturn(BatchDeleteRecipeVersionResponse.builder()
+                .name(TestUtil.RECIPE_NAME)
+                .errors(RecipeVersionErrorDetail.builder().recipeVersion("1.0").errorCode("ResourceNotFoundException").build(),
+                        RecipeVersionErrorDetail.builder().recipeVersion("2.0").errorCode("ResourceNotFoundException").build())
+                .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(BatchDeleteRecipeVersionRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.RECIPE_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isGreaterThan(DeleteHandler.RESUME_DELAY_SECONDS);
+        assertThat(response.getCallbackContext().getDeletedVersions()).isEqualTo(0);
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        verify(proxy).injectCredentialsAndInvokeV2(any(ListRecipeVersionsRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_VersionsNotDeleted_Exhausted() {
+        final DeleteHandler handler = new DeleteHandler();
+        doReturn(listRecipeVersionsResponse(1))
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListRecipeVersionsRequest.class), any());
+        doReturn(BatchDeleteRecipeVersionResponse.builder()
+                .name(TestUtil.RECIPE_NAME)
+                .errors(RecipeVersionErrorDetail.builder().recipeVersion("1.0").errorCode("ResourceNotFoundException").build())
+                .build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(BatchDeleteRecipeVersionRequest.class), any());
+        final CallbackContext context = CallbackContext.builder()
+                .stabilizationAttempts(5)
+                .stabilizationStartTime(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.RECIPE_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, context, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+        assertThat(response.getMessage()).contains("still has published versions after 6 attempts");
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(DeleteRecipeVersionRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_Resumed_DeletesWorkingVersion() {
+        final DeleteHandler handler = new DeleteHandler();
+        doReturn(DeleteRecipeVersionResponse.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DeleteRecipeVersionRequest.class), any());
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeRecipeRequest.class), any());
+        final CallbackContext context = CallbackContext.builder()
+                .publishedVersionsDeleted(true)
+                .deletedVersions(120)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.RECIPE_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, context, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(ListRecipeVersionsRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_StillExists_InProgress() {
+        final DeleteHandler handler = new DeleteHandler();
+        doReturn(ListRecipeVersionsResponse.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListRecipeVersionsRequest.class), any());
+        doReturn(DeleteRecipeVersionResponse.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DeleteRecipeVersionRequest.class), any());
+        doReturn(DescribeRecipeResponse.builder().name(TestUtil.RECIPE_NAME).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeRecipeRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.RECIPE_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().isDeleted()).isTrue();
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(response.getCallbackDelaySeconds()).isGreaterThan(0);
+    }
+
+    @Test
+    public void handleRequest_Deleted_SuccessOnceNotFound() {
+        final DeleteHandler handler = new DeleteHandler();
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeRecipeRequest.class), any());
+        final CallbackContext context = new CallbackContext();
+        context.setDeleted(true);
+        context.setStabilizationAttempts(1);
+        context.setStabilizationStartTime(System.currentTimeMillis());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.RECIPE_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, context, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(DeleteRecipeVersionRequest.class), any());
+    }
+
+    private static ListRecipeVersionsResponse listRecipeVersionsResponse(final int versions) {
+        final List<Recipe> recipes = new ArrayList<>();
+        for (int i = 1; i <= versions; i++) {
+            recipes.add(Recipe.builder().name(TestUtil.RECIPE_NAME).recipeVersion(i + ".0").build());
+        }
+        return ListRecipeVersionsResponse.builder().recipes(recipes).build();
+    }
 }
@@ -5,6 +5,8 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -13,12 +15,17 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DescribeCache;
+
+import java.nio.file.Path;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest {
@@ -71,6 +78,37 @@ public class ReadHandlerTest {
         TestUtil.assertThatRecipeModelsAreEqual(response.getResourceModel(), recipe);
     }
 
+    @Test
+    public void handleRequest_PublishedVersion_DescribedOnce(@TempDir final Path directory) {
+        final ReadHandler handler = new ReadHandler(new DescribeCache(0L, 0), new RecipeVersionCache(directory));
+        final DescribeRecipeResponse describeResponse = DescribeRecipeResponse.builder()
+                .name(TestUtil.RECIPE_NAME)
+                .recipeVersion("1.0")
+                .build();
+
+        doReturn(describeResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .name(TestUtil.RECIPE_NAME)
+                        .version("1.0")
+                        .build())
+                .build();
+
+        handler.handleRequest(proxy, request, null, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getName()).isEqualTo(TestUtil.RECIPE_NAME);
+        assertThat(response.getResourceModel().getVersion()).isEqualTo("1.0");
+        final ArgumentCaptor<DescribeRecipeRequest> describeRequest = ArgumentCaptor.forClass(DescribeRecipeRequest.class);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(describeRequest.capture(), any());
+        assertThat(describeRequest.getValue().recipeVersion()).isEqualTo("1.0");
+    }
+
     @Test
     public void handleRequest_FailedRead_MissingRequiredParameterException() {
         doThrow(ValidationException.class)
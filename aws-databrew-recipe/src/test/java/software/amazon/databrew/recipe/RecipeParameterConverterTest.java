@@ -0,0 +1,65 @@
+package software.amazon.databrew.recipe;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class RecipeParameterConverterTest {
+
+    @Test
+    public void toRequestParameters_Map() {
+        final Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("SourceColumn", "source");
+        parameters.put("targetColumn", "target");
+        parameters.put("FunctionStepType", "CONVERT_TIMEZONE");
+        parameters.put("MultiLine", true);
+        parameters.put("SheetIndexes", Arrays.asList(1, 2));
+        parameters.put("Pattern", null);
+
+        final Map<String, String> requestParameters = RecipeParameterConverter.toRequestParameters(parameters);
+
+        assertThat(requestParameters).containsOnly(
+                entry("sourceColumn", "source"),
+                entry("targetColumn", "target"),
+                entry("functionStepType", "CONVERT_TIMEZONE"),
+                entry("multiLine", "true"),
+                entry("sheetIndexes", "[1,2]"));
+    }
+
+    @Test
+    public void toRequestParameters_RecipeParameters() {
+        final RecipeParameters parameters = RecipeParameters.builder()
+                .sourceColumn("source")
+                .dateTimeFormat("yyyy-mm-dd")
+                .build();
+
+        assertThat(RecipeParameterConverter.toRequestParameters(parameters)).containsOnly(
+                entry("sourceColumn", "source"),
+                entry("dateTimeFormat", "yyyy-mm-dd"));
+    }
+
+    @Test
+    public void toRequestParameters_Null() {
+        assertThat(RecipeParameterConverter.toRequestParameters(null)).isEmpty();
+    }
+
+    @Test
+    public void toModelParameters() {
+        final Map<String, String> parameters = new HashMap<>();
+        parameters.put("sourceColumn", "source");
+        parameters.put("functionStepType", "CONVERT_TIMEZONE");
+        parameters.put("", "empty");
+
+        assertThat(RecipeParameterConverter.toModelParameters(parameters)).containsOnly(
+                entry("SourceColumn", "source"),
+                entry("FunctionStepType", "CONVERT_TIMEZONE"),
+                entry("", "empty"));
+        assertThat(RecipeParameterConverter.toModelParameters(null)).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package software.amazon.databrew.recipe;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RecipeVersionCacheTest {
+    private static final String RECIPE_KEY = "arn:aws:databrew:us-east-1:123456789012:recipe/" + TestUtil.RECIPE_NAME;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void isPublished() {
+        assertThat(RecipeVersionCache.isPublished("1.0")).isTrue();
+        assertThat(RecipeVersionCache.isPublished("12.3")).isTrue();
+        assertThat(RecipeVersionCache.isPublished("LATEST_WORKING")).isFalse();
+        assertThat(RecipeVersionCache.isPublished("LATEST_PUBLISHED")).isFalse();
+        assertThat(RecipeVersionCache.isPublished(null)).isFalse();
+    }
+
+    @Test
+    public void read_PublishedVersionDescribedOnce() {
+        final RecipeVersionCache cache = new RecipeVersionCache(directory);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final ResourceModel first = cache.read(RECIPE_KEY, "1.0", () -> describe(calls));
+        final ResourceModel second = cache.read(RECIPE_KEY, "1.0", () -> describe(calls));
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getSteps()).isEqualTo(TestUtil.RECIPE_STEPS.subList(0, 1));
+    }
+
+    @Test
+    public void read_PublishedVersionSurvivesRestart() {
+        final AtomicInteger calls = new AtomicInteger();
+        new RecipeVersionCache(directory).read(RECIPE_KEY, "1.0", () -> describe(calls));
+
+        final ResourceModel model = new RecipeVersionCache(directory).read(RECIPE_KEY, "1.0", () -> describe(calls));
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(model.getDescription()).isEqualTo(TestUtil.RECIPE_DESCRIPTION);
+    }
+
+    @Test
+    public void read_WorkingVersionAlwaysDescribed() {
+        final RecipeVersionCache cache = new RecipeVersionCache(directory);
+        final AtomicInteger calls = new AtomicInteger();
+
+        cache.read(RECIPE_KEY, "LATEST_WORKING", () -> describe(calls));
+        final ResourceModel model = cache.read(RECIPE_KEY, "LATEST_WORKING", () -> describe(calls));
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(model.getTags()).isNotEmpty();
+        assertThat(directory.toFile().list()).isEmpty();
+    }
+
+    @Test
+    public void read_TagsNotCached() {
+        final RecipeVersionCache cache = new RecipeVersionCache(directory);
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.read(RECIPE_KEY, "1.0", () -> describe(calls)).getTags()).isNull();
+        assertThat(cache.read(RECIPE_KEY, "1.0", () -> describe(calls)).getTags()).isNull();
+    }
+
+    @Test
+    public void invalidate() {
+        final RecipeVersionCache cache = new RecipeVersionCache(directory);
+        final AtomicInteger calls = new AtomicInteger();
+        cache.read(RECIPE_KEY, "1.0", () -> describe(calls));
+        cache.read(RECIPE_KEY, "2.0", () -> describe(calls));
+        cache.read(RECIPE_KEY + "-other", "1.0", () -> describe(calls));
+
+        cache.invalidate(RECIPE_KEY);
+        cache.read(RECIPE_KEY, "1.0", () -> describe(calls));
+        cache.read(RECIPE_KEY + "-other", "1.0", () -> describe(calls));
+
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(new RecipeVersionCache(directory).read(RECIPE_KEY, "2.0", () -> describe(calls))).isNotNull();
+        assertThat(calls.get()).isEqualTo(5);
+    }
+
+    private static ResourceModel describe(final AtomicInteger calls) {
+        calls.incrementAndGet();
+        return ResourceModel.builder()
+                .name(TestUtil.RECIPE_NAME)
+                .description(TestUtil.RECIPE_DESCRIPTION)
+                .steps(ImmutableList.of(TestUtil.RECIPE_STEPS.get(0)))
+                .tags(ModelHelper.buildModelTags(TestUtil.sampleTags()))
+                .build();
+    }
+}
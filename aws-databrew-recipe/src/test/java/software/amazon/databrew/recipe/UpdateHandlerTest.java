@@ -1,19 +1,26 @@
 package software.amazon.databrew.recipe;
 
+import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.services.databrew.model.*;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.cloudformation.proxy.*;
 
+import java.util.Arrays;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest {
@@ -112,4 +119,70 @@ public class UpdateHandlerTest {
         Assertions.assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
     }
+
+    @Test
+    public void handleRequest_Unchanged_SkipsUpdate() {
+        final UpdateHandler handler = new UpdateHandler();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(TestUtil.RECIPE_NAME)
+                .description(TestUtil.RECIPE_DESCRIPTION)
+                .steps(TestUtil.RECIPE_STEPS)
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .name(TestUtil.RECIPE_NAME)
+                .description(TestUtil.RECIPE_DESCRIPTION)
+                .steps(TestUtil.RECIPE_STEPS)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void handleRequest_TagsChanged_ReconcilesTagsOnly() {
+        final UpdateHandler handler = new UpdateHandler();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(TestUtil.RECIPE_NAME)
+                .description(TestUtil.RECIPE_DESCRIPTION)
+                .steps(TestUtil.RECIPE_STEPS)
+                .tags(Arrays.asList(Tag.builder().key("kept").value("v").build(),
+                        Tag.builder().key("changed").value("old").build(),
+                        Tag.builder().key("removed").value("v").build()))
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .name(TestUtil.RECIPE_NAME)
+                .description(TestUtil.RECIPE_DESCRIPTION)
+                .steps(TestUtil.RECIPE_STEPS)
+                .tags(Arrays.asList(Tag.builder().key("kept").value("v").build(),
+                        Tag.builder().key("changed").value("new").build(),
+                        Tag.builder().key("added").value("v").build()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<AwsRequest> requests = ArgumentCaptor.forClass(AwsRequest.class);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(requests.capture(), any());
+        final TagResourceRequest tagResourceRequest = (TagResourceRequest) requests.getAllValues().get(0);
+        assertThat(tagResourceRequest.tags()).containsOnlyKeys("changed", "added");
+        final UntagResourceRequest untagResourceRequest = (UntagResourceRequest) requests.getAllValues().get(1);
+        assertThat(untagResourceRequest.tagKeys()).containsExactly("removed");
+    }
 }
@@ -1,12 +1,7 @@
 package software.amazon.databrew.ruleset;
 
-import com.google.common.base.Strings;
 import software.amazon.awssdk.services.databrew.model.CreateRulesetRequest;
-import software.amazon.awssdk.services.databrew.model.AccessDeniedException;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
-import software.amazon.awssdk.services.databrew.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
-import software.amazon.awssdk.services.databrew.model.ConflictException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -14,8 +9,13 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.awssdk.services.databrew.DataBrewClient;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.Tracing;
 
-import java.util.List;
 import java.util.ArrayList;
 
 
@@ -27,45 +27,44 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "CREATE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "CREATE", model.getName());
         final DataBrewClient databrewClient = ClientBuilder.getClient();
         final String name = model.getName();
+        DescribeCache.shared().invalidate(DescribeCache.key(request, "ruleset", name));
+
         final String targetArn = model.getTargetArn();
-        final List<Rule> rules = model.getRules();
-        if (Strings.isNullOrEmpty(name) || Strings.isNullOrEmpty(targetArn) || rules == null || rules.size() < 1) {
+        if (!Tracing.span("ValidateInput", () -> ModelHelper.isValidForCreate(model))) {
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .errorCode(HandlerErrorCode.InvalidRequest)
                     .status(OperationStatus.FAILED)
                     .build();
         }
-        final CreateRulesetRequest createRulesetRequest = CreateRulesetRequest.builder()
+        final CreateRulesetRequest createRulesetRequest = HandlerMetrics.translate(() -> CreateRulesetRequest.builder()
                 .name(name)
                 .description(model.getDescription())
                 .targetArn(targetArn)
                 .rules(ModelHelper.buildRequestRules(model.getRules()))
                 .tags(ModelHelper.buildTagInputMap(model.getTags()))
-                .build();
+                .build());
 
         try {
             proxy.injectCredentialsAndInvokeV2(createRulesetRequest, databrewClient::createRuleset);
             model.setTags(model.getTags() == null ? new ArrayList<>() : model.getTags());
-            logger.log(String.format("%s [%s] Created Successfully", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, name));
-        } catch (AccessDeniedException ex) {
-            logger.log(String.format("%s [%s] Access Denied", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, name));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.AccessDenied);
-        } catch (ConflictException ex) {
-            logger.log(String.format("%s [%s] Already Exists", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, name));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.AlreadyExists);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, name));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
-        } catch (ServiceQuotaExceededException ex) {
-            logger.log(String.format("%s [%s] Limit Exceeded", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, name));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceLimitExceeded);
+            log.success("Created");
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Created Failed", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, name));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("CreateFailed", ex);
+            return DataBrewErrors.failure("CREATE", ex);
         }
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -3,6 +3,12 @@ package software.amazon.databrew.ruleset;
 import software.amazon.awssdk.services.databrew.DataBrewClient;
 import software.amazon.awssdk.services.databrew.model.*;
 import software.amazon.cloudformation.proxy.*;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.Stabilization;
+import software.amazon.databrew.common.Tracing;
 
 
 public class DeleteHandler extends BaseHandler<CallbackContext> {
@@ -13,35 +19,57 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "DELETE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "DELETE", model.getName());
 
         final String rulesetName = model.getName();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
 
-        final DeleteRulesetRequest deleteRulesetRequest = DeleteRulesetRequest.builder()
-                .name(rulesetName)
-                .build();
+        final CallbackContext context = callbackContext == null ? new CallbackContext() : callbackContext;
+
+        if (!context.isDeleted()) {
+            final DeleteRulesetRequest deleteRulesetRequest = DeleteRulesetRequest.builder()
+                    .name(rulesetName)
+                    .build();
 
-        try {
-            proxy.injectCredentialsAndInvokeV2(deleteRulesetRequest, databrewClient::deleteRuleset);
-            logger.log(String.format("%s [%s] Deleted Successfully", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, rulesetName));
-        } catch (ResourceNotFoundException ex) {
-            logger.log(String.format("%s [%s] Does Not Exist", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, rulesetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, rulesetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
-        } catch (ConflictException ex) {
-            logger.log(String.format("%s [%s] Resource Conflict", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, rulesetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ResourceConflict);
-        } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Deleted Failed", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, rulesetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            try {
+                proxy.injectCredentialsAndInvokeV2(deleteRulesetRequest, databrewClient::deleteRuleset);
+                log.success("Deleted");
+            } catch (DataBrewException ex) {
+                log.failure("DeleteFailed", ex);
+                return DataBrewErrors.failure("DELETE", ex);
+            }
+
+            DescribeCache.shared().invalidate(DescribeCache.key(request, "ruleset", rulesetName));
+
+            context.setDeleted(true);
+            context.setStabilizationStartTime(System.currentTimeMillis());
         }
+        return Tracing.span("Stabilize", () -> stabilize(proxy, databrewClient, model, context, log));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> stabilize(
+        final AmazonWebServicesClientProxy proxy,
+        final DataBrewClient databrewClient,
+        final ResourceModel model,
+        final CallbackContext context,
+        final HandlerLog log) {
 
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .status(OperationStatus.SUCCESS)
-            .build();
+        final String rulesetName = model.getName();
+        final DescribeRulesetRequest describeRulesetRequest = DescribeRulesetRequest.builder()
+                .name(rulesetName)
+                .build();
+        return Stabilization.awaitDeleted(() -> proxy.injectCredentialsAndInvokeV2(describeRulesetRequest, databrewClient::describeRuleset),
+                model, context, log, System::currentTimeMillis);
     }
 }
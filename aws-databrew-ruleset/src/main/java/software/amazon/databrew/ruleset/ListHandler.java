@@ -2,10 +2,19 @@ package software.amazon.databrew.ruleset;
 
 import software.amazon.awssdk.services.databrew.DataBrewClient;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
+import software.amazon.awssdk.services.databrew.model.DescribeRulesetRequest;
+import software.amazon.awssdk.services.databrew.model.DescribeRulesetResponse;
 import software.amazon.awssdk.services.databrew.model.ListRulesetsRequest;
 import software.amazon.awssdk.services.databrew.model.ListRulesetsResponse;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
+import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.databrew.model.RulesetItem;
 import software.amazon.cloudformation.proxy.*;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.ListPaging;
+import software.amazon.databrew.common.ParallelDescriber;
 
 import java.util.List;
 import java.util.ArrayList;
@@ -13,7 +22,18 @@ import java.util.ArrayList;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
 
-    private static final int MAX_RESULTS = 100;
+    private static final ListPaging PAGING = ListPaging.fromEnvironment("Ruleset");
+    private static final ParallelDescriber DESCRIBER = ParallelDescriber.fromEnvironment("Ruleset");
+
+    private final ParallelDescriber describer;
+
+    public ListHandler() {
+        this(DESCRIBER);
+    }
+
+    ListHandler(final ParallelDescriber describer) {
+        this.describer = describer;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -21,7 +41,17 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "LIST", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "LIST", null);
         final ResourceModel model = request.getDesiredResourceState();
 
         final List<ResourceModel> models = new ArrayList<>();
@@ -30,35 +60,53 @@ public class ListHandler extends BaseHandler<CallbackContext> {
 
         final ListRulesetsRequest listRulesetsRequest = ListRulesetsRequest.builder()
                 .targetArn(model.getTargetArn())
-                .maxResults(MAX_RESULTS)
-                .nextToken(request.getNextToken())
+                .maxResults(PAGING.getPageSize())
                 .build();
 
-        final ListRulesetsResponse listRulesetsResponse;
         try {
-            listRulesetsResponse = proxy.injectCredentialsAndInvokeV2(listRulesetsRequest, databrewClient::listRulesets);
-            logger.log(String.format("%s List Successfully", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME));
+            final ListPaging.Pages<ListRulesetsResponse> pages = PAGING.fetch(request.getNextToken(),
+                    nextToken -> proxy.injectCredentialsAndInvokeV2(listRulesetsRequest.toBuilder().nextToken(nextToken).build(), databrewClient::listRulesets),
+                    ListRulesetsResponse::nextToken);
+            log.success("Listed");
 
             List<software.amazon.databrew.ruleset.ResourceModel> outputModels = new ArrayList<>();
-            if (listRulesetsResponse.rulesets() != null) {
-                listRulesetsResponse.rulesets().forEach(ruleset ->{
-                    software.amazon.databrew.ruleset.ResourceModel outputModel = ModelHelper.constructModel(ruleset);
-                    outputModels.add(outputModel);
-                });
-            }
+            pages.getPages().forEach(listRulesetsResponse -> {
+                if (listRulesetsResponse.rulesets() != null && describer.isEnabled()) {
+                    // RulesetItem carries no rules, describe every ruleset to return complete models
+                    outputModels.addAll(describer.describeAll(listRulesetsResponse.rulesets(),
+                            ruleset -> describeRuleset(proxy, databrewClient, ruleset)));
+                } else if (listRulesetsResponse.rulesets() != null) {
+                    listRulesetsResponse.rulesets().forEach(ruleset ->{
+                        software.amazon.databrew.ruleset.ResourceModel outputModel = HandlerMetrics.translate(() -> ModelHelper.constructModel(ruleset));
+                        outputModels.add(outputModel);
+                    });
+                }
+            });
             return ProgressEvent.<software.amazon.databrew.ruleset.ResourceModel, software.amazon.databrew.ruleset.CallbackContext>builder()
                     .resourceModels(outputModels)
-                    .nextToken(request.getNextToken())
+                    .nextToken(pages.getNextToken())
                     .status(OperationStatus.SUCCESS)
                     .build();
 
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s Invalid Parameter, List failed", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s List Failed", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("ListFailed", ex);
+            return DataBrewErrors.failure("LIST", ex);
         }
 
     }
+
+    private static software.amazon.databrew.ruleset.ResourceModel describeRuleset(final AmazonWebServicesClientProxy proxy,
+                                                                                 final DataBrewClient databrewClient,
+                                                                                 final RulesetItem ruleset) {
+        final DescribeRulesetRequest describeRulesetRequest = DescribeRulesetRequest.builder()
+                .name(ruleset.name())
+                .build();
+        try {
+            final DescribeRulesetResponse response = proxy.injectCredentialsAndInvokeV2(describeRulesetRequest, databrewClient::describeRuleset);
+            return HandlerMetrics.translate(() -> ModelHelper.constructModel(response));
+        } catch (ResourceNotFoundException ex) {
+            // deleted after it was listed, keep what the list returned
+            return HandlerMetrics.translate(() -> ModelHelper.constructModel(ruleset));
+        }
+    }
 }
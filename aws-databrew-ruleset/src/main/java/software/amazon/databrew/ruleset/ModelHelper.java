@@ -1,5 +1,6 @@
 package software.amazon.databrew.ruleset;
 
+import com.google.common.base.Strings;
 import software.amazon.awssdk.services.databrew.model.DescribeRulesetResponse;
 
 import java.util.HashMap;
@@ -9,6 +10,20 @@ import java.util.Map;
 
 public class ModelHelper {
 
+    /**
+     * A ruleset needs a name and at least one rule.
+     */
+    public static boolean isValid(final software.amazon.databrew.ruleset.ResourceModel model) {
+        return !Strings.isNullOrEmpty(model.getName()) && model.getRules() != null && !model.getRules().isEmpty();
+    }
+
+    /**
+     * The target of a ruleset is set on create and cannot change afterwards.
+     */
+    public static boolean isValidForCreate(final software.amazon.databrew.ruleset.ResourceModel model) {
+        return isValid(model) && !Strings.isNullOrEmpty(model.getTargetArn());
+    }
+
     public static software.amazon.databrew.ruleset.ResourceModel constructModel(final DescribeRulesetResponse ruleset) {
         Map<String, String> tags = ruleset.tags();
         software.amazon.databrew.ruleset.ResourceModel model = software.amazon.databrew.ruleset.ResourceModel.builder()
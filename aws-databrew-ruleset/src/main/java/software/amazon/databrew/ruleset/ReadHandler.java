@@ -3,24 +3,47 @@ package software.amazon.databrew.ruleset;
 import software.amazon.awssdk.services.databrew.DataBrewClient;
 import software.amazon.awssdk.services.databrew.model.DescribeRulesetResponse;
 import software.amazon.awssdk.services.databrew.model.DescribeRulesetRequest;
-import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
 import software.amazon.cloudformation.proxy.*;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
 
 import java.util.ArrayList;
 
 
 public class ReadHandler extends BaseHandler<CallbackContext> {
 
+    private final DescribeCache cache;
+
+    public ReadHandler() {
+        this(DescribeCache.shared());
+    }
+
+    ReadHandler(final DescribeCache cache) {
+        this.cache = cache;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "READ", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "READ", model.getName());
 
         final String rulesetName = model.getName();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
@@ -30,23 +53,18 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
 
         final DescribeRulesetResponse describeRulesetResponse;
         try {
-            describeRulesetResponse = proxy.injectCredentialsAndInvokeV2(describeRulesetRequest, databrewClient::describeRuleset);
-            logger.log(String.format("%s [%s] Read Successfully", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, rulesetName));
-            software.amazon.databrew.ruleset.ResourceModel resultModel = ModelHelper.constructModel(describeRulesetResponse);
+            describeRulesetResponse = cache.getOrLoad(DescribeCache.key(request, "ruleset", rulesetName), DescribeRulesetResponse.class,
+                    () -> proxy.injectCredentialsAndInvokeV2(describeRulesetRequest, databrewClient::describeRuleset));
+            log.success("Read");
+            software.amazon.databrew.ruleset.ResourceModel resultModel = HandlerMetrics.translate(() -> ModelHelper.constructModel(describeRulesetResponse));
             return ProgressEvent.<software.amazon.databrew.ruleset.ResourceModel, software.amazon.databrew.ruleset.CallbackContext>builder()
                     .resourceModel(resultModel)
                     .status(OperationStatus.SUCCESS)
                     .build();
 
-        } catch (ResourceNotFoundException ex) {
-            logger.log(String.format("%s [%s] Does Not Exist", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, rulesetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, rulesetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Read Failed", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, rulesetName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("ReadFailed", ex);
+            return DataBrewErrors.failure("READ", ex);
         }
     }
 }
@@ -1,9 +1,18 @@
 package software.amazon.databrew.ruleset;
 
-import com.google.common.base.Strings;
 import software.amazon.awssdk.services.databrew.DataBrewClient;
 import software.amazon.awssdk.services.databrew.model.*;
+import software.amazon.awssdk.services.databrew.model.DescribeRulesetRequest;
 import software.amazon.cloudformation.proxy.*;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.ModelDiff;
+import software.amazon.databrew.common.ResourceArns;
+import software.amazon.databrew.common.TagReconciler;
+import software.amazon.databrew.common.Tracing;
 
 import java.util.List;
 import java.util.ArrayList;
@@ -11,54 +20,78 @@ import java.util.ArrayList;
 
 public class UpdateHandler extends BaseHandler<CallbackContext> {
 
+    private static final ModelDiff<ResourceModel> UPDATABLE_PROPERTIES = new ModelDiff<ResourceModel>()
+            .property("Description", ResourceModel::getDescription)
+            .property("Rules", ResourceModel::getRules);
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "UPDATE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "UPDATE", model.getName());
 
         final DataBrewClient databrewClient = ClientBuilder.getClient();
         final String name = model.getName();
+        DescribeCache.shared().invalidate(DescribeCache.key(request, "ruleset", name));
+
         final List<Rule> rules = model.getRules();
-        if (Strings.isNullOrEmpty(name) || rules == null || rules.size() < 1) {
+        if (!Tracing.span("ValidateInput", () -> ModelHelper.isValid(model))) {
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .errorCode(HandlerErrorCode.InvalidRequest)
                     .status(OperationStatus.FAILED)
                     .build();
         }
-        final UpdateRulesetRequest updateRulesetRequest = UpdateRulesetRequest.builder()
-                .name(name)
-                .description(model.getDescription())
-                .rules(ModelHelper.buildRequestRules(rules))
-                .build();
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        if (UPDATABLE_PROPERTIES.hasChanges(previousModel, model)) {
+            final UpdateRulesetRequest updateRulesetRequest = HandlerMetrics.translate(() -> UpdateRulesetRequest.builder()
+                    .name(name)
+                    .description(model.getDescription())
+                    .rules(ModelHelper.buildRequestRules(rules))
+                    .build());
 
-        try {
-            proxy.injectCredentialsAndInvokeV2(updateRulesetRequest, databrewClient::updateRuleset);
-            model.setTags(model.getTags() == null ? new ArrayList<>() : model.getTags());
-            logger.log(String.format("%s [%s] Created Successfully", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, name));
-        } catch (ResourceNotFoundException ex) {
-            logger.log(String.format("%s [%s] Not found", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, name));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-        } catch (AccessDeniedException ex) {
-            logger.log(String.format("%s [%s] Access Denied", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, name));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.AccessDenied);
-        } catch (ConflictException ex) {
-            logger.log(String.format("%s [%s] Already Exists", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, name));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.AlreadyExists);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, name));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
-        } catch (ServiceQuotaExceededException ex) {
-            logger.log(String.format("%s [%s] Limit Exceeded", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, name));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceLimitExceeded);
-        } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Created Failed", software.amazon.databrew.ruleset.ResourceModel.TYPE_NAME, name));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            try {
+                proxy.injectCredentialsAndInvokeV2(updateRulesetRequest, databrewClient::updateRuleset);
+                log.success("Updated");
+            } catch (DataBrewException ex) {
+                log.failure("UpdateFailed", ex);
+                return DataBrewErrors.failure("UPDATE", ex);
+            }
+        } else {
+            log.success("UpdateSkipped");
         }
 
+        final TagReconciler.Changes tagChanges = TagReconciler.diff(previousModel == null ? null : previousModel.getTags(),
+                model.getTags(), Tag::getKey, Tag::getValue);
+        if (!tagChanges.isEmpty()) {
+            try {
+                TagReconciler.reconcile(proxy, databrewClient, ResourceArns.of(request, "ruleset", name), tagChanges);
+                log.success("TagsUpdated");
+            } catch (DataBrewException ex) {
+                log.failure("TagsUpdateFailed", ex);
+                return DataBrewErrors.failure("UPDATE", ex);
+            }
+        }
+        model.setTags(model.getTags() == null ? new ArrayList<>() : model.getTags());
+
+        // the READ that usually follows an UPDATE can use this response
+        final DescribeRulesetRequest describeRulesetRequest = DescribeRulesetRequest.builder()
+                .name(name)
+                .build();
+        DescribeCache.shared().refresh(DescribeCache.key(request, "ruleset", name),
+                () -> proxy.injectCredentialsAndInvokeV2(describeRulesetRequest, databrewClient::describeRuleset));
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
             .resourceModel(model)
@@ -35,7 +35,10 @@ public class DeleteHandlerTest {
                 .build();
         doReturn(deleteRulesetResponse)
                 .when(proxy)
-                .injectCredentialsAndInvokeV2(any(), any());
+                .injectCredentialsAndInvokeV2(any(DeleteRulesetRequest.class), any());
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeRulesetRequest.class), any());
         final ResourceModel model = ResourceModel.builder().build();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -145,4 +148,49 @@ public class DeleteHandlerTest {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
     }
+
+    @Test
+    public void handleRequest_StillExists_InProgress() {
+        final DeleteHandler handler = new DeleteHandler();
+        doReturn(DeleteRulesetResponse.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DeleteRulesetRequest.class), any());
+        doReturn(DescribeRulesetResponse.builder().name(TestUtil.RULESET_NAME).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeRulesetRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.RULESET_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().isDeleted()).isTrue();
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(response.getCallbackDelaySeconds()).isGreaterThan(0);
+    }
+
+    @Test
+    public void handleRequest_Deleted_SuccessOnceNotFound() {
+        final DeleteHandler handler = new DeleteHandler();
+        doThrow(ResourceNotFoundException.class)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeRulesetRequest.class), any());
+        final CallbackContext context = new CallbackContext();
+        context.setDeleted(true);
+        context.setStabilizationAttempts(1);
+        context.setStabilizationStartTime(System.currentTimeMillis());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(TestUtil.RULESET_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, context, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(DeleteRulesetRequest.class), any());
+    }
 }
@@ -1,13 +1,18 @@
 package software.amazon.databrew.ruleset;
 
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
+import software.amazon.awssdk.services.databrew.model.DescribeRulesetRequest;
+import software.amazon.awssdk.services.databrew.model.DescribeRulesetResponse;
+import software.amazon.awssdk.services.databrew.model.ListRulesetsRequest;
 import software.amazon.awssdk.services.databrew.model.ListRulesetsResponse;
 import software.amazon.awssdk.services.databrew.model.RulesetItem;
 import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.cloudformation.proxy.*;
+import software.amazon.databrew.common.ParallelDescriber;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -145,4 +150,62 @@ public class ListHandlerTest {
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
 
     }
+
+    @Test
+    public void handleRequest_SuccessfulList_ReturnsServiceNextToken() {
+        final ListHandler handler = new ListHandler();
+
+        doReturn(ListRulesetsResponse.builder().nextToken("page-3").build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .nextToken("page-2")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        final ArgumentCaptor<ListRulesetsRequest> captor = ArgumentCaptor.forClass(ListRulesetsRequest.class);
+        verify(proxy).injectCredentialsAndInvokeV2(captor.capture(), any());
+        assertThat(captor.getValue().nextToken()).isEqualTo("page-2");
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+        assertThat(response.getNextToken()).isEqualTo("page-3");
+    }
+
+    @Test
+    public void handleRequest_SuccessfulList_CompleteModels() {
+        final ListHandler handler = new ListHandler(new ParallelDescriber(true, 2));
+
+        final RulesetItem rulesetItem = RulesetItem.builder()
+                .name(TestUtil.RULESET_NAME)
+                .targetArn(TestUtil.RULESET_TARGET_ARN)
+                .build();
+        final DescribeRulesetResponse describeRulesetResponse = DescribeRulesetResponse.builder()
+                .name(TestUtil.RULESET_NAME)
+                .targetArn(TestUtil.RULESET_TARGET_ARN)
+                .rules(TestUtil.createRulesList())
+                .build();
+
+        doReturn(ListRulesetsResponse.builder().rulesets(rulesetItem, rulesetItem).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(ListRulesetsRequest.class), any());
+        doReturn(describeRulesetResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(DescribeRulesetRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getResourceModels().get(0).getRules()).hasSize(2);
+        assertThat(response.getResourceModels().get(1).getRules()).hasSize(2);
+    }
 }
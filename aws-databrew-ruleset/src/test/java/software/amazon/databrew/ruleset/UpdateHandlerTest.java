@@ -1,13 +1,17 @@
 package software.amazon.databrew.ruleset;
 
+import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.services.databrew.model.*;
 import software.amazon.cloudformation.proxy.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -109,7 +113,7 @@ public class UpdateHandlerTest {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getResourceModel()).isNull();
         assertThat(response.getResourceModels()).isNull();
-        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ResourceConflict);
     }
 
     @Test
@@ -188,4 +192,70 @@ public class UpdateHandlerTest {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
     }
+
+    @Test
+    public void handleRequest_Unchanged_SkipsUpdate() {
+        final UpdateHandler handler = new UpdateHandler();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(TestUtil.RULESET_NAME)
+                .description(TestUtil.RULESET_DESCRIPTION)
+                .rules(ModelHelper.buildModelRules(TestUtil.createRulesList()))
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .name(TestUtil.RULESET_NAME)
+                .description(TestUtil.RULESET_DESCRIPTION)
+                .rules(ModelHelper.buildModelRules(TestUtil.createRulesList()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void handleRequest_TagsChanged_ReconcilesTagsOnly() {
+        final UpdateHandler handler = new UpdateHandler();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(TestUtil.RULESET_NAME)
+                .description(TestUtil.RULESET_DESCRIPTION)
+                .rules(ModelHelper.buildModelRules(TestUtil.createRulesList()))
+                .tags(Arrays.asList(Tag.builder().key("kept").value("v").build(),
+                        Tag.builder().key("changed").value("old").build(),
+                        Tag.builder().key("removed").value("v").build()))
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .name(TestUtil.RULESET_NAME)
+                .description(TestUtil.RULESET_DESCRIPTION)
+                .rules(ModelHelper.buildModelRules(TestUtil.createRulesList()))
+                .tags(Arrays.asList(Tag.builder().key("kept").value("v").build(),
+                        Tag.builder().key("changed").value("new").build(),
+                        Tag.builder().key("added").value("v").build()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<AwsRequest> requests = ArgumentCaptor.forClass(AwsRequest.class);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(requests.capture(), any());
+        final TagResourceRequest tagResourceRequest = (TagResourceRequest) requests.getAllValues().get(0);
+        assertThat(tagResourceRequest.tags()).containsOnlyKeys("changed", "added");
+        final UntagResourceRequest untagResourceRequest = (UntagResourceRequest) requests.getAllValues().get(1);
+        assertThat(untagResourceRequest.tagKeys()).containsExactly("removed");
+    }
 }
@@ -1,10 +1,19 @@
 package software.amazon.databrew.schedule;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.databrew.common.Stabilization;
+import software.amazon.databrew.common.Tracing;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
-public class CallbackContext extends StdCallbackContext {
+public class CallbackContext extends StdCallbackContext implements Tracing.TraceContext, Stabilization.Context {
+    // the delete call succeeded, later invocations only wait for the schedule to disappear
+    private boolean deleted;
+    private int stabilizationAttempts;
+    private long stabilizationStartTime;
+    private String lastObservedState;
+    // W3C traceparent of the first invocation, links all invocations of the operation into one trace
+    private String traceParent;
 }
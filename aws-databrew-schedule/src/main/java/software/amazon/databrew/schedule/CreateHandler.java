@@ -1,18 +1,20 @@
 package software.amazon.databrew.schedule;
 
 import software.amazon.awssdk.services.databrew.DataBrewClient;
-import software.amazon.awssdk.services.databrew.model.AccessDeniedException;
-import software.amazon.awssdk.services.databrew.model.ConflictException;
 import software.amazon.awssdk.services.databrew.model.CreateScheduleRequest;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
-import software.amazon.awssdk.services.databrew.model.ServiceQuotaExceededException;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.Tracing;
 
 import java.util.ArrayList;
 
@@ -24,37 +26,48 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "CREATE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "CREATE", model.getName());
         final String scheduleName = model.getName();
+
+        final String cronExpressionError = Tracing.span("ValidateInput", () -> model.getCronExpression() == null
+                ? null : CronExpression.validate(model.getCronExpression()));
+        if (cronExpressionError != null) {
+            log.failure("InvalidInput", HandlerErrorCode.InvalidRequest, "message", cronExpressionError);
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .errorCode(HandlerErrorCode.InvalidRequest)
+                    .status(OperationStatus.FAILED)
+                    .message(cronExpressionError)
+                    .build();
+        }
+
         final DataBrewClient databrewClient = ClientBuilder.getClient();
+        DescribeCache.shared().invalidate(DescribeCache.key(request, "schedule", scheduleName));
 
-        final CreateScheduleRequest createScheduleRequest = CreateScheduleRequest.builder()
+        final CreateScheduleRequest createScheduleRequest = HandlerMetrics.translate(() -> CreateScheduleRequest.builder()
                 .jobNames(model.getJobNames())
                 .tags(ModelHelper.buildTagInputMap(model.getTags()))
                 .cronExpression(model.getCronExpression())
                 .name(scheduleName)
-                .build();
+                .build());
 
         try {
             proxy.injectCredentialsAndInvokeV2(createScheduleRequest, databrewClient::createSchedule);
             model.setTags(model.getTags() == null ? new ArrayList<>() : model.getTags());
-            logger.log(String.format("%s [%s] Created Successfully", ResourceModel.TYPE_NAME, scheduleName));
-        } catch (AccessDeniedException ex) {
-            logger.log(String.format("%s [%s] Access Denied", ResourceModel.TYPE_NAME, scheduleName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.AccessDenied);
-        } catch (ConflictException ex) {
-            logger.log(String.format("%s [%s] Already Exists", ResourceModel.TYPE_NAME, scheduleName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.AlreadyExists);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, scheduleName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
-        } catch (ServiceQuotaExceededException ex) {
-            logger.log(String.format("%s [%s] Limit Exceeded", ResourceModel.TYPE_NAME, scheduleName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceLimitExceeded);
+            log.success("Created");
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Created Failed", ResourceModel.TYPE_NAME, scheduleName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("CreateFailed", ex);
+            return DataBrewErrors.failure("CREATE", ex);
         }
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .resourceModel(model)
@@ -0,0 +1,492 @@
+package software.amazon.databrew.schedule;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongConsumer;
+
+/**
+ * A schedule cron expression in the 6-field EventBridge dialect DataBrew uses,
+ * {@code cron(Minutes Hours Day-of-month Month Day-of-week Year)}, evaluated in UTC.
+ *
+ * Every field takes lists, ranges (wrapping around, e.g. {@code FRI-MON}) and steps. Day-of-month also
+ * takes {@code L}, {@code L-n}, {@code nW} and {@code LW}, day-of-week takes {@code L}, {@code nL} and
+ * {@code n#k}; exactly one of the two has to be {@code ?}. Fire times are computed field by field on bit
+ * masks, so finding the next one costs a few mask lookups whatever the gap to it.
+ */
+public final class CronExpression {
+
+    /** Returned by {@link #nextEpochMinute(long)} when the expression does not fire anymore. */
+    public static final long NONE = -1L;
+
+    static final int MIN_YEAR = 1970;
+    static final int MAX_YEAR = 2199;
+
+    private static final String[] MONTH_NAMES = {"JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final String expression;
+    private final long minutes;
+    private final long hours;
+    private final long months;
+    private final BitSet years;
+    private final boolean byDayOfWeek;
+    // plain day-of-month or day-of-week values, bit n for day n
+    private final long days;
+    // L-n for day-of-month, -1 if unused
+    private final int lastDayOffset;
+    // nW for day-of-month (LW is nearestWeekday == 32), nL and n#k for day-of-week, 0 if unused
+    private final int nearestWeekday;
+    private final int lastDayOfWeek;
+    private final int nthDayOfWeek;
+    private final int nth;
+
+    private CronExpression(final String expression, final long minutes, final long hours, final long months,
+                           final BitSet years, final Day day) {
+        this.expression = expression;
+        this.minutes = minutes;
+        this.hours = hours;
+        this.months = months;
+        this.years = years;
+        this.byDayOfWeek = day.byDayOfWeek;
+        this.days = day.values;
+        this.lastDayOffset = day.lastDayOffset;
+        this.nearestWeekday = day.nearestWeekday;
+        this.lastDayOfWeek = day.lastDayOfWeek;
+        this.nthDayOfWeek = day.nthDayOfWeek;
+        this.nth = day.nth;
+    }
+
+    /**
+     * Parses an expression with or without the {@code cron(...)} wrapper.
+     *
+     * @throws IllegalArgumentException if the expression is invalid or never fires
+     */
+    public static CronExpression parse(final String expression) {
+        if (expression == null) {
+            throw new IllegalArgumentException("Invalid cron expression [null]");
+        }
+        String body = expression.trim();
+        if (body.regionMatches(true, 0, "cron(", 0, 5)) {
+            if (!body.endsWith(")")) {
+                throw invalid(expression, "missing closing parenthesis");
+            }
+            body = body.substring(5, body.length() - 1).trim();
+        }
+        final String[] fields = body.split("\\s+");
+        if (fields.length != 6) {
+            throw invalid(expression, String.format("expected 6 fields, found %d", body.isEmpty() ? 0 : fields.length));
+        }
+
+        final boolean noDayOfMonth = "?".equals(fields[2]);
+        final boolean noDayOfWeek = "?".equals(fields[4]);
+        if (noDayOfMonth == noDayOfWeek) {
+            throw invalid(expression, "exactly one of day-of-month and day-of-week has to be ?");
+        }
+        final Day day = noDayOfMonth
+                ? parseDayOfWeek(expression, fields[4])
+                : parseDayOfMonth(expression, fields[2]);
+
+        final BitSet years = new BitSet(MAX_YEAR - MIN_YEAR + 1);
+        parseField(expression, "year", fields[5], MIN_YEAR, MAX_YEAR, null, years);
+        final CronExpression cron = new CronExpression(expression.trim(),
+                parseField(expression, "minutes", fields[0], 0, 59, null, null),
+                parseField(expression, "hours", fields[1], 0, 23, null, null),
+                parseField(expression, "month", fields[3], 1, 12, MONTH_NAMES, null),
+                years, day);
+        if (cron.nextEpochMinute(epochMinute(MIN_YEAR, 1, 1, 0, 0) - 1) == NONE) {
+            throw invalid(expression, "it never fires");
+        }
+        return cron;
+    }
+
+    /**
+     * @return null if the expression is valid, otherwise the reason it is not
+     */
+    public static String validate(final String expression) {
+        try {
+            parse(expression);
+            return null;
+        } catch (final IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * @return the first fire time after the given instant, or null if there is none
+     */
+    public Instant next(final Instant after) {
+        final long epochMinute = nextEpochMinute(Math.floorDiv(after.getEpochSecond(), 60L));
+        return epochMinute == NONE ? null : Instant.ofEpochSecond(epochMinute * 60L);
+    }
+
+    /**
+     * @return up to count fire times after the given instant, fewer if the expression stops firing
+     */
+    public List<Instant> nextFireTimes(final Instant after, final int count) {
+        final List<Instant> fireTimes = new ArrayList<>(Math.min(count, 1024));
+        final Cursor cursor = new Cursor(Math.floorDiv(after.getEpochSecond(), 60L) + 1);
+        while (fireTimes.size() < count) {
+            final long epochMinute = cursor.advance();
+            if (epochMinute == NONE) {
+                break;
+            }
+            fireTimes.add(Instant.ofEpochSecond(epochMinute * 60L));
+        }
+        return fireTimes;
+    }
+
+    /**
+     * @return the first fire time strictly after the given minute since the epoch, in minutes since the
+     *         epoch, or {@link #NONE}
+     */
+    public long nextEpochMinute(final long afterEpochMinute) {
+        return new Cursor(afterEpochMinute + 1).advance();
+    }
+
+    /**
+     * A cursor for many {@link Cursor#nextAfter(long)} lookups, cheaper than {@link #nextEpochMinute(long)}
+     * while they stay in the same month. Not thread-safe.
+     */
+    public Cursor cursor() {
+        return new Cursor(epochMinute(MIN_YEAR, 1, 1, 0, 0));
+    }
+
+    /**
+     * Passes every fire time in [fromEpochMinute, untilEpochMinute), in minutes since the epoch, to the
+     * consumer in order.
+     */
+    public void forEachFireTime(final long fromEpochMinute, final long untilEpochMinute, final LongConsumer consumer) {
+        final Cursor cursor = new Cursor(fromEpochMinute);
+        long epochMinute;
+        while ((epochMinute = cursor.advance()) != NONE && epochMinute < untilEpochMinute) {
+            consumer.accept(epochMinute);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * Walks the fire times from a start minute on, caching the days of the month it is in.
+     */
+    public final class Cursor {
+        private int year;
+        private int month;
+        private int day;
+        private int hour;
+        private int minute;
+        private int maskYear;
+        private int maskMonth;
+        private long dayMask;
+        private long monthStartEpochDay;
+        private long monthEndEpochDay;
+
+        private Cursor(final long fromEpochMinute) {
+            seek(fromEpochMinute);
+        }
+
+        /**
+         * @return the first fire time strictly after the given minute since the epoch, in minutes since the
+         *         epoch, or {@link #NONE}
+         */
+        public long nextAfter(final long afterEpochMinute) {
+            seek(afterEpochMinute + 1);
+            return advance();
+        }
+
+        private void seek(final long epochMinute) {
+            if (maskMonth != 0 && epochMinute >= monthStartEpochDay * MINUTES_PER_DAY && epochMinute < monthEndEpochDay * MINUTES_PER_DAY) {
+                // within the cached month, no calendar arithmetic needed
+                final long offset = epochMinute - monthStartEpochDay * MINUTES_PER_DAY;
+                year = maskYear;
+                month = maskMonth;
+                day = (int) (offset / MINUTES_PER_DAY) + 1;
+                hour = (int) (offset / 60 % 24);
+                minute = (int) (offset % 60);
+                return;
+            }
+            final long clamped = Math.min(Math.max(epochMinute, epochMinute(MIN_YEAR, 1, 1, 0, 0)),
+                    epochMinute(MAX_YEAR + 1, 1, 1, 0, 0));
+            final LocalDateTime from = LocalDateTime.ofEpochSecond(clamped * 60L, 0, ZoneOffset.UTC);
+            year = from.getYear();
+            month = from.getMonthValue();
+            day = from.getDayOfMonth();
+            hour = from.getHour();
+            minute = from.getMinute();
+        }
+
+        /**
+         * @return the first fire time at or after the cursor, which then moves one minute past it
+         */
+        long advance() {
+            while (year <= MAX_YEAR) {
+                if (!years.get(year - MIN_YEAR)) {
+                    final int next = years.nextSetBit(year - MIN_YEAR);
+                    if (next < 0) {
+                        break;
+                    }
+                    startYear(next + MIN_YEAR);
+                    continue;
+                }
+                final int nextMonth = nextBit(months, month);
+                if (nextMonth < 0) {
+                    startYear(year + 1);
+                    continue;
+                }
+                if (nextMonth != month) {
+                    startMonth(nextMonth);
+                }
+                final int nextDay = nextBit(dayMask(), day);
+                if (nextDay < 0) {
+                    if (month == 12) {
+                        startYear(year + 1);
+                    } else {
+                        startMonth(month + 1);
+                    }
+                    continue;
+                }
+                if (nextDay != day) {
+                    startDay(nextDay);
+                }
+                final int nextHour = nextBit(hours, hour);
+                if (nextHour < 0) {
+                    startDay(day + 1);
+                    continue;
+                }
+                if (nextHour != hour) {
+                    hour = nextHour;
+                    minute = 0;
+                }
+                final int nextMinute = nextBit(minutes, minute);
+                if (nextMinute < 0) {
+                    hour++;
+                    minute = 0;
+                    continue;
+                }
+                minute = nextMinute + 1;
+                return (monthStartEpochDay + day - 1) * MINUTES_PER_DAY + hour * 60L + nextMinute;
+            }
+            year = MAX_YEAR + 1;
+            return NONE;
+        }
+
+        private void startYear(final int nextYear) {
+            year = nextYear;
+            startMonth(1);
+        }
+
+        private void startMonth(final int nextMonth) {
+            month = nextMonth;
+            startDay(1);
+        }
+
+        private void startDay(final int nextDay) {
+            day = nextDay;
+            hour = 0;
+            minute = 0;
+        }
+
+        private long dayMask() {
+            if (year != maskYear || month != maskMonth) {
+                final LocalDate first = LocalDate.of(year, month, 1);
+                monthStartEpochDay = first.toEpochDay();
+                monthEndEpochDay = monthStartEpochDay + first.lengthOfMonth();
+                // 1 = Sunday as in the expression
+                final int firstDayOfWeek = first.getDayOfWeek().getValue() % 7 + 1;
+                dayMask = days(first.lengthOfMonth(), firstDayOfWeek);
+                maskYear = year;
+                maskMonth = month;
+            }
+            return dayMask;
+        }
+    }
+
+    /**
+     * @return the days of a month with the given length and day of week of its first day that match, bit n
+     *         for day n
+     */
+    long days(final int length, final int firstDayOfWeek) {
+        final long monthDays = (-1L >>> (63 - length)) & ~1L;
+        if (!byDayOfWeek) {
+            long mask = days & monthDays;
+            if (lastDayOffset >= 0 && length - lastDayOffset >= 1) {
+                mask |= 1L << (length - lastDayOffset);
+            }
+            if (nearestWeekday > 0) {
+                final int target = nearestWeekday == 32 ? length : nearestWeekday;
+                if (target <= length) {
+                    mask |= 1L << nearestWeekday(target, length, firstDayOfWeek);
+                }
+            }
+            return mask;
+        }
+        long mask = 0L;
+        for (int day = 1; day <= length; day++) {
+            final int dayOfWeek = (firstDayOfWeek - 1 + day - 1) % 7 + 1;
+            if ((days & (1L << dayOfWeek)) != 0) {
+                mask |= 1L << day;
+            }
+        }
+        if (lastDayOfWeek > 0) {
+            final int lastDayOfWeekOfMonth = (firstDayOfWeek - 1 + length - 1) % 7 + 1;
+            mask |= 1L << (length - (lastDayOfWeekOfMonth - lastDayOfWeek + 7) % 7);
+        }
+        if (nthDayOfWeek > 0) {
+            final int day = 1 + (nthDayOfWeek - firstDayOfWeek + 7) % 7 + (nth - 1) * 7;
+            if (day <= length) {
+                mask |= 1L << day;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * The weekday closest to the target day without leaving the month, as in {@code 15W}.
+     */
+    private static int nearestWeekday(final int target, final int length, final int firstDayOfWeek) {
+        final int dayOfWeek = (firstDayOfWeek - 1 + target - 1) % 7 + 1;
+        if (dayOfWeek == 7) {
+            // Saturday, Friday unless that is in the previous month
+            return target == 1 ? 3 : target - 1;
+        }
+        if (dayOfWeek == 1) {
+            // Sunday, Monday unless that is in the next month
+            return target == length ? target - 2 : target + 1;
+        }
+        return target;
+    }
+
+    private static Day parseDayOfMonth(final String expression, final String field) {
+        final Day day = new Day();
+        final String value = field.toUpperCase(Locale.ROOT);
+        if ("L".equals(value)) {
+            day.lastDayOffset = 0;
+        } else if (value.startsWith("L-")) {
+            day.lastDayOffset = number(expression, "day-of-month", value.substring(2), 0, 30);
+        } else if ("LW".equals(value)) {
+            day.nearestWeekday = 32;
+        } else if (value.endsWith("W")) {
+            day.nearestWeekday = number(expression, "day-of-month", value.substring(0, value.length() - 1), 1, 31);
+        } else {
+            day.values = parseField(expression, "day-of-month", field, 1, 31, null, null);
+        }
+        return day;
+    }
+
+    private static Day parseDayOfWeek(final String expression, final String field) {
+        final Day day = new Day();
+        day.byDayOfWeek = true;
+        final String value = field.toUpperCase(Locale.ROOT);
+        final int hash = value.indexOf('#');
+        if ("L".equals(value)) {
+            // L alone is Saturday, the last day of the week
+            day.values = 1L << 7;
+        } else if (value.length() > 1 && value.endsWith("L")) {
+            day.lastDayOfWeek = value(expression, "day-of-week", value.substring(0, value.length() - 1), 1, 7, DAY_NAMES);
+        } else if (hash >= 0) {
+            day.nthDayOfWeek = value(expression, "day-of-week", value.substring(0, hash), 1, 7, DAY_NAMES);
+            day.nth = number(expression, "day-of-week", value.substring(hash + 1), 1, 5);
+        } else {
+            day.values = parseField(expression, "day-of-week", field, 1, 7, DAY_NAMES, null);
+        }
+        return day;
+    }
+
+    /**
+     * Parses a list of values, ranges and steps into a mask with bit n for value n, or into the given
+     * BitSet at offset min for fields too wide for a long.
+     */
+    private static long parseField(final String expression, final String name, final String field,
+                                   final int min, final int max, final String[] names, final BitSet wide) {
+        long mask = 0L;
+        for (final String element : field.split(",", -1)) {
+            final int slash = element.indexOf('/');
+            final String range = slash < 0 ? element : element.substring(0, slash);
+            final int step = slash < 0 ? 1 : number(expression, name, element.substring(slash + 1), 1, max - min + 1);
+            final int start;
+            final int end;
+            if ("*".equals(range)) {
+                start = min;
+                end = max;
+            } else {
+                final int dash = range.indexOf('-');
+                start = value(expression, name, dash < 0 ? range : range.substring(0, dash), min, max, names);
+                end = dash >= 0 ? value(expression, name, range.substring(dash + 1), min, max, names) : slash < 0 ? start : max;
+            }
+            if (end < start && wide != null) {
+                throw invalid(expression, String.format("%s range [%s] ends before it starts", name, range));
+            }
+            // ranges such as 22-2 or FRI-MON wrap around
+            final int span = end >= start ? end - start : end - start + max - min + 1;
+            for (int offset = 0; offset <= span; offset += step) {
+                final int value = start + offset > max ? start + offset - (max - min + 1) : start + offset;
+                if (wide != null) {
+                    wide.set(value - min);
+                } else {
+                    mask |= 1L << value;
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static int value(final String expression, final String name, final String value,
+                             final int min, final int max, final String[] names) {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equalsIgnoreCase(value)) {
+                    return min + i;
+                }
+            }
+        }
+        return number(expression, name, value, min, max);
+    }
+
+    private static int number(final String expression, final String name, final String value, final int min, final int max) {
+        final int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (final NumberFormatException e) {
+            throw invalid(expression, String.format("%s value [%s] is not a number", name, value));
+        }
+        if (number < min || number > max) {
+            throw invalid(expression, String.format("%s value [%d] is not between %d and %d", name, number, min, max));
+        }
+        return number;
+    }
+
+    private static int nextBit(final long mask, final int from) {
+        if (from >= 64) {
+            return -1;
+        }
+        final long remaining = mask & (-1L << from);
+        return remaining == 0L ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    static long epochMinute(final int year, final int month, final int day, final int hour, final int minute) {
+        return LocalDate.of(year, month, day).toEpochDay() * MINUTES_PER_DAY + hour * 60L + minute;
+    }
+
+    private static IllegalArgumentException invalid(final String expression, final String reason) {
+        return new IllegalArgumentException(String.format("Invalid cron expression [%s], %s", expression, reason));
+    }
+
+    private static final class Day {
+        private boolean byDayOfWeek;
+        private long values;
+        private int lastDayOffset = -1;
+        private int nearestWeekday;
+        private int lastDayOfWeek;
+        private int nthDayOfWeek;
+        private int nth;
+    }
+}
@@ -3,14 +3,17 @@ package software.amazon.databrew.schedule;
 import software.amazon.awssdk.services.databrew.DataBrewClient;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
 import software.amazon.awssdk.services.databrew.model.DeleteScheduleRequest;
-import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
+import software.amazon.awssdk.services.databrew.model.DescribeScheduleRequest;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
-import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.Stabilization;
+import software.amazon.databrew.common.Tracing;
 
 public class DeleteHandler extends BaseHandler<CallbackContext> {
 
@@ -20,32 +23,57 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "DELETE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "DELETE", model.getName());
 
         final String scheduleName = model.getName();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
 
-        final DeleteScheduleRequest deleteScheduleRequest = DeleteScheduleRequest.builder()
-                .name(scheduleName)
-                .build();
+        final CallbackContext context = callbackContext == null ? new CallbackContext() : callbackContext;
 
-        try {
-            proxy.injectCredentialsAndInvokeV2(deleteScheduleRequest, databrewClient::deleteSchedule);
-            logger.log(String.format("%s [%s] Deleted Successfully", ResourceModel.TYPE_NAME, scheduleName));
-        } catch (ResourceNotFoundException ex) {
-            logger.log(String.format("%s [%s] Does Not Exist", ResourceModel.TYPE_NAME, scheduleName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, scheduleName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
-        } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Deleted Failed", ResourceModel.TYPE_NAME, scheduleName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+        if (!context.isDeleted()) {
+            final DeleteScheduleRequest deleteScheduleRequest = DeleteScheduleRequest.builder()
+                    .name(scheduleName)
+                    .build();
+
+            try {
+                proxy.injectCredentialsAndInvokeV2(deleteScheduleRequest, databrewClient::deleteSchedule);
+                log.success("Deleted");
+            } catch (DataBrewException ex) {
+                log.failure("DeleteFailed", ex);
+                return DataBrewErrors.failure("DELETE", ex);
+            }
+
+            DescribeCache.shared().invalidate(DescribeCache.key(request, "schedule", scheduleName));
+
+            context.setDeleted(true);
+            context.setStabilizationStartTime(System.currentTimeMillis());
         }
+        return Tracing.span("Stabilize", () -> stabilize(proxy, databrewClient, model, context, log));
+    }
 
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .status(OperationStatus.SUCCESS)
+    private ProgressEvent<ResourceModel, CallbackContext> stabilize(
+        final AmazonWebServicesClientProxy proxy,
+        final DataBrewClient databrewClient,
+        final ResourceModel model,
+        final CallbackContext context,
+        final HandlerLog log) {
+
+        final String scheduleName = model.getName();
+        final DescribeScheduleRequest describeScheduleRequest = DescribeScheduleRequest.builder()
+                .name(scheduleName)
                 .build();
+        return Stabilization.awaitDeleted(() -> proxy.injectCredentialsAndInvokeV2(describeScheduleRequest, databrewClient::describeSchedule),
+                model, context, log, System::currentTimeMillis);
     }
 }
@@ -4,25 +4,47 @@ import software.amazon.awssdk.services.databrew.DataBrewClient;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
 import software.amazon.awssdk.services.databrew.model.DescribeScheduleRequest;
 import software.amazon.awssdk.services.databrew.model.DescribeScheduleResponse;
-import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.HandlerMetrics;
+import software.amazon.databrew.common.Handlers;
 
 public class ReadHandler extends BaseHandler<CallbackContext> {
 
+    private final DescribeCache cache;
+
+    public ReadHandler() {
+        this(DescribeCache.shared());
+    }
+
+    ReadHandler(final DescribeCache cache) {
+        this.cache = cache;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "READ", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "READ", model.getName());
 
         final String scheduleName = model.getName();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
@@ -32,23 +54,18 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
 
         final DescribeScheduleResponse describeScheduleResult;
         try {
-            describeScheduleResult = proxy.injectCredentialsAndInvokeV2(describeScheduleRequest, databrewClient::describeSchedule);
-            logger.log(String.format("%s [%s] Read Successfully", ResourceModel.TYPE_NAME, scheduleName));
-            ResourceModel resultModel = ModelHelper.constructModel(describeScheduleResult);
+            describeScheduleResult = cache.getOrLoad(DescribeCache.key(request, "schedule", scheduleName), DescribeScheduleResponse.class,
+                    () -> proxy.injectCredentialsAndInvokeV2(describeScheduleRequest, databrewClient::describeSchedule));
+            log.success("Read");
+            ResourceModel resultModel = HandlerMetrics.translate(() -> ModelHelper.constructModel(describeScheduleResult));
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .resourceModel(resultModel)
                     .status(OperationStatus.SUCCESS)
                     .build();
 
-        } catch (ResourceNotFoundException ex) {
-            logger.log(String.format("%s [%s] Does Not Exist", ResourceModel.TYPE_NAME, scheduleName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, scheduleName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
         } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Read Failed", ResourceModel.TYPE_NAME, scheduleName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+            log.failure("ReadFailed", ex);
+            return DataBrewErrors.failure("READ", ex);
         }
     }
 }
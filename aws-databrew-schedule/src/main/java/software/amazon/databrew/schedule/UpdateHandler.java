@@ -2,50 +2,101 @@ package software.amazon.databrew.schedule;
 
 import software.amazon.awssdk.services.databrew.DataBrewClient;
 import software.amazon.awssdk.services.databrew.model.DataBrewException;
-import software.amazon.awssdk.services.databrew.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.databrew.model.DescribeScheduleRequest;
 import software.amazon.awssdk.services.databrew.model.UpdateScheduleRequest;
-import software.amazon.awssdk.services.databrew.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.databrew.common.DataBrewErrors;
+import software.amazon.databrew.common.DescribeCache;
+import software.amazon.databrew.common.HandlerLog;
+import software.amazon.databrew.common.Handlers;
+import software.amazon.databrew.common.ModelDiff;
+import software.amazon.databrew.common.ResourceArns;
+import software.amazon.databrew.common.TagReconciler;
+import software.amazon.databrew.common.Tracing;
 
 public class UpdateHandler extends BaseHandler<CallbackContext> {
 
+    private static final ModelDiff<ResourceModel> UPDATABLE_PROPERTIES = new ModelDiff<ResourceModel>()
+            .property("JobNames", ResourceModel::getJobNames)
+            .property("CronExpression", ResourceModel::getCronExpression);
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
+        return Handlers.run(ResourceModel.TYPE_NAME, "UPDATE", request, callbackContext, logger,
+                () -> handle(proxy, request, callbackContext, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handle(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final HandlerLog log = HandlerLog.start(logger, ResourceModel.TYPE_NAME, "UPDATE", model.getName());
 
         final String scheduleName = model.getName();
         final DataBrewClient databrewClient = ClientBuilder.getClient();
+        DescribeCache.shared().invalidate(DescribeCache.key(request, "schedule", scheduleName));
 
-        final UpdateScheduleRequest updateScheduleRequest = UpdateScheduleRequest.builder()
-                .jobNames(model.getJobNames())
-                .cronExpression(model.getCronExpression())
-                .name(scheduleName)
-                .build();
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        if (UPDATABLE_PROPERTIES.hasChanges(previousModel, model)) {
+            final String cronExpressionError = Tracing.span("ValidateInput", () -> model.getCronExpression() == null
+                    ? null : CronExpression.validate(model.getCronExpression()));
+            if (cronExpressionError != null) {
+                log.failure("InvalidInput", HandlerErrorCode.InvalidRequest, "message", cronExpressionError);
+                return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                        .errorCode(HandlerErrorCode.InvalidRequest)
+                        .status(OperationStatus.FAILED)
+                        .message(cronExpressionError)
+                        .build();
+            }
+
+            final UpdateScheduleRequest updateScheduleRequest = UpdateScheduleRequest.builder()
+                    .jobNames(model.getJobNames())
+                    .cronExpression(model.getCronExpression())
+                    .name(scheduleName)
+                    .build();
+
+            try {
+                proxy.injectCredentialsAndInvokeV2(updateScheduleRequest, databrewClient::updateSchedule);
+                log.success("Updated");
+            } catch (DataBrewException ex) {
+                log.failure("UpdateFailed", ex);
+                return DataBrewErrors.failure("UPDATE", ex);
+            }
+        } else {
+            log.success("UpdateSkipped");
+        }
 
-        try {
-            proxy.injectCredentialsAndInvokeV2(updateScheduleRequest, databrewClient::updateSchedule);
-            logger.log(String.format("%s [%s] Updated Successfully", ResourceModel.TYPE_NAME, scheduleName));
-        } catch (ResourceNotFoundException ex) {
-            logger.log(String.format("%s [%s] Does Not Exist", ResourceModel.TYPE_NAME, scheduleName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.NotFound);
-        } catch (ValidationException ex) {
-            logger.log(String.format("%s [%s] Invalid Parameter", ResourceModel.TYPE_NAME, scheduleName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.InvalidRequest);
-        } catch (DataBrewException ex) {
-            logger.log(String.format("%s [%s] Updated Failed", ResourceModel.TYPE_NAME, scheduleName));
-            return ProgressEvent.defaultFailureHandler(ex, HandlerErrorCode.ServiceInternalError);
+        final TagReconciler.Changes tagChanges = TagReconciler.diff(previousModel == null ? null : previousModel.getTags(),
+                model.getTags(), Tag::getKey, Tag::getValue);
+        if (!tagChanges.isEmpty()) {
+            try {
+                TagReconciler.reconcile(proxy, databrewClient, ResourceArns.of(request, "schedule", scheduleName), tagChanges);
+                log.success("TagsUpdated");
+            } catch (DataBrewException ex) {
+                log.failure("TagsUpdateFailed", ex);
+                return DataBrewErrors.failure("UPDATE", ex);
+            }
         }
 
+        // the READ that usually follows an UPDATE can use this response
+        final DescribeScheduleRequest describeScheduleRequest = DescribeScheduleRequest.builder()
+                .name(scheduleName)
+                .build();
+        DescribeCache.shared().refresh(DescribeCache.key(request, "schedule", scheduleName),
+                () -> proxy.injectCredentialsAndInvokeV2(describeScheduleRequest, databrewClient::describeSchedule));
+
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .resourceModel(model)
                 .status(OperationStatus.SUCCESS)
@@ -23,6 +23,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static software.amazon.databrew.schedule.TestUtil.INVALID_SCHEDULE_NAME;
 import static software.amazon.databrew.schedule.TestUtil.SCHEDULE_NAME;
 
@@ -169,4 +171,26 @@ public class CreateHandlerTest {
         Assertions.assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceLimitExceeded);
     }
+
+    @Test
+    public void handleRequest_FailedCreate_InvalidCronExpression() {
+        final CreateHandler handler = new CreateHandler();
+        final ResourceModel model = ResourceModel.builder()
+                .name(SCHEDULE_NAME)
+                .cronExpression("cron(0 12 * * * *)")
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("day-of-month");
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(), any());
+    }
 }
@@ -0,0 +1,94 @@
+package software.amazon.databrew.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CronExpressionTest {
+
+    private static final Instant FROM = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    public void parse_Invalid() {
+        assertThat(CronExpression.validate(TestUtil.SCHEDULE_CRON)).isNull();
+        assertThat(CronExpression.validate("0 12 * * ? *")).isNull();
+        assertThat(CronExpression.validate("cron(0 12 * * ?)")).contains("expected 6 fields");
+        assertThat(CronExpression.validate("cron(0 12 * * * *)")).contains("has to be ?");
+        assertThat(CronExpression.validate("cron(0 12 ? * ? *)")).contains("has to be ?");
+        assertThat(CronExpression.validate("cron(60 12 * * ? *)")).contains("minutes value [60]");
+        assertThat(CronExpression.validate("cron(0 12 * JANUARY ? *)")).contains("month value [JANUARY]");
+        assertThat(CronExpression.validate("cron(0 12 ? * 2#6 *)")).contains("day-of-week value [6]");
+        assertThat(CronExpression.validate("cron(0 12 * * ? 2030-2025)")).contains("ends before it starts");
+        assertThat(CronExpression.validate("cron(0 12 30 2 ? *)")).contains("never fires");
+        assertThat(CronExpression.validate("cron(0 12 * * ? *")).contains("parenthesis");
+        assertThatThrownBy(() -> CronExpression.parse(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void nextFireTimes_ListsRangesAndSteps() {
+        assertFireTimes("cron(0 0/1 ? * * *)", "2024-01-01T01:00:00Z", "2024-01-01T02:00:00Z");
+        assertFireTimes("cron(*/20 23-1 ? * MON-FRI 2024)", "2024-01-01T00:20:00Z", "2024-01-01T00:40:00Z",
+                "2024-01-01T01:00:00Z", "2024-01-01T01:20:00Z", "2024-01-01T01:40:00Z", "2024-01-01T23:00:00Z");
+        assertFireTimes("cron(30 6 1,15 jan,jul ? *)", "2024-01-01T06:30:00Z", "2024-01-15T06:30:00Z",
+                "2024-07-01T06:30:00Z");
+        assertFireTimes("cron(0 0 29 2 ? *)", "2024-02-29T00:00:00Z", "2028-02-29T00:00:00Z");
+        assertFireTimes("cron(0 0 1 1 ? 2030/10)", "2030-01-01T00:00:00Z", "2040-01-01T00:00:00Z");
+    }
+
+    @Test
+    public void nextFireTimes_SpecialDays() {
+        // January 2024 starts on a Monday, June 2024 on a Saturday, March 2024 ends on a Sunday
+        assertFireTimes("cron(0 9 L * ? 2024)", "2024-01-31T09:00:00Z", "2024-02-29T09:00:00Z");
+        assertFireTimes("cron(0 9 L-2 * ? 2024)", "2024-01-29T09:00:00Z", "2024-02-27T09:00:00Z");
+        assertFireTimes("cron(0 9 1W 6 ? 2024)", "2024-06-03T09:00:00Z");
+        assertFireTimes("cron(0 9 LW 3 ? 2024)", "2024-03-29T09:00:00Z");
+        assertFireTimes("cron(0 9 ? * 6L 2024)", "2024-01-26T09:00:00Z", "2024-02-23T09:00:00Z");
+        assertFireTimes("cron(0 9 ? * MON#1 2024)", "2024-01-01T09:00:00Z", "2024-02-05T09:00:00Z");
+        assertFireTimes("cron(0 9 ? * L 2024)", "2024-01-06T09:00:00Z", "2024-01-13T09:00:00Z");
+    }
+
+    @Test
+    public void next_StopsAtLastYear() {
+        final CronExpression cron = CronExpression.parse("cron(0 12 * * ? 2024)");
+        assertThat(cron.next(Instant.parse("2024-12-31T12:00:00Z"))).isNull();
+        assertThat(cron.nextFireTimes(Instant.parse("2024-12-30T00:00:00Z"), 5)).hasSize(2);
+        assertThat(cron.nextEpochMinute(Long.MAX_VALUE / 2)).isEqualTo(CronExpression.NONE);
+    }
+
+    @Test
+    public void cursor_MatchesNextEpochMinute() {
+        final CronExpression cron = CronExpression.parse("cron(*/7 3-20 L-3 * ? *)");
+        final CronExpression.Cursor cursor = cron.cursor();
+        final long from = FROM.getEpochSecond() / 60;
+        // forward within a month, back, and across months
+        for (final long offset : new long[]{0, 5, 4000, 3990, 100, 60000, 1, 200000}) {
+            assertThat(cursor.nextAfter(from + offset)).isEqualTo(cron.nextEpochMinute(from + offset));
+        }
+    }
+
+    @Test
+    public void forEachFireTime_EveryMinuteForYears() {
+        final CronExpression cron = CronExpression.parse("cron(* * * * ? *)");
+        final long from = FROM.getEpochSecond() / 60;
+        final long until = Instant.parse("2034-01-01T00:00:00Z").getEpochSecond() / 60;
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong previous = new AtomicLong(from - 1);
+        cron.forEachFireTime(from, until, epochMinute -> {
+            assertThat(epochMinute).isEqualTo(previous.get() + 1);
+            previous.set(epochMinute);
+            count.incrementAndGet();
+        });
+        assertThat(count.get()).isEqualTo(until - from);
+    }
+
+    private static void assertFireTimes(final String expression, final String... expected) {
+        assertThat(CronExpression.parse(expression).nextFireTimes(FROM, expected.length))
+                .containsExactlyElementsOf(Arrays.stream(expected).map(Instant::parse).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,207 @@
+package software.amazon.databrew.tools.capacity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Plans job capacity across DataBrew schedules: simulates the runs every schedule starts over a time window
+ * and reports the peak number of nodes in use and the time slots in which the runs need more nodes than the
+ * quota allows, with the jobs running at the peak of each slot.
+ *
+ * Usage: java -jar aws-databrew-tools-1.0-SNAPSHOT.jar [--template stack.yaml,..] [--snapshot jobs.json,..]
+ * [--from 2025-01-01T00:00:00Z] [--days 365] [--node-quota 200] [--run-minutes 60] [--overlap skip|stack]
+ * [--top 20] [--output conflicts.jsonl]
+ */
+public final class CapacityPlanner {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final DateTimeFormatter MINUTE = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm'Z'", Locale.ROOT)
+            .withZone(ZoneOffset.UTC);
+    private static final int JOBS_PER_SLOT = 5;
+
+    private CapacityPlanner() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final Options options = Options.parse(args);
+        final Workload workload = new Workload();
+        for (final Path template : options.templates) {
+            workload.addTemplate(Workload.read(template));
+        }
+        for (final Path snapshot : options.snapshots) {
+            workload.addSnapshot(Workload.read(snapshot));
+        }
+        if (workload.schedules.isEmpty()) {
+            throw new IllegalArgumentException("No schedules found, pass --template or --snapshot");
+        }
+
+        final long from = options.from.getEpochSecond() / 60;
+        final Simulation simulation = new Simulation(workload.jobs, workload.schedules,
+                from, from + options.days * 24L * 60L, options.runMinutes, options.overlap);
+        final long start = System.nanoTime();
+        final Simulation.Result result = simulation.run();
+        final List<Simulation.Slot> conflicts = result.conflicts(options.nodeQuota);
+        final double seconds = (System.nanoTime() - start) / 1e9;
+
+        // one more replay finds the jobs running at the peaks of the listed slots
+        final List<Simulation.Slot> listed = options.output != null ? conflicts : conflicts.subList(0, Math.min(options.top, conflicts.size()));
+        final Map<Long, Map<String, Integer>> running = simulation.runningAt(
+                listed.stream().map(slot -> slot.peakEpochMinute).collect(Collectors.toList()));
+
+        report(simulation, result, conflicts, running, options, seconds, System.out);
+        if (options.output != null) {
+            write(conflicts, running, options.output);
+        }
+        System.exit(options.nodeQuota != null && !conflicts.isEmpty() ? 1 : 0);
+    }
+
+    static void report(final Simulation simulation, final Simulation.Result result, final List<Simulation.Slot> conflicts,
+                       final Map<Long, Map<String, Integer>> running, final Options options, final double seconds,
+                       final PrintStream out) {
+        simulation.getWarnings().forEach(warning -> out.println("warning: " + warning));
+        out.println(String.format(Locale.ROOT, "%s to %s: %d schedules over %d jobs, %d runs, simulated in %.1f s",
+                minute(simulation.getFromEpochMinute()), minute(simulation.getUntilEpochMinute()),
+                simulation.getScheduleCount(), simulation.getJobCount(), result.runs, seconds));
+
+        final List<Simulation.Slot> top = conflicts.subList(0, Math.min(options.top, conflicts.size()));
+        if (options.nodeQuota == null) {
+            out.println(String.format(Locale.ROOT, "peak %d nodes in %d slots, %d minutes in total",
+                    result.peak, conflicts.size(), conflicts.stream().mapToLong(Simulation.Slot::minutes).sum()));
+        } else {
+            out.println(String.format(Locale.ROOT, "peak %d nodes, %d slots above the quota of %d nodes, %d minutes in total",
+                    result.peak, conflicts.size(), options.nodeQuota, conflicts.stream().mapToLong(Simulation.Slot::minutes).sum()));
+        }
+        if (top.isEmpty()) {
+            return;
+        }
+        out.println(String.format(Locale.ROOT, "%-17s  %-17s %8s %6s  %s", "from", "until", "minutes", "peak", "jobs at peak"));
+        for (final Simulation.Slot slot : top) {
+            out.println(String.format(Locale.ROOT, "%-17s  %-17s %8d %6d  %s", minute(slot.fromEpochMinute),
+                    minute(slot.untilEpochMinute), slot.minutes(), slot.peak, jobs(running.get(slot.peakEpochMinute))));
+        }
+        if (conflicts.size() > top.size()) {
+            out.println(String.format(Locale.ROOT, "%d more slots, raise --top to list them", conflicts.size() - top.size()));
+        }
+    }
+
+    /**
+     * The jobs holding the most nodes first.
+     */
+    static String jobs(final Map<String, Integer> nodes) {
+        final List<String> jobs = nodes.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(job -> job.getKey() + "=" + job.getValue())
+                .collect(Collectors.toList());
+        return jobs.size() <= JOBS_PER_SLOT
+                ? String.join(",", jobs)
+                : String.join(",", jobs.subList(0, JOBS_PER_SLOT)) + String.format(Locale.ROOT, " and %d more", jobs.size() - JOBS_PER_SLOT);
+    }
+
+    private static void write(final List<Simulation.Slot> conflicts, final Map<Long, Map<String, Integer>> running,
+                              final Path output) throws IOException {
+        final List<Simulation.Slot> ordered = new ArrayList<>(conflicts);
+        ordered.sort(Comparator.comparingLong(slot -> slot.fromEpochMinute));
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            for (final Simulation.Slot slot : ordered) {
+                final ObjectNode line = MAPPER.createObjectNode();
+                line.put("from", minute(slot.fromEpochMinute));
+                line.put("until", minute(slot.untilEpochMinute));
+                line.put("peak", slot.peak);
+                line.put("peakAt", minute(slot.peakEpochMinute));
+                final ObjectNode jobs = line.putObject("jobs");
+                running.get(slot.peakEpochMinute).forEach(jobs::put);
+                writer.write(MAPPER.writeValueAsString(line));
+                writer.write(System.lineSeparator());
+            }
+        }
+    }
+
+    private static String minute(final long epochMinute) {
+        return MINUTE.format(Instant.ofEpochSecond(epochMinute * 60L));
+    }
+
+    static final class Options {
+        List<Path> templates = new ArrayList<>();
+        List<Path> snapshots = new ArrayList<>();
+        Instant from = Instant.now().truncatedTo(ChronoUnit.DAYS);
+        int days = 365;
+        Integer nodeQuota;
+        Integer runMinutes;
+        Simulation.Overlap overlap = Simulation.Overlap.SKIP;
+        int top = 20;
+        Path output;
+
+        static Options parse(final String[] args) {
+            final Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                final String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                final String value = args[++i];
+                switch (option) {
+                    case "--template":
+                        options.templates.addAll(paths(value));
+                        break;
+                    case "--snapshot":
+                        options.snapshots.addAll(paths(value));
+                        break;
+                    case "--from":
+                        options.from = Instant.parse(value);
+                        break;
+                    case "--days":
+                        options.days = Integer.parseInt(value);
+                        break;
+                    case "--node-quota":
+                        options.nodeQuota = Integer.parseInt(value);
+                        break;
+                    case "--run-minutes":
+                        options.runMinutes = Integer.parseInt(value);
+                        break;
+                    case "--overlap":
+                        options.overlap = Simulation.Overlap.valueOf(value.trim().toUpperCase(Locale.ROOT));
+                        break;
+                    case "--top":
+                        options.top = Integer.parseInt(value);
+                        break;
+                    case "--output":
+                        options.output = Paths.get(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (options.days < 1) {
+                throw new IllegalArgumentException("--days has to be at least 1");
+            }
+            return options;
+        }
+
+        private static List<Path> paths(final String value) {
+            return Arrays.stream(value.split(","))
+                    .map(String::trim)
+                    .filter(item -> !item.isEmpty())
+                    .map(Paths::get)
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package software.amazon.databrew.tools.capacity;
+
+import software.amazon.databrew.schedule.CronExpression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Simulates the job runs that the schedules start in a time window and sweeps over them to get the nodes in
+ * use every minute.
+ *
+ * Every run adds its job's MaxCapacity at its start minute and removes it at its end minute of a difference
+ * array, so the sweep costs one pass over the runs plus one over the minutes of the window, without sorting.
+ * A run takes the job's Timeout, the worst case, unless a run time is given. Runs that start before the
+ * window, up to the longest run time, are simulated as well since they still hold nodes in it.
+ */
+final class Simulation {
+
+    // DataBrew defaults when a job does not set them
+    static final int DEFAULT_MAX_CAPACITY = 5;
+    static final int DEFAULT_TIMEOUT_MINUTES = 2880;
+
+    /**
+     * What a schedule firing while its job still runs does.
+     */
+    enum Overlap {
+        // the job does not start, its run keeps going
+        SKIP,
+        // another run starts next to the running one
+        STACK
+    }
+
+    private final List<Job> jobs = new ArrayList<>();
+    private final List<String> warnings = new ArrayList<>();
+    private final long fromEpochMinute;
+    private final long untilEpochMinute;
+    private final long startEpochMinute;
+    private final Overlap overlap;
+    private int scheduleCount;
+
+    Simulation(final List<software.amazon.databrew.job.ResourceModel> jobModels,
+               final List<software.amazon.databrew.schedule.ResourceModel> scheduleModels,
+               final long fromEpochMinute, final long untilEpochMinute, final Integer runMinutes, final Overlap overlap) {
+        if (untilEpochMinute <= fromEpochMinute) {
+            throw new IllegalArgumentException("The window has to end after it starts");
+        }
+        this.fromEpochMinute = fromEpochMinute;
+        this.untilEpochMinute = untilEpochMinute;
+        this.overlap = overlap;
+
+        final Map<String, software.amazon.databrew.job.ResourceModel> jobsByName = new LinkedHashMap<>();
+        for (final software.amazon.databrew.job.ResourceModel job : jobModels) {
+            jobsByName.put(job.getName(), job);
+        }
+        final Map<String, Job> scheduledJobs = new TreeMap<>();
+        for (final software.amazon.databrew.schedule.ResourceModel schedule : scheduleModels) {
+            final CronExpression cron;
+            try {
+                cron = CronExpression.parse(schedule.getCronExpression());
+            } catch (final IllegalArgumentException e) {
+                warnings.add(String.format("schedule %s skipped: %s", schedule.getName(), e.getMessage()));
+                continue;
+            }
+            if (schedule.getJobNames() == null || schedule.getJobNames().isEmpty()) {
+                continue;
+            }
+            scheduleCount++;
+            for (final String jobName : new TreeSet<>(schedule.getJobNames())) {
+                scheduledJobs.computeIfAbsent(jobName, name -> job(name, jobsByName.get(name), runMinutes)).schedules.add(cron);
+            }
+        }
+        jobs.addAll(scheduledJobs.values());
+        startEpochMinute = fromEpochMinute - jobs.stream().mapToInt(job -> job.minutes).max().orElse(0);
+    }
+
+    private Job job(final String name, final software.amazon.databrew.job.ResourceModel model, final Integer runMinutes) {
+        if (model == null) {
+            warnings.add(String.format("job %s not found, assuming %d nodes and a %d minute timeout",
+                    name, DEFAULT_MAX_CAPACITY, DEFAULT_TIMEOUT_MINUTES));
+        }
+        final Integer maxCapacity = model == null ? null : model.getMaxCapacity();
+        final Integer timeout = model == null ? null : model.getTimeout();
+        final int minutes = runMinutes != null ? runMinutes : timeout != null && timeout > 0 ? timeout : DEFAULT_TIMEOUT_MINUTES;
+        return new Job(name, maxCapacity != null ? maxCapacity : DEFAULT_MAX_CAPACITY, Math.max(1, minutes));
+    }
+
+    Result run() {
+        final int length = (int) (untilEpochMinute - fromEpochMinute);
+        final int[] usage = new int[length + 1];
+        final long[] runs = new long[1];
+        for (final Job job : jobs) {
+            forEachRun(job, (start, end) -> {
+                if (start >= fromEpochMinute) {
+                    runs[0]++;
+                }
+                final int from = (int) Math.max(0L, start - fromEpochMinute);
+                final int until = (int) Math.min(length, end - fromEpochMinute);
+                if (until > from) {
+                    usage[from] += job.nodes;
+                    usage[until] -= job.nodes;
+                }
+            });
+        }
+        int peak = 0;
+        for (int minute = 0; minute < length; minute++) {
+            if (minute > 0) {
+                usage[minute] += usage[minute - 1];
+            }
+            peak = Math.max(peak, usage[minute]);
+        }
+        return new Result(usage, length, runs[0], peak);
+    }
+
+    /**
+     * The nodes each job holds at the given minutes, replaying the runs once.
+     */
+    Map<Long, Map<String, Integer>> runningAt(final List<Long> epochMinutes) {
+        final long[] minutes = epochMinutes.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        final List<Map<String, Integer>> nodes = new ArrayList<>(minutes.length);
+        for (int i = 0; i < minutes.length; i++) {
+            nodes.add(new TreeMap<>());
+        }
+        for (final Job job : jobs) {
+            forEachRun(job, (start, end) -> {
+                final int first = Arrays.binarySearch(minutes, start);
+                for (int i = first >= 0 ? first : -first - 1; i < minutes.length && minutes[i] < end; i++) {
+                    nodes.get(i).merge(job.name, job.nodes, Integer::sum);
+                }
+            });
+        }
+        final Map<Long, Map<String, Integer>> running = new TreeMap<>();
+        for (int i = 0; i < minutes.length; i++) {
+            running.put(minutes[i], nodes.get(i));
+        }
+        return running;
+    }
+
+    /**
+     * Replays the runs of a job. Skipping fires while the job runs jumps to the first fire after the run,
+     * so the cost is the number of runs, not of fires, e.g. for a job scheduled every minute.
+     */
+    private void forEachRun(final Job job, final RunConsumer consumer) {
+        if (overlap == Overlap.STACK) {
+            for (final CronExpression cron : job.schedules) {
+                cron.forEachFireTime(startEpochMinute, untilEpochMinute, fire -> consumer.accept(fire, fire + job.minutes));
+            }
+            return;
+        }
+        final List<CronExpression.Cursor> cursors = job.schedules.stream().map(CronExpression::cursor).collect(Collectors.toList());
+        long after = startEpochMinute - 1;
+        while (true) {
+            long fire = Long.MAX_VALUE;
+            for (final CronExpression.Cursor cursor : cursors) {
+                final long next = cursor.nextAfter(after);
+                if (next != CronExpression.NONE && next < fire) {
+                    fire = next;
+                }
+            }
+            if (fire >= untilEpochMinute) {
+                return;
+            }
+            consumer.accept(fire, fire + job.minutes);
+            after = fire + job.minutes - 1;
+        }
+    }
+
+    List<String> getWarnings() {
+        return Collections.unmodifiableList(warnings);
+    }
+
+    int getScheduleCount() {
+        return scheduleCount;
+    }
+
+    int getJobCount() {
+        return jobs.size();
+    }
+
+    long getFromEpochMinute() {
+        return fromEpochMinute;
+    }
+
+    long getUntilEpochMinute() {
+        return untilEpochMinute;
+    }
+
+    private interface RunConsumer {
+        void accept(long startEpochMinute, long endEpochMinute);
+    }
+
+    private static final class Job {
+        private final String name;
+        private final int nodes;
+        private final int minutes;
+        private final List<CronExpression> schedules = new ArrayList<>();
+
+        Job(final String name, final int nodes, final int minutes) {
+            this.name = name;
+            this.nodes = nodes;
+            this.minutes = minutes;
+        }
+    }
+
+    /**
+     * Nodes in use every minute of the window.
+     */
+    final class Result {
+        private final int[] usage;
+        private final int length;
+        // runs started in the window
+        final long runs;
+        final int peak;
+
+        private Result(final int[] usage, final int length, final long runs, final int peak) {
+            this.usage = usage;
+            this.length = length;
+            this.runs = runs;
+            this.peak = peak;
+        }
+
+        /**
+         * The time slots in which more than the given nodes are in use, or the slots at peak usage if there
+         * is no quota, largest peak first.
+         */
+        List<Slot> conflicts(final Integer nodeQuota) {
+            final int threshold = nodeQuota != null ? nodeQuota : Math.max(0, peak - 1);
+            final List<Slot> slots = new ArrayList<>();
+            Slot slot = null;
+            for (int minute = 0; minute < length; minute++) {
+                if (usage[minute] > threshold) {
+                    if (slot == null) {
+                        slot = new Slot(fromEpochMinute + minute);
+                        slots.add(slot);
+                    }
+                    slot.untilEpochMinute = fromEpochMinute + minute + 1;
+                    if (usage[minute] > slot.peak) {
+                        slot.peak = usage[minute];
+                        slot.peakEpochMinute = fromEpochMinute + minute;
+                    }
+                } else {
+                    slot = null;
+                }
+            }
+            slots.sort(Comparator.comparingInt((Slot conflict) -> -conflict.peak).thenComparingLong(conflict -> conflict.fromEpochMinute));
+            return slots;
+        }
+    }
+
+    /**
+     * Consecutive minutes above the threshold.
+     */
+    static final class Slot {
+        final long fromEpochMinute;
+        long untilEpochMinute;
+        int peak;
+        long peakEpochMinute;
+
+        Slot(final long fromEpochMinute) {
+            this.fromEpochMinute = fromEpochMinute;
+        }
+
+        long minutes() {
+            return untilEpochMinute - fromEpochMinute;
+        }
+    }
+}
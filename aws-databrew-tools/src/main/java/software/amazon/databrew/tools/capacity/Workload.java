@@ -0,0 +1,152 @@
+package software.amazon.databrew.tools.capacity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The jobs and schedules to plan for, read from CloudFormation templates or LIST snapshots.
+ *
+ * Only the properties the simulation needs are read: Name, MaxCapacity and Timeout of jobs, Name, JobNames
+ * and CronExpression of schedules. In templates a Ref to a parameter resolves to its default and a Ref to
+ * a job to the job's name; YAML short forms such as {@code !Ref} are read as the plain name they refer to.
+ */
+final class Workload {
+
+    static final String JOB_TYPE = "AWS::DataBrew::Job";
+    static final String SCHEDULE_TYPE = "AWS::DataBrew::Schedule";
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final ObjectMapper YAML = new ObjectMapper(new YAMLFactory());
+
+    final List<software.amazon.databrew.job.ResourceModel> jobs = new ArrayList<>();
+    final List<software.amazon.databrew.schedule.ResourceModel> schedules = new ArrayList<>();
+
+    static JsonNode read(final Path file) throws IOException {
+        final String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return (name.endsWith(".yaml") || name.endsWith(".yml") ? YAML : JSON).readTree(file.toFile());
+    }
+
+    /**
+     * Adds the jobs and schedules of a template.
+     */
+    void addTemplate(final JsonNode template) {
+        final Map<String, String> values = new HashMap<>();
+        final JsonNode parameters = template.path("Parameters");
+        for (final Iterator<Map.Entry<String, JsonNode>> it = parameters.fields(); it.hasNext(); ) {
+            final Map.Entry<String, JsonNode> parameter = it.next();
+            if (parameter.getValue().has("Default")) {
+                values.put(parameter.getKey(), parameter.getValue().get("Default").asText());
+            }
+        }
+
+        final JsonNode resources = template.path("Resources");
+        // jobs first, schedules refer to them
+        for (final Iterator<Map.Entry<String, JsonNode>> it = resources.fields(); it.hasNext(); ) {
+            final Map.Entry<String, JsonNode> resource = it.next();
+            if (JOB_TYPE.equals(resource.getValue().path("Type").asText())) {
+                final software.amazon.databrew.job.ResourceModel job = job(resource.getKey(), resource.getValue().path("Properties"), values);
+                values.put(resource.getKey(), job.getName());
+                jobs.add(job);
+            }
+        }
+        for (final Iterator<Map.Entry<String, JsonNode>> it = resources.fields(); it.hasNext(); ) {
+            final Map.Entry<String, JsonNode> resource = it.next();
+            if (SCHEDULE_TYPE.equals(resource.getValue().path("Type").asText())) {
+                schedules.add(schedule(resource.getKey(), resource.getValue().path("Properties"), values));
+            }
+        }
+    }
+
+    /**
+     * Adds the models of a LIST snapshot: the output of {@code aws cloudcontrol list-resources}, a LIST
+     * progress event with resourceModels, or an array of models. Models without a TypeName are schedules if
+     * they have a CronExpression and jobs otherwise.
+     */
+    void addSnapshot(final JsonNode snapshot) throws IOException {
+        if (snapshot.has("ResourceDescriptions")) {
+            final String typeName = snapshot.path("TypeName").asText(null);
+            for (final JsonNode description : snapshot.get("ResourceDescriptions")) {
+                addModel(typeName, JSON.readTree(description.path("Properties").asText("{}")));
+            }
+        } else {
+            for (final JsonNode model : snapshot.has("resourceModels") ? snapshot.get("resourceModels") : snapshot) {
+                addModel(null, model);
+            }
+        }
+    }
+
+    private void addModel(final String typeName, final JsonNode model) {
+        final boolean schedule = typeName != null ? SCHEDULE_TYPE.equals(typeName) : model.has("CronExpression");
+        if (schedule) {
+            schedules.add(schedule(null, model, new HashMap<>()));
+        } else if (typeName == null || JOB_TYPE.equals(typeName)) {
+            jobs.add(job(null, model, new HashMap<>()));
+        }
+    }
+
+    private static software.amazon.databrew.job.ResourceModel job(final String logicalId, final JsonNode properties,
+                                                                 final Map<String, String> values) {
+        final String name = resolve(properties.get("Name"), values);
+        return software.amazon.databrew.job.ResourceModel.builder()
+                .name(name != null ? name : logicalId)
+                .type(resolve(properties.get("Type"), values))
+                .maxCapacity(integer(properties.get("MaxCapacity"), values))
+                .timeout(integer(properties.get("Timeout"), values))
+                .build();
+    }
+
+    private static software.amazon.databrew.schedule.ResourceModel schedule(final String logicalId, final JsonNode properties,
+                                                                           final Map<String, String> values) {
+        final String name = resolve(properties.get("Name"), values);
+        final List<String> jobNames = new ArrayList<>();
+        for (final JsonNode jobName : properties.path("JobNames")) {
+            final String resolved = resolve(jobName, values);
+            if (resolved != null) {
+                jobNames.add(resolved);
+            }
+        }
+        return software.amazon.databrew.schedule.ResourceModel.builder()
+                .name(name != null ? name : logicalId)
+                .jobNames(jobNames)
+                .cronExpression(resolve(properties.get("CronExpression"), values))
+                .build();
+    }
+
+    /**
+     * @return the text of a value, following a Ref to a parameter default or a job, or null for other
+     *         intrinsic functions
+     */
+    static String resolve(final JsonNode value, final Map<String, String> values) {
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        if (value.isObject()) {
+            final JsonNode ref = value.get("Ref");
+            return ref != null && value.size() == 1 ? values.get(ref.asText()) : null;
+        }
+        final String text = value.asText();
+        return values.getOrDefault(text, text);
+    }
+
+    private static Integer integer(final JsonNode value, final Map<String, String> values) {
+        final String text = resolve(value, values);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(text.trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Expected a number, found [%s]", text), e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package software.amazon.databrew.tools.capacity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CapacityPlannerTest {
+
+    @Test
+    public void jobs_LargestFirst() {
+        final Map<String, Integer> nodes = new LinkedHashMap<>();
+        nodes.put("small", 2);
+        nodes.put("large", 20);
+        nodes.put("medium-b", 5);
+        nodes.put("medium-a", 5);
+        assertThat(CapacityPlanner.jobs(nodes)).isEqualTo("large=20,medium-a=5,medium-b=5,small=2");
+
+        for (int i = 0; i < 5; i++) {
+            nodes.put("tiny-" + i, 1);
+        }
+        assertThat(CapacityPlanner.jobs(nodes)).isEqualTo("large=20,medium-a=5,medium-b=5,small=2,tiny-0=1 and 4 more");
+    }
+
+    @Test
+    public void options() {
+        final CapacityPlanner.Options options = CapacityPlanner.Options.parse(new String[]{
+                "--template", "a.yaml, b.json", "--from", "2025-01-01T00:00:00Z", "--days", "30",
+                "--node-quota", "200", "--overlap", "stack"});
+        assertThat(options.templates).hasSize(2);
+        assertThat(options.from).isEqualTo(Instant.parse("2025-01-01T00:00:00Z"));
+        assertThat(options.days).isEqualTo(30);
+        assertThat(options.nodeQuota).isEqualTo(200);
+        assertThat(options.overlap).isEqualTo(Simulation.Overlap.STACK);
+
+        assertThatThrownBy(() -> CapacityPlanner.Options.parse(new String[]{"--days"})).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CapacityPlanner.Options.parse(new String[]{"--overlap", "queue"})).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,92 @@
+package software.amazon.databrew.tools.capacity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SimulationTest {
+
+    private static final long FROM = Instant.parse("2025-01-01T00:00:00Z").getEpochSecond() / 60;
+    private static final long UNTIL = FROM + 24 * 60;
+
+    @Test
+    public void run_Skip() {
+        // hourly runs of an hour back to back, a daily run of half an hour on top of them
+        final Simulation simulation = new Simulation(
+                Arrays.asList(job("hourly", 10, 60), job("daily", 5, 30)),
+                Arrays.asList(schedule("every-hour", "cron(0 * ? * * *)", "hourly"), schedule("every-day", "cron(30 0 * * ? *)", "daily")),
+                FROM, UNTIL, null, Simulation.Overlap.SKIP);
+
+        final Simulation.Result result = simulation.run();
+        assertThat(result.runs).isEqualTo(25);
+        assertThat(result.peak).isEqualTo(15);
+
+        final List<Simulation.Slot> slots = result.conflicts(null);
+        assertThat(slots).hasSize(1);
+        assertThat(slots.get(0).fromEpochMinute).isEqualTo(FROM + 30);
+        assertThat(slots.get(0).minutes()).isEqualTo(30);
+
+        final Map<String, Integer> running = simulation.runningAt(Collections.singletonList(FROM + 30)).get(FROM + 30);
+        assertThat(running).containsEntry("hourly", 10).containsEntry("daily", 5).hasSize(2);
+        assertThat(simulation.getWarnings()).isEmpty();
+    }
+
+    @Test
+    public void run_Stack() {
+        // runs of 90 minutes every hour overlap for the first half of every hour, including the run started
+        // before the window
+        final Simulation simulation = new Simulation(
+                Arrays.asList(job("hourly", 10, 90), job("daily", 5, 30)),
+                Arrays.asList(schedule("every-hour", "cron(0 * ? * * *)", "hourly"), schedule("every-day", "cron(30 0 * * ? *)", "daily")),
+                FROM, UNTIL, null, Simulation.Overlap.STACK);
+
+        final Simulation.Result result = simulation.run();
+        assertThat(result.peak).isEqualTo(20);
+
+        final List<Simulation.Slot> slots = result.conflicts(15);
+        assertThat(slots).hasSize(24);
+        assertThat(slots.stream().mapToLong(Simulation.Slot::minutes).sum()).isEqualTo(24 * 30);
+        assertThat(slots.get(0).fromEpochMinute).isEqualTo(FROM);
+        assertThat(simulation.runningAt(Collections.singletonList(FROM)).get(FROM)).containsEntry("hourly", 20);
+    }
+
+    @Test
+    public void run_RunMinutesAndMissingJobs() {
+        final Simulation simulation = new Simulation(
+                Collections.singletonList(job("hourly", 10, 600)),
+                Arrays.asList(schedule("broken", "cron(0 * * * * *)", "hourly"), schedule("every-hour", "cron(0 * ? * * *)", "hourly", "missing")),
+                FROM, UNTIL, 30, Simulation.Overlap.SKIP);
+
+        final Simulation.Result result = simulation.run();
+        assertThat(result.runs).isEqualTo(48);
+        assertThat(result.peak).isEqualTo(10 + Simulation.DEFAULT_MAX_CAPACITY);
+        assertThat(simulation.getScheduleCount()).isEqualTo(1);
+        assertThat(simulation.getWarnings()).hasSize(2);
+        assertThat(simulation.getWarnings().get(0)).startsWith("schedule broken skipped");
+        assertThat(simulation.getWarnings().get(1)).startsWith("job missing not found");
+    }
+
+    private static software.amazon.databrew.job.ResourceModel job(final String name, final int maxCapacity, final int timeout) {
+        return software.amazon.databrew.job.ResourceModel.builder()
+                .name(name)
+                .type("RECIPE")
+                .maxCapacity(maxCapacity)
+                .timeout(timeout)
+                .build();
+    }
+
+    private static software.amazon.databrew.schedule.ResourceModel schedule(final String name, final String cronExpression,
+                                                                           final String... jobNames) {
+        return software.amazon.databrew.schedule.ResourceModel.builder()
+                .name(name)
+                .cronExpression(cronExpression)
+                .jobNames(Arrays.asList(jobNames))
+                .build();
+    }
+}
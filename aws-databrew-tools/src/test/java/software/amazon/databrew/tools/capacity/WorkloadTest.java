@@ -0,0 +1,68 @@
+package software.amazon.databrew.tools.capacity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WorkloadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void addTemplate_ResolvesRefs() throws IOException {
+        final Workload workload = new Workload();
+        workload.addTemplate(MAPPER.readTree("{"
+                + "\"Parameters\": {\"Capacity\": {\"Type\": \"Number\", \"Default\": 8}},"
+                + "\"Resources\": {"
+                + "  \"Schedule\": {\"Type\": \"AWS::DataBrew::Schedule\", \"Properties\": {"
+                + "    \"Name\": \"nightly\", \"CronExpression\": \"cron(0 2 * * ? *)\","
+                + "    \"JobNames\": [{\"Ref\": \"RecipeJob\"}, \"ProfileJob\", \"external-job\", {\"Fn::ImportValue\": \"job\"}]}},"
+                + "  \"RecipeJob\": {\"Type\": \"AWS::DataBrew::Job\", \"Properties\": {"
+                + "    \"Name\": \"recipe-job\", \"Type\": \"RECIPE\", \"MaxCapacity\": {\"Ref\": \"Capacity\"}, \"Timeout\": 60}},"
+                + "  \"ProfileJob\": {\"Type\": \"AWS::DataBrew::Job\", \"Properties\": {"
+                + "    \"Name\": {\"Fn::Sub\": \"${AWS::StackName}-profile\"}, \"Type\": \"PROFILE\"}},"
+                + "  \"Bucket\": {\"Type\": \"AWS::S3::Bucket\"}"
+                + "}}"));
+
+        assertThat(workload.jobs).hasSize(2);
+        assertThat(workload.jobs.get(0).getName()).isEqualTo("recipe-job");
+        assertThat(workload.jobs.get(0).getMaxCapacity()).isEqualTo(8);
+        assertThat(workload.jobs.get(0).getTimeout()).isEqualTo(60);
+        // names that cannot be resolved fall back to the logical id
+        assertThat(workload.jobs.get(1).getName()).isEqualTo("ProfileJob");
+        assertThat(workload.jobs.get(1).getMaxCapacity()).isNull();
+
+        assertThat(workload.schedules).hasSize(1);
+        assertThat(workload.schedules.get(0).getJobNames()).containsExactly("recipe-job", "ProfileJob", "external-job");
+        assertThat(workload.schedules.get(0).getCronExpression()).isEqualTo("cron(0 2 * * ? *)");
+    }
+
+    @Test
+    public void addTemplate_InvalidNumber() {
+        assertThatThrownBy(() -> new Workload().addTemplate(MAPPER.readTree("{\"Resources\": {\"Job\": {"
+                + "\"Type\": \"AWS::DataBrew::Job\", \"Properties\": {\"Name\": \"job\", \"MaxCapacity\": \"many\"}}}}")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("many");
+    }
+
+    @Test
+    public void addSnapshot_CloudControlAndListEvents() throws IOException {
+        final Workload workload = new Workload();
+        workload.addSnapshot(MAPPER.readTree("{\"TypeName\": \"AWS::DataBrew::Schedule\", \"ResourceDescriptions\": ["
+                + "{\"Identifier\": \"hourly\", \"Properties\": \"{\\\"Name\\\":\\\"hourly\\\",\\\"JobNames\\\":[\\\"job\\\"],"
+                + "\\\"CronExpression\\\":\\\"cron(0 * ? * * *)\\\"}\"}]}"));
+        workload.addSnapshot(MAPPER.readTree("{\"resourceModels\": ["
+                + "{\"Name\": \"job\", \"Type\": \"RECIPE\", \"MaxCapacity\": 10, \"Timeout\": 30},"
+                + "{\"Name\": \"daily\", \"JobNames\": [\"job\"], \"CronExpression\": \"cron(0 0 * * ? *)\"}]}"));
+
+        assertThat(workload.schedules).hasSize(2);
+        assertThat(workload.schedules.get(0).getName()).isEqualTo("hourly");
+        assertThat(workload.schedules.get(1).getName()).isEqualTo("daily");
+        assertThat(workload.jobs).hasSize(1);
+        assertThat(workload.jobs.get(0).getMaxCapacity()).isEqualTo(10);
+    }
+}